@@ -0,0 +1,16 @@
+package com.kraftlog.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables {@code @Async} and {@code @Scheduled} methods. The executors are Spring Boot's
+ * auto-configured ones, so they switch to virtual threads together with request handling
+ * when {@code spring.threads.virtual.enabled} is set.
+ */
+@Configuration
+@EnableAsync
+@EnableScheduling
+public class AsyncConfig {
+}
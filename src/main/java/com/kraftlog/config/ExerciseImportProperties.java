@@ -1,25 +1,37 @@
 package com.kraftlog.config;
 
 import com.kraftlog.entity.Muscle;
-import lombok.Data;
+import lombok.Getter;
+import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
 import org.yaml.snakeyaml.Yaml;
 
 import jakarta.annotation.PostConstruct;
-import java.io.FileInputStream;
+import jakarta.annotation.PreDestroy;
 import java.io.IOException;
 import java.io.InputStream;
-import java.util.HashMap;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 /**
  * Configuration properties for exercise import feature
  * Loads muscle group mappings from an external YAML file
+ * <p>
+ * The file is resolved into an immutable {@link MuscleGroupMapping} that is swapped atomically
+ * whenever the file changes on disk, so mappings can be tuned without a restart. A file that
+ * fails to load keeps the previous mapping in place.
  */
 @Configuration
-@Data
 @Slf4j
 public class ExerciseImportProperties {
 
@@ -28,14 +40,26 @@ public class ExerciseImportProperties {
      * Can be configured via environment variable: EXERCISE_MUSCLE_GROUPS_CONFIG_PATH
      * If not specified or file not found, exercises will be imported without muscle group associations
      */
+    @Getter
+    @Setter
     @Value("${exercise.muscle-groups.config-path:#{null}}")
     private String configPath;
 
     /**
-     * Mapping from Portuguese muscle group names to English MuscleGroup enum values
-     * Loaded from external YAML file at startup
+     * Whether to reload the configuration file when it changes
+     * Can be configured via environment variable: EXERCISE_MUSCLE_GROUPS_WATCH
      */
-    private Map<String, String> muscleGroupMapping = new HashMap<>();
+    @Getter
+    @Setter
+    @Value("${exercise.muscle-groups.watch:true}")
+    private boolean watch;
+
+    /**
+     * Current mapping from Portuguese muscle group names to MuscleGroup enum values
+     */
+    private volatile MuscleGroupMapping mapping = MuscleGroupMapping.EMPTY;
+
+    private WatchService watchService;
 
     @PostConstruct
     public void loadConfiguration() {
@@ -46,71 +70,141 @@ public class ExerciseImportProperties {
             return;
         }
 
-        try {
-            log.info("Loading exercise muscle groups configuration from: {}", configPath);
-            
-            try (InputStream inputStream = new FileInputStream(configPath)) {
-                Yaml yaml = new Yaml();
-                Map<String, Object> data = yaml.load(inputStream);
-                
-                if (data != null) {
-                    data.forEach((key, value) -> {
-                        if (value != null) {
-                            muscleGroupMapping.put(key, value.toString());
-                        }
-                    });
-                    
-                    log.info("Successfully loaded {} muscle group mappings from configuration file", 
-                            muscleGroupMapping.size());
-                    
-                    if (log.isDebugEnabled()) {
-                        muscleGroupMapping.forEach((pt, en) -> 
-                            log.debug("  Mapping: {} -> {}", pt, en));
-                    }
-                } else {
-                    log.warn("Configuration file is empty or invalid: {}", configPath);
-                }
+        log.info("Loading exercise muscle groups configuration from: {}", configPath);
+        if (!reload()) {
+            log.warn("Exercises will be imported without muscle group associations until '{}' can be loaded.", configPath);
+        }
+        if (watch) {
+            startWatching();
+        }
+    }
+
+    @PreDestroy
+    public void stopWatching() {
+        if (watchService != null) {
+            try {
+                watchService.close();
+            } catch (IOException e) {
+                log.debug("Failed to close muscle groups configuration watcher", e);
             }
-            
-        } catch (IOException e) {
-            log.warn("Could not load exercise muscle groups configuration from '{}': {}. " +
-                    "Exercises will be imported without muscle group associations.", 
+        }
+    }
+
+    /**
+     * Read the configuration file again and swap in the new mapping
+     *
+     * @return true if the file was loaded, false if the previous mapping was kept
+     */
+    public synchronized boolean reload() {
+        Map<String, String> loaded = new LinkedHashMap<>();
+        try (InputStream inputStream = Files.newInputStream(Path.of(configPath))) {
+            Object data = new Yaml().load(inputStream);
+            if (data == null) {
+                log.warn("Configuration file is empty or invalid: {}", configPath);
+                return false;
+            }
+            if (!(data instanceof Map<?, ?> entries)) {
+                log.warn("Configuration file is not a mapping of muscle group names: {}", configPath);
+                return false;
+            }
+            entries.forEach((key, value) -> {
+                if (key != null && value != null) {
+                    loaded.put(key.toString(), value.toString());
+                }
+            });
+        } catch (IOException | RuntimeException e) {
+            log.warn("Could not load exercise muscle groups configuration from '{}': {}",
                     configPath, e.getMessage());
+            return false;
         }
+
+        MuscleGroupMapping current = mapping;
+        MuscleGroupMapping next = MuscleGroupMapping.of(loaded);
+        if (current != MuscleGroupMapping.EMPTY && next.headers().equals(current.headers())
+                && sameGroups(current, next)) {
+            return true;
+        }
+
+        next.invalidTargets().forEach((portugueseName, englishName) ->
+                log.warn("Invalid MuscleGroup enum value '{}' for Portuguese name '{}'. Valid values are: {}",
+                        englishName, portugueseName, Arrays.toString(Muscle.MuscleGroup.values())));
+        mapping = next;
+        log.info("Successfully loaded {} muscle group mappings from configuration file", next.size());
+        if (log.isDebugEnabled()) {
+            loaded.forEach((pt, en) -> log.debug("  Mapping: {} -> {}", pt, en));
+        }
+        return true;
+    }
+
+    /**
+     * @return the current mapping; hold on to it for the duration of an import to see a
+     * consistent configuration
+     */
+    public MuscleGroupMapping getMapping() {
+        return mapping;
     }
 
     /**
      * Get the MuscleGroup enum value for a Portuguese muscle group name
-     * 
-     * @param portugueseName the Portuguese name (e.g., "PEITO", "BÍCEPS")
+     *
+     * @param portugueseName the Portuguese name (e.g., "PEITO", "BÍCEPS"), in any case, with or without accents
      * @return the corresponding MuscleGroup enum value, or null if not found or not configured
      */
     public Muscle.MuscleGroup getMuscleGroup(String portugueseName) {
-        if (portugueseName == null || muscleGroupMapping.isEmpty()) {
-            return null;
-        }
-        
-        String englishName = muscleGroupMapping.get(portugueseName.toUpperCase());
-        if (englishName == null) {
-            return null;
-        }
-        
-        try {
-            return Muscle.MuscleGroup.valueOf(englishName.toUpperCase());
-        } catch (IllegalArgumentException e) {
-            log.warn("Invalid MuscleGroup enum value '{}' for Portuguese name '{}'. " +
-                    "Valid values are: {}", 
-                    englishName, portugueseName, java.util.Arrays.toString(Muscle.MuscleGroup.values()));
-            return null;
-        }
+        return mapping.get(portugueseName);
     }
-    
+
     /**
      * Check if muscle group mapping is configured
-     * 
+     *
      * @return true if mapping configuration was loaded, false otherwise
      */
     public boolean hasConfiguration() {
-        return !muscleGroupMapping.isEmpty();
+        return !mapping.isEmpty();
+    }
+
+    private void startWatching() {
+        Path file = Path.of(configPath).toAbsolutePath();
+        Path directory = file.getParent();
+        try {
+            watchService = FileSystems.getDefault().newWatchService();
+            directory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+                    StandardWatchEventKinds.ENTRY_MODIFY);
+        } catch (IOException | RuntimeException e) {
+            log.warn("Cannot watch '{}' for changes, muscle group mappings will not be reloaded: {}",
+                    configPath, e.getMessage());
+            stopWatching();
+            return;
+        }
+
+        Thread watcher = new Thread(() -> watch(watchService), "muscle-groups-config-watcher");
+        watcher.setDaemon(true);
+        watcher.start();
+        log.info("Watching {} for muscle group mapping changes", file);
+    }
+
+    private void watch(WatchService service) {
+        try {
+            while (true) {
+                WatchKey key = service.take();
+                // Any change in the directory triggers a reload, which also covers files swapped in
+                // through symlinks (Kubernetes ConfigMaps); unchanged content is not swapped
+                key.pollEvents();
+                reload();
+                if (!key.reset()) {
+                    log.warn("Muscle groups configuration directory is no longer accessible, stopped watching");
+                    return;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ClosedWatchServiceException e) {
+            // Shutting down
+        }
+    }
+
+    private static boolean sameGroups(MuscleGroupMapping current, MuscleGroupMapping next) {
+        return Arrays.stream(Muscle.MuscleGroup.values())
+                .allMatch(group -> current.headers(group).equals(next.headers(group)));
     }
 }
@@ -0,0 +1,69 @@
+package com.kraftlog.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Token buckets in a bounded Caffeine map, local to this instance.
+ * <p>
+ * Each bucket is a single {@link AtomicLong} holding the time at which it will be full again
+ * (the generic cell rate algorithm, equivalent to a token bucket), so a request updates it with
+ * one compare-and-set and no lock or allocation. Buckets idle for longer than a refill of the
+ * largest configured bucket are evicted, which is the same as finding them full.
+ */
+public class InMemoryRateLimitStore implements RateLimitStore, MeterBinder {
+
+    private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+    private static final long NANOS_PER_MINUTE = TimeUnit.MINUTES.toNanos(1);
+
+    private final Cache<String, AtomicLong> buckets;
+    private final LongSupplier clock;
+
+    public InMemoryRateLimitStore(long maxBuckets, Duration idleTimeout) {
+        this(maxBuckets, idleTimeout, System::nanoTime);
+    }
+
+    InMemoryRateLimitStore(long maxBuckets, Duration idleTimeout, LongSupplier clock) {
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maxBuckets)
+                .expireAfterAccess(idleTimeout)
+                .build();
+        this.clock = clock;
+    }
+
+    @Override
+    public Probe tryConsume(String key, int capacity, int refillPerMinute) {
+        long interval = NANOS_PER_MINUTE / refillPerMinute;
+        long window = interval * capacity;
+        long now = clock.getAsLong();
+        AtomicLong fullAt = buckets.get(key, k -> new AtomicLong(now));
+
+        while (true) {
+            long current = fullAt.get();
+            long next = Math.max(current, now) + interval;
+            long debt = next - now;
+            if (debt > window) {
+                long wait = debt - window;
+                return new Probe(false, 0, (wait + NANOS_PER_SECOND - 1) / NANOS_PER_SECOND);
+            }
+            if (fullAt.compareAndSet(current, next)) {
+                return new Probe(true, (window - debt) / interval, 0);
+            }
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("kraftlog.rate_limit.buckets", buckets, Cache::estimatedSize)
+                .description("Rate limit buckets held in memory")
+                .register(registry);
+    }
+}
@@ -0,0 +1,188 @@
+package com.kraftlog.config;
+
+import com.kraftlog.entity.Muscle;
+
+import java.text.Normalizer;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Immutable, resolved muscle group mapping.
+ * <p>
+ * Target names are resolved to {@link Muscle.MuscleGroup} once when the mapping is built. Lookups
+ * ignore case, accents and surrounding whitespace ("Bíceps", "BICEPS" and "biceps" are the same
+ * header) and fold the name character by character into an open-addressing table, so they do not
+ * allocate. Instances are safe to share between threads; a reload replaces the whole instance.
+ */
+public final class MuscleGroupMapping {
+
+    public static final MuscleGroupMapping EMPTY = new MuscleGroupMapping(Map.of());
+
+    // Upper-cased, accent-stripped form of every char in Latin-1 and Latin Extended-A/B
+    private static final char[] FOLDED = new char[0x250];
+
+    static {
+        for (char c = 0; c < FOLDED.length; c++) {
+            String decomposed = Normalizer.normalize(String.valueOf(c), Normalizer.Form.NFD);
+            FOLDED[c] = Character.toUpperCase(decomposed.charAt(0));
+        }
+    }
+
+    private final Set<String> headers;
+    private final Map<String, String> invalidTargets;
+    private final EnumMap<Muscle.MuscleGroup, Set<String>> headersByGroup = new EnumMap<>(Muscle.MuscleGroup.class);
+    private final String[] keys;
+    private final Muscle.MuscleGroup[] groups;
+    private final int mask;
+
+    private MuscleGroupMapping(Map<String, String> mapping) {
+        Map<String, String> invalid = new LinkedHashMap<>();
+        Map<String, Muscle.MuscleGroup> resolved = new LinkedHashMap<>();
+        mapping.forEach((header, target) -> {
+            Muscle.MuscleGroup group = resolve(target);
+            if (group == null) {
+                invalid.put(header, target);
+            } else {
+                resolved.put(header, group);
+                headersByGroup.computeIfAbsent(group, g -> new LinkedHashSet<>()).add(header);
+            }
+        });
+        headersByGroup.replaceAll((group, groupHeaders) -> Collections.unmodifiableSet(groupHeaders));
+        this.headers = Collections.unmodifiableSet(new LinkedHashSet<>(mapping.keySet()));
+        this.invalidTargets = Collections.unmodifiableMap(invalid);
+
+        // Power-of-two table at most half full, keyed by the folded header
+        int capacity = Integer.highestOneBit(Math.max(resolved.size(), 1) * 4 - 1) << 1;
+        this.keys = new String[capacity];
+        this.groups = new Muscle.MuscleGroup[capacity];
+        this.mask = capacity - 1;
+        resolved.forEach((header, group) -> {
+            String key = fold(header);
+            int slot = hash(key) & mask;
+            while (keys[slot] != null && !keys[slot].equals(key)) {
+                slot = (slot + 1) & mask;
+            }
+            if (keys[slot] == null) {
+                keys[slot] = key;
+                groups[slot] = group;
+            }
+        });
+    }
+
+    /**
+     * Build a mapping from configured header names to {@link Muscle.MuscleGroup} names.
+     * Targets that are not muscle groups are kept as headers but resolve to nothing; see
+     * {@link #invalidTargets()}.
+     */
+    public static MuscleGroupMapping of(Map<String, String> mapping) {
+        return mapping.isEmpty() ? EMPTY : new MuscleGroupMapping(mapping);
+    }
+
+    /**
+     * @param header a header as found in the PDF, in any case and with or without accents
+     * @return the muscle group, or null if the header is not mapped to a valid muscle group
+     */
+    public Muscle.MuscleGroup get(CharSequence header) {
+        if (header == null) {
+            return null;
+        }
+        int start = 0;
+        int end = header.length();
+        while (start < end && Character.isWhitespace(header.charAt(start))) {
+            start++;
+        }
+        while (end > start && Character.isWhitespace(header.charAt(end - 1))) {
+            end--;
+        }
+
+        int hash = 0;
+        for (int i = start; i < end; i++) {
+            hash = 31 * hash + fold(header.charAt(i));
+        }
+        for (int slot = spread(hash) & mask; keys[slot] != null; slot = (slot + 1) & mask) {
+            if (matches(keys[slot], header, start, end)) {
+                return groups[slot];
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return every configured header, in file order, including those with an invalid target
+     */
+    public Set<String> headers() {
+        return headers;
+    }
+
+    /**
+     * @return the configured headers mapped to the given muscle group
+     */
+    public Set<String> headers(Muscle.MuscleGroup group) {
+        return headersByGroup.getOrDefault(group, Set.of());
+    }
+
+    /**
+     * @return headers whose target is not a {@link Muscle.MuscleGroup}, with that target
+     */
+    public Map<String, String> invalidTargets() {
+        return invalidTargets;
+    }
+
+    public boolean isEmpty() {
+        return headers.isEmpty();
+    }
+
+    public int size() {
+        return headers.size();
+    }
+
+    private static Muscle.MuscleGroup resolve(String target) {
+        if (target == null) {
+            return null;
+        }
+        String name = fold(target.trim());
+        for (Muscle.MuscleGroup group : Muscle.MuscleGroup.values()) {
+            if (group.name().equals(name)) {
+                return group;
+            }
+        }
+        return null;
+    }
+
+    private static boolean matches(String key, CharSequence header, int start, int end) {
+        if (key.length() != end - start) {
+            return false;
+        }
+        for (int i = 0; i < key.length(); i++) {
+            if (key.charAt(i) != fold(header.charAt(start + i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String fold(String value) {
+        String trimmed = value.trim();
+        StringBuilder folded = new StringBuilder(trimmed.length());
+        for (int i = 0; i < trimmed.length(); i++) {
+            folded.append(fold(trimmed.charAt(i)));
+        }
+        return folded.toString();
+    }
+
+    private static char fold(char c) {
+        return c < FOLDED.length ? FOLDED[c] : Character.toUpperCase(c);
+    }
+
+    private static int hash(String key) {
+        return spread(key.hashCode());
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+}
@@ -0,0 +1,49 @@
+package com.kraftlog.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.stream.Stream;
+
+@Configuration
+@EnableConfigurationProperties(RateLimitProperties.class)
+public class RateLimitConfig {
+
+    /**
+     * Local buckets, replaced by any other {@link RateLimitStore} bean. Idle buckets are kept
+     * until the slowest configured bucket would have refilled completely.
+     */
+    @Bean
+    @ConditionalOnMissingBean(RateLimitStore.class)
+    public InMemoryRateLimitStore rateLimitStore(RateLimitProperties properties) {
+        long refillSeconds = Stream.concat(Stream.of(properties.getDefaultLimit()), properties.getRules().stream())
+                .filter(limit -> limit.getRefillPerMinute() > 0)
+                .mapToLong(limit -> (long) Math.ceil(limit.getCapacity() * 60.0 / limit.getRefillPerMinute()))
+                .max()
+                .orElse(60);
+        return new InMemoryRateLimitStore(properties.getMaxBuckets(), Duration.ofSeconds(Math.max(60, refillSeconds)));
+    }
+
+    @Bean
+    public RateLimitFilter rateLimitFilter(RateLimitProperties properties, RateLimitStore rateLimitStore,
+                                           ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        return new RateLimitFilter(properties, rateLimitStore, objectMapper, meterRegistry);
+    }
+
+    /**
+     * The filter runs inside the security chain, after the user is known; keep the servlet
+     * container from running it a second time.
+     */
+    @Bean
+    public FilterRegistrationBean<RateLimitFilter> rateLimitFilterRegistration(RateLimitFilter rateLimitFilter) {
+        FilterRegistrationBean<RateLimitFilter> registration = new FilterRegistrationBean<>(rateLimitFilter);
+        registration.setEnabled(false);
+        return registration;
+    }
+}
@@ -0,0 +1,184 @@
+package com.kraftlog.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kraftlog.exception.ErrorResponse;
+import com.kraftlog.security.AuthenticatedUser;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Token-bucket limits per user and endpoint group, see {@link RateLimitProperties}. Runs inside
+ * the security chain after the JWT filter, so authenticated requests are counted against their
+ * user and anonymous ones (login, registration) against their remote address. Every response
+ * carries {@code X-RateLimit-Limit} and {@code X-RateLimit-Remaining}; rejected requests get 429
+ * with {@code Retry-After}.
+ */
+@Slf4j
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    static final String LIMIT_HEADER = "X-RateLimit-Limit";
+    static final String REMAINING_HEADER = "X-RateLimit-Remaining";
+
+    private final boolean enabled;
+    private final RateLimitStore store;
+    private final ObjectMapper objectMapper;
+    private final List<CompiledRule> rules;
+    private final CompiledRule defaultRule;
+
+    public RateLimitFilter(RateLimitProperties properties, RateLimitStore store, ObjectMapper objectMapper,
+                           MeterRegistry meterRegistry) {
+        this.enabled = properties.isEnabled();
+        this.store = store;
+        this.objectMapper = objectMapper;
+        this.rules = new ArrayList<>();
+        for (RateLimitProperties.Rule rule : properties.getRules()) {
+            rules.add(new CompiledRule(rule, rule.getPaths(), rule.getMethods(), meterRegistry));
+        }
+        this.defaultRule = new CompiledRule(properties.getDefaultLimit(), List.of(), List.of(), meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        CompiledRule rule = resolve(request);
+        RateLimitStore.Probe probe = store.tryConsume(rule.name + ':' + clientKey(request), rule.capacity,
+                rule.refillPerMinute);
+
+        response.setHeader(LIMIT_HEADER, rule.capacityHeader);
+        response.setHeader(REMAINING_HEADER, Long.toString(probe.remaining()));
+        if (!probe.allowed()) {
+            rule.rejected.increment();
+            log.warn("Rate limit '{}' exceeded by {} on {} {}", rule.name, clientKey(request),
+                    request.getMethod(), request.getRequestURI());
+            reject(request, response, probe.retryAfterSeconds());
+            return;
+        }
+
+        rule.allowed.increment();
+        filterChain.doFilter(request, response);
+    }
+
+    private CompiledRule resolve(HttpServletRequest request) {
+        String uri = request.getRequestURI();
+        String contextPath = request.getContextPath();
+        String path = contextPath == null || contextPath.isEmpty() ? uri : uri.substring(contextPath.length());
+        String method = request.getMethod();
+        for (int i = 0; i < rules.size(); i++) {
+            CompiledRule rule = rules.get(i);
+            if (rule.matches(method, path)) {
+                return rule;
+            }
+        }
+        return defaultRule;
+    }
+
+    private static String clientKey(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof AuthenticatedUser user) {
+            return user.getId().toString();
+        }
+        // The client's address behind a trusted proxy, see server.forward-headers-strategy
+        return "ip:" + request.getRemoteAddr();
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response, long retryAfterSeconds)
+            throws IOException {
+        ErrorResponse errorResponse = ErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(HttpStatus.TOO_MANY_REQUESTS.value())
+                .error(HttpStatus.TOO_MANY_REQUESTS.getReasonPhrase())
+                .message("Too many requests, please retry in " + retryAfterSeconds + " seconds")
+                .path(request.getRequestURI())
+                .build();
+
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader("Retry-After", Long.toString(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), errorResponse);
+    }
+
+    private static final class CompiledRule {
+
+        private final String name;
+        private final int capacity;
+        private final int refillPerMinute;
+        private final String capacityHeader;
+        private final Set<String> exactPaths;
+        private final List<String> prefixes;
+        private final Set<String> methods;
+        private final Counter allowed;
+        private final Counter rejected;
+
+        private CompiledRule(RateLimitProperties.Limit limit, List<String> paths, List<String> methods,
+                             MeterRegistry meterRegistry) {
+            if (limit.getCapacity() <= 0 || limit.getRefillPerMinute() <= 0) {
+                throw new IllegalArgumentException("Rate limit '" + limit.getName()
+                        + "' needs a positive capacity and refill-per-minute");
+            }
+            this.name = limit.getName();
+            this.capacity = limit.getCapacity();
+            this.refillPerMinute = limit.getRefillPerMinute();
+            this.capacityHeader = Integer.toString(capacity);
+            this.exactPaths = paths.stream()
+                    .filter(path -> !path.endsWith("/**"))
+                    .collect(Collectors.toUnmodifiableSet());
+            // "/api/auth/**" matches "/api/auth" and everything below it
+            this.prefixes = paths.stream()
+                    .filter(path -> path.endsWith("/**"))
+                    .map(path -> path.substring(0, path.length() - 2))
+                    .toList();
+            this.methods = methods.stream()
+                    .map(method -> method.toUpperCase(Locale.ROOT))
+                    .collect(Collectors.toUnmodifiableSet());
+            this.allowed = Counter.builder("kraftlog.rate_limit.requests")
+                    .description("Requests checked against a rate limit")
+                    .tag("rule", name)
+                    .tag("outcome", "allowed")
+                    .register(meterRegistry);
+            this.rejected = Counter.builder("kraftlog.rate_limit.requests")
+                    .description("Requests checked against a rate limit")
+                    .tag("rule", name)
+                    .tag("outcome", "rejected")
+                    .register(meterRegistry);
+        }
+
+        private boolean matches(String method, String path) {
+            if (!methods.isEmpty() && !methods.contains(method)) {
+                return false;
+            }
+            if (exactPaths.contains(path)) {
+                return true;
+            }
+            for (int i = 0; i < prefixes.size(); i++) {
+                String prefix = prefixes.get(i);
+                if (path.startsWith(prefix) || path.length() == prefix.length() - 1 && prefix.startsWith(path)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
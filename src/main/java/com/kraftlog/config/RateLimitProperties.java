@@ -0,0 +1,70 @@
+package com.kraftlog.config;
+
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Request limits per user, bound from {@code app.rate-limit}. Rules are checked in order and the
+ * first one matching the request applies; requests matching none use {@link #defaultLimit}.
+ * Each rule has its own buckets, so a client exhausting one group of endpoints can still call
+ * the others.
+ */
+@Data
+@ConfigurationProperties(prefix = "app.rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * Upper bound on buckets kept in memory; least recently used ones are dropped first
+     */
+    private long maxBuckets = 100_000;
+
+    private Limit defaultLimit = new Limit("default", 300, 300);
+
+    private List<Rule> rules = new ArrayList<>();
+
+    @Data
+    public static class Limit {
+
+        private String name;
+
+        /**
+         * Requests allowed in a burst
+         */
+        private int capacity;
+
+        /**
+         * Requests allowed back per minute
+         */
+        private int refillPerMinute;
+
+        public Limit() {
+        }
+
+        public Limit(String name, int capacity, int refillPerMinute) {
+            this.name = name;
+            this.capacity = capacity;
+            this.refillPerMinute = refillPerMinute;
+        }
+    }
+
+    @Data
+    @EqualsAndHashCode(callSuper = true)
+    public static class Rule extends Limit {
+
+        /**
+         * Paths this rule applies to: exact, or a prefix when ending in {@code /**}
+         */
+        private List<String> paths = new ArrayList<>();
+
+        /**
+         * HTTP methods this rule applies to, all when empty
+         */
+        private List<String> methods = new ArrayList<>();
+    }
+}
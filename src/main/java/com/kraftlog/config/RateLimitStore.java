@@ -0,0 +1,26 @@
+package com.kraftlog.config;
+
+/**
+ * Backend holding the token buckets of {@link RateLimitFilter}. The in-memory store limits each
+ * instance on its own; a shared implementation (e.g. Redis) can be provided as a bean to enforce
+ * limits across instances.
+ */
+public interface RateLimitStore {
+
+    /**
+     * Take one token from the bucket under {@code key}, creating a full bucket if there is none
+     *
+     * @param capacity        bucket size, i.e. the burst allowed after a quiet period
+     * @param refillPerMinute tokens added back per minute
+     */
+    Probe tryConsume(String key, int capacity, int refillPerMinute);
+
+    /**
+     * Outcome of a consume attempt
+     *
+     * @param remaining         tokens left after this request
+     * @param retryAfterSeconds seconds until a token is available again, 0 if the request was allowed
+     */
+    record Probe(boolean allowed, long remaining, long retryAfterSeconds) {
+    }
+}
@@ -0,0 +1,65 @@
+package com.kraftlog.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * Active when {@code spring.threads.virtual.enabled=true}. Request handling, {@code @Async}
+ * and scheduled work then run on virtual threads, and the only thing left bounding concurrent
+ * work is the Hikari pool. The request limit is therefore sized as a multiple of the pool so that
+ * requests wait on a cheap semaphore rather than piling up on connection checkout. For the same
+ * reason the pool's connection timeout is capped, so a request that does reach an exhausted pool
+ * fails fast instead of holding its slot for Hikari's default 30 seconds.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadConfig {
+
+    @Value("${spring.datasource.hikari.maximum-pool-size:10}")
+    private int connectionPoolSize;
+
+    @Value("${app.virtual-threads.max-concurrent-requests:0}")
+    private int maxConcurrentRequests;
+
+    @Value("${app.virtual-threads.requests-per-connection:4}")
+    private int requestsPerConnection;
+
+    @Value("${app.virtual-threads.acquire-timeout-ms:2000}")
+    private long acquireTimeoutMs;
+
+    @Bean
+    public FilterRegistrationBean<ConcurrencyLimitFilter> concurrencyLimitFilter(ObjectMapper objectMapper) {
+        int limit = maxConcurrentRequests > 0 ? maxConcurrentRequests : connectionPoolSize * requestsPerConnection;
+        log.info("Virtual threads enabled: limiting to {} concurrent requests for {} database connections (carrier threads: {})",
+                limit, connectionPoolSize, Runtime.getRuntime().availableProcessors());
+
+        FilterRegistrationBean<ConcurrencyLimitFilter> registration =
+                new FilterRegistrationBean<>(new ConcurrencyLimitFilter(limit, acquireTimeoutMs, objectMapper));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 1);
+        return registration;
+    }
+
+    @Bean
+    public static BeanPostProcessor connectionTimeoutCap(
+            @Value("${app.virtual-threads.connection-timeout-ms:5000}") long connectionTimeoutMs) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource dataSource && dataSource.getConnectionTimeout() > connectionTimeoutMs) {
+                    dataSource.setConnectionTimeout(connectionTimeoutMs);
+                }
+                return bean;
+            }
+        };
+    }
+}
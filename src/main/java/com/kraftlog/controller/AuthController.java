@@ -51,6 +51,28 @@ public class AuthController {
         return ResponseEntity.ok(response);
     }
 
+    @Operation(summary = "Refresh tokens", description = "Exchanges a refresh token for a new access token and "
+            + "a new refresh token. Each refresh token is single-use; reusing one revokes every token of that login")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Tokens refreshed",
+                    content = @Content(schema = @Schema(implementation = LoginResponse.class))),
+            @ApiResponse(responseCode = "401", description = "Unknown, expired or revoked refresh token", content = @Content)
+    })
+    @PostMapping("/refresh")
+    public ResponseEntity<LoginResponse> refresh(@Valid @RequestBody RefreshTokenRequest request) {
+        return ResponseEntity.ok(authService.refresh(request.getRefreshToken()));
+    }
+
+    @Operation(summary = "Logout", description = "Revokes the refresh token and every token rotated from the same login")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "Refresh tokens revoked")
+    })
+    @PostMapping("/logout")
+    public ResponseEntity<Void> logout(@Valid @RequestBody RefreshTokenRequest request) {
+        authService.logout(request.getRefreshToken());
+        return ResponseEntity.noContent().build();
+    }
+
     @Operation(summary = "Request password recovery", description = "Initiates password recovery process by sending an email with a reset link")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Password recovery email sent successfully",
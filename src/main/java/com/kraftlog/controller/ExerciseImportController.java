@@ -1,25 +1,38 @@
 package com.kraftlog.controller;
 
+import com.kraftlog.dto.ExerciseImportDiff;
+import com.kraftlog.dto.ImportJobResponse;
+import com.kraftlog.exception.BadRequestException;
+import com.kraftlog.exception.ServiceUnavailableException;
+import com.kraftlog.service.ExerciseImportJobService;
+import com.kraftlog.service.ExerciseImportService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.core.io.ByteArrayResource;
 import org.springframework.http.*;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.util.Map;
+import java.util.UUID;
 
 @Slf4j
 @RestController
@@ -31,15 +44,46 @@ import java.util.Map;
 public class ExerciseImportController {
 
     private final RestTemplate restTemplate;
+    private final ExerciseImportJobService exerciseImportJobService;
+    private final ExerciseImportService exerciseImportService;
     
-    @Value("${KRAFTLOG_IMPORT_SERVICE_URL}")
+    @Value("${KRAFTLOG_IMPORT_SERVICE_URL:}")
     private String importServiceUrl;
 
+    @Value("${exercise.import.mode:auto}")
+    private ImportMode importMode;
+
+    // How long import-pdf waits for an in-process import before answering 202 with the job
+    @Value("${exercise.import.sync-timeout-ms:5000}")
+    private long syncTimeoutMs;
+
+    /**
+     * Where import-pdf runs the import
+     */
+    public enum ImportMode {
+        /** In-process parser and importer */
+        LOCAL,
+        /** Always the external import service */
+        REMOTE,
+        /** In-process, falling back to the external service (if configured) when the local queue is full */
+        AUTO
+    }
+
+    @PostConstruct
+    void validateImportMode() {
+        if (importMode == ImportMode.REMOTE && importServiceUrl.isBlank()) {
+            throw new IllegalStateException("exercise.import.mode=remote requires KRAFTLOG_IMPORT_SERVICE_URL");
+        }
+        log.info("Exercise PDF imports run in {} mode", importMode);
+    }
+
     @Operation(summary = "Import exercises from PDF file",
                description = "Upload a PDF file containing exercise data in Portuguese format. " +
-                           "The PDF should have muscle group headers and exercise tables with video URLs.")
+                           "The PDF should have muscle group headers and exercise tables with video URLs. " +
+                           "Depending on exercise.import.mode the import runs in-process or on the import service.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Import completed successfully"),
+            @ApiResponse(responseCode = "202", description = "In-process import still running; poll the returned job", content = @Content),
             @ApiResponse(responseCode = "400", description = "Invalid PDF format or no exercises found", content = @Content),
             @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content),
             @ApiResponse(responseCode = "403", description = "Forbidden - Admin access required", content = @Content)
@@ -65,6 +109,50 @@ public class ExerciseImportController {
             ));
         }
         
+        if (importMode == ImportMode.REMOTE) {
+            return forwardToImportService(file);
+        }
+        try {
+            return importLocally(file);
+        } catch (ServiceUnavailableException e) {
+            if (importMode == ImportMode.AUTO && !importServiceUrl.isBlank()) {
+                log.info("Local import queue is full, forwarding to import service");
+                return forwardToImportService(file);
+            }
+            throw e;
+        }
+    }
+
+    private ResponseEntity<Map<String, Object>> importLocally(MultipartFile file) {
+        ImportJobResponse job = exerciseImportJobService.submit(file);
+        job = exerciseImportJobService.awaitJob(job.getJobId(), Duration.ofMillis(syncTimeoutMs));
+
+        if (job.getStatus() != ImportJobResponse.Status.COMPLETED) {
+            return ResponseEntity.accepted()
+                    .location(ServletUriComponentsBuilder.fromCurrentContextPath()
+                            .path("/api/admin/exercises/import-jobs/{jobId}").buildAndExpand(job.getJobId()).toUri())
+                    .body(Map.of(
+                            "status", "processing",
+                            "message", "Import is still running",
+                            "jobId", job.getJobId()
+                    ));
+        }
+
+        ExerciseImportService.ImportResult result = job.getResult();
+        return ResponseEntity.ok(Map.of(
+                "status", "success",
+                "message", "Imported " + result.getSuccessCount() + " exercises",
+                "jobId", job.getJobId(),
+                "successCount", result.getSuccessCount(),
+                "addedCount", result.getAddedCount(),
+                "updatedCount", result.getUpdatedCount(),
+                "unchangedCount", result.getUnchangedCount(),
+                "failureCount", result.getFailureCount(),
+                "failures", result.getFailures()
+        ));
+    }
+
+    private ResponseEntity<Map<String, Object>> forwardToImportService(MultipartFile file) {
         try {
             // Forward request to kraftlog-import service
             log.info("Forwarding PDF import request to import service: {}", importServiceUrl);
@@ -73,14 +161,9 @@ public class ExerciseImportController {
             HttpHeaders headers = new HttpHeaders();
             headers.setContentType(MediaType.MULTIPART_FORM_DATA);
             
+            // Streamed from the container's upload (memory or temp file) straight to the connection
             MultiValueMap<String, Object> body = new LinkedMultiValueMap<>();
-            ByteArrayResource fileResource = new ByteArrayResource(file.getBytes()) {
-                @Override
-                public String getFilename() {
-                    return file.getOriginalFilename();
-                }
-            };
-            body.add("file", fileResource);
+            body.add("file", file.getResource());
             
             HttpEntity<MultiValueMap<String, Object>> requestEntity = new HttpEntity<>(body, headers);
             
@@ -96,11 +179,12 @@ public class ExerciseImportController {
             
             return ResponseEntity.status(response.getStatusCode()).body((Map<String, Object>) response.getBody());
             
-        } catch (IOException e) {
-            log.error("Failed to read PDF file", e);
-            return ResponseEntity.internalServerError().body(Map.of(
+        } catch (ResourceAccessException e) {
+            // Connect/read timeout, or every pooled connection busy past the connection request timeout
+            log.error("Import service unavailable", e);
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(Map.of(
                     "status", "error",
-                    "message", "Failed to read PDF: " + e.getMessage()
+                    "message", "Import service unavailable: " + e.getMessage()
             ));
         } catch (Exception e) {
             log.error("Failed to import exercises from PDF", e);
@@ -110,4 +194,76 @@ public class ExerciseImportController {
             ));
         }
     }
+
+    @Operation(summary = "Preview an exercise import",
+               description = "Parse a PDF file and report which exercises an import would add or update and how many " +
+                           "are already up to date, without writing anything. Always runs in-process.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Diff computed"),
+            @ApiResponse(responseCode = "400", description = "Empty file, not a PDF or no exercises found", content = @Content),
+            @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content),
+            @ApiResponse(responseCode = "403", description = "Forbidden - Admin access required", content = @Content)
+    })
+    @PostMapping("/import-pdf/dry-run")
+    public ResponseEntity<ExerciseImportDiff> previewImport(@RequestParam("file") MultipartFile file) throws IOException {
+        log.info("Received request to preview import of PDF: {}", file.getOriginalFilename());
+        if (file.isEmpty()) {
+            throw new BadRequestException("File is empty");
+        }
+        String fileName = file.getOriginalFilename();
+        if (fileName == null || !fileName.toLowerCase().endsWith(".pdf")) {
+            throw new BadRequestException("File must be a PDF");
+        }
+
+        Path upload = Files.createTempFile("exercise-import-preview-", ".pdf");
+        try {
+            file.transferTo(upload);
+            return ResponseEntity.ok(exerciseImportService.diffExercisesFromPdf(upload.toFile()));
+        } finally {
+            Files.deleteIfExists(upload);
+        }
+    }
+
+    @Operation(summary = "Start an exercise import job",
+               description = "Upload a PDF file to import in the background. The file is stored before the request " +
+                           "returns; poll the job or subscribe to its events for progress and the import result.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "202", description = "Import job queued"),
+            @ApiResponse(responseCode = "400", description = "Empty file or not a PDF", content = @Content),
+            @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content),
+            @ApiResponse(responseCode = "403", description = "Forbidden - Admin access required", content = @Content),
+            @ApiResponse(responseCode = "413", description = "File too large", content = @Content),
+            @ApiResponse(responseCode = "503", description = "Too many imports in progress", content = @Content)
+    })
+    @PostMapping("/import-jobs")
+    public ResponseEntity<ImportJobResponse> startImportJob(@RequestParam("file") MultipartFile file) {
+        log.info("Received request to start import job for PDF: {}", file.getOriginalFilename());
+        ImportJobResponse job = exerciseImportJobService.submit(file);
+        return ResponseEntity.accepted()
+                .location(ServletUriComponentsBuilder.fromCurrentRequest()
+                        .path("/{jobId}").buildAndExpand(job.getJobId()).toUri())
+                .body(job);
+    }
+
+    @Operation(summary = "Get an exercise import job",
+               description = "Current status and progress of an import job, including the import result once completed")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Job found"),
+            @ApiResponse(responseCode = "404", description = "Job not found or expired", content = @Content)
+    })
+    @GetMapping("/import-jobs/{jobId}")
+    public ResponseEntity<ImportJobResponse> getImportJob(@PathVariable UUID jobId) {
+        return ResponseEntity.ok(exerciseImportJobService.getJob(jobId));
+    }
+
+    @Operation(summary = "Subscribe to exercise import job progress",
+               description = "Server-sent events named 'progress' carrying the job state; the stream ends when the job finishes")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Event stream opened"),
+            @ApiResponse(responseCode = "404", description = "Job not found or expired", content = @Content)
+    })
+    @GetMapping(value = "/import-jobs/{jobId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamImportJob(@PathVariable UUID jobId) {
+        return exerciseImportJobService.subscribe(jobId);
+    }
 }
@@ -0,0 +1,81 @@
+package com.kraftlog.controller;
+
+import com.kraftlog.exception.ServiceUnavailableException;
+import com.kraftlog.security.UserScope;
+import com.kraftlog.service.HistoryExportService;
+import com.kraftlog.service.HistoryFormat;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.annotation.PostConstruct;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.LocalDate;
+import java.util.UUID;
+import java.util.concurrent.Semaphore;
+
+@RestController
+@RequestMapping("/api/export")
+@RequiredArgsConstructor
+@Tag(name = "Export", description = "APIs for downloading a user's training history")
+@SecurityRequirement(name = "bearer-jwt")
+public class HistoryExportController {
+
+    private final HistoryExportService historyExportService;
+    private final UserScope userScope;
+
+    @Value("${app.export.max-concurrent:4}")
+    private int maxConcurrentExports;
+
+    // Exports running at once; each holds a pooled connection and an async thread until it is streamed
+    private Semaphore slots;
+
+    @PostConstruct
+    void createSlots() {
+        slots = new Semaphore(maxConcurrentExports);
+    }
+
+    @Operation(summary = "Export training history",
+            description = "Streams every logged routine, workout, exercise and set of the authenticated user, "
+                    + "oldest first, as NDJSON (one routine session per line) or CSV (one row per set)")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "History streamed"),
+            @ApiResponse(responseCode = "400", description = "Unsupported format", content = @Content),
+            @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content),
+            @ApiResponse(responseCode = "503", description = "Too many exports in progress", content = @Content)
+    })
+    @GetMapping("/history")
+    public ResponseEntity<StreamingResponseBody> exportHistory(
+            @Parameter(description = "ndjson or csv") @RequestParam(defaultValue = "ndjson") String format,
+            HttpServletRequest request) {
+        HistoryFormat exportFormat = HistoryFormat.of(format);
+        // Resolved here: the body is written on an async thread without the security context
+        UUID userId = userScope.currentUserId();
+
+        if (!slots.tryAcquire()) {
+            throw new ServiceUnavailableException("Too many history exports in progress, try again later", 30);
+        }
+        String filename = "kraftlog-history-" + LocalDate.now() + "." + exportFormat.getExtension();
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(filename).build().toString())
+                .body(StreamCleanup.guard(request,
+                        out -> historyExportService.export(userId, exportFormat, out), slots::release));
+    }
+}
@@ -0,0 +1,180 @@
+package com.kraftlog.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.kraftlog.exception.BadRequestException;
+import com.kraftlog.exception.ServiceUnavailableException;
+import com.kraftlog.security.UserScope;
+import com.kraftlog.service.HistoryFormat;
+import com.kraftlog.service.HistoryImportService;
+import com.kraftlog.service.HistoryImportService.ImportFailure;
+import com.kraftlog.service.HistoryImportService.ImportResult;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.annotation.PostConstruct;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.UUID;
+import java.util.concurrent.Semaphore;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/import")
+@RequiredArgsConstructor
+@Tag(name = "Import", description = "APIs for importing training history from other trackers")
+@SecurityRequirement(name = "bearer-jwt")
+public class HistoryImportController {
+
+    private final HistoryImportService historyImportService;
+    private final UserScope userScope;
+    private final ObjectMapper objectMapper;
+
+    @Value("${app.import.max-concurrent:2}")
+    private int maxConcurrentImports;
+
+    // Imports running at once; taken before the upload is stored so a busy server leaves it untouched
+    private Semaphore slots;
+
+    @PostConstruct
+    void createSlots() {
+        slots = new Semaphore(maxConcurrentImports);
+    }
+
+    @Operation(summary = "Import training history",
+            description = "Upload a CSV or NDJSON file with one logged set per row, using the column names of the "
+                    + "CSV export. Rows are imported as they are read; the response is NDJSON with a `progress` "
+                    + "line after every committed chunk, an `error` line per skipped row and a final `result` line.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Import started, progress streamed"),
+            @ApiResponse(responseCode = "400", description = "Empty file or unsupported format", content = @Content),
+            @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content),
+            @ApiResponse(responseCode = "503", description = "Too many imports in progress", content = @Content)
+    })
+    @PostMapping(value = "/history", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<StreamingResponseBody> importHistory(
+            @RequestParam("file") MultipartFile file,
+            @Parameter(description = "ndjson or csv, by default taken from the file extension")
+            @RequestParam(required = false) String format,
+            HttpServletRequest request) {
+        if (file.isEmpty()) {
+            throw new BadRequestException("File is empty");
+        }
+        HistoryFormat importFormat = format != null
+                ? HistoryFormat.of(format) : HistoryFormat.ofFileName(file.getOriginalFilename());
+        // Resolved here: the body is written on an async thread without the security context
+        UUID userId = userScope.currentUserId();
+
+        if (!slots.tryAcquire()) {
+            throw new ServiceUnavailableException("Too many history imports in progress, try again later", 30);
+        }
+        Path upload;
+        try {
+            upload = storeUpload(file);
+        } catch (RuntimeException e) {
+            slots.release();
+            throw e;
+        }
+        log.info("Importing history of user {} from {} ({})", userId, file.getOriginalFilename(), importFormat);
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(HistoryFormat.NDJSON.getContentType()))
+                .body(StreamCleanup.guard(request, out -> {
+                    try (Reader reader = Files.newBufferedReader(upload, StandardCharsets.UTF_8)) {
+                        EventWriter events = new EventWriter(out);
+                        try {
+                            events.write("result", historyImportService.importHistory(
+                                    userId, importFormat, reader, events));
+                        } catch (BadRequestException e) {
+                            events.write("error", objectMapper.createObjectNode().put("reason", e.getMessage()));
+                        }
+                    }
+                }, () -> {
+                    deleteQuietly(upload);
+                    slots.release();
+                }));
+    }
+
+    private Path storeUpload(MultipartFile file) {
+        try {
+            Path upload = Files.createTempFile("history-import-", ".tmp");
+            // Streams a copy of the part to disk; Spring never moves it, so the bytes are written twice
+            file.transferTo(upload);
+            return upload;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to store uploaded file", e);
+        }
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("Failed to delete import upload {}", path, e);
+        }
+    }
+
+    /**
+     * Writes import events as NDJSON lines, each tagged with its {@code type}. Once the client
+     * has gone away events are dropped and the import carries on.
+     */
+    private class EventWriter implements HistoryImportService.ImportListener {
+
+        private final OutputStream out;
+        private boolean disconnected;
+
+        EventWriter(OutputStream out) {
+            this.out = out;
+        }
+
+        @Override
+        public void onFailure(ImportFailure failure) {
+            write("error", failure);
+        }
+
+        @Override
+        public void onProgress(ImportResult result) {
+            write("progress", result);
+        }
+
+        void write(String type, Object event) {
+            if (disconnected) {
+                return;
+            }
+            ObjectNode line = objectMapper.createObjectNode().put("type", type);
+            line.setAll((ObjectNode) objectMapper.valueToTree(event));
+            try {
+                out.write(objectMapper.writeValueAsBytes(line));
+                out.write('\n');
+                if (!"error".equals(type)) {
+                    out.flush();
+                }
+            } catch (IOException e) {
+                disconnected = true;
+                log.info("History import client disconnected, continuing without progress events");
+            }
+        }
+    }
+}
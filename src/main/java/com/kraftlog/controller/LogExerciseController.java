@@ -2,6 +2,7 @@ package com.kraftlog.controller;
 
 import com.kraftlog.dto.LogExerciseCreateRequest;
 import com.kraftlog.dto.LogExerciseResponse;
+import com.kraftlog.security.UserScope;
 import com.kraftlog.service.LogExerciseService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -15,6 +16,7 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -28,6 +30,7 @@ import java.util.UUID;
 public class LogExerciseController {
 
     private final LogExerciseService logExerciseService;
+    private final UserScope userScope;
 
     @Operation(summary = "Log an exercise", description = "Creates a new log entry for an exercise during a workout")
     @ApiResponses(value = {
@@ -35,9 +38,11 @@ public class LogExerciseController {
                     content = @Content(schema = @Schema(implementation = LogExerciseResponse.class))),
             @ApiResponse(responseCode = "400", description = "Invalid input data", content = @Content),
             @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content),
+            @ApiResponse(responseCode = "403", description = "Forbidden - Owned by another user", content = @Content),
             @ApiResponse(responseCode = "404", description = "LogWorkout or Exercise not found", content = @Content)
     })
     @PostMapping
+    @PreAuthorize("@userScope.canAccessLogWorkout(#request.logWorkoutId)")
     public ResponseEntity<LogExerciseResponse> logExercise(@Valid @RequestBody LogExerciseCreateRequest request) {
         LogExerciseResponse response = logExerciseService.createLogExercise(request);
         return new ResponseEntity<>(response, HttpStatus.CREATED);
@@ -48,16 +53,18 @@ public class LogExerciseController {
             @ApiResponse(responseCode = "200", description = "Exercise found",
                     content = @Content(schema = @Schema(implementation = LogExerciseResponse.class))),
             @ApiResponse(responseCode = "404", description = "Exercise not found", content = @Content),
-            @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content)
+            @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content),
+            @ApiResponse(responseCode = "403", description = "Forbidden - Owned by another user", content = @Content)
     })
     @GetMapping("/{id}")
+    @PreAuthorize("@userScope.canAccessLogExercise(#id)")
     public ResponseEntity<LogExerciseResponse> getLogExerciseById(
             @Parameter(description = "Log Exercise ID") @PathVariable UUID id) {
         LogExerciseResponse response = logExerciseService.getLogExerciseById(id);
         return ResponseEntity.ok(response);
     }
 
-    @Operation(summary = "Get all logged exercises", description = "Returns all logged exercises")
+    @Operation(summary = "Get all logged exercises", description = "Returns the exercises logged by the authenticated user")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Exercises retrieved successfully",
                     content = @Content(schema = @Schema(implementation = LogExerciseResponse.class))),
@@ -65,7 +72,7 @@ public class LogExerciseController {
     })
     @GetMapping
     public ResponseEntity<List<LogExerciseResponse>> getAllLogExercises() {
-        List<LogExerciseResponse> logExercises = logExerciseService.getAllLogExercises();
+        List<LogExerciseResponse> logExercises = logExerciseService.getLogExercisesByUserId(userScope.currentUserId());
         return ResponseEntity.ok(logExercises);
     }
 
@@ -74,9 +81,11 @@ public class LogExerciseController {
             @ApiResponse(responseCode = "200", description = "Exercises retrieved successfully",
                     content = @Content(schema = @Schema(implementation = LogExerciseResponse.class))),
             @ApiResponse(responseCode = "404", description = "LogWorkout not found", content = @Content),
-            @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content)
+            @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content),
+            @ApiResponse(responseCode = "403", description = "Forbidden - Owned by another user", content = @Content)
     })
     @GetMapping("/log-workout/{logWorkoutId}")
+    @PreAuthorize("@userScope.canAccessLogWorkout(#logWorkoutId)")
     public ResponseEntity<List<LogExerciseResponse>> getLogExercisesByLogWorkoutId(
             @Parameter(description = "Log Workout ID") @PathVariable UUID logWorkoutId) {
         List<LogExerciseResponse> logExercises = logExerciseService.getLogExercisesByLogWorkoutId(logWorkoutId);
@@ -89,9 +98,11 @@ public class LogExerciseController {
                     content = @Content(schema = @Schema(implementation = LogExerciseResponse.class))),
             @ApiResponse(responseCode = "404", description = "Exercise not found", content = @Content),
             @ApiResponse(responseCode = "400", description = "Invalid input data", content = @Content),
-            @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content)
+            @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content),
+            @ApiResponse(responseCode = "403", description = "Forbidden - Owned by another user", content = @Content)
     })
     @PutMapping("/{id}")
+    @PreAuthorize("@userScope.canAccessLogExercise(#id)")
     public ResponseEntity<LogExerciseResponse> updateLogExercise(
             @Parameter(description = "Log Exercise ID") @PathVariable UUID id,
             @Valid @RequestBody LogExerciseCreateRequest request) {
@@ -103,9 +114,11 @@ public class LogExerciseController {
     @ApiResponses(value = {
             @ApiResponse(responseCode = "204", description = "Exercise deleted successfully"),
             @ApiResponse(responseCode = "404", description = "Exercise not found", content = @Content),
-            @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content)
+            @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content),
+            @ApiResponse(responseCode = "403", description = "Forbidden - Owned by another user", content = @Content)
     })
     @DeleteMapping("/{id}")
+    @PreAuthorize("@userScope.canAccessLogExercise(#id)")
     public ResponseEntity<Void> deleteLogExercise(
             @Parameter(description = "Log Exercise ID") @PathVariable UUID id) {
         logExerciseService.deleteLogExercise(id);
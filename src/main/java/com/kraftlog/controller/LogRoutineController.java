@@ -2,6 +2,7 @@ package com.kraftlog.controller;
 
 import com.kraftlog.dto.LogRoutineCreateRequest;
 import com.kraftlog.dto.LogRoutineResponse;
+import com.kraftlog.security.UserScope;
 import com.kraftlog.service.LogRoutineService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -15,6 +16,7 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -28,6 +30,7 @@ import java.util.UUID;
 public class LogRoutineController {
 
     private final LogRoutineService logRoutineService;
+    private final UserScope userScope;
 
     @Operation(summary = "Start a routine session", description = "Creates a new log entry for starting a routine workout session")
     @ApiResponses(value = {
@@ -35,9 +38,11 @@ public class LogRoutineController {
                     content = @Content(schema = @Schema(implementation = LogRoutineResponse.class))),
             @ApiResponse(responseCode = "400", description = "Invalid input data", content = @Content),
             @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content),
+            @ApiResponse(responseCode = "403", description = "Forbidden - Owned by another user", content = @Content),
             @ApiResponse(responseCode = "404", description = "Routine not found", content = @Content)
     })
     @PostMapping
+    @PreAuthorize("@userScope.canAccessRoutine(#request.routineId)")
     public ResponseEntity<LogRoutineResponse> startRoutineSession(@Valid @RequestBody LogRoutineCreateRequest request) {
         LogRoutineResponse response = logRoutineService.createLogRoutine(request);
         return new ResponseEntity<>(response, HttpStatus.CREATED);
@@ -48,16 +53,18 @@ public class LogRoutineController {
             @ApiResponse(responseCode = "200", description = "Routine session found",
                     content = @Content(schema = @Schema(implementation = LogRoutineResponse.class))),
             @ApiResponse(responseCode = "404", description = "Routine session not found", content = @Content),
-            @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content)
+            @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content),
+            @ApiResponse(responseCode = "403", description = "Forbidden - Owned by another user", content = @Content)
     })
     @GetMapping("/{id}")
+    @PreAuthorize("@userScope.canAccessLogRoutine(#id)")
     public ResponseEntity<LogRoutineResponse> getLogRoutineById(
             @Parameter(description = "Log Routine ID") @PathVariable UUID id) {
         LogRoutineResponse response = logRoutineService.getLogRoutineById(id);
         return ResponseEntity.ok(response);
     }
 
-    @Operation(summary = "Get all routine sessions", description = "Returns all logged routine sessions")
+    @Operation(summary = "Get all routine sessions", description = "Returns the routine sessions logged by the authenticated user")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Routine sessions retrieved successfully",
                     content = @Content(schema = @Schema(implementation = LogRoutineResponse.class))),
@@ -65,7 +72,7 @@ public class LogRoutineController {
     })
     @GetMapping
     public ResponseEntity<List<LogRoutineResponse>> getAllLogRoutines() {
-        List<LogRoutineResponse> logRoutines = logRoutineService.getAllLogRoutines();
+        List<LogRoutineResponse> logRoutines = logRoutineService.getLogRoutinesByUserId(userScope.currentUserId());
         return ResponseEntity.ok(logRoutines);
     }
 
@@ -73,10 +80,12 @@ public class LogRoutineController {
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Routine sessions retrieved successfully",
                     content = @Content(schema = @Schema(implementation = LogRoutineResponse.class))),
+            @ApiResponse(responseCode = "403", description = "Forbidden - Not the authenticated user", content = @Content),
             @ApiResponse(responseCode = "404", description = "User not found", content = @Content),
             @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content)
     })
     @GetMapping("/user/{userId}")
+    @PreAuthorize("@userScope.canAccess(#userId)")
     public ResponseEntity<List<LogRoutineResponse>> getLogRoutinesByUserId(
             @Parameter(description = "User ID") @PathVariable UUID userId) {
         List<LogRoutineResponse> logRoutines = logRoutineService.getLogRoutinesByUserId(userId);
@@ -88,9 +97,11 @@ public class LogRoutineController {
             @ApiResponse(responseCode = "200", description = "Routine sessions retrieved successfully",
                     content = @Content(schema = @Schema(implementation = LogRoutineResponse.class))),
             @ApiResponse(responseCode = "404", description = "Routine not found", content = @Content),
-            @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content)
+            @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content),
+            @ApiResponse(responseCode = "403", description = "Forbidden - Owned by another user", content = @Content)
     })
     @GetMapping("/routine/{routineId}")
+    @PreAuthorize("@userScope.canAccessRoutine(#routineId)")
     public ResponseEntity<List<LogRoutineResponse>> getLogRoutinesByRoutineId(
             @Parameter(description = "Routine ID") @PathVariable UUID routineId) {
         List<LogRoutineResponse> logRoutines = logRoutineService.getLogRoutinesByRoutineId(routineId);
@@ -103,9 +114,11 @@ public class LogRoutineController {
                     content = @Content(schema = @Schema(implementation = LogRoutineResponse.class))),
             @ApiResponse(responseCode = "404", description = "Routine session not found", content = @Content),
             @ApiResponse(responseCode = "400", description = "Invalid input data", content = @Content),
-            @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content)
+            @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content),
+            @ApiResponse(responseCode = "403", description = "Forbidden - Owned by another user", content = @Content)
     })
     @PutMapping("/{id}")
+    @PreAuthorize("@userScope.canAccessLogRoutine(#id)")
     public ResponseEntity<LogRoutineResponse> updateLogRoutine(
             @Parameter(description = "Log Routine ID") @PathVariable UUID id,
             @Valid @RequestBody LogRoutineCreateRequest request) {
@@ -117,9 +130,11 @@ public class LogRoutineController {
     @ApiResponses(value = {
             @ApiResponse(responseCode = "204", description = "Routine session deleted successfully"),
             @ApiResponse(responseCode = "404", description = "Routine session not found", content = @Content),
-            @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content)
+            @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content),
+            @ApiResponse(responseCode = "403", description = "Forbidden - Owned by another user", content = @Content)
     })
     @DeleteMapping("/{id}")
+    @PreAuthorize("@userScope.canAccessLogRoutine(#id)")
     public ResponseEntity<Void> deleteLogRoutine(
             @Parameter(description = "Log Routine ID") @PathVariable UUID id) {
         logRoutineService.deleteLogRoutine(id);
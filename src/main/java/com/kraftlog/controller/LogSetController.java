@@ -2,6 +2,7 @@ package com.kraftlog.controller;
 
 import com.kraftlog.dto.LogSetCreateRequest;
 import com.kraftlog.dto.LogSetResponse;
+import com.kraftlog.security.UserScope;
 import com.kraftlog.service.LogSetService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -15,6 +16,7 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -28,6 +30,7 @@ import java.util.UUID;
 public class LogSetController {
 
     private final LogSetService logSetService;
+    private final UserScope userScope;
 
     @Operation(summary = "Log a set", description = "Creates a new log entry for a completed exercise set")
     @ApiResponses(value = {
@@ -35,9 +38,11 @@ public class LogSetController {
                     content = @Content(schema = @Schema(implementation = LogSetResponse.class))),
             @ApiResponse(responseCode = "400", description = "Invalid input data", content = @Content),
             @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content),
+            @ApiResponse(responseCode = "403", description = "Forbidden - Owned by another user", content = @Content),
             @ApiResponse(responseCode = "404", description = "LogExercise not found", content = @Content)
     })
     @PostMapping
+    @PreAuthorize("@userScope.canAccessLogExercise(#request.logExerciseId)")
     public ResponseEntity<LogSetResponse> logSet(@Valid @RequestBody LogSetCreateRequest request) {
         LogSetResponse response = logSetService.createLogSet(request);
         return new ResponseEntity<>(response, HttpStatus.CREATED);
@@ -48,16 +53,18 @@ public class LogSetController {
             @ApiResponse(responseCode = "200", description = "Set found",
                     content = @Content(schema = @Schema(implementation = LogSetResponse.class))),
             @ApiResponse(responseCode = "404", description = "Set not found", content = @Content),
-            @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content)
+            @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content),
+            @ApiResponse(responseCode = "403", description = "Forbidden - Owned by another user", content = @Content)
     })
     @GetMapping("/{id}")
+    @PreAuthorize("@userScope.canAccessLogSet(#id)")
     public ResponseEntity<LogSetResponse> getLogSetById(
             @Parameter(description = "Log Set ID") @PathVariable UUID id) {
         LogSetResponse response = logSetService.getLogSetById(id);
         return ResponseEntity.ok(response);
     }
 
-    @Operation(summary = "Get all logged sets", description = "Returns all logged sets")
+    @Operation(summary = "Get all logged sets", description = "Returns the sets logged by the authenticated user")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Sets retrieved successfully",
                     content = @Content(schema = @Schema(implementation = LogSetResponse.class))),
@@ -65,7 +72,7 @@ public class LogSetController {
     })
     @GetMapping
     public ResponseEntity<List<LogSetResponse>> getAllLogSets() {
-        List<LogSetResponse> logSets = logSetService.getAllLogSets();
+        List<LogSetResponse> logSets = logSetService.getLogSetsByUserId(userScope.currentUserId());
         return ResponseEntity.ok(logSets);
     }
 
@@ -74,9 +81,11 @@ public class LogSetController {
             @ApiResponse(responseCode = "200", description = "Sets retrieved successfully",
                     content = @Content(schema = @Schema(implementation = LogSetResponse.class))),
             @ApiResponse(responseCode = "404", description = "LogExercise not found", content = @Content),
-            @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content)
+            @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content),
+            @ApiResponse(responseCode = "403", description = "Forbidden - Owned by another user", content = @Content)
     })
     @GetMapping("/log-exercise/{logExerciseId}")
+    @PreAuthorize("@userScope.canAccessLogExercise(#logExerciseId)")
     public ResponseEntity<List<LogSetResponse>> getLogSetsByLogExerciseId(
             @Parameter(description = "Log Exercise ID") @PathVariable UUID logExerciseId) {
         List<LogSetResponse> logSets = logSetService.getLogSetsByLogExerciseId(logExerciseId);
@@ -89,9 +98,11 @@ public class LogSetController {
                     content = @Content(schema = @Schema(implementation = LogSetResponse.class))),
             @ApiResponse(responseCode = "404", description = "Set not found", content = @Content),
             @ApiResponse(responseCode = "400", description = "Invalid input data", content = @Content),
-            @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content)
+            @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content),
+            @ApiResponse(responseCode = "403", description = "Forbidden - Owned by another user", content = @Content)
     })
     @PutMapping("/{id}")
+    @PreAuthorize("@userScope.canAccessLogSet(#id)")
     public ResponseEntity<LogSetResponse> updateLogSet(
             @Parameter(description = "Log Set ID") @PathVariable UUID id,
             @Valid @RequestBody LogSetCreateRequest request) {
@@ -103,9 +114,11 @@ public class LogSetController {
     @ApiResponses(value = {
             @ApiResponse(responseCode = "204", description = "Set deleted successfully"),
             @ApiResponse(responseCode = "404", description = "Set not found", content = @Content),
-            @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content)
+            @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content),
+            @ApiResponse(responseCode = "403", description = "Forbidden - Owned by another user", content = @Content)
     })
     @DeleteMapping("/{id}")
+    @PreAuthorize("@userScope.canAccessLogSet(#id)")
     public ResponseEntity<Void> deleteLogSet(
             @Parameter(description = "Log Set ID") @PathVariable UUID id) {
         logSetService.deleteLogSet(id);
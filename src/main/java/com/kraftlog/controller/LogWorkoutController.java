@@ -2,6 +2,7 @@ package com.kraftlog.controller;
 
 import com.kraftlog.dto.LogWorkoutCreateRequest;
 import com.kraftlog.dto.LogWorkoutResponse;
+import com.kraftlog.security.UserScope;
 import com.kraftlog.service.LogWorkoutService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -15,6 +16,7 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -28,6 +30,7 @@ import java.util.UUID;
 public class LogWorkoutController {
 
     private final LogWorkoutService logWorkoutService;
+    private final UserScope userScope;
 
     @Operation(summary = "Start a workout session", description = "Creates a new log entry for starting a workout session")
     @ApiResponses(value = {
@@ -35,9 +38,11 @@ public class LogWorkoutController {
                     content = @Content(schema = @Schema(implementation = LogWorkoutResponse.class))),
             @ApiResponse(responseCode = "400", description = "Invalid input data", content = @Content),
             @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content),
+            @ApiResponse(responseCode = "403", description = "Forbidden - Owned by another user", content = @Content),
             @ApiResponse(responseCode = "404", description = "LogRoutine or Workout not found", content = @Content)
     })
     @PostMapping
+    @PreAuthorize("@userScope.canAccessLogRoutine(#request.logRoutineId) and @userScope.canAccessWorkout(#request.workoutId)")
     public ResponseEntity<LogWorkoutResponse> startWorkoutSession(@Valid @RequestBody LogWorkoutCreateRequest request) {
         LogWorkoutResponse response = logWorkoutService.createLogWorkout(request);
         return new ResponseEntity<>(response, HttpStatus.CREATED);
@@ -48,16 +53,18 @@ public class LogWorkoutController {
             @ApiResponse(responseCode = "200", description = "Workout session found",
                     content = @Content(schema = @Schema(implementation = LogWorkoutResponse.class))),
             @ApiResponse(responseCode = "404", description = "Workout session not found", content = @Content),
-            @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content)
+            @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content),
+            @ApiResponse(responseCode = "403", description = "Forbidden - Owned by another user", content = @Content)
     })
     @GetMapping("/{id}")
+    @PreAuthorize("@userScope.canAccessLogWorkout(#id)")
     public ResponseEntity<LogWorkoutResponse> getLogWorkoutById(
             @Parameter(description = "Log Workout ID") @PathVariable UUID id) {
         LogWorkoutResponse response = logWorkoutService.getLogWorkoutById(id);
         return ResponseEntity.ok(response);
     }
 
-    @Operation(summary = "Get all workout sessions", description = "Returns all logged workout sessions")
+    @Operation(summary = "Get all workout sessions", description = "Returns the workout sessions logged by the authenticated user")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Workout sessions retrieved successfully",
                     content = @Content(schema = @Schema(implementation = LogWorkoutResponse.class))),
@@ -65,7 +72,7 @@ public class LogWorkoutController {
     })
     @GetMapping
     public ResponseEntity<List<LogWorkoutResponse>> getAllLogWorkouts() {
-        List<LogWorkoutResponse> logWorkouts = logWorkoutService.getAllLogWorkouts();
+        List<LogWorkoutResponse> logWorkouts = logWorkoutService.getLogWorkoutsByUserId(userScope.currentUserId());
         return ResponseEntity.ok(logWorkouts);
     }
 
@@ -74,9 +81,11 @@ public class LogWorkoutController {
             @ApiResponse(responseCode = "200", description = "Workout sessions retrieved successfully",
                     content = @Content(schema = @Schema(implementation = LogWorkoutResponse.class))),
             @ApiResponse(responseCode = "404", description = "LogRoutine not found", content = @Content),
-            @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content)
+            @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content),
+            @ApiResponse(responseCode = "403", description = "Forbidden - Owned by another user", content = @Content)
     })
     @GetMapping("/log-routine/{logRoutineId}")
+    @PreAuthorize("@userScope.canAccessLogRoutine(#logRoutineId)")
     public ResponseEntity<List<LogWorkoutResponse>> getLogWorkoutsByLogRoutineId(
             @Parameter(description = "Log Routine ID") @PathVariable UUID logRoutineId) {
         List<LogWorkoutResponse> logWorkouts = logWorkoutService.getLogWorkoutsByLogRoutineId(logRoutineId);
@@ -88,9 +97,11 @@ public class LogWorkoutController {
             @ApiResponse(responseCode = "200", description = "Last workout session retrieved successfully",
                     content = @Content(schema = @Schema(implementation = LogWorkoutResponse.class))),
             @ApiResponse(responseCode = "404", description = "No completed workout found", content = @Content),
-            @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content)
+            @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content),
+            @ApiResponse(responseCode = "403", description = "Forbidden - Owned by another user", content = @Content)
     })
     @GetMapping("/workout/{workoutId}/last")
+    @PreAuthorize("@userScope.canAccessWorkout(#workoutId)")
     public ResponseEntity<LogWorkoutResponse> getLastCompletedWorkout(
             @Parameter(description = "Workout ID") @PathVariable UUID workoutId) {
         return logWorkoutService.getLastCompletedWorkout(workoutId)
@@ -104,9 +115,11 @@ public class LogWorkoutController {
                     content = @Content(schema = @Schema(implementation = LogWorkoutResponse.class))),
             @ApiResponse(responseCode = "404", description = "Workout session not found", content = @Content),
             @ApiResponse(responseCode = "400", description = "Invalid input data", content = @Content),
-            @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content)
+            @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content),
+            @ApiResponse(responseCode = "403", description = "Forbidden - Owned by another user", content = @Content)
     })
     @PutMapping("/{id}")
+    @PreAuthorize("@userScope.canAccessLogWorkout(#id)")
     public ResponseEntity<LogWorkoutResponse> updateLogWorkout(
             @Parameter(description = "Log Workout ID") @PathVariable UUID id,
             @Valid @RequestBody LogWorkoutCreateRequest request) {
@@ -118,9 +131,11 @@ public class LogWorkoutController {
     @ApiResponses(value = {
             @ApiResponse(responseCode = "204", description = "Workout session deleted successfully"),
             @ApiResponse(responseCode = "404", description = "Workout session not found", content = @Content),
-            @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content)
+            @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content),
+            @ApiResponse(responseCode = "403", description = "Forbidden - Owned by another user", content = @Content)
     })
     @DeleteMapping("/{id}")
+    @PreAuthorize("@userScope.canAccessLogWorkout(#id)")
     public ResponseEntity<Void> deleteLogWorkout(
             @Parameter(description = "Log Workout ID") @PathVariable UUID id) {
         logWorkoutService.deleteLogWorkout(id);
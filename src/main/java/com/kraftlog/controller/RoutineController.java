@@ -2,6 +2,7 @@ package com.kraftlog.controller;
 
 import com.kraftlog.dto.RoutineCreateRequest;
 import com.kraftlog.dto.RoutineResponse;
+import com.kraftlog.security.UserScope;
 import com.kraftlog.service.RoutineService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -15,6 +16,7 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -28,6 +30,7 @@ import java.util.UUID;
 public class RoutineController {
 
     private final RoutineService routineService;
+    private final UserScope userScope;
 
     @Operation(summary = "Create a new routine", description = "Creates a new workout routine for a user")
     @ApiResponses(value = {
@@ -35,9 +38,11 @@ public class RoutineController {
                     content = @Content(schema = @Schema(implementation = RoutineResponse.class))),
             @ApiResponse(responseCode = "400", description = "Invalid input data", content = @Content),
             @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content),
+            @ApiResponse(responseCode = "403", description = "Forbidden - Not the authenticated user", content = @Content),
             @ApiResponse(responseCode = "404", description = "User not found", content = @Content)
     })
     @PostMapping
+    @PreAuthorize("@userScope.canAccess(#request.userId)")
     public ResponseEntity<RoutineResponse> createRoutine(@Valid @RequestBody RoutineCreateRequest request) {
         RoutineResponse response = routineService.createRoutine(request);
         return new ResponseEntity<>(response, HttpStatus.CREATED);
@@ -48,16 +53,18 @@ public class RoutineController {
             @ApiResponse(responseCode = "200", description = "Routine found",
                     content = @Content(schema = @Schema(implementation = RoutineResponse.class))),
             @ApiResponse(responseCode = "404", description = "Routine not found", content = @Content),
-            @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content)
+            @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content),
+            @ApiResponse(responseCode = "403", description = "Forbidden - Owned by another user", content = @Content)
     })
     @GetMapping("/{id}")
+    @PreAuthorize("@userScope.canAccessRoutine(#id)")
     public ResponseEntity<RoutineResponse> getRoutineById(
             @Parameter(description = "Routine ID") @PathVariable UUID id) {
         RoutineResponse response = routineService.getRoutineById(id);
         return ResponseEntity.ok(response);
     }
 
-    @Operation(summary = "Get all routines", description = "Returns all routines")
+    @Operation(summary = "Get all routines", description = "Returns the routines of the authenticated user")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Routines retrieved successfully",
                     content = @Content(schema = @Schema(implementation = RoutineResponse.class))),
@@ -65,7 +72,7 @@ public class RoutineController {
     })
     @GetMapping
     public ResponseEntity<List<RoutineResponse>> getAllRoutines() {
-        List<RoutineResponse> routines = routineService.getAllRoutines();
+        List<RoutineResponse> routines = routineService.getRoutinesByUserId(userScope.currentUserId());
         return ResponseEntity.ok(routines);
     }
 
@@ -73,10 +80,12 @@ public class RoutineController {
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Routines retrieved successfully",
                     content = @Content(schema = @Schema(implementation = RoutineResponse.class))),
+            @ApiResponse(responseCode = "403", description = "Forbidden - Not the authenticated user", content = @Content),
             @ApiResponse(responseCode = "404", description = "User not found", content = @Content),
             @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content)
     })
     @GetMapping("/user/{userId}")
+    @PreAuthorize("@userScope.canAccess(#userId)")
     public ResponseEntity<List<RoutineResponse>> getRoutinesByUserId(
             @Parameter(description = "User ID") @PathVariable UUID userId) {
         List<RoutineResponse> routines = routineService.getRoutinesByUserId(userId);
@@ -89,9 +98,11 @@ public class RoutineController {
                     content = @Content(schema = @Schema(implementation = RoutineResponse.class))),
             @ApiResponse(responseCode = "404", description = "Routine not found", content = @Content),
             @ApiResponse(responseCode = "400", description = "Invalid input data", content = @Content),
-            @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content)
+            @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content),
+            @ApiResponse(responseCode = "403", description = "Forbidden - Owned by another user", content = @Content)
     })
     @PutMapping("/{id}")
+    @PreAuthorize("@userScope.canAccessRoutine(#id)")
     public ResponseEntity<RoutineResponse> updateRoutine(
             @Parameter(description = "Routine ID") @PathVariable UUID id,
             @Valid @RequestBody RoutineCreateRequest request) {
@@ -104,9 +115,11 @@ public class RoutineController {
             @ApiResponse(responseCode = "200", description = "Routine activated successfully",
                     content = @Content(schema = @Schema(implementation = RoutineResponse.class))),
             @ApiResponse(responseCode = "404", description = "Routine not found", content = @Content),
-            @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content)
+            @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content),
+            @ApiResponse(responseCode = "403", description = "Forbidden - Owned by another user", content = @Content)
     })
     @PutMapping("/{id}/activate")
+    @PreAuthorize("@userScope.canAccessRoutine(#id)")
     public ResponseEntity<RoutineResponse> activateRoutine(
             @Parameter(description = "Routine ID") @PathVariable UUID id) {
         RoutineResponse response = routineService.activateRoutine(id);
@@ -117,9 +130,11 @@ public class RoutineController {
     @ApiResponses(value = {
             @ApiResponse(responseCode = "204", description = "Routine deleted successfully"),
             @ApiResponse(responseCode = "404", description = "Routine not found", content = @Content),
-            @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content)
+            @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content),
+            @ApiResponse(responseCode = "403", description = "Forbidden - Owned by another user", content = @Content)
     })
     @DeleteMapping("/{id}")
+    @PreAuthorize("@userScope.canAccessRoutine(#id)")
     public ResponseEntity<Void> deleteRoutine(
             @Parameter(description = "Routine ID") @PathVariable UUID id) {
         routineService.deleteRoutine(id);
@@ -0,0 +1,46 @@
+package com.kraftlog.controller;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Ties the release of resources taken for a streamed response to that response, exactly once.
+ * The body releases them when it finishes; if it never starts, because the async executor
+ * rejected it or the request timed out while it was still queued, the async completion
+ * callback releases them instead.
+ */
+final class StreamCleanup {
+
+    private StreamCleanup() {
+    }
+
+    static StreamingResponseBody guard(HttpServletRequest request, StreamingResponseBody body, Runnable cleanup) {
+        AtomicBoolean claimed = new AtomicBoolean();
+        WebAsyncUtils.getAsyncManager(request).registerCallableInterceptor(StreamCleanup.class.getName(),
+                new CallableProcessingInterceptor() {
+                    @Override
+                    public <T> void afterCompletion(NativeWebRequest webRequest, Callable<T> task) {
+                        if (claimed.compareAndSet(false, true)) {
+                            cleanup.run();
+                        }
+                    }
+                });
+        return out -> {
+            if (!claimed.compareAndSet(false, true)) {
+                // The request already completed without us, nobody is reading
+                return;
+            }
+            try {
+                body.writeTo(out);
+            } finally {
+                cleanup.run();
+            }
+        };
+    }
+}
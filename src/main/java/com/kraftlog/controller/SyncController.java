@@ -0,0 +1,51 @@
+package com.kraftlog.controller;
+
+import com.kraftlog.dto.SyncResponse;
+import com.kraftlog.security.UserScope;
+import com.kraftlog.service.SyncService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/sync")
+@RequiredArgsConstructor
+@Tag(name = "Sync", description = "APIs for keeping an offline copy of a user's data up to date")
+@SecurityRequirement(name = "bearer-jwt")
+public class SyncController {
+
+    private final SyncService syncService;
+    private final UserScope userScope;
+
+    @Operation(summary = "Get changes since a cursor",
+            description = "Returns the exercises, routines, workouts and log entries of the authenticated user "
+                    + "created or changed since the cursor, and the ids of those deleted. Call without a cursor "
+                    + "for a full sync, then with the returned cursor; while `hasMore` is true call again right "
+                    + "away. Deleting an entity deletes its children, which are not listed separately. "
+                    + "`reset` means the cursor had expired and local data should be replaced.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Changes retrieved successfully",
+                    content = @Content(schema = @Schema(implementation = SyncResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor or limit", content = @Content),
+            @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content)
+    })
+    @GetMapping
+    public ResponseEntity<SyncResponse> sync(
+            @Parameter(description = "Cursor returned by the previous call, omitted on first sync")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Rows per entity type a page should hold")
+            @RequestParam(defaultValue = "500") int limit) {
+        return ResponseEntity.ok(syncService.sync(userScope.currentUserId(), cursor, limit));
+    }
+}
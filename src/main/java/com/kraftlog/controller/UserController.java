@@ -15,6 +15,7 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -40,9 +41,13 @@ public class UserController {
         return new ResponseEntity<>(response, HttpStatus.CREATED);
     }
 
-    @Operation(summary = "Get all users", description = "Retrieves a list of all registered users")
-    @ApiResponse(responseCode = "200", description = "Successfully retrieved user list",
-            content = @Content(schema = @Schema(implementation = UserResponse.class)))
+    @Operation(summary = "Get all users", description = "Retrieves a list of all registered users (admin only)")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved user list",
+                    content = @Content(schema = @Schema(implementation = UserResponse.class))),
+            @ApiResponse(responseCode = "403", description = "Forbidden - Admin access required", content = @Content)
+    })
+    @PreAuthorize("hasRole('ADMIN')")
     @GetMapping
     public ResponseEntity<List<UserResponse>> getAllUsers() {
         List<UserResponse> users = userService.getAllUsers();
@@ -53,8 +58,10 @@ public class UserController {
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "User found",
                     content = @Content(schema = @Schema(implementation = UserResponse.class))),
+            @ApiResponse(responseCode = "403", description = "Forbidden - Not the authenticated user", content = @Content),
             @ApiResponse(responseCode = "404", description = "User not found", content = @Content)
     })
+    @PreAuthorize("@userScope.canAccess(#id)")
     @GetMapping("/{id}")
     public ResponseEntity<UserResponse> getUserById(
             @Parameter(description = "UUID of the user to retrieve", required = true)
@@ -67,8 +74,10 @@ public class UserController {
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "User found",
                     content = @Content(schema = @Schema(implementation = UserResponse.class))),
+            @ApiResponse(responseCode = "403", description = "Forbidden - Not the authenticated user", content = @Content),
             @ApiResponse(responseCode = "404", description = "User not found", content = @Content)
     })
+    @PreAuthorize("@userScope.canAccessEmail(#email)")
     @GetMapping("/email/{email}")
     public ResponseEntity<UserResponse> getUserByEmail(
             @Parameter(description = "Email address of the user to retrieve", required = true)
@@ -81,9 +90,11 @@ public class UserController {
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "User updated successfully",
                     content = @Content(schema = @Schema(implementation = UserResponse.class))),
+            @ApiResponse(responseCode = "403", description = "Forbidden - Not the authenticated user", content = @Content),
             @ApiResponse(responseCode = "404", description = "User not found", content = @Content),
             @ApiResponse(responseCode = "400", description = "Invalid input data", content = @Content)
     })
+    @PreAuthorize("@userScope.canAccess(#id)")
     @PutMapping("/{id}")
     public ResponseEntity<UserResponse> updateUser(
             @Parameter(description = "UUID of the user to update", required = true)
@@ -96,8 +107,10 @@ public class UserController {
     @Operation(summary = "Delete user", description = "Deletes a user and all associated data")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "204", description = "User deleted successfully"),
+            @ApiResponse(responseCode = "403", description = "Forbidden - Not the authenticated user", content = @Content),
             @ApiResponse(responseCode = "404", description = "User not found", content = @Content)
     })
+    @PreAuthorize("@userScope.canAccess(#id)")
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteUser(
             @Parameter(description = "UUID of the user to delete", required = true)
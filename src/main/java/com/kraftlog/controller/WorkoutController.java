@@ -2,6 +2,7 @@ package com.kraftlog.controller;
 
 import com.kraftlog.dto.WorkoutCreateRequest;
 import com.kraftlog.dto.WorkoutResponse;
+import com.kraftlog.security.UserScope;
 import com.kraftlog.service.WorkoutService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -15,6 +16,7 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -28,6 +30,7 @@ import java.util.UUID;
 public class WorkoutController {
 
     private final WorkoutService workoutService;
+    private final UserScope userScope;
 
     @Operation(summary = "Create a new workout", description = "Creates a new workout for a routine")
     @ApiResponses(value = {
@@ -35,9 +38,11 @@ public class WorkoutController {
                     content = @Content(schema = @Schema(implementation = WorkoutResponse.class))),
             @ApiResponse(responseCode = "400", description = "Invalid input data", content = @Content),
             @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content),
+            @ApiResponse(responseCode = "403", description = "Forbidden - Owned by another user", content = @Content),
             @ApiResponse(responseCode = "404", description = "Routine not found", content = @Content)
     })
     @PostMapping
+    @PreAuthorize("@userScope.canAccessRoutine(#request.routineId)")
     public ResponseEntity<WorkoutResponse> createWorkout(@Valid @RequestBody WorkoutCreateRequest request) {
         WorkoutResponse response = workoutService.createWorkout(request);
         return new ResponseEntity<>(response, HttpStatus.CREATED);
@@ -48,16 +53,18 @@ public class WorkoutController {
             @ApiResponse(responseCode = "200", description = "Workout found",
                     content = @Content(schema = @Schema(implementation = WorkoutResponse.class))),
             @ApiResponse(responseCode = "404", description = "Workout not found", content = @Content),
-            @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content)
+            @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content),
+            @ApiResponse(responseCode = "403", description = "Forbidden - Owned by another user", content = @Content)
     })
     @GetMapping("/{id}")
+    @PreAuthorize("@userScope.canAccessWorkout(#id)")
     public ResponseEntity<WorkoutResponse> getWorkoutById(
             @Parameter(description = "Workout ID") @PathVariable UUID id) {
         WorkoutResponse response = workoutService.getWorkoutById(id);
         return ResponseEntity.ok(response);
     }
 
-    @Operation(summary = "Get all workouts", description = "Returns all workouts")
+    @Operation(summary = "Get all workouts", description = "Returns the workouts in the authenticated user's routines")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Workouts retrieved successfully",
                     content = @Content(schema = @Schema(implementation = WorkoutResponse.class))),
@@ -65,7 +72,7 @@ public class WorkoutController {
     })
     @GetMapping
     public ResponseEntity<List<WorkoutResponse>> getAllWorkouts() {
-        List<WorkoutResponse> workouts = workoutService.getAllWorkouts();
+        List<WorkoutResponse> workouts = workoutService.getWorkoutsByUserId(userScope.currentUserId());
         return ResponseEntity.ok(workouts);
     }
 
@@ -74,9 +81,11 @@ public class WorkoutController {
             @ApiResponse(responseCode = "200", description = "Workouts retrieved successfully",
                     content = @Content(schema = @Schema(implementation = WorkoutResponse.class))),
             @ApiResponse(responseCode = "404", description = "Routine not found", content = @Content),
-            @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content)
+            @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content),
+            @ApiResponse(responseCode = "403", description = "Forbidden - Owned by another user", content = @Content)
     })
     @GetMapping("/routine/{routineId}")
+    @PreAuthorize("@userScope.canAccessRoutine(#routineId)")
     public ResponseEntity<List<WorkoutResponse>> getWorkoutsByRoutineId(
             @Parameter(description = "Routine ID") @PathVariable UUID routineId) {
         List<WorkoutResponse> workouts = workoutService.getWorkoutsByRoutineId(routineId);
@@ -89,9 +98,11 @@ public class WorkoutController {
                     content = @Content(schema = @Schema(implementation = WorkoutResponse.class))),
             @ApiResponse(responseCode = "404", description = "Workout not found", content = @Content),
             @ApiResponse(responseCode = "400", description = "Invalid input data", content = @Content),
-            @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content)
+            @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content),
+            @ApiResponse(responseCode = "403", description = "Forbidden - Owned by another user", content = @Content)
     })
     @PutMapping("/{id}")
+    @PreAuthorize("@userScope.canAccessWorkout(#id)")
     public ResponseEntity<WorkoutResponse> updateWorkout(
             @Parameter(description = "Workout ID") @PathVariable UUID id,
             @Valid @RequestBody WorkoutCreateRequest request) {
@@ -103,9 +114,11 @@ public class WorkoutController {
     @ApiResponses(value = {
             @ApiResponse(responseCode = "204", description = "Workout deleted successfully"),
             @ApiResponse(responseCode = "404", description = "Workout not found", content = @Content),
-            @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content)
+            @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content),
+            @ApiResponse(responseCode = "403", description = "Forbidden - Owned by another user", content = @Content)
     })
     @DeleteMapping("/{id}")
+    @PreAuthorize("@userScope.canAccessWorkout(#id)")
     public ResponseEntity<Void> deleteWorkout(
             @Parameter(description = "Workout ID") @PathVariable UUID id) {
         workoutService.deleteWorkout(id);
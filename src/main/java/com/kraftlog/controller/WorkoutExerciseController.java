@@ -15,6 +15,7 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -35,9 +36,11 @@ public class WorkoutExerciseController {
                     content = @Content(schema = @Schema(implementation = WorkoutExerciseResponse.class))),
             @ApiResponse(responseCode = "400", description = "Invalid input data", content = @Content),
             @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content),
+            @ApiResponse(responseCode = "403", description = "Forbidden - Owned by another user", content = @Content),
             @ApiResponse(responseCode = "404", description = "Workout or Exercise not found", content = @Content)
     })
     @PostMapping
+    @PreAuthorize("@userScope.canAccessWorkout(#request.workoutId)")
     public ResponseEntity<WorkoutExerciseResponse> addExerciseToWorkout(
             @Valid @RequestBody WorkoutExerciseAddRequest request) {
         WorkoutExerciseResponse response = workoutExerciseService.addExerciseToWorkout(
@@ -57,9 +60,11 @@ public class WorkoutExerciseController {
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Exercises retrieved successfully"),
             @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content),
+            @ApiResponse(responseCode = "403", description = "Forbidden - Owned by another user", content = @Content),
             @ApiResponse(responseCode = "404", description = "Workout not found", content = @Content)
     })
     @GetMapping
+    @PreAuthorize("@userScope.canAccessWorkout(#workoutId)")
     public ResponseEntity<List<WorkoutExerciseResponse>> getWorkoutExercises(
             @Parameter(description = "Workout ID") @RequestParam UUID workoutId) {
         List<WorkoutExerciseResponse> exercises = workoutExerciseService.getWorkoutExercises(workoutId);
@@ -70,9 +75,11 @@ public class WorkoutExerciseController {
     @ApiResponses(value = {
             @ApiResponse(responseCode = "204", description = "Exercise removed from workout successfully"),
             @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content),
+            @ApiResponse(responseCode = "403", description = "Forbidden - Owned by another user", content = @Content),
             @ApiResponse(responseCode = "404", description = "Workout or Exercise not found", content = @Content)
     })
     @DeleteMapping
+    @PreAuthorize("@userScope.canAccessWorkout(#workoutId)")
     public ResponseEntity<Void> removeExerciseFromWorkout(
             @Parameter(description = "Workout ID") @RequestParam UUID workoutId,
             @Parameter(description = "Exercise ID") @RequestParam UUID exerciseId) {
@@ -0,0 +1,35 @@
+package com.kraftlog.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Changes an exercise import would make, without making them")
+public class ExerciseImportDiff {
+
+    @Schema(description = "SHA-256 of the uploaded file")
+    private String contentHash;
+
+    @Schema(description = "Whether the parse result came from the content hash cache")
+    private boolean cached;
+
+    @Schema(description = "Exercises that would be created")
+    @Builder.Default
+    private List<String> added = new ArrayList<>();
+
+    @Schema(description = "Existing exercises whose video URL or muscles would change")
+    @Builder.Default
+    private List<String> updated = new ArrayList<>();
+
+    @Schema(description = "Exercises already up to date", example = "1498")
+    private int unchangedCount;
+}
@@ -0,0 +1,57 @@
+package com.kraftlog.dto;
+
+import com.kraftlog.service.ExerciseImportService;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "State of an asynchronous exercise import job")
+public class ImportJobResponse {
+
+    @Schema(description = "Job identifier used for polling and progress events")
+    private UUID jobId;
+
+    @Schema(description = "Name of the uploaded file", example = "exercises.pdf")
+    private String fileName;
+
+    @Schema(description = "Job status", example = "RUNNING")
+    private Status status;
+
+    @Schema(description = "Exercises processed so far", example = "1500")
+    private int processedCount;
+
+    @Schema(description = "Exercises imported so far", example = "1498")
+    private int successCount;
+
+    @Schema(description = "Exercises that failed so far", example = "2")
+    private int failureCount;
+
+    private LocalDateTime createdAt;
+
+    private LocalDateTime startedAt;
+
+    private LocalDateTime finishedAt;
+
+    @Schema(description = "Reason the job failed, if it did")
+    private String error;
+
+    @Schema(description = "Full import result, once the job has completed")
+    private ExerciseImportService.ImportResult result;
+
+    public enum Status {
+        QUEUED, RUNNING, COMPLETED, FAILED;
+
+        public boolean isFinished() {
+            return this == COMPLETED || this == FAILED;
+        }
+    }
+}
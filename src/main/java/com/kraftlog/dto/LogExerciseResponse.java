@@ -25,4 +25,5 @@ public class LogExerciseResponse {
     private Integer repetitions;
     private Boolean completed;
     private List<LogSetResponse> logSets;
+    private LocalDateTime updatedAt;
 }
@@ -20,4 +20,5 @@ public class LogRoutineResponse {
     private LocalDateTime startDatetime;
     private LocalDateTime endDatetime;
     private List<LogWorkoutResponse> logWorkouts;
+    private LocalDateTime updatedAt;
 }
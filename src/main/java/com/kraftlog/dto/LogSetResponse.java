@@ -22,4 +22,5 @@ public class LogSetResponse {
     private Integer restTimeSeconds;
     private LocalDateTime timestamp;
     private String notes;
+    private LocalDateTime updatedAt;
 }
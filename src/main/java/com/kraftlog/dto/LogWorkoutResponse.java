@@ -21,4 +21,5 @@ public class LogWorkoutResponse {
     private LocalDateTime startDatetime;
     private LocalDateTime endDatetime;
     private List<LogExerciseResponse> logExercises;
+    private LocalDateTime updatedAt;
 }
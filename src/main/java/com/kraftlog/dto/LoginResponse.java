@@ -19,6 +19,12 @@ public class LoginResponse {
     @Schema(description = "Token type", example = "Bearer")
     private String type;
 
+    @Schema(description = "Access token lifetime in seconds", example = "900")
+    private long expiresIn;
+
+    @Schema(description = "Single-use refresh token for POST /api/auth/refresh", example = "q3Jx0kV8cE2m6...")
+    private String refreshToken;
+
     @Schema(description = "User information")
     private UserResponse user;
 }
@@ -0,0 +1,57 @@
+package com.kraftlog.dto;
+
+import com.kraftlog.entity.SyncTombstone;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * One page of changes since a sync cursor. Entities are flat: children of a routine or log entry
+ * come in their own list, linked by id.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SyncResponse {
+
+    /**
+     * Opaque position to pass as {@code cursor} on the next call
+     */
+    private String cursor;
+
+    /**
+     * More changes are waiting; call again right away with the new cursor
+     */
+    private boolean hasMore;
+
+    /**
+     * The cursor was older than deletions are kept, so this is a full sync: replace local data
+     * instead of merging it
+     */
+    private boolean reset;
+
+    private List<ExerciseResponse> exercises;
+    private List<RoutineResponse> routines;
+    private List<WorkoutResponse> workouts;
+    private List<LogRoutineResponse> logRoutines;
+    private List<LogWorkoutResponse> logWorkouts;
+    private List<LogExerciseResponse> logExercises;
+    private List<LogSetResponse> logSets;
+    private List<Deletion> deleted;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Deletion {
+
+        private SyncTombstone.EntityType entityType;
+        private UUID id;
+        private LocalDateTime deletedAt;
+    }
+}
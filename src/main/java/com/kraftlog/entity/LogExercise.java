@@ -5,6 +5,8 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -17,6 +19,7 @@ import java.util.UUID;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
+@EntityListeners(AuditingEntityListener.class)
 public class LogExercise {
 
     @Id
@@ -27,6 +30,12 @@ public class LogExercise {
     @JoinColumn(name = "log_workout_id", nullable = false)
     private LogWorkout logWorkout;
 
+    /**
+     * Owner of the log workout, copied from it on insert so per-user reads need no joins
+     */
+    @Column(name = "user_id", nullable = false, updatable = false)
+    private UUID userId;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "exercise_id", nullable = false)
     private Exercise exercise;
@@ -46,4 +55,8 @@ public class LogExercise {
     @OneToMany(mappedBy = "logExercise", cascade = CascadeType.ALL, orphanRemoval = true)
     @Builder.Default
     private List<LogSet> logSets = new ArrayList<>();
+
+    @LastModifiedDate
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
 }
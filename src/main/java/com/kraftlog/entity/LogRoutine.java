@@ -5,6 +5,8 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -17,6 +19,7 @@ import java.util.UUID;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
+@EntityListeners(AuditingEntityListener.class)
 public class LogRoutine {
 
     @Id
@@ -27,6 +30,12 @@ public class LogRoutine {
     @JoinColumn(name = "routine_id", nullable = false)
     private Routine routine;
 
+    /**
+     * Owner of the routine, copied from it on insert so per-user reads need no joins
+     */
+    @Column(name = "user_id", nullable = false, updatable = false)
+    private UUID userId;
+
     @Column(name = "start_datetime", nullable = false)
     private LocalDateTime startDatetime;
 
@@ -36,4 +45,8 @@ public class LogRoutine {
     @OneToMany(mappedBy = "logRoutine", cascade = CascadeType.ALL, orphanRemoval = true)
     @Builder.Default
     private List<LogWorkout> logWorkouts = new ArrayList<>();
+
+    @LastModifiedDate
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
 }
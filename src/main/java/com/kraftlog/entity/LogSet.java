@@ -5,6 +5,8 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import java.time.LocalDateTime;
 import java.util.UUID;
@@ -15,6 +17,7 @@ import java.util.UUID;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
+@EntityListeners(AuditingEntityListener.class)
 public class LogSet {
 
     @Id
@@ -25,6 +28,12 @@ public class LogSet {
     @JoinColumn(name = "log_exercise_id", nullable = false)
     private LogExercise logExercise;
 
+    /**
+     * Owner of the log exercise, copied from it on insert so per-user reads need no joins
+     */
+    @Column(name = "user_id", nullable = false, updatable = false)
+    private UUID userId;
+
     @Column(name = "set_number", nullable = false)
     private Integer setNumber;
 
@@ -39,4 +48,8 @@ public class LogSet {
     private LocalDateTime timestamp;
 
     private String notes;
+
+    @LastModifiedDate
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
 }
@@ -5,6 +5,8 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -17,6 +19,7 @@ import java.util.UUID;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
+@EntityListeners(AuditingEntityListener.class)
 public class LogWorkout {
 
     @Id
@@ -27,6 +30,12 @@ public class LogWorkout {
     @JoinColumn(name = "log_routine_id", nullable = false)
     private LogRoutine logRoutine;
 
+    /**
+     * Owner of the log routine, copied from it on insert so per-user reads need no joins
+     */
+    @Column(name = "user_id", nullable = false, updatable = false)
+    private UUID userId;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "workout_id", nullable = false)
     private Workout workout;
@@ -40,4 +49,8 @@ public class LogWorkout {
     @OneToMany(mappedBy = "logWorkout", cascade = CascadeType.ALL, orphanRemoval = true)
     @Builder.Default
     private List<LogExercise> logExercises = new ArrayList<>();
+
+    @LastModifiedDate
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
 }
@@ -0,0 +1,40 @@
+package com.kraftlog.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Precomputed routine tree served by the routine detail endpoints. The document is the
+ * serialised {@link com.kraftlog.dto.RoutineResponse}, or null while it needs rebuilding.
+ */
+@Entity
+@Table(name = "routine_views")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RoutineView {
+
+    @Id
+    @Column(name = "routine_id")
+    private UUID routineId;
+
+    /**
+     * Bumped by every write that invalidates the document, so a rebuild started before the
+     * write cannot store its outdated result
+     */
+    @Column(nullable = false)
+    private long generation;
+
+    @Column(columnDefinition = "TEXT")
+    private String document;
+
+    @Column(name = "built_at")
+    private LocalDateTime builtAt;
+}
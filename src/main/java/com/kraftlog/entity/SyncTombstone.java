@@ -0,0 +1,53 @@
+package com.kraftlog.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Record of a deleted entity, so syncing clients learn about deletes. Children deleted along with
+ * their parent get no tombstone of their own.
+ */
+@Entity
+@Table(name = "sync_tombstones")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SyncTombstone {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    /**
+     * Owner of the deleted entity, null for catalog entries every user syncs
+     */
+    @Column(name = "user_id")
+    private UUID userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "entity_type", nullable = false, length = 32)
+    private EntityType entityType;
+
+    @Column(name = "entity_id", nullable = false)
+    private UUID entityId;
+
+    @Column(name = "deleted_at", nullable = false)
+    private LocalDateTime deletedAt;
+
+    public enum EntityType {
+        EXERCISE,
+        ROUTINE,
+        WORKOUT,
+        LOG_ROUTINE,
+        LOG_WORKOUT,
+        LOG_EXERCISE,
+        LOG_SET
+    }
+}
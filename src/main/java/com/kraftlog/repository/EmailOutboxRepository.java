@@ -0,0 +1,44 @@
+package com.kraftlog.repository;
+
+import com.kraftlog.entity.EmailOutboxMessage;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface EmailOutboxRepository extends JpaRepository<EmailOutboxMessage, UUID> {
+
+    /**
+     * Lock the next due messages, skipping rows another instance has already locked
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT m FROM EmailOutboxMessage m WHERE m.status = :status AND m.nextAttemptAt <= :now ORDER BY m.nextAttemptAt")
+    List<EmailOutboxMessage> findDueForUpdate(@Param("status") EmailOutboxMessage.Status status,
+                                              @Param("now") LocalDateTime now,
+                                              Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM EmailOutboxMessage m WHERE m.status = :status AND m.sentAt < :cutoff")
+    int deleteByStatusAndSentAtBefore(@Param("status") EmailOutboxMessage.Status status,
+                                      @Param("cutoff") LocalDateTime cutoff);
+
+    /**
+     * Messages of a status whose last attempt, and so its lease, ended before the cutoff
+     */
+    @Modifying
+    @Query("DELETE FROM EmailOutboxMessage m WHERE m.status = :status AND m.nextAttemptAt < :cutoff")
+    int deleteByStatusAndNextAttemptAtBefore(@Param("status") EmailOutboxMessage.Status status,
+                                             @Param("cutoff") LocalDateTime cutoff);
+}
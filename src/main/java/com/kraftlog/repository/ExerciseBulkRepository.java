@@ -0,0 +1,137 @@
+package com.kraftlog.repository;
+
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Set-based writes for bulk exercise imports, bypassing the persistence context so thousands of
+ * rows cost a handful of batched statements instead of a select and a save per row.
+ * <p>
+ * Callers own the transaction; nothing here commits on its own.
+ */
+@Repository
+public class ExerciseBulkRepository {
+
+    private static final String POSTGRES_UPSERT = """
+            INSERT INTO exercises (id, name, video_url, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?)
+            ON CONFLICT (name) DO UPDATE
+            SET video_url = COALESCE(EXCLUDED.video_url, exercises.video_url),
+                updated_at = EXCLUDED.updated_at
+            """;
+
+    // H2 has no ON CONFLICT ... DO UPDATE, the standard MERGE has the same effect. Casts carry no
+    // length so an oversized value fails on the column instead of being truncated
+    private static final String H2_UPSERT = """
+            MERGE INTO exercises e
+            USING (VALUES (CAST(? AS UUID), CAST(? AS VARCHAR), CAST(? AS VARCHAR),
+                           CAST(? AS TIMESTAMP), CAST(? AS TIMESTAMP)))
+                AS s (id, name, video_url, created_at, updated_at)
+            ON e.name = s.name
+            WHEN MATCHED THEN UPDATE
+                SET video_url = COALESCE(s.video_url, e.video_url), updated_at = s.updated_at
+            WHEN NOT MATCHED THEN INSERT (id, name, video_url, created_at, updated_at)
+                VALUES (s.id, s.name, s.video_url, s.created_at, s.updated_at)
+            """;
+
+    private static final String INSERT_MUSCLE_LINK = """
+            INSERT INTO exercise_muscles (exercise_id, muscle_id)
+            SELECT CAST(? AS UUID), CAST(? AS UUID) WHERE NOT EXISTS (
+                SELECT 1 FROM exercise_muscles WHERE exercise_id = ? AND muscle_id = ?
+            )
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private volatile String upsertSql;
+
+    public ExerciseBulkRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Every existing exercise keyed by name, with its video URL and muscle ids, in two queries
+     */
+    public Map<String, ExistingExercise> findAllForImport() {
+        Map<UUID, Set<UUID>> muscleIds = new HashMap<>();
+        jdbcTemplate.query("SELECT exercise_id, muscle_id FROM exercise_muscles",
+                rs -> { muscleIds.computeIfAbsent(rs.getObject("exercise_id", UUID.class), id -> new HashSet<>())
+                        .add(rs.getObject("muscle_id", UUID.class)); });
+
+        Map<String, ExistingExercise> exercises = new HashMap<>();
+        jdbcTemplate.query("SELECT id, name, video_url FROM exercises", rs -> {
+            UUID id = rs.getObject("id", UUID.class);
+            exercises.put(rs.getString("name"), new ExistingExercise(id, rs.getString("video_url"),
+                    Set.copyOf(muscleIds.getOrDefault(id, Set.of()))));
+        });
+        return exercises;
+    }
+
+    /**
+     * Insert exercises by name, or update the video URL of those that already exist. A null video
+     * URL keeps the stored one. The id is only used for rows that are inserted.
+     *
+     * @return the stored id of every given exercise by name, re-read after the write because an
+     *         exercise created since the caller planned it keeps its own id rather than the given one
+     */
+    public Map<String, UUID> upsert(List<ExerciseRow> rows) {
+        if (rows.isEmpty()) {
+            return Map.of();
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> args = new ArrayList<>(rows.size());
+        for (ExerciseRow row : rows) {
+            args.add(new Object[]{row.id(), row.name(), row.videoUrl(), now, now});
+        }
+        jdbcTemplate.batchUpdate(upsertSql(), args);
+
+        Map<String, UUID> ids = new HashMap<>();
+        jdbcTemplate.query("SELECT id, name FROM exercises WHERE name IN ("
+                        + String.join(", ", Collections.nCopies(rows.size(), "?")) + ")",
+                rs -> { ids.put(rs.getString("name"), rs.getObject("id", UUID.class)); },
+                rows.stream().map(ExerciseRow::name).toArray());
+        return ids;
+    }
+
+    /**
+     * Associate muscles with exercises, skipping associations that already exist
+     *
+     * @param muscleIdsByExercise muscle ids to add, keyed by exercise id
+     */
+    public void addMuscles(Map<UUID, ? extends Set<UUID>> muscleIdsByExercise) {
+        List<Object[]> args = new ArrayList<>();
+        muscleIdsByExercise.forEach((exerciseId, muscleIds) -> muscleIds.forEach(
+                muscleId -> args.add(new Object[]{exerciseId, muscleId, exerciseId, muscleId})));
+        if (!args.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_MUSCLE_LINK, args);
+        }
+    }
+
+    private String upsertSql() {
+        String sql = upsertSql;
+        if (sql == null) {
+            String product = jdbcTemplate.execute(
+                    (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+            sql = "H2".equalsIgnoreCase(product) ? H2_UPSERT : POSTGRES_UPSERT;
+            upsertSql = sql;
+        }
+        return sql;
+    }
+
+    public record ExerciseRow(UUID id, String name, String videoUrl) {
+    }
+
+    public record ExistingExercise(UUID id, String videoUrl, Set<UUID> muscleIds) {
+    }
+}
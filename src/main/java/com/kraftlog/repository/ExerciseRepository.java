@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -19,4 +20,15 @@ public interface ExerciseRepository extends JpaRepository<Exercise, UUID> {
 
     @Query("SELECT e FROM Exercise e JOIN e.muscles m WHERE m.id = :muscleId")
     List<Exercise> findByMuscleId(@Param("muscleId") UUID muscleId);
+
+    /**
+     * Exercises whose {@code (updatedAt, id)} falls in {@code (since, until]} with their muscles,
+     * oldest change first
+     */
+    @Query("SELECT e FROM Exercise e LEFT JOIN FETCH e.muscles "
+            + "WHERE e.updatedAt >= :since AND (e.updatedAt > :since OR e.id > :sinceId) "
+            + "AND e.updatedAt <= :until AND (e.updatedAt < :until OR e.id <= :untilId) "
+            + "ORDER BY e.updatedAt, e.id")
+    List<Exercise> findChangedBetween(@Param("since") LocalDateTime since, @Param("sinceId") UUID sinceId,
+                                      @Param("until") LocalDateTime until, @Param("untilId") UUID untilId);
 }
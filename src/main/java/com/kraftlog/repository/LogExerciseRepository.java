@@ -2,9 +2,14 @@ package com.kraftlog.repository;
 
 import com.kraftlog.entity.LogExercise;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
@@ -13,4 +18,47 @@ public interface LogExerciseRepository extends JpaRepository<LogExercise, UUID>
     List<LogExercise> findByLogWorkoutId(UUID logWorkoutId);
 
     List<LogExercise> findByExerciseId(UUID exerciseId);
+
+    /**
+     * Log exercises of a user, newest first
+     */
+    List<LogExercise> findByUserIdOrderByStartDatetimeDesc(UUID userId);
+
+    /**
+     * Log exercises of several log workouts with their exercise name, without their sets
+     */
+    @Query("SELECT le.id AS id, le.logWorkout.id AS logWorkoutId, e.id AS exerciseId, e.name AS exerciseName, "
+            + "le.startDatetime AS startDatetime, le.endDatetime AS endDatetime, le.notes AS notes, "
+            + "le.repetitions AS repetitions, le.completed AS completed, le.updatedAt AS updatedAt "
+            + "FROM LogExercise le JOIN le.exercise e WHERE le.logWorkout.id IN :logWorkoutIds "
+            + "ORDER BY le.startDatetime, le.id")
+    List<LogExerciseRow> findRowsByLogWorkoutIds(@Param("logWorkoutIds") Collection<UUID> logWorkoutIds);
+
+    /**
+     * Owner of a logged exercise, without loading it
+     */
+    @Query("SELECT le.userId FROM LogExercise le WHERE le.id = :id")
+    Optional<UUID> findUserIdById(@Param("id") UUID id);
+
+    interface LogExerciseRow {
+        UUID getId();
+
+        UUID getLogWorkoutId();
+
+        UUID getExerciseId();
+
+        String getExerciseName();
+
+        LocalDateTime getStartDatetime();
+
+        LocalDateTime getEndDatetime();
+
+        String getNotes();
+
+        Integer getRepetitions();
+
+        Boolean getCompleted();
+
+        LocalDateTime getUpdatedAt();
+    }
 }
@@ -0,0 +1,177 @@
+package com.kraftlog.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Set-based writes for bulk history imports: every table of a chunk is written as one batched
+ * insert, bypassing the persistence context. Ids are assigned by the caller so children can be
+ * staged in the same chunk as their parents.
+ * <p>
+ * Callers own the transaction; nothing here commits on its own.
+ */
+@Repository
+public class LogHistoryBulkRepository {
+
+    private static final String INSERT_ROUTINE = """
+            INSERT INTO routines (id, name, is_active, user_id, created_at, updated_at)
+            VALUES (?, ?, FALSE, ?, ?, ?)
+            """;
+
+    private static final String INSERT_WORKOUT = """
+            INSERT INTO workouts (id, name, order_index, routine_id, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?)
+            """;
+
+    private static final String INSERT_LOG_ROUTINE = """
+            INSERT INTO log_routines (id, routine_id, user_id, start_datetime, end_datetime, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?)
+            """;
+
+    private static final String INSERT_LOG_WORKOUT = """
+            INSERT INTO log_workouts (id, log_routine_id, workout_id, user_id, start_datetime, end_datetime,
+                                      updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private static final String INSERT_LOG_EXERCISE = """
+            INSERT INTO log_exercises (id, log_workout_id, exercise_id, user_id, start_datetime, end_datetime,
+                                       notes, repetitions, completed, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private static final String INSERT_LOG_SET = """
+            INSERT INTO log_sets (id, log_exercise_id, user_id, set_number, reps, weight_kg, rest_time_seconds,
+                                  timestamp, notes, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public LogHistoryBulkRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Id of every exercise in the catalog, keyed by its lower-case name
+     */
+    public Map<String, UUID> findExerciseIdsByName() {
+        Map<String, UUID> exercises = new HashMap<>();
+        jdbcTemplate.query("SELECT id, name FROM exercises", rs -> {
+            exercises.put(normalize(rs.getString("name")), rs.getObject("id", UUID.class));
+        });
+        return exercises;
+    }
+
+    /**
+     * Id of every routine of a user, keyed by its lower-case name. Of routines sharing a name the
+     * oldest wins.
+     */
+    public Map<String, UUID> findRoutineIdsByName(UUID userId) {
+        Map<String, UUID> routines = new HashMap<>();
+        jdbcTemplate.query("SELECT id, name FROM routines WHERE user_id = ? ORDER BY created_at DESC",
+                rs -> { routines.put(normalize(rs.getString("name")), rs.getObject("id", UUID.class)); }, userId);
+        return routines;
+    }
+
+    /**
+     * Id of every workout of a routine, keyed by its lower-case name
+     */
+    public Map<String, UUID> findWorkoutIdsByName(UUID routineId) {
+        Map<String, UUID> workouts = new HashMap<>();
+        jdbcTemplate.query("SELECT id, name FROM workouts WHERE routine_id = ? ORDER BY order_index DESC",
+                rs -> { workouts.put(normalize(rs.getString("name")), rs.getObject("id", UUID.class)); }, routineId);
+        return workouts;
+    }
+
+    /**
+     * Insert a chunk, parents first
+     */
+    public void insert(HistoryBatch batch) {
+        batchUpdate(INSERT_ROUTINE, batch.routines);
+        batchUpdate(INSERT_WORKOUT, batch.workouts);
+        batchUpdate(INSERT_LOG_ROUTINE, batch.logRoutines);
+        batchUpdate(INSERT_LOG_WORKOUT, batch.logWorkouts);
+        batchUpdate(INSERT_LOG_EXERCISE, batch.logExercises);
+        batchUpdate(INSERT_LOG_SET, batch.logSets);
+    }
+
+    private void batchUpdate(String sql, List<Object[]> args) {
+        if (!args.isEmpty()) {
+            jdbcTemplate.batchUpdate(sql, args);
+        }
+    }
+
+    public static String normalize(String name) {
+        return name.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static Timestamp timestamp(LocalDateTime value) {
+        return value == null ? null : Timestamp.valueOf(value);
+    }
+
+    /**
+     * Rows staged for one chunk
+     */
+    public static class HistoryBatch {
+
+        private final List<Object[]> routines = new ArrayList<>();
+        private final List<Object[]> workouts = new ArrayList<>();
+        private final List<Object[]> logRoutines = new ArrayList<>();
+        private final List<Object[]> logWorkouts = new ArrayList<>();
+        private final List<Object[]> logExercises = new ArrayList<>();
+        private final List<Object[]> logSets = new ArrayList<>();
+        private final Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        public void addRoutine(UUID id, UUID userId, String name) {
+            routines.add(new Object[]{id, name, userId, now, now});
+        }
+
+        public void addWorkout(UUID id, UUID routineId, String name, int orderIndex) {
+            workouts.add(new Object[]{id, name, orderIndex, routineId, now, now});
+        }
+
+        public void addLogRoutine(UUID id, UUID routineId, UUID userId, LocalDateTime start, LocalDateTime end) {
+            logRoutines.add(new Object[]{id, routineId, userId, timestamp(start), timestamp(end), now});
+        }
+
+        public void addLogWorkout(UUID id, UUID logRoutineId, UUID workoutId, UUID userId,
+                                  LocalDateTime start, LocalDateTime end) {
+            logWorkouts.add(new Object[]{id, logRoutineId, workoutId, userId, timestamp(start), timestamp(end),
+                    now});
+        }
+
+        public void addLogExercise(UUID id, UUID logWorkoutId, UUID exerciseId, UUID userId, LocalDateTime start,
+                                   LocalDateTime end, String notes, Integer repetitions, Boolean completed) {
+            logExercises.add(new Object[]{id, logWorkoutId, exerciseId, userId, timestamp(start), timestamp(end),
+                    notes, repetitions, completed, now});
+        }
+
+        public void addLogSet(UUID id, UUID logExerciseId, UUID userId, int setNumber, Integer reps,
+                              Double weightKg, Integer restTimeSeconds, LocalDateTime timestamp, String notes) {
+            logSets.add(new Object[]{id, logExerciseId, userId, setNumber, reps, weightKg, restTimeSeconds,
+                    timestamp(timestamp), notes, now});
+        }
+
+        public int getRoutineCount() {
+            return routines.size();
+        }
+
+        public int getLogRoutineCount() {
+            return logRoutines.size();
+        }
+
+        public int getLogSetCount() {
+            return logSets.size();
+        }
+    }
+}
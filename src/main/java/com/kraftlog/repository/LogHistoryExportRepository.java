@@ -0,0 +1,100 @@
+package com.kraftlog.repository;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * A user's whole training history as one flat, ordered result set: one row per logged set, with
+ * its exercise, workout and routine session repeated, and null set (or exercise, or workout)
+ * columns where a level has no children.
+ * <p>
+ * Rows are read over plain JDBC with a fetch size, so nothing enters a persistence context and
+ * PostgreSQL keeps a server-side cursor open instead of materialising the result. The cursor
+ * needs a transaction, which the caller provides.
+ */
+@Repository
+public class LogHistoryExportRepository {
+
+    private static final String HISTORY_SQL = """
+            SELECT lr.id AS log_routine_id, lr.routine_id, r.name AS routine_name,
+                   lr.start_datetime AS routine_start, lr.end_datetime AS routine_end,
+                   lw.id AS log_workout_id, lw.workout_id, w.name AS workout_name,
+                   lw.start_datetime AS workout_start, lw.end_datetime AS workout_end,
+                   le.id AS log_exercise_id, le.exercise_id, e.name AS exercise_name,
+                   le.start_datetime AS exercise_start, le.end_datetime AS exercise_end,
+                   le.repetitions, le.completed, le.notes AS exercise_notes,
+                   ls.id AS log_set_id, ls.set_number, ls.reps, ls.weight_kg, ls.rest_time_seconds,
+                   ls.timestamp AS set_timestamp, ls.notes AS set_notes
+            FROM log_routines lr
+            JOIN routines r ON r.id = lr.routine_id
+            LEFT JOIN log_workouts lw ON lw.log_routine_id = lr.id
+            LEFT JOIN workouts w ON w.id = lw.workout_id
+            LEFT JOIN log_exercises le ON le.log_workout_id = lw.id
+            LEFT JOIN exercises e ON e.id = le.exercise_id
+            LEFT JOIN log_sets ls ON ls.log_exercise_id = le.id
+            WHERE lr.user_id = ?
+            ORDER BY lr.start_datetime, lr.id, lw.start_datetime, lw.id, le.start_datetime, le.id,
+                     ls.set_number, ls.id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public LogHistoryExportRepository(DataSource dataSource,
+                                      @Value("${app.export.fetch-size:500}") int fetchSize) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(fetchSize);
+    }
+
+    /**
+     * Hand every history row of a user to {@code consumer}, oldest session first
+     *
+     * @return number of rows read
+     */
+    public long forEachRow(UUID userId, Consumer<HistoryRow> consumer) {
+        long[] rows = {0};
+        jdbcTemplate.query(HISTORY_SQL, rs -> {
+            consumer.accept(HistoryRow.of(rs));
+            rows[0]++;
+        }, userId);
+        return rows[0];
+    }
+
+    public record HistoryRow(
+            UUID logRoutineId, UUID routineId, String routineName, LocalDateTime routineStart, LocalDateTime routineEnd,
+            UUID logWorkoutId, UUID workoutId, String workoutName, LocalDateTime workoutStart, LocalDateTime workoutEnd,
+            UUID logExerciseId, UUID exerciseId, String exerciseName, LocalDateTime exerciseStart,
+            LocalDateTime exerciseEnd, Integer repetitions, Boolean completed, String exerciseNotes,
+            UUID logSetId, Integer setNumber, Integer reps, Double weightKg, Integer restTimeSeconds,
+            LocalDateTime setTimestamp, String setNotes) {
+
+        static HistoryRow of(ResultSet rs) throws SQLException {
+            return new HistoryRow(
+                    rs.getObject("log_routine_id", UUID.class), rs.getObject("routine_id", UUID.class),
+                    rs.getString("routine_name"), dateTime(rs, "routine_start"), dateTime(rs, "routine_end"),
+                    rs.getObject("log_workout_id", UUID.class), rs.getObject("workout_id", UUID.class),
+                    rs.getString("workout_name"), dateTime(rs, "workout_start"), dateTime(rs, "workout_end"),
+                    rs.getObject("log_exercise_id", UUID.class), rs.getObject("exercise_id", UUID.class),
+                    rs.getString("exercise_name"), dateTime(rs, "exercise_start"), dateTime(rs, "exercise_end"),
+                    rs.getObject("repetitions", Integer.class), rs.getObject("completed", Boolean.class),
+                    rs.getString("exercise_notes"),
+                    rs.getObject("log_set_id", UUID.class), rs.getObject("set_number", Integer.class),
+                    rs.getObject("reps", Integer.class), rs.getObject("weight_kg", Double.class),
+                    rs.getObject("rest_time_seconds", Integer.class), dateTime(rs, "set_timestamp"),
+                    rs.getString("set_notes"));
+        }
+
+        private static LocalDateTime dateTime(ResultSet rs, String column) throws SQLException {
+            Timestamp timestamp = rs.getTimestamp(column);
+            return timestamp == null ? null : timestamp.toLocalDateTime();
+        }
+    }
+}
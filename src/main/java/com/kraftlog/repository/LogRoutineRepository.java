@@ -2,9 +2,13 @@ package com.kraftlog.repository;
 
 import com.kraftlog.entity.LogRoutine;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
@@ -12,5 +16,32 @@ public interface LogRoutineRepository extends JpaRepository<LogRoutine, UUID> {
 
     List<LogRoutine> findByRoutineIdOrderByStartDatetimeDesc(UUID routineId);
     
-    List<LogRoutine> findByRoutine_UserIdOrderByStartDatetimeDesc(UUID userId);
+    List<LogRoutine> findByUserIdOrderByStartDatetimeDesc(UUID userId);
+
+    /**
+     * Log routines of a user without their children, newest first
+     */
+    @Query("SELECT lr.id AS id, lr.routine.id AS routineId, lr.startDatetime AS startDatetime, "
+            + "lr.endDatetime AS endDatetime, lr.updatedAt AS updatedAt FROM LogRoutine lr "
+            + "WHERE lr.userId = :userId "
+            + "ORDER BY lr.startDatetime DESC")
+    List<LogRoutineRow> findRowsByUserId(@Param("userId") UUID userId);
+
+    /**
+     * Owner of a session, without loading it
+     */
+    @Query("SELECT lr.userId FROM LogRoutine lr WHERE lr.id = :id")
+    Optional<UUID> findUserIdById(@Param("id") UUID id);
+
+    interface LogRoutineRow {
+        UUID getId();
+
+        UUID getRoutineId();
+
+        LocalDateTime getStartDatetime();
+
+        LocalDateTime getEndDatetime();
+
+        LocalDateTime getUpdatedAt();
+    }
 }
@@ -1,14 +1,41 @@
 package com.kraftlog.repository;
 
+import com.kraftlog.dto.LogSetResponse;
 import com.kraftlog.entity.LogSet;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
 public interface LogSetRepository extends JpaRepository<LogSet, UUID> {
 
     List<LogSet> findByLogExerciseIdOrderBySetNumberAsc(UUID logExerciseId);
+
+    /**
+     * Sets of several log exercises as responses, in set order
+     */
+    @Query("SELECT new com.kraftlog.dto.LogSetResponse(s.id, s.logExercise.id, s.setNumber, s.reps, s.weightKg, "
+            + "s.restTimeSeconds, s.timestamp, s.notes, s.updatedAt) FROM LogSet s "
+            + "WHERE s.logExercise.id IN :logExerciseIds ORDER BY s.setNumber")
+    List<LogSetResponse> findResponsesByLogExerciseIds(@Param("logExerciseIds") Collection<UUID> logExerciseIds);
+
+    /**
+     * Sets of a user as responses, newest first
+     */
+    @Query("SELECT new com.kraftlog.dto.LogSetResponse(s.id, s.logExercise.id, s.setNumber, s.reps, s.weightKg, "
+            + "s.restTimeSeconds, s.timestamp, s.notes, s.updatedAt) FROM LogSet s "
+            + "WHERE s.userId = :userId ORDER BY s.timestamp DESC, s.setNumber")
+    List<LogSetResponse> findResponsesByUserId(@Param("userId") UUID userId);
+
+    /**
+     * Owner of a logged set, without loading it
+     */
+    @Query("SELECT s.userId FROM LogSet s WHERE s.id = :id")
+    Optional<UUID> findUserIdById(@Param("id") UUID id);
 }
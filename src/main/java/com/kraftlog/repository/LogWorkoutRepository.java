@@ -2,9 +2,14 @@ package com.kraftlog.repository;
 
 import com.kraftlog.entity.LogWorkout;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
@@ -12,7 +17,41 @@ public interface LogWorkoutRepository extends JpaRepository<LogWorkout, UUID> {
 
     List<LogWorkout> findByLogRoutineId(UUID logRoutineId);
 
+    /**
+     * Log workouts of a user, newest first
+     */
+    List<LogWorkout> findByUserIdOrderByStartDatetimeDesc(UUID userId);
+
     List<LogWorkout> findByWorkoutId(UUID workoutId);
     
     List<LogWorkout> findByWorkoutIdAndEndDatetimeIsNotNullOrderByEndDatetimeDesc(UUID workoutId);
+
+    /**
+     * Log workouts of several log routines without their children
+     */
+    @Query("SELECT lw.id AS id, lw.logRoutine.id AS logRoutineId, lw.workout.id AS workoutId, "
+            + "lw.startDatetime AS startDatetime, lw.endDatetime AS endDatetime, lw.updatedAt AS updatedAt "
+            + "FROM LogWorkout lw "
+            + "WHERE lw.logRoutine.id IN :logRoutineIds ORDER BY lw.startDatetime, lw.id")
+    List<LogWorkoutRow> findRowsByLogRoutineIds(@Param("logRoutineIds") Collection<UUID> logRoutineIds);
+
+    /**
+     * Owner of a logged workout, without loading it
+     */
+    @Query("SELECT lw.userId FROM LogWorkout lw WHERE lw.id = :id")
+    Optional<UUID> findUserIdById(@Param("id") UUID id);
+
+    interface LogWorkoutRow {
+        UUID getId();
+
+        UUID getLogRoutineId();
+
+        UUID getWorkoutId();
+
+        LocalDateTime getStartDatetime();
+
+        LocalDateTime getEndDatetime();
+
+        LocalDateTime getUpdatedAt();
+    }
 }
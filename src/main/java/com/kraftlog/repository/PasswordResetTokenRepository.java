@@ -3,7 +3,11 @@ package com.kraftlog.repository;
 import com.kraftlog.entity.PasswordResetToken;
 import com.kraftlog.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.Optional;
@@ -14,7 +18,27 @@ public interface PasswordResetTokenRepository extends JpaRepository<PasswordRese
 
     Optional<PasswordResetToken> findByToken(String token);
 
-    void deleteByExpiryDateBefore(LocalDateTime now);
+    /**
+     * Delete up to {@code batchSize} tokens that expired before the cutoff, oldest first, in a single
+     * statement driven by {@code idx_password_reset_expiry_date}. Each call commits on its own so
+     * a large backlog never holds locks for long.
+     *
+     * @return number of tokens deleted
+     */
+    @Transactional
+    @Modifying
+    @Query(value = """
+            DELETE FROM password_reset_tokens
+            WHERE id IN (
+                SELECT id FROM password_reset_tokens
+                WHERE expiry_date < :cutoff
+                ORDER BY expiry_date
+                LIMIT :batchSize
+            )
+            """, nativeQuery = true)
+    int deleteExpiredBatch(@Param("cutoff") LocalDateTime cutoff, @Param("batchSize") int batchSize);
 
-    void deleteByUser(User user);
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM PasswordResetToken t WHERE t.user = :user")
+    int deleteByUser(@Param("user") User user);
 }
@@ -2,6 +2,8 @@ package com.kraftlog.repository;
 
 import com.kraftlog.entity.Routine;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -14,4 +16,10 @@ public interface RoutineRepository extends JpaRepository<Routine, UUID> {
     List<Routine> findByUserId(UUID userId);
 
     Optional<Routine> findByUserIdAndIsActiveTrue(UUID userId);
+
+    /**
+     * Owner of a routine, without loading it
+     */
+    @Query("SELECT r.user.id FROM Routine r WHERE r.id = :id")
+    Optional<UUID> findUserIdById(@Param("id") UUID id);
 }
@@ -0,0 +1,54 @@
+package com.kraftlog.repository;
+
+import com.kraftlog.entity.RoutineView;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface RoutineViewRepository extends JpaRepository<RoutineView, UUID>, RoutineViewRepositoryCustom {
+
+    /**
+     * Documents of a user's routines in one query; the document is null for routines whose view
+     * is missing or invalidated
+     */
+    @Query("SELECT r.id AS routineId, v.document AS document FROM Routine r "
+            + "LEFT JOIN RoutineView v ON v.routineId = r.id WHERE r.user.id = :userId")
+    List<RoutineDocument> findDocumentsByUserId(@Param("userId") UUID userId);
+
+    @Modifying
+    @Query(value = "INSERT INTO routine_views (routine_id, generation) SELECT CAST(:routineId AS UUID), 0 "
+            + "WHERE NOT EXISTS (SELECT 1 FROM routine_views WHERE routine_id = :routineId)", nativeQuery = true)
+    int insertIfAbsent(@Param("routineId") UUID routineId);
+
+    /**
+     * Store a rebuilt document unless the view was invalidated since the rebuild started
+     *
+     * @return 1 if stored, 0 if the generation moved on
+     */
+    @Modifying
+    @Query("UPDATE RoutineView v SET v.document = :document, v.builtAt = :builtAt "
+            + "WHERE v.routineId = :routineId AND v.generation = :generation")
+    int storeDocument(@Param("routineId") UUID routineId,
+                      @Param("generation") long generation,
+                      @Param("document") String document,
+                      @Param("builtAt") LocalDateTime builtAt);
+
+    @Modifying
+    @Query("DELETE FROM RoutineView v WHERE v.routineId IN :routineIds "
+            + "AND NOT EXISTS (SELECT r.id FROM Routine r WHERE r.id = v.routineId)")
+    int deleteOrphans(@Param("routineIds") Collection<UUID> routineIds);
+
+    interface RoutineDocument {
+        UUID getRoutineId();
+
+        String getDocument();
+    }
+}
@@ -0,0 +1,17 @@
+package com.kraftlog.repository;
+
+import java.util.Collection;
+import java.util.UUID;
+
+public interface RoutineViewRepositoryCustom {
+
+    /**
+     * Clear the documents of these routines and bump their generation, creating the view row at
+     * generation 1 where there is none yet. A rebuild that inserted the row or read its
+     * generation before this write can then no longer store its result. Routines that do not
+     * exist are skipped.
+     *
+     * @return number of view rows invalidated
+     */
+    int invalidate(Collection<UUID> routineIds);
+}
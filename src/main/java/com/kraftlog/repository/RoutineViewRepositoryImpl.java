@@ -0,0 +1,66 @@
+package com.kraftlog.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * Routine view writes that need an upsert, which neither JPQL nor one native statement for both
+ * databases can express. Runs through the entity manager so pending entity changes are flushed
+ * first and the enclosing transaction is joined.
+ */
+class RoutineViewRepositoryImpl implements RoutineViewRepositoryCustom {
+
+    // Unlike a read-then-insert, ON CONFLICT waits for a concurrent insert of the same row and
+    // then updates it, so a rebuild inserting the row cannot make the write fail
+    private static final String POSTGRES_INVALIDATE = """
+            INSERT INTO routine_views (routine_id, generation)
+            SELECT r.id, 1 FROM routines r WHERE r.id IN (:routineIds)
+            ON CONFLICT (routine_id) DO UPDATE
+            SET document = NULL, generation = routine_views.generation + 1
+            """;
+
+    // H2 has no ON CONFLICT ... DO UPDATE, the standard MERGE has the same effect
+    private static final String H2_INVALIDATE = """
+            MERGE INTO routine_views v
+            USING (SELECT r.id FROM routines r WHERE r.id IN (:routineIds)) s
+            ON v.routine_id = s.id
+            WHEN MATCHED THEN UPDATE SET document = NULL, generation = v.generation + 1
+            WHEN NOT MATCHED THEN INSERT (routine_id, generation) VALUES (s.id, 1)
+            """;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final JdbcTemplate jdbcTemplate;
+    private volatile String invalidateSql;
+
+    RoutineViewRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public int invalidate(Collection<UUID> routineIds) {
+        if (routineIds.isEmpty()) {
+            return 0;
+        }
+        return entityManager.createNativeQuery(invalidateSql())
+                .setParameter("routineIds", routineIds)
+                .executeUpdate();
+    }
+
+    private String invalidateSql() {
+        String sql = invalidateSql;
+        if (sql == null) {
+            String product = jdbcTemplate.execute(
+                    (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+            sql = "H2".equalsIgnoreCase(product) ? H2_INVALIDATE : POSTGRES_INVALIDATE;
+            invalidateSql = sql;
+        }
+        return sql;
+    }
+}
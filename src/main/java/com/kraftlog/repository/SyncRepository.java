@@ -0,0 +1,232 @@
+package com.kraftlog.repository;
+
+import com.kraftlog.dto.LogExerciseResponse;
+import com.kraftlog.dto.LogRoutineResponse;
+import com.kraftlog.dto.LogSetResponse;
+import com.kraftlog.dto.LogWorkoutResponse;
+import com.kraftlog.dto.RoutineResponse;
+import com.kraftlog.dto.SyncResponse;
+import com.kraftlog.entity.SyncTombstone;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Change feeds for incremental sync: the rows of a user whose {@code (updated_at, id)} (or a
+ * tombstone's {@code (deleted_at, id)}) falls in a window {@code (since, until]}. The id breaks
+ * ties, so a window can end between rows changed at the same time. Each read is a range scan on
+ * a {@code (user_id, updated_at)} index, so its cost follows what changed rather than the size of
+ * the account.
+ * <p>
+ * Routines and log entries are mapped flat, without their children; those arrive in their own feed.
+ */
+@Repository
+public class SyncRepository {
+
+    /**
+     * A table read by change time, with the filter restricting it to one user's rows
+     */
+    public enum Feed {
+        EXERCISES("exercises t", "t.updated_at", null),
+        ROUTINES("routines t", "t.updated_at", "t.user_id = ?"),
+        WORKOUTS("workouts t JOIN routines r ON r.id = t.routine_id", "t.updated_at", "r.user_id = ?"),
+        LOG_ROUTINES("log_routines t", "t.updated_at", "t.user_id = ?"),
+        LOG_WORKOUTS("log_workouts t", "t.updated_at", "t.user_id = ?"),
+        LOG_EXERCISES("log_exercises t", "t.updated_at", "t.user_id = ?"),
+        LOG_SETS("log_sets t", "t.updated_at", "t.user_id = ?"),
+        // Catalog deletes carry no user and reach everyone
+        TOMBSTONES("sync_tombstones t", "t.deleted_at", "(t.user_id = ? OR t.user_id IS NULL)");
+
+        private final String from;
+        private final String changedAt;
+        private final String ownerFilter;
+
+        Feed(String from, String changedAt, String ownerFilter) {
+            this.from = from;
+            this.changedAt = changedAt;
+            this.ownerFilter = ownerFilter;
+        }
+
+        private String where() {
+            // Spelled out rather than as row values, so the time bounds alone can drive the index
+            String window = changedAt + " >= ? AND (" + changedAt + " > ? OR t.id > ?) AND "
+                    + changedAt + " <= ? AND (" + changedAt + " < ? OR t.id <= ?)";
+            return " FROM " + from + " WHERE " + (ownerFilter == null ? window : ownerFilter + " AND " + window);
+        }
+
+        private String orderBy() {
+            return " ORDER BY " + changedAt + ", t.id";
+        }
+
+        private Object[] args(UUID userId, Position since, Position until, Object... more) {
+            Timestamp sinceTime = Timestamp.valueOf(since.changedAt());
+            Timestamp untilTime = Timestamp.valueOf(until.changedAt());
+            Object[] window = {sinceTime, sinceTime, since.id(), untilTime, untilTime, until.id()};
+            Object[] owner = ownerFilter == null ? new Object[0] : new Object[]{userId};
+            Object[] args = new Object[owner.length + window.length + more.length];
+            System.arraycopy(owner, 0, args, 0, owner.length);
+            System.arraycopy(window, 0, args, owner.length, window.length);
+            System.arraycopy(more, 0, args, owner.length + window.length, more.length);
+            return args;
+        }
+    }
+
+    /**
+     * A point in the change order: rows changed at {@code changedAt} up to and including
+     * {@code id}. Ids compare as the database compares uuids, unsigned and most significant half
+     * first.
+     */
+    public record Position(LocalDateTime changedAt, UUID id) implements Comparable<Position> {
+
+        private static final UUID LAST_ID = new UUID(-1L, -1L);
+
+        /**
+         * Position after every row changed at or before {@code changedAt}
+         */
+        public static Position after(LocalDateTime changedAt) {
+            return new Position(changedAt, LAST_ID);
+        }
+
+        /**
+         * @return whether this position is past every row changed at its time
+         */
+        public boolean isAfterAll() {
+            return id.equals(LAST_ID);
+        }
+
+        @Override
+        public int compareTo(Position other) {
+            int byTime = changedAt.compareTo(other.changedAt);
+            if (byTime != 0) {
+                return byTime;
+            }
+            int byHigh = Long.compareUnsigned(id.getMostSignificantBits(), other.id.getMostSignificantBits());
+            return byHigh != 0 ? byHigh
+                    : Long.compareUnsigned(id.getLeastSignificantBits(), other.id.getLeastSignificantBits());
+        }
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public SyncRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Position of the {@code limit}-th oldest row in the window, when more rows follow it. A page
+     * ending there holds exactly {@code limit} rows of this feed.
+     *
+     * @return null if the whole window fits in {@code limit} rows
+     */
+    public Position findPageEnd(Feed feed, UUID userId, Position since, Position until, int limit) {
+        List<Position> changes = jdbcTemplate.query(
+                "SELECT " + feed.changedAt + ", t.id" + feed.where() + feed.orderBy()
+                        + " OFFSET ? ROWS FETCH NEXT 2 ROWS ONLY",
+                (rs, rowNum) -> new Position(rs.getTimestamp(1).toLocalDateTime(), rs.getObject(2, UUID.class)),
+                feed.args(userId, since, until, limit - 1));
+        return changes.size() == 2 ? changes.get(0) : null;
+    }
+
+    public List<RoutineResponse> findRoutines(UUID userId, Position since, Position until) {
+        return query(Feed.ROUTINES, "t.id, t.name, t.start_date, t.end_date, t.is_active, t.user_id, "
+                + "t.created_at, t.updated_at", (rs, rowNum) -> RoutineResponse.builder()
+                .id(rs.getObject("id", UUID.class))
+                .name(rs.getString("name"))
+                .startDate(date(rs, "start_date"))
+                .endDate(date(rs, "end_date"))
+                .isActive(rs.getObject("is_active", Boolean.class))
+                .userId(rs.getObject("user_id", UUID.class))
+                .createdAt(dateTime(rs, "created_at"))
+                .updatedAt(dateTime(rs, "updated_at"))
+                .build(), userId, since, until);
+    }
+
+    public List<LogRoutineResponse> findLogRoutines(UUID userId, Position since, Position until) {
+        return query(Feed.LOG_ROUTINES, "t.id, t.routine_id, t.start_datetime, t.end_datetime, t.updated_at",
+                (rs, rowNum) -> LogRoutineResponse.builder()
+                        .id(rs.getObject("id", UUID.class))
+                        .routineId(rs.getObject("routine_id", UUID.class))
+                        .startDatetime(dateTime(rs, "start_datetime"))
+                        .endDatetime(dateTime(rs, "end_datetime"))
+                        .updatedAt(dateTime(rs, "updated_at"))
+                        .build(), userId, since, until);
+    }
+
+    public List<LogWorkoutResponse> findLogWorkouts(UUID userId, Position since, Position until) {
+        return query(Feed.LOG_WORKOUTS, "t.id, t.log_routine_id, t.workout_id, t.start_datetime, t.end_datetime, "
+                + "t.updated_at", (rs, rowNum) -> LogWorkoutResponse.builder()
+                .id(rs.getObject("id", UUID.class))
+                .logRoutineId(rs.getObject("log_routine_id", UUID.class))
+                .workoutId(rs.getObject("workout_id", UUID.class))
+                .startDatetime(dateTime(rs, "start_datetime"))
+                .endDatetime(dateTime(rs, "end_datetime"))
+                .updatedAt(dateTime(rs, "updated_at"))
+                .build(), userId, since, until);
+    }
+
+    public List<LogExerciseResponse> findLogExercises(UUID userId, Position since, Position until) {
+        return query(Feed.LOG_EXERCISES, "t.id, t.log_workout_id, t.exercise_id, "
+                + "(SELECT e.name FROM exercises e WHERE e.id = t.exercise_id) AS exercise_name, "
+                + "t.start_datetime, t.end_datetime, t.notes, t.repetitions, t.completed, t.updated_at",
+                (rs, rowNum) -> LogExerciseResponse.builder()
+                        .id(rs.getObject("id", UUID.class))
+                        .logWorkoutId(rs.getObject("log_workout_id", UUID.class))
+                        .exerciseId(rs.getObject("exercise_id", UUID.class))
+                        .exerciseName(rs.getString("exercise_name"))
+                        .startDatetime(dateTime(rs, "start_datetime"))
+                        .endDatetime(dateTime(rs, "end_datetime"))
+                        .notes(rs.getString("notes"))
+                        .repetitions(rs.getObject("repetitions", Integer.class))
+                        .completed(rs.getObject("completed", Boolean.class))
+                        .updatedAt(dateTime(rs, "updated_at"))
+                        .build(), userId, since, until);
+    }
+
+    public List<LogSetResponse> findLogSets(UUID userId, Position since, Position until) {
+        return query(Feed.LOG_SETS, "t.id, t.log_exercise_id, t.set_number, t.reps, t.weight_kg, "
+                + "t.rest_time_seconds, t.timestamp, t.notes, t.updated_at", (rs, rowNum) -> LogSetResponse.builder()
+                .id(rs.getObject("id", UUID.class))
+                .logExerciseId(rs.getObject("log_exercise_id", UUID.class))
+                .setNumber(rs.getObject("set_number", Integer.class))
+                .reps(rs.getObject("reps", Integer.class))
+                .weightKg(rs.getObject("weight_kg", Double.class))
+                .restTimeSeconds(rs.getObject("rest_time_seconds", Integer.class))
+                .timestamp(dateTime(rs, "timestamp"))
+                .notes(rs.getString("notes"))
+                .updatedAt(dateTime(rs, "updated_at"))
+                .build(), userId, since, until);
+    }
+
+    public List<SyncResponse.Deletion> findDeletions(UUID userId, Position since, Position until) {
+        return query(Feed.TOMBSTONES, "t.entity_type, t.entity_id, t.deleted_at",
+                (rs, rowNum) -> new SyncResponse.Deletion(
+                        SyncTombstone.EntityType.valueOf(rs.getString("entity_type")),
+                        rs.getObject("entity_id", UUID.class),
+                        dateTime(rs, "deleted_at")), userId, since, until);
+    }
+
+    private <T> List<T> query(Feed feed, String columns, RowMapper<T> rowMapper,
+                              UUID userId, Position since, Position until) {
+        return jdbcTemplate.query("SELECT " + columns + feed.where() + feed.orderBy(),
+                rowMapper, feed.args(userId, since, until));
+    }
+
+    private static LocalDate date(ResultSet rs, String column) throws SQLException {
+        Date date = rs.getDate(column);
+        return date == null ? null : date.toLocalDate();
+    }
+
+    private static LocalDateTime dateTime(ResultSet rs, String column) throws SQLException {
+        Timestamp timestamp = rs.getTimestamp(column);
+        return timestamp == null ? null : timestamp.toLocalDateTime();
+    }
+}
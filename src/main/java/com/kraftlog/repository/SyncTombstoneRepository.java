@@ -0,0 +1,34 @@
+package com.kraftlog.repository;
+
+import com.kraftlog.entity.SyncTombstone;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Repository
+public interface SyncTombstoneRepository extends JpaRepository<SyncTombstone, UUID> {
+
+    /**
+     * Delete up to {@code batchSize} tombstones recorded before the cutoff, oldest first
+     *
+     * @return number of tombstones deleted
+     */
+    @Transactional
+    @Modifying
+    @Query(value = """
+            DELETE FROM sync_tombstones
+            WHERE id IN (
+                SELECT id FROM sync_tombstones
+                WHERE deleted_at < :cutoff
+                ORDER BY deleted_at
+                LIMIT :batchSize
+            )
+            """, nativeQuery = true)
+    int deleteExpiredBatch(@Param("cutoff") LocalDateTime cutoff, @Param("batchSize") int batchSize);
+}
@@ -1,9 +1,14 @@
 package com.kraftlog.repository;
 
+import com.kraftlog.dto.UserResponse;
 import com.kraftlog.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -13,4 +18,18 @@ public interface UserRepository extends JpaRepository<User, UUID> {
     Optional<User> findByEmail(String email);
 
     boolean existsByEmail(String email);
+
+    /**
+     * Replace the stored hash without touching {@code updatedAt}; used for rehashing on login
+     */
+    @Modifying
+    @Query("UPDATE User u SET u.password = :password WHERE u.email = :email")
+    int updatePasswordByEmail(@Param("email") String email, @Param("password") String password);
+
+    /**
+     * All users as responses, selecting only the exposed columns
+     */
+    @Query("SELECT new com.kraftlog.dto.UserResponse(u.id, u.name, u.surname, u.birthDate, u.email, "
+            + "u.weightKg, u.heightCm, u.isAdmin, u.createdAt, u.updatedAt) FROM User u")
+    List<UserResponse> findAllResponses();
 }
@@ -1,7 +1,10 @@
 package com.kraftlog.repository;
 
+import com.kraftlog.dto.WorkoutExerciseResponse;
 import com.kraftlog.entity.WorkoutExercise;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -11,6 +14,14 @@ import java.util.UUID;
 public interface WorkoutExerciseRepository extends JpaRepository<WorkoutExercise, WorkoutExercise.WorkoutExerciseId> {
 
     List<WorkoutExercise> findByWorkoutIdOrderByOrderIndexAsc(UUID workoutId);
+
+    /**
+     * Exercises of a workout as responses, without loading the link or exercise entities
+     */
+    @Query("SELECT new com.kraftlog.dto.WorkoutExerciseResponse(e.id, e.name, e.description, e.videoUrl, "
+            + "we.recommendedSets, we.recommendedReps, we.trainingTechnique, we.orderIndex) "
+            + "FROM WorkoutExercise we JOIN we.exercise e WHERE we.workoutId = :workoutId ORDER BY we.orderIndex")
+    List<WorkoutExerciseResponse> findResponsesByWorkoutId(@Param("workoutId") UUID workoutId);
     
     void deleteByWorkoutIdAndExerciseId(UUID workoutId, UUID exerciseId);
 }
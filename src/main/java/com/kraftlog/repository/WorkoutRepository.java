@@ -2,13 +2,59 @@ package com.kraftlog.repository;
 
 import com.kraftlog.entity.Workout;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
 public interface WorkoutRepository extends JpaRepository<Workout, UUID> {
 
     List<Workout> findByRoutineIdOrderByOrderIndexAsc(UUID routineId);
+
+    List<Workout> findByRoutine_UserIdOrderByOrderIndexAsc(UUID userId);
+
+    @Query("SELECT DISTINCT w.routine.id FROM Workout w JOIN w.workoutExercises we WHERE we.exerciseId IN :exerciseIds")
+    List<UUID> findRoutineIdsByExerciseIds(@Param("exerciseIds") Collection<UUID> exerciseIds);
+
+    /**
+     * Stamp the workouts holding an exercise as changed; deleting the exercise removes it from
+     * them by cascade, which would not show in their change time
+     */
+    @Modifying
+    @Query("UPDATE Workout w SET w.updatedAt = :now WHERE w.id IN "
+            + "(SELECT we.workoutId FROM WorkoutExercise we WHERE we.exerciseId = :exerciseId)")
+    int touchByExerciseId(@Param("exerciseId") UUID exerciseId, @Param("now") LocalDateTime now);
+
+    /**
+     * Workouts of a user whose {@code (updatedAt, id)} falls in {@code (since, until]} with their
+     * exercises, oldest change first
+     */
+    @Query("SELECT w FROM Workout w LEFT JOIN FETCH w.workoutExercises we LEFT JOIN FETCH we.exercise "
+            + "WHERE w.routine.user.id = :userId "
+            + "AND w.updatedAt >= :since AND (w.updatedAt > :since OR w.id > :sinceId) "
+            + "AND w.updatedAt <= :until AND (w.updatedAt < :until OR w.id <= :untilId) "
+            + "ORDER BY w.updatedAt, w.id")
+    List<Workout> findChangedBetween(@Param("userId") UUID userId,
+                                     @Param("since") LocalDateTime since, @Param("sinceId") UUID sinceId,
+                                     @Param("until") LocalDateTime until, @Param("untilId") UUID untilId);
+
+    /**
+     * Initialise the muscles of already loaded workouts in one query; fetching them together with
+     * the exercises would multiply the rows
+     */
+    @Query("SELECT w FROM Workout w LEFT JOIN FETCH w.muscles WHERE w IN :workouts")
+    List<Workout> fetchMuscles(@Param("workouts") Collection<Workout> workouts);
+
+    /**
+     * Owner of a workout, without loading it
+     */
+    @Query("SELECT w.routine.user.id FROM Workout w WHERE w.id = :id")
+    Optional<UUID> findUserIdById(@Param("id") UUID id);
 }
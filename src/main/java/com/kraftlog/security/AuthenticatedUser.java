@@ -0,0 +1,117 @@
+package com.kraftlog.security;
+
+import com.kraftlog.entity.User;
+import org.springframework.security.core.CredentialsContainer;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Security principal. After a login it carries the {@link User} it was loaded from, so the entity
+ * read during authentication also serves token minting and the response without further lookups.
+ * Principals rebuilt from an access token carry only the id, email and role from its claims.
+ */
+public class AuthenticatedUser implements UserDetails, CredentialsContainer {
+
+    private final UUID id;
+    private final String email;
+    private final boolean admin;
+    private final User user;
+    private final List<GrantedAuthority> authorities;
+    private String password;
+
+    public AuthenticatedUser(User user) {
+        this(user.getId(), user.getEmail(), user.isAdmin(), user.getPassword(), user);
+    }
+
+    private AuthenticatedUser(UUID id, String email, boolean admin, String password, User user) {
+        this.id = id;
+        this.email = email;
+        this.admin = admin;
+        this.password = password;
+        this.user = user;
+        // Assign roles based on isAdmin flag
+        this.authorities = List.of(new SimpleGrantedAuthority(admin ? "ROLE_ADMIN" : "ROLE_USER"));
+    }
+
+    /**
+     * @return a principal for a verified access token, without a password or entity
+     */
+    public static AuthenticatedUser fromToken(UUID id, String email, boolean admin) {
+        return new AuthenticatedUser(id, email, admin, null, null);
+    }
+
+    /**
+     * @return the entity this principal was loaded from, or null if it was built from a token
+     */
+    public User getUser() {
+        return user;
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public boolean isAdmin() {
+        return admin;
+    }
+
+    /**
+     * @return this principal with another password hash, used after a rehash on login
+     */
+    public AuthenticatedUser withPassword(String newPassword) {
+        if (user != null) {
+            user.setPassword(newPassword);
+        }
+        return new AuthenticatedUser(id, email, admin, newPassword, user);
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return authorities;
+    }
+
+    @Override
+    public String getPassword() {
+        return password;
+    }
+
+    @Override
+    public String getUsername() {
+        return email;
+    }
+
+    @Override
+    public boolean isAccountNonExpired() {
+        return true;
+    }
+
+    @Override
+    public boolean isAccountNonLocked() {
+        return true;
+    }
+
+    @Override
+    public boolean isCredentialsNonExpired() {
+        return true;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return true;
+    }
+
+    @Override
+    public void eraseCredentials() {
+        password = null;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [id=" + id + ", username=" + email + "]";
+    }
+}
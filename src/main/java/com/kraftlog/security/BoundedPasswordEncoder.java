@@ -0,0 +1,159 @@
+package com.kraftlog.security;
+
+import com.kraftlog.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * BCrypt on a dedicated, bounded pool.
+ * <p>
+ * Hashing is CPU-bound by design, so running it on request threads lets a burst of logins take
+ * every core. Here it runs on a fixed number of threads behind a bounded queue; the calling
+ * thread waits for its result, and once the queue is full further calls fail fast with
+ * {@link TooManyRequestsException} instead of piling up. Hashes stored with a lower cost than
+ * the configured one report {@link #upgradeEncoding(String)}, so they are rehashed on the next
+ * successful login; stronger ones are kept, so lowering the cost never weakens stored hashes.
+ */
+@Slf4j
+public class BoundedPasswordEncoder implements PasswordEncoder, MeterBinder, DisposableBean {
+
+    public static final int MIN_STRENGTH = 4;
+    public static final int MAX_STRENGTH = 31;
+
+    private static final Pattern BCRYPT_PATTERN = Pattern.compile("\\A\\$2([ayb])?\\$(\\d\\d)\\$[./0-9A-Za-z]{53}");
+
+    private final PasswordEncoder delegate;
+    private final int strength;
+    private final ThreadPoolExecutor executor;
+    private final AtomicLong rejected = new AtomicLong();
+
+    public BoundedPasswordEncoder(int strength, int threads, int queueCapacity) {
+        this(new BCryptPasswordEncoder(strength), strength, threads, queueCapacity);
+    }
+
+    BoundedPasswordEncoder(PasswordEncoder delegate, int strength, int threads, int queueCapacity) {
+        this.delegate = delegate;
+        this.strength = strength;
+        AtomicInteger count = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hashing-" + count.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    /**
+     * Pick the cost for a target hashing time. One hash is measured at {@code minStrength}; each
+     * step up doubles the work, so the result is the highest strength whose estimated time stays
+     * within the target, and never below {@code minStrength}.
+     *
+     * @param targetMs the time a single hash may take, 0 to keep {@code minStrength} without measuring
+     * @return the strength to use
+     */
+    public static int calibrate(int minStrength, long targetMs) {
+        if (targetMs <= 0) {
+            return minStrength;
+        }
+        long start = System.nanoTime();
+        new BCryptPasswordEncoder(minStrength).encode("calibration");
+        long elapsedMs = Math.max(1, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+
+        int strength = minStrength;
+        long estimatedMs = elapsedMs;
+        while (strength < MAX_STRENGTH && estimatedMs * 2 <= targetMs) {
+            strength++;
+            estimatedMs *= 2;
+        }
+        log.info("BCrypt strength {} measured at {} ms per hash, using strength {} (~{} ms)",
+                minStrength, elapsedMs, strength, estimatedMs);
+        return strength;
+    }
+
+    public int getStrength() {
+        return strength;
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return submit(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return submit(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    /**
+     * @return true if the hash is BCrypt with another cost than the configured one
+     */
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        if (encodedPassword == null) {
+            return false;
+        }
+        Matcher matcher = BCRYPT_PATTERN.matcher(encodedPassword);
+        return matcher.find() && Integer.parseInt(matcher.group(2)) < strength;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("kraftlog.password_hashing.queued", executor, e -> e.getQueue().size())
+                .description("Password hashes waiting for a thread")
+                .register(registry);
+        Gauge.builder("kraftlog.password_hashing.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("Password hashes being computed")
+                .register(registry);
+        FunctionCounter.builder("kraftlog.password_hashing.rejected", rejected, AtomicLong::get)
+                .description("Password hashes rejected because the queue was full")
+                .register(registry);
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    private <T> T submit(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            rejected.incrementAndGet();
+            log.warn("Password hashing queue full, rejecting request");
+            throw new TooManyRequestsException("Too many sign-in requests in progress, please retry shortly", 1);
+        }
+
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while hashing password", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+    }
+}
@@ -1,8 +1,10 @@
 package com.kraftlog.security;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
@@ -12,20 +14,44 @@ import java.nio.charset.StandardCharsets;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.UUID;
 import java.util.function.Function;
 
+/**
+ * Issues and verifies short-lived access tokens. Tokens carry the user id and role, so a request
+ * is authenticated from the signature and expiry alone; revocation is enforced when the
+ * refresh token is rotated, see {@link com.kraftlog.service.RefreshTokenService}.
+ */
 @Component
 public class JwtUtil {
 
+    static final String USER_ID_CLAIM = "uid";
+    static final String ADMIN_CLAIM = "adm";
+
     @Value("${jwt.secret}")
     private String secret;
 
     @Value("${jwt.expiration}")
     private Long expiration;
 
+    private SecretKey signingKey;
+    private JwtParser parser;
+
+    @PostConstruct
+    void init() {
+        signingKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        parser = Jwts.parser().verifyWith(signingKey).build();
+    }
+
     private SecretKey getSigningKey() {
-        byte[] keyBytes = secret.getBytes(StandardCharsets.UTF_8);
-        return Keys.hmacShaKeyFor(keyBytes);
+        return signingKey;
+    }
+
+    /**
+     * @return access token lifetime in seconds
+     */
+    public long getExpirationSeconds() {
+        return expiration / 1000;
     }
 
     public String extractUsername(String token) {
@@ -42,11 +68,23 @@ public class JwtUtil {
     }
 
     private Claims extractAllClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        return parser.parseSignedClaims(token).getPayload();
+    }
+
+    /**
+     * Verify signature and expiry and rebuild the principal from the claims
+     *
+     * @return the principal, or null for a valid token issued without user claims
+     * @throws io.jsonwebtoken.JwtException if the token is invalid or expired
+     */
+    public AuthenticatedUser parseAccessToken(String token) {
+        Claims claims = extractAllClaims(token);
+        String userId = claims.get(USER_ID_CLAIM, String.class);
+        if (userId == null) {
+            return null;
+        }
+        return AuthenticatedUser.fromToken(UUID.fromString(userId), claims.getSubject(),
+                Boolean.TRUE.equals(claims.get(ADMIN_CLAIM, Boolean.class)));
     }
 
     private Boolean isTokenExpired(String token) {
@@ -55,6 +93,10 @@ public class JwtUtil {
 
     public String generateToken(UserDetails userDetails) {
         Map<String, Object> claims = new HashMap<>();
+        if (userDetails instanceof AuthenticatedUser authenticatedUser) {
+            claims.put(USER_ID_CLAIM, authenticatedUser.getId().toString());
+            claims.put(ADMIN_CLAIM, authenticatedUser.isAdmin());
+        }
         return createToken(claims, userDetails.getUsername());
     }
 
@@ -0,0 +1,76 @@
+package com.kraftlog.security;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+
+import java.util.List;
+
+/**
+ * Route classification shared by {@link com.kraftlog.config.SecurityConfig} and
+ * {@link JwtAuthenticationFilter}, so the list of open paths exists once.
+ * <p>
+ * Matching compares the request URI in place, after the context path, against fixed exact paths
+ * and prefixes; it neither allocates nor goes through the MVC handler lookup that string
+ * patterns in {@code requestMatchers(String...)} would. Malformed URIs (e.g. {@code ..} segments
+ * or encoded slashes) are rejected by the security firewall before any matcher runs.
+ */
+public final class SecurityRoutes {
+
+    /**
+     * Health checks and API docs: served by a permit-all chain, without token parsing or rate limits
+     */
+    private static final List<String> IGNORED_PATHS = List.of(
+            "/", "/api/health", "/swagger-ui", "/swagger-ui.html", "/v3/api-docs");
+    private static final List<String> IGNORED_PREFIXES = List.of(
+            "/api/health/", "/swagger-ui/", "/v3/api-docs/", "/swagger-resources/", "/webjars/");
+
+    /**
+     * Authentication endpoints: pass through the chain unauthenticated, without token parsing
+     */
+    private static final List<String> PUBLIC_PATHS = List.of("/api/auth");
+    private static final List<String> PUBLIC_PREFIXES = List.of("/api/auth/");
+
+    public static final RequestMatcher IGNORED = SecurityRoutes::isIgnored;
+    public static final RequestMatcher PUBLIC = SecurityRoutes::isPublic;
+
+    private SecurityRoutes() {
+    }
+
+    public static boolean isIgnored(HttpServletRequest request) {
+        return matches(request, IGNORED_PATHS, IGNORED_PREFIXES);
+    }
+
+    public static boolean isPublic(HttpServletRequest request) {
+        return matches(request, PUBLIC_PATHS, PUBLIC_PREFIXES);
+    }
+
+    /**
+     * @return true if no access token needs to be read for this request
+     */
+    public static boolean isUnauthenticated(HttpServletRequest request) {
+        return isPublic(request) || isIgnored(request);
+    }
+
+    private static boolean matches(HttpServletRequest request, List<String> paths, List<String> prefixes) {
+        String uri = request.getRequestURI();
+        if (uri == null) {
+            return false;
+        }
+        String contextPath = request.getContextPath();
+        int offset = contextPath == null ? 0 : contextPath.length();
+        int length = uri.length() - offset;
+
+        for (int i = 0; i < paths.size(); i++) {
+            String path = paths.get(i);
+            if (length == path.length() && uri.startsWith(path, offset)) {
+                return true;
+            }
+        }
+        for (int i = 0; i < prefixes.size(); i++) {
+            if (uri.startsWith(prefixes.get(i), offset)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,101 @@
+package com.kraftlog.security;
+
+import com.kraftlog.repository.LogExerciseRepository;
+import com.kraftlog.repository.LogRoutineRepository;
+import com.kraftlog.repository.LogSetRepository;
+import com.kraftlog.repository.LogWorkoutRepository;
+import com.kraftlog.repository.RoutineRepository;
+import com.kraftlog.repository.WorkoutRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * The user whose data a request may read. List endpoints pass {@link #currentUserId()} down to
+ * user-filtered queries instead of reading whole tables, and endpoints taking a user id in the
+ * path guard it with {@code @PreAuthorize("@userScope.canAccess(#userId)")}.
+ * <p>
+ * Endpoints addressing an entity by id, or by the id of its parent, guard it with the
+ * {@code canAccess*} check of that entity type, which looks up its owner. An id that does not
+ * exist passes, so the service answers 404 as before.
+ */
+@Component("userScope")
+@RequiredArgsConstructor
+public class UserScope {
+
+    private final RoutineRepository routineRepository;
+    private final WorkoutRepository workoutRepository;
+    private final LogRoutineRepository logRoutineRepository;
+    private final LogWorkoutRepository logWorkoutRepository;
+    private final LogExerciseRepository logExerciseRepository;
+    private final LogSetRepository logSetRepository;
+
+    /**
+     * @throws AccessDeniedException if the request is not authenticated as a user
+     */
+    public UUID currentUserId() {
+        return currentUser().getId();
+    }
+
+    /**
+     * @return true if the authenticated user is {@code userId} or an admin
+     */
+    public boolean canAccess(UUID userId) {
+        AuthenticatedUser user = currentUser();
+        return user.isAdmin() || user.getId().equals(userId);
+    }
+
+    /**
+     * @return true if the authenticated user signed up with {@code email} or is an admin
+     */
+    public boolean canAccessEmail(String email) {
+        AuthenticatedUser user = currentUser();
+        return user.isAdmin() || user.getUsername().equals(email);
+    }
+
+    public boolean canAccessRoutine(UUID routineId) {
+        return canAccessOwned(routineId, routineRepository::findUserIdById);
+    }
+
+    public boolean canAccessWorkout(UUID workoutId) {
+        return canAccessOwned(workoutId, workoutRepository::findUserIdById);
+    }
+
+    public boolean canAccessLogRoutine(UUID logRoutineId) {
+        return canAccessOwned(logRoutineId, logRoutineRepository::findUserIdById);
+    }
+
+    public boolean canAccessLogWorkout(UUID logWorkoutId) {
+        return canAccessOwned(logWorkoutId, logWorkoutRepository::findUserIdById);
+    }
+
+    public boolean canAccessLogExercise(UUID logExerciseId) {
+        return canAccessOwned(logExerciseId, logExerciseRepository::findUserIdById);
+    }
+
+    public boolean canAccessLogSet(UUID logSetId) {
+        return canAccessOwned(logSetId, logSetRepository::findUserIdById);
+    }
+
+    private boolean canAccessOwned(UUID id, Function<UUID, Optional<UUID>> findOwner) {
+        AuthenticatedUser user = currentUser();
+        if (user.isAdmin() || id == null) {
+            return true;
+        }
+        return findOwner.apply(id).map(user.getId()::equals).orElse(true);
+    }
+
+    private static AuthenticatedUser currentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof AuthenticatedUser user) {
+            return user;
+        }
+        throw new AccessDeniedException("No authenticated user");
+    }
+}
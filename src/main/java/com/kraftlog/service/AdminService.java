@@ -23,6 +23,7 @@ public class AdminService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final ModelMapper modelMapper;
+    private final RefreshTokenService refreshTokenService;
 
     public void deleteUser(UUID userId) {
         User user = userRepository.findById(userId)
@@ -40,6 +41,7 @@ public class AdminService {
         user.setPassword(encodedPassword);
 
         User updatedUser = userRepository.save(user);
+        refreshTokenService.revokeAll(userId);
         log.info("Admin changed password for user with email: {}", user.getEmail());
 
         return modelMapper.map(updatedUser, UserResponse.class);
@@ -7,13 +7,14 @@ import com.kraftlog.dto.UserResponse;
 import com.kraftlog.entity.User;
 import com.kraftlog.exception.BadRequestException;
 import com.kraftlog.repository.UserRepository;
+import com.kraftlog.security.AuthenticatedUser;
 import com.kraftlog.security.JwtUtil;
 import lombok.RequiredArgsConstructor;
 import org.modelmapper.ModelMapper;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -28,17 +29,15 @@ public class AuthService {
     private final PasswordEncoder passwordEncoder;
     private final JwtUtil jwtUtil;
     private final AuthenticationManager authenticationManager;
-    private final UserDetailsService userDetailsService;
     private final ModelMapper modelMapper;
+    private final RefreshTokenService refreshTokenService;
 
+    /**
+     * Create the user and sign them in. A taken email is detected by the unique constraint on
+     * insert rather than by a lookup beforehand.
+     */
     @Transactional
     public LoginResponse register(RegisterRequest request) {
-        // Check if user already exists
-        if (userRepository.existsByEmail(request.getEmail())) {
-            throw new BadRequestException("User with email " + request.getEmail() + " already exists");
-        }
-
-        // Create new user
         User user = User.builder()
                 .name(request.getName())
                 .surname(request.getSurname())
@@ -51,44 +50,52 @@ public class AuthService {
                 .updatedAt(LocalDateTime.now())
                 .build();
 
-        User savedUser = userRepository.save(user);
-
-        // Generate JWT token
-        UserDetails userDetails = userDetailsService.loadUserByUsername(savedUser.getEmail());
-        String token = jwtUtil.generateToken(userDetails);
-
-        // Map to response
-        UserResponse userResponse = modelMapper.map(savedUser, UserResponse.class);
+        User savedUser;
+        try {
+            savedUser = userRepository.saveAndFlush(user);
+        } catch (DataIntegrityViolationException e) {
+            throw new BadRequestException("User with email " + request.getEmail() + " already exists");
+        }
 
-        return LoginResponse.builder()
-                .token(token)
-                .type("Bearer")
-                .user(userResponse)
-                .build();
+        return toLoginResponse(new AuthenticatedUser(savedUser), refreshTokenService.issue(savedUser));
     }
 
+    /**
+     * Authenticate and sign in; the user loaded for the password check is reused for the token
+     * and the response
+     */
     public LoginResponse login(LoginRequest request) {
-        // Authenticate user
-        authenticationManager.authenticate(
+        Authentication authentication = authenticationManager.authenticate(
                 new UsernamePasswordAuthenticationToken(request.getEmail(), request.getPassword())
         );
+        AuthenticatedUser principal = (AuthenticatedUser) authentication.getPrincipal();
+        return toLoginResponse(principal, refreshTokenService.issue(principal.getUser()));
+    }
 
-        // Load user details
-        UserDetails userDetails = userDetailsService.loadUserByUsername(request.getEmail());
-
-        // Generate JWT token
-        String token = jwtUtil.generateToken(userDetails);
+    /**
+     * Exchange a refresh token for a new access token and the next refresh token
+     */
+    public LoginResponse refresh(String refreshToken) {
+        RefreshTokenService.Rotation rotation = refreshTokenService.rotate(refreshToken);
+        return toLoginResponse(new AuthenticatedUser(rotation.user()), rotation.refreshToken());
+    }
 
-        // Get user from database
-        User user = userRepository.findByEmail(request.getEmail())
-                .orElseThrow(() -> new BadRequestException("User not found"));
+    /**
+     * Revoke the refresh token and every token rotated from the same login
+     */
+    public void logout(String refreshToken) {
+        refreshTokenService.revoke(refreshToken);
+    }
 
-        // Map to response
-        UserResponse userResponse = modelMapper.map(user, UserResponse.class);
+    private LoginResponse toLoginResponse(AuthenticatedUser principal, String refreshToken) {
+        String token = jwtUtil.generateToken(principal);
+        UserResponse userResponse = modelMapper.map(principal.getUser(), UserResponse.class);
 
         return LoginResponse.builder()
                 .token(token)
                 .type("Bearer")
+                .expiresIn(jwtUtil.getExpirationSeconds())
+                .refreshToken(refreshToken)
                 .user(userResponse)
                 .build();
     }
@@ -0,0 +1,208 @@
+package com.kraftlog.service;
+
+import com.kraftlog.entity.EmailOutboxMessage;
+import com.kraftlog.repository.EmailOutboxRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Delivers queued emails outside of any request transaction.
+ * <p>
+ * Messages are claimed in short transactions by pushing their next attempt past a lease, sent
+ * over a single SMTP connection per batch, and then marked sent or rescheduled with exponential
+ * backoff. A message whose instance dies mid-send becomes due again once its lease expires.
+ */
+@Service
+@Slf4j
+public class EmailOutboxDispatcher {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final EmailOutboxRepository emailOutboxRepository;
+    private final JavaMailSender mailSender;
+    private final TransactionTemplate transactionTemplate;
+    private final ReentrantLock dispatching = new ReentrantLock();
+
+    @Value("${spring.mail.username}")
+    private String fromEmail;
+
+    @Value("${app.mail.outbox.batch-size:50}")
+    private int batchSize;
+
+    @Value("${app.mail.outbox.max-attempts:8}")
+    private int maxAttempts;
+
+    @Value("${app.mail.outbox.initial-backoff-ms:30000}")
+    private long initialBackoffMs;
+
+    @Value("${app.mail.outbox.max-backoff-ms:3600000}")
+    private long maxBackoffMs;
+
+    @Value("${app.mail.outbox.lease-ms:120000}")
+    private long leaseMs;
+
+    @Value("${app.mail.outbox.retention-days:7}")
+    private int retentionDays;
+
+    public EmailOutboxDispatcher(EmailOutboxRepository emailOutboxRepository,
+                                 JavaMailSender mailSender,
+                                 PlatformTransactionManager transactionManager) {
+        this.emailOutboxRepository = emailOutboxRepository;
+        this.mailSender = mailSender;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Async
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEmailQueued(EmailQueuedEvent event) {
+        dispatchDueMessages();
+    }
+
+    @Scheduled(fixedDelayString = "${app.mail.outbox.poll-interval-ms:10000}")
+    public void dispatchScheduled() {
+        dispatchDueMessages();
+    }
+
+    /**
+     * Deletes sent messages and messages given up on once they are older than the retention. Both
+     * still hold the plaintext reset link in their body.
+     */
+    @Scheduled(cron = "${app.mail.outbox.purge-cron:0 30 3 * * *}")
+    public void purgeFinishedMessages() {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(retentionDays);
+        Integer sent = transactionTemplate.execute(status -> emailOutboxRepository.deleteByStatusAndSentAtBefore(
+                EmailOutboxMessage.Status.SENT, cutoff));
+        Integer failed = transactionTemplate.execute(status -> emailOutboxRepository.deleteByStatusAndNextAttemptAtBefore(
+                EmailOutboxMessage.Status.FAILED, cutoff));
+        log.info("Purged {} sent and {} failed emails from the outbox", sent, failed);
+    }
+
+    /**
+     * Send every message that is currently due
+     *
+     * @return number of messages attempted, or 0 if another dispatch was already running
+     */
+    public int dispatchDueMessages() {
+        if (!dispatching.tryLock()) {
+            return 0;
+        }
+        try {
+            int attempted = 0;
+            List<EmailOutboxMessage> batch;
+            do {
+                batch = claimBatch();
+                if (!batch.isEmpty()) {
+                    deliver(batch);
+                    attempted += batch.size();
+                }
+            } while (batch.size() == batchSize);
+            return attempted;
+        } finally {
+            dispatching.unlock();
+        }
+    }
+
+    private List<EmailOutboxMessage> claimBatch() {
+        return transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<EmailOutboxMessage> due = emailOutboxRepository.findDueForUpdate(
+                    EmailOutboxMessage.Status.PENDING, now, PageRequest.of(0, batchSize));
+            for (EmailOutboxMessage message : due) {
+                message.setAttempts(message.getAttempts() + 1);
+                message.setNextAttemptAt(now.plusNanos(leaseMs * 1_000_000));
+            }
+            return emailOutboxRepository.saveAll(due);
+        });
+    }
+
+    private void deliver(List<EmailOutboxMessage> batch) {
+        SimpleMailMessage[] mails = new SimpleMailMessage[batch.size()];
+        for (int i = 0; i < batch.size(); i++) {
+            mails[i] = toMail(batch.get(i));
+        }
+
+        Map<UUID, String> failures = new HashMap<>();
+        try {
+            mailSender.send(mails);
+        } catch (MailSendException e) {
+            Map<Object, Exception> failedMessages = e.getFailedMessages();
+            for (int i = 0; i < mails.length; i++) {
+                if (failedMessages.isEmpty() || failedMessages.containsKey(mails[i])) {
+                    Exception cause = failedMessages.getOrDefault(mails[i], e);
+                    failures.put(batch.get(i).getId(), String.valueOf(cause.getMessage()));
+                }
+            }
+        } catch (RuntimeException e) {
+            batch.forEach(message -> failures.put(message.getId(), String.valueOf(e.getMessage())));
+        }
+
+        record(batch, failures);
+    }
+
+    private void record(List<EmailOutboxMessage> batch, Map<UUID, String> failures) {
+        List<UUID> ids = new ArrayList<>(batch.size());
+        batch.forEach(message -> ids.add(message.getId()));
+
+        transactionTemplate.executeWithoutResult(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<EmailOutboxMessage> messages = emailOutboxRepository.findAllById(ids);
+            for (EmailOutboxMessage message : messages) {
+                String error = failures.get(message.getId());
+                if (error == null) {
+                    message.setStatus(EmailOutboxMessage.Status.SENT);
+                    message.setSentAt(now);
+                    message.setLastError(null);
+                    log.info("Email {} sent to: {}", message.getId(), message.getRecipient());
+                } else if (message.getAttempts() >= maxAttempts) {
+                    message.setStatus(EmailOutboxMessage.Status.FAILED);
+                    message.setLastError(truncate(error));
+                    log.error("Giving up on email {} to: {} after {} attempts: {}",
+                            message.getId(), message.getRecipient(), message.getAttempts(), error);
+                } else {
+                    message.setNextAttemptAt(now.plusNanos(backoffMs(message.getAttempts()) * 1_000_000));
+                    message.setLastError(truncate(error));
+                    log.warn("Email {} to: {} failed (attempt {}), retrying at {}: {}",
+                            message.getId(), message.getRecipient(), message.getAttempts(),
+                            message.getNextAttemptAt(), error);
+                }
+            }
+            emailOutboxRepository.saveAll(messages);
+        });
+    }
+
+    private long backoffMs(int attempts) {
+        int exponent = Math.min(attempts - 1, 30);
+        return Math.min(maxBackoffMs, initialBackoffMs << exponent);
+    }
+
+    private SimpleMailMessage toMail(EmailOutboxMessage message) {
+        SimpleMailMessage mail = new SimpleMailMessage();
+        mail.setFrom(fromEmail);
+        mail.setTo(message.getRecipient());
+        mail.setSubject(message.getSubject());
+        mail.setText(message.getBody());
+        return mail;
+    }
+
+    private static String truncate(String error) {
+        return error.length() <= MAX_ERROR_LENGTH ? error : error.substring(0, MAX_ERROR_LENGTH);
+    }
+}
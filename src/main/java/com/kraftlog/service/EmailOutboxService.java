@@ -0,0 +1,34 @@
+package com.kraftlog.service;
+
+import com.kraftlog.entity.EmailOutboxMessage;
+import com.kraftlog.repository.EmailOutboxRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class EmailOutboxService {
+
+    private final EmailOutboxRepository emailOutboxRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Queue an email as part of the caller's transaction. Nothing is sent if the transaction rolls back.
+     */
+    @Transactional
+    public EmailOutboxMessage enqueue(String recipient, String subject, String body) {
+        EmailOutboxMessage message = emailOutboxRepository.save(EmailOutboxMessage.builder()
+                .recipient(recipient)
+                .subject(subject)
+                .body(body)
+                .build());
+
+        eventPublisher.publishEvent(new EmailQueuedEvent(message.getId()));
+        log.debug("Queued email {} to: {}", message.getId(), recipient);
+        return message;
+    }
+}
@@ -0,0 +1,10 @@
+package com.kraftlog.service;
+
+import java.util.UUID;
+
+/**
+ * Published when a message is written to the email outbox, so it can be dispatched
+ * as soon as the enclosing transaction commits instead of waiting for the next poll
+ */
+public record EmailQueuedEvent(UUID messageId) {
+}
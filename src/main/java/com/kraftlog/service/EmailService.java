@@ -3,8 +3,6 @@ package com.kraftlog.service;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.mail.SimpleMailMessage;
-import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -12,31 +10,24 @@ import org.springframework.stereotype.Service;
 @Slf4j
 public class EmailService implements IEmailService {
 
-    private final JavaMailSender mailSender;
+    static final String PASSWORD_RESET_SUBJECT = "Password Reset Request - KraftLog";
 
-    @Value("${spring.mail.username}")
-    private String fromEmail;
+    private final EmailOutboxService emailOutboxService;
 
     @Value("${app.frontend.url}")
     private String frontendUrl;
 
+    /**
+     * Queue the password reset email in the outbox. It is delivered by {@link EmailOutboxDispatcher}
+     * once the caller's transaction commits, so a slow or unavailable mail server never blocks
+     * the request or rolls back the token.
+     */
     @Override
     public void sendPasswordResetEmail(String toEmail, String token) {
-        try {
-            String resetUrl = frontendUrl + "/reset-password?token=" + token;
-            
-            SimpleMailMessage message = new SimpleMailMessage();
-            message.setFrom(fromEmail);
-            message.setTo(toEmail);
-            message.setSubject("Password Reset Request - KraftLog");
-            message.setText(buildPasswordResetEmailText(resetUrl));
-            
-            mailSender.send(message);
-            log.info("Password reset email sent successfully to: {}", toEmail);
-        } catch (Exception e) {
-            log.error("Failed to send password reset email to: {}", toEmail, e);
-            throw new RuntimeException("Failed to send password reset email", e);
-        }
+        String resetUrl = frontendUrl + "/reset-password?token=" + token;
+
+        emailOutboxService.enqueue(toEmail, PASSWORD_RESET_SUBJECT, buildPasswordResetEmailText(resetUrl));
+        log.info("Password reset email queued for: {}", toEmail);
     }
 
     private String buildPasswordResetEmailText(String resetUrl) {
@@ -0,0 +1,331 @@
+package com.kraftlog.service;
+
+import com.kraftlog.dto.ImportJobResponse;
+import com.kraftlog.exception.BadRequestException;
+import com.kraftlog.exception.ResourceNotFoundException;
+import com.kraftlog.exception.ServiceUnavailableException;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs exercise imports as background jobs.
+ * <p>
+ * Uploads are written to disk before the request returns, then imported on a small bounded
+ * executor. Clients poll the job or subscribe to its server-sent progress events; finished jobs
+ * are kept in memory for {@code exercise.import.jobs.retention-minutes}.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ExerciseImportJobService {
+
+    static final String PROGRESS_EVENT = "progress";
+
+    private final ExerciseImportService exerciseImportService;
+    private final Map<UUID, ImportJob> jobs = new ConcurrentHashMap<>();
+
+    @Value("${exercise.import.jobs.concurrency:1}")
+    private int concurrency;
+
+    @Value("${exercise.import.jobs.queue-capacity:10}")
+    private int queueCapacity;
+
+    @Value("${exercise.import.jobs.upload-dir:}")
+    private String uploadDir;
+
+    @Value("${exercise.import.jobs.retention-minutes:60}")
+    private long retentionMinutes;
+
+    @Value("${exercise.import.jobs.sse-timeout-ms:1800000}")
+    private long sseTimeoutMs;
+
+    private ThreadPoolExecutor executor;
+    // Running plus queued jobs; taken before the upload is stored so a full queue leaves the upload untouched
+    private Semaphore slots;
+
+    @PostConstruct
+    void startExecutor() {
+        slots = new Semaphore(concurrency + queueCapacity);
+        AtomicInteger threads = new AtomicInteger();
+        // Room for every slot: a worker returns its slot just before it is free to take the next
+        // job, so for a moment all slots can be held by queued jobs
+        executor = new ThreadPoolExecutor(concurrency, concurrency, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(concurrency + queueCapacity),
+                runnable -> new Thread(runnable, "exercise-import-" + threads.incrementAndGet()));
+    }
+
+    @PreDestroy
+    void stopExecutor() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Store the upload on disk and queue it for import
+     *
+     * @param file the uploaded PDF
+     * @return the queued job
+     * @throws ServiceUnavailableException if the import queue is full, before the upload is consumed
+     */
+    public ImportJobResponse submit(MultipartFile file) {
+        if (file.isEmpty()) {
+            throw new BadRequestException("File is empty");
+        }
+        String fileName = file.getOriginalFilename();
+        if (fileName == null || !fileName.toLowerCase().endsWith(".pdf")) {
+            throw new BadRequestException("File must be a PDF");
+        }
+
+        if (!slots.tryAcquire()) {
+            throw new ServiceUnavailableException("Too many exercise imports in progress, try again later", 30);
+        }
+        Path upload;
+        try {
+            upload = storeUpload(file);
+        } catch (RuntimeException e) {
+            slots.release();
+            throw e;
+        }
+        ImportJob job = new ImportJob(UUID.randomUUID(), fileName);
+        jobs.put(job.id, job);
+        try {
+            executor.execute(() -> run(job, upload));
+        } catch (RejectedExecutionException e) {
+            // Only when shutting down; the multipart upload is still intact, so auto mode can forward it
+            jobs.remove(job.id);
+            deleteQuietly(upload);
+            slots.release();
+            throw new ServiceUnavailableException("Too many exercise imports in progress, try again later", 30);
+        }
+        log.info("Queued exercise import job {} for {}", job.id, fileName);
+        return job.snapshot();
+    }
+
+    public ImportJobResponse getJob(UUID jobId) {
+        return findJob(jobId).snapshot();
+    }
+
+    /**
+     * Wait for a job to finish
+     *
+     * @return the finished job, or its current state if it is still running after the timeout
+     * @throws RuntimeException the exception the import failed with
+     */
+    public ImportJobResponse awaitJob(UUID jobId, Duration timeout) {
+        ImportJob job = findJob(jobId);
+        try {
+            return job.completion.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            return job.snapshot();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return job.snapshot();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause().getMessage(), e.getCause());
+        }
+    }
+
+    /**
+     * Subscribe to progress events of a job. The current state is sent right away and the stream
+     * completes once the job has finished.
+     */
+    public SseEmitter subscribe(UUID jobId) {
+        ImportJob job = findJob(jobId);
+        SseEmitter emitter = new SseEmitter(sseTimeoutMs);
+        emitter.onCompletion(() -> job.emitters.remove(emitter));
+        emitter.onTimeout(() -> job.emitters.remove(emitter));
+        emitter.onError(e -> job.emitters.remove(emitter));
+        job.subscribe(emitter);
+        return emitter;
+    }
+
+    @Scheduled(fixedDelayString = "${exercise.import.jobs.purge-interval-ms:60000}")
+    public void purgeFinishedJobs() {
+        LocalDateTime cutoff = LocalDateTime.now().minusMinutes(retentionMinutes);
+        jobs.values().removeIf(job -> job.finishedAt != null && job.finishedAt.isBefore(cutoff));
+    }
+
+    private void run(ImportJob job, Path upload) {
+        job.start();
+        ExerciseImportService.ImportResult result = null;
+        Exception failure = null;
+        try {
+            result = exerciseImportService.importExercisesFromPdf(upload.toFile(), job::progress);
+        } catch (Exception e) {
+            failure = e;
+        } finally {
+            deleteQuietly(upload);
+        }
+
+        try {
+            if (failure == null) {
+                job.complete(result);
+                log.info("Exercise import job {} completed. Success: {}, Failed: {}",
+                        job.id, result.getSuccessCount(), result.getFailureCount());
+            } else {
+                log.warn("Exercise import job {} failed - {}", job.id, failure.getMessage());
+                job.fail(failure);
+            }
+        } finally {
+            // Last, so a slot never outnumbers the workers and queue places behind it
+            slots.release();
+        }
+    }
+
+    private ImportJob findJob(UUID jobId) {
+        ImportJob job = jobs.get(jobId);
+        if (job == null) {
+            throw new ResourceNotFoundException("Import job not found with id: " + jobId);
+        }
+        return job;
+    }
+
+    private Path storeUpload(MultipartFile file) {
+        try {
+            Path upload = uploadDir.isBlank()
+                    ? Files.createTempFile("exercise-import-", ".pdf")
+                    : Files.createTempFile(Files.createDirectories(Path.of(uploadDir)), "exercise-import-", ".pdf");
+            // Streams a copy of the part to disk; Spring never moves it, so the bytes are written twice
+            file.transferTo(upload);
+            return upload;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to store uploaded file", e);
+        }
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("Failed to delete import upload {}", path, e);
+        }
+    }
+
+    /**
+     * Mutable job state. Counters are written by the importing thread; transitions and event
+     * delivery are synchronized so a subscriber never misses the final event.
+     */
+    private static class ImportJob {
+
+        private final UUID id;
+        private final String fileName;
+        private final LocalDateTime createdAt = LocalDateTime.now();
+        private final List<SseEmitter> emitters = new CopyOnWriteArrayList<>();
+        private final CompletableFuture<ImportJobResponse> completion = new CompletableFuture<>();
+        private volatile ImportJobResponse.Status status = ImportJobResponse.Status.QUEUED;
+        private volatile int successCount;
+        private volatile int failureCount;
+        private volatile LocalDateTime startedAt;
+        private volatile LocalDateTime finishedAt;
+        private volatile String error;
+        private volatile ExerciseImportService.ImportResult result;
+
+        ImportJob(UUID id, String fileName) {
+            this.id = id;
+            this.fileName = fileName;
+        }
+
+        synchronized void start() {
+            status = ImportJobResponse.Status.RUNNING;
+            startedAt = LocalDateTime.now();
+            publish();
+        }
+
+        synchronized void progress(ExerciseImportService.ImportResult running) {
+            successCount = running.getSuccessCount();
+            failureCount = running.getFailureCount();
+            publish();
+        }
+
+        synchronized void complete(ExerciseImportService.ImportResult finalResult) {
+            successCount = finalResult.getSuccessCount();
+            failureCount = finalResult.getFailureCount();
+            result = finalResult;
+            finish(ImportJobResponse.Status.COMPLETED);
+            completion.complete(snapshot());
+        }
+
+        synchronized void fail(Exception cause) {
+            error = cause.getMessage();
+            finish(ImportJobResponse.Status.FAILED);
+            completion.completeExceptionally(cause);
+        }
+
+        synchronized void subscribe(SseEmitter emitter) {
+            if (send(emitter, snapshot()) && !status.isFinished()) {
+                emitters.add(emitter);
+            } else {
+                emitter.complete();
+            }
+        }
+
+        private void finish(ImportJobResponse.Status finalStatus) {
+            status = finalStatus;
+            finishedAt = LocalDateTime.now();
+            publish();
+            emitters.forEach(SseEmitter::complete);
+            emitters.clear();
+        }
+
+        private void publish() {
+            ImportJobResponse snapshot = snapshot();
+            emitters.removeIf(emitter -> !send(emitter, snapshot));
+        }
+
+        private static boolean send(SseEmitter emitter, ImportJobResponse snapshot) {
+            try {
+                emitter.send(SseEmitter.event().name(PROGRESS_EVENT).data(snapshot));
+                return true;
+            } catch (IOException | IllegalStateException e) {
+                // Client went away; the emitter's own callbacks clean up the rest
+                return false;
+            }
+        }
+
+        ImportJobResponse snapshot() {
+            return ImportJobResponse.builder()
+                    .jobId(id)
+                    .fileName(fileName)
+                    .status(status)
+                    .processedCount(successCount + failureCount)
+                    .successCount(successCount)
+                    .failureCount(failureCount)
+                    .createdAt(createdAt)
+                    .startedAt(startedAt)
+                    .finishedAt(finishedAt)
+                    .error(error)
+                    .result(result)
+                    .build();
+        }
+    }
+}
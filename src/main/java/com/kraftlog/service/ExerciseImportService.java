@@ -1,148 +1,420 @@
 package com.kraftlog.service;
 
+import com.kraftlog.config.CacheConfig;
 import com.kraftlog.config.ExerciseImportProperties;
+import com.kraftlog.config.MuscleGroupMapping;
+import com.kraftlog.dto.ExerciseImportDiff;
 import com.kraftlog.dto.ParsedExerciseData;
-import com.kraftlog.entity.Exercise;
 import com.kraftlog.entity.Muscle;
 import com.kraftlog.exception.BadRequestException;
-import com.kraftlog.repository.ExerciseRepository;
+import com.kraftlog.repository.ExerciseBulkRepository;
+import com.kraftlog.repository.ExerciseBulkRepository.ExerciseRow;
+import com.kraftlog.repository.ExerciseBulkRepository.ExistingExercise;
 import com.kraftlog.repository.MuscleRepository;
-import lombok.RequiredArgsConstructor;
+import com.kraftlog.repository.WorkoutRepository;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.io.File;
 import java.io.IOException;
 import java.util.*;
+import java.util.function.Consumer;
 
 /**
  * Service to import exercises from PDF files into the database
+ * <p>
+ * Parsed exercises are compared with the stored ones first: rows whose video URL and muscles are
+ * already up to date are skipped, so re-importing the same catalog writes nothing and leaves the
+ * exercise caches alone. The remaining rows are written in chunks of
+ * {@code exercise.import.batch-size}, each chunk in its own transaction as a batched upsert by
+ * name. If a chunk fails it is retried row by row, so a bad row only costs itself.
+ * <p>
+ * Parse results are cached by the content hash of the PDF, see {@link ParsedExerciseCache}.
  */
 @Service
-@Transactional
-@RequiredArgsConstructor
 @Slf4j
 public class ExerciseImportService {
 
     private final PdfExerciseParserService pdfParser;
-    private final ExerciseRepository exerciseRepository;
+    private final ExerciseBulkRepository exerciseBulkRepository;
     private final MuscleRepository muscleRepository;
     private final ExerciseImportProperties importProperties;
+    private final ParsedExerciseCache parsedExerciseCache;
+    private final CacheManager cacheManager;
+    private final WorkoutRepository workoutRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${exercise.import.batch-size:500}")
+    private int batchSize;
+
+    public ExerciseImportService(PdfExerciseParserService pdfParser,
+                                 ExerciseBulkRepository exerciseBulkRepository,
+                                 MuscleRepository muscleRepository,
+                                 ExerciseImportProperties importProperties,
+                                 ParsedExerciseCache parsedExerciseCache,
+                                 CacheManager cacheManager,
+                                 WorkoutRepository workoutRepository,
+                                 ApplicationEventPublisher eventPublisher,
+                                 PlatformTransactionManager transactionManager) {
+        this.pdfParser = pdfParser;
+        this.exerciseBulkRepository = exerciseBulkRepository;
+        this.muscleRepository = muscleRepository;
+        this.importProperties = importProperties;
+        this.parsedExerciseCache = parsedExerciseCache;
+        this.cacheManager = cacheManager;
+        this.workoutRepository = workoutRepository;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
 
     /**
      * Import exercises from a PDF file
-     * 
+     *
      * @param pdfFile the PDF file to import from
      * @return import result with statistics
      * @throws IOException if file reading fails
      */
     public ImportResult importExercisesFromPdf(File pdfFile) throws IOException {
+        return importExercisesFromPdf(pdfFile, result -> { });
+    }
+
+    /**
+     * Import exercises from a PDF file, reporting progress after every committed chunk
+     *
+     * @param pdfFile the PDF file to import from
+     * @param progressListener receives the running result on the importing thread
+     * @return import result with statistics
+     * @throws IOException if file reading fails
+     */
+    public ImportResult importExercisesFromPdf(File pdfFile, Consumer<ImportResult> progressListener) throws IOException {
         log.info("Starting exercise import from PDF: {}", pdfFile.getName());
-        
-        // Parse exercises from PDF
-        List<ParsedExerciseData> parsedExercises = pdfParser.parseExercisesFromPdf(pdfFile);
-        
-        if (parsedExercises.isEmpty()) {
-            throw new BadRequestException("No exercises found in PDF file");
-        }
-        
-        // Import exercises
+
+        // Import exercises in chunks as they are parsed from the PDF
         ImportResult result = ImportResult.builder().build();
-        
-        for (ParsedExerciseData parsedExercise : parsedExercises) {
-            try {
-                importSingleExercise(parsedExercise);
-                result.incrementSuccess();
-            } catch (Exception e) {
-                log.warn("Failed to import exercise: {} - {}", parsedExercise.getName(), e.getMessage());
-                result.addFailure(parsedExercise.getName(), e.getMessage());
+        ImportBatch batch = new ImportBatch(result, progressListener);
+
+        int parsedCount;
+        try {
+            ParsedCatalog catalog = parse(pdfFile, batch::add);
+            result.setContentHash(catalog.contentHash());
+            parsedCount = catalog.count();
+            batch.flush();
+        } finally {
+            // Chunks commit on their own, so evict for whatever was written even if the import failed
+            if (result.getAddedCount() + result.getUpdatedCount() > 0) {
+                evictExerciseCaches();
             }
         }
-        
-        log.info("Exercise import completed. Success: {}, Failed: {}", 
-                result.getSuccessCount(), result.getFailureCount());
-        
+
+        if (parsedCount == 0) {
+            throw new BadRequestException("No exercises found in PDF file");
+        }
+
+        log.info("Exercise import completed. Success: {} (added {}, updated {}, unchanged {}), Failed: {}",
+                result.getSuccessCount(), result.getAddedCount(), result.getUpdatedCount(),
+                result.getUnchangedCount(), result.getFailureCount());
+
         return result;
     }
 
     /**
-     * Import a single parsed exercise (upsert behavior)
-     * If exercise exists by name, updates it; otherwise creates new
-     * 
-     * @param parsedExercise the parsed exercise data
+     * Compare the exercises in a PDF file with the stored ones without writing anything
+     *
+     * @param pdfFile the PDF file to compare
+     * @return the exercises an import would add or update, and how many are unchanged
+     * @throws IOException if file reading fails
      */
-    private void importSingleExercise(ParsedExerciseData parsedExercise) {
-        // Find existing exercise by name or create new
-        Exercise exercise = exerciseRepository.findByName(parsedExercise.getName())
-                .orElse(Exercise.builder()
-                        .name(parsedExercise.getName())
-                        .muscles(new ArrayList<>())
-                        .build());
-        
-        // Update video URL if provided
-        if (parsedExercise.getVideoUrl() != null && !parsedExercise.getVideoUrl().isEmpty()) {
-            exercise.setVideoUrl(parsedExercise.getVideoUrl());
-        }
-        
-        // Update muscle associations based on muscle group
-        Muscle.MuscleGroup muscleGroup = translateMuscleGroup(parsedExercise.getMuscleGroupPortuguese());
-        if (muscleGroup != null) {
-            List<Muscle> muscles = muscleRepository.findByMuscleGroup(muscleGroup);
-            if (!muscles.isEmpty()) {
-                // Only update muscles if they're not already set or if the new list is different
-                if (exercise.getMuscles() == null || exercise.getMuscles().isEmpty()) {
-                    exercise.setMuscles(muscles);
-                } else {
-                    // Merge: add new muscles that aren't already associated
-                    List<UUID> existingMuscleIds = exercise.getMuscles().stream()
-                            .map(Muscle::getId)
-                            .toList();
-                    
-                    List<Muscle> newMuscles = muscles.stream()
-                            .filter(m -> !existingMuscleIds.contains(m.getId()))
-                            .toList();
-                    
-                    if (!newMuscles.isEmpty()) {
-                        exercise.getMuscles().addAll(newMuscles);
-                    }
-                }
+    public ExerciseImportDiff diffExercisesFromPdf(File pdfFile) throws IOException {
+        ImportPlan plan = new ImportPlan();
+        ExerciseImportDiff diff = ExerciseImportDiff.builder().build();
+
+        ParsedCatalog catalog = parse(pdfFile, parsedExercise -> {
+            Change change = plan.plan(parsedExercise, Map.of());
+            plan.apply(Map.of(parsedExercise.getName(), change.after()));
+            switch (change.kind()) {
+                case ADDED -> diff.getAdded().add(parsedExercise.getName());
+                case UPDATED -> diff.getUpdated().add(parsedExercise.getName());
+                case UNCHANGED -> diff.setUnchangedCount(diff.getUnchangedCount() + 1);
+            }
+        });
+        if (catalog.count() == 0) {
+            throw new BadRequestException("No exercises found in PDF file");
+        }
+
+        diff.setContentHash(catalog.contentHash());
+        diff.setCached(catalog.cached());
+        return diff;
+    }
+
+    /**
+     * Hand the exercises of a PDF to the consumer, replaying a previous parse of the same content
+     * when it is cached
+     */
+    private ParsedCatalog parse(File pdfFile, Consumer<ParsedExerciseData> consumer) throws IOException {
+        String contentHash = ParsedExerciseCache.contentHash(pdfFile);
+        Set<String> headers = importProperties.getMapping().headers();
+
+        List<ParsedExerciseData> cached = parsedExerciseCache.get(contentHash, headers);
+        if (cached != null) {
+            log.info("Reusing {} exercises parsed earlier from identical content {}", cached.size(), contentHash);
+            cached.forEach(consumer);
+            return new ParsedCatalog(contentHash, cached.size(), true);
+        }
+
+        // Buffered for the cache only while the file could still fit in it, so a catalog too
+        // large to cache streams through without being held in memory
+        CacheBuffer buffer = new CacheBuffer();
+        int count = pdfParser.parseExercisesFromPdf(pdfFile, parsedExercise -> {
+            buffer.add(parsedExercise);
+            consumer.accept(parsedExercise);
+        });
+        if (count > 0 && buffer.exercises != null) {
+            parsedExerciseCache.put(contentHash, headers, buffer.exercises);
+        }
+        return new ParsedCatalog(contentHash, count, false);
+    }
+
+    private class CacheBuffer {
+
+        private List<ParsedExerciseData> exercises = new ArrayList<>();
+
+        void add(ParsedExerciseData parsedExercise) {
+            if (exercises == null) {
+                return;
+            }
+            if (parsedExerciseCache.fits(exercises.size() + 1L)) {
+                exercises.add(parsedExercise);
+            } else {
+                exercises = null;
             }
         }
-        
-        exerciseRepository.save(exercise);
-        
-        if (exercise.getId() != null) {
-            log.debug("Updated existing exercise: {}", exercise.getName());
-        } else {
-            log.debug("Created new exercise: {}", exercise.getName());
+    }
+
+    private void evictExerciseCaches() {
+        for (String name : List.of(CacheConfig.EXERCISES_CACHE, CacheConfig.EXERCISE_CACHE)) {
+            Cache cache = cacheManager.getCache(name);
+            if (cache != null) {
+                cache.clear();
+            }
         }
     }
 
+    private record ParsedCatalog(String contentHash, int count, boolean cached) {
+    }
+
+    private enum ChangeKind {
+        ADDED, UPDATED, UNCHANGED
+    }
+
     /**
-     * Translate Portuguese muscle group name to enum value using configuration
-     * Returns null if configuration is not loaded or muscle group not found
-     * 
-     * @param portugueseName the Portuguese muscle group name
-     * @return the corresponding MuscleGroup enum value, or null if not found or not configured
+     * What importing one parsed exercise does, and the stored state afterwards
      */
-    private Muscle.MuscleGroup translateMuscleGroup(String portugueseName) {
-        if (portugueseName == null) {
-            return null;
-        }
-        
-        if (!importProperties.hasConfiguration()) {
-            log.debug("No muscle group configuration loaded. Exercise '{}' will be imported without muscle group association.", portugueseName);
-            return null;
-        }
-        
-        Muscle.MuscleGroup group = importProperties.getMuscleGroup(portugueseName);
-        
-        if (group == null) {
-            log.warn("Unknown muscle group '{}'. Check your exercise muscle groups configuration file.", portugueseName);
-        }
-        
-        return group;
+    private record Change(ChangeKind kind, ExistingExercise after, Set<UUID> addedMuscleIds) {
+    }
+
+    /**
+     * The lookups shared by every row of one import: existing exercises with their video URL and
+     * muscles (two queries), muscle ids by group (one query) and the muscle group mapping current
+     * when the import started
+     */
+    private class ImportPlan {
+
+        private final Map<String, ExistingExercise> exercises;
+        private final Map<Muscle.MuscleGroup, Set<UUID>> muscleIdsByGroup = new EnumMap<>(Muscle.MuscleGroup.class);
+        private final MuscleGroupMapping mapping = importProperties.getMapping();
+        private final Set<String> unknownMuscleGroups = new HashSet<>();
+
+        ImportPlan() {
+            this.exercises = exerciseBulkRepository.findAllForImport();
+            for (Muscle muscle : muscleRepository.findAll()) {
+                muscleIdsByGroup.computeIfAbsent(muscle.getMuscleGroup(), group -> new LinkedHashSet<>())
+                        .add(muscle.getId());
+            }
+            if (mapping.isEmpty()) {
+                log.debug("No muscle group configuration loaded. Exercises will be imported without muscle group association.");
+            }
+        }
+
+        /**
+         * Compare a parsed exercise with its stored state
+         *
+         * @param staged state written earlier in the same uncommitted chunk, by name
+         */
+        Change plan(ParsedExerciseData parsedExercise, Map<String, ExistingExercise> staged) {
+            String name = parsedExercise.getName();
+            String videoUrl = parsedExercise.getVideoUrl();
+            if (videoUrl != null && videoUrl.isEmpty()) {
+                videoUrl = null;
+            }
+            Muscle.MuscleGroup muscleGroup = translateMuscleGroup(parsedExercise.getMuscleGroupPortuguese());
+            Set<UUID> muscleIds = muscleGroup == null ? Set.of() : muscleIdsByGroup.getOrDefault(muscleGroup, Set.of());
+
+            ExistingExercise before = staged.containsKey(name) ? staged.get(name) : exercises.get(name);
+            if (before == null) {
+                return new Change(ChangeKind.ADDED,
+                        new ExistingExercise(UUID.randomUUID(), videoUrl, Set.copyOf(muscleIds)), muscleIds);
+            }
+
+            // A missing video URL keeps the stored one, and muscles are only ever added
+            boolean videoChanged = videoUrl != null && !videoUrl.equals(before.videoUrl());
+            Set<UUID> addedMuscleIds = new LinkedHashSet<>(muscleIds);
+            addedMuscleIds.removeAll(before.muscleIds());
+            if (!videoChanged && addedMuscleIds.isEmpty()) {
+                return new Change(ChangeKind.UNCHANGED, before, Set.of());
+            }
+
+            Set<UUID> allMuscleIds = new HashSet<>(before.muscleIds());
+            allMuscleIds.addAll(addedMuscleIds);
+            return new Change(ChangeKind.UPDATED, new ExistingExercise(before.id(),
+                    videoChanged ? videoUrl : before.videoUrl(), Set.copyOf(allMuscleIds)), addedMuscleIds);
+        }
+
+        /**
+         * Record committed state so later rows compare against it
+         */
+        void apply(Map<String, ExistingExercise> committed) {
+            exercises.putAll(committed);
+        }
+
+        /**
+         * Translate Portuguese muscle group name to enum value using configuration
+         * Returns null if configuration is not loaded or muscle group not found; each unknown
+         * group is reported once per import
+         *
+         * @param portugueseName the Portuguese muscle group name
+         * @return the corresponding MuscleGroup enum value, or null if not found or not configured
+         */
+        private Muscle.MuscleGroup translateMuscleGroup(String portugueseName) {
+            if (portugueseName == null || mapping.isEmpty()) {
+                return null;
+            }
+
+            Muscle.MuscleGroup group = mapping.get(portugueseName);
+            if (group == null && unknownMuscleGroups.add(portugueseName)) {
+                log.warn("Unknown muscle group '{}'. Check your exercise muscle groups configuration file.", portugueseName);
+            }
+            return group;
+        }
+    }
+
+    /**
+     * Pending chunk of parsed exercises, planned against the stored state and written in one
+     * transaction
+     */
+    private class ImportBatch {
+
+        private final ImportResult result;
+        private final Consumer<ImportResult> progressListener;
+        private final ImportPlan plan = new ImportPlan();
+        private final List<ParsedExerciseData> pending = new ArrayList<>();
+
+        ImportBatch(ImportResult result, Consumer<ImportResult> progressListener) {
+            this.result = result;
+            this.progressListener = progressListener;
+        }
+
+        void add(ParsedExerciseData parsedExercise) {
+            pending.add(parsedExercise);
+            if (pending.size() >= batchSize) {
+                flush();
+            }
+        }
+
+        void flush() {
+            if (pending.isEmpty()) {
+                return;
+            }
+            try {
+                ImportResult chunk = ImportResult.builder().build();
+                Map<String, ExistingExercise> staged = write(pending, chunk);
+                plan.apply(staged);
+                result.add(chunk);
+            } catch (RuntimeException e) {
+                log.warn("Failed to import chunk of {} exercises, retrying one by one - {}",
+                        pending.size(), e.getMessage());
+                pending.forEach(this::importSingleExercise);
+            }
+            pending.clear();
+            progressListener.accept(result);
+        }
+
+        private void importSingleExercise(ParsedExerciseData parsedExercise) {
+            try {
+                ImportResult row = ImportResult.builder().build();
+                Map<String, ExistingExercise> staged = write(List.of(parsedExercise), row);
+                plan.apply(staged);
+                result.add(row);
+            } catch (RuntimeException e) {
+                log.warn("Failed to import exercise: {} - {}", parsedExercise.getName(), e.getMessage());
+                result.addFailure(parsedExercise.getName(), e.getMessage());
+            }
+        }
+
+        /**
+         * Upsert the added and changed exercises by name, then add the muscles of their group to
+         * any already associated. Unchanged exercises are not written at all.
+         *
+         * @return the state of the written exercises, to apply once committed
+         */
+        private Map<String, ExistingExercise> write(List<ParsedExerciseData> parsedExercises, ImportResult counts) {
+            Map<String, ExistingExercise> staged = new HashMap<>();
+            List<ExerciseRow> rows = new ArrayList<>(parsedExercises.size());
+            Map<String, Set<UUID>> muscleIdsByName = new LinkedHashMap<>();
+            Set<String> updatedNames = new HashSet<>();
+            for (ParsedExerciseData parsedExercise : parsedExercises) {
+                Change change = plan.plan(parsedExercise, staged);
+                counts.record(change.kind());
+                if (change.kind() == ChangeKind.UNCHANGED) {
+                    continue;
+                }
+
+                String name = parsedExercise.getName();
+                if (change.kind() == ChangeKind.UPDATED) {
+                    updatedNames.add(name);
+                }
+                staged.put(name, change.after());
+                rows.add(new ExerciseRow(change.after().id(), name, change.after().videoUrl()));
+                if (!change.addedMuscleIds().isEmpty()) {
+                    muscleIdsByName.computeIfAbsent(name, exerciseName -> new LinkedHashSet<>())
+                            .addAll(change.addedMuscleIds());
+                }
+            }
+
+            if (!rows.isEmpty()) {
+                Map<String, UUID> ids = transactionTemplate.execute(status -> {
+                    Map<String, UUID> written = exerciseBulkRepository.upsert(rows);
+                    Map<UUID, Set<UUID>> muscleIdsByExercise = new LinkedHashMap<>();
+                    muscleIdsByName.forEach((name, muscleIds) -> muscleIdsByExercise.put(written.get(name), muscleIds));
+                    exerciseBulkRepository.addMuscles(muscleIdsByExercise);
+
+                    // An exercise created by someone else since the plan was read was updated, not added
+                    Set<UUID> updatedIds = new HashSet<>();
+                    for (ExerciseRow row : rows) {
+                        UUID id = written.get(row.name());
+                        if (updatedNames.contains(row.name()) || !id.equals(row.id())) {
+                            updatedIds.add(id);
+                        }
+                    }
+                    if (!updatedIds.isEmpty()) {
+                        // Routines showing these exercises are served from the routine read model
+                        eventPublisher.publishEvent(RoutineChangedEvent.of(
+                                workoutRepository.findRoutineIdsByExerciseIds(updatedIds)));
+                    }
+                    return written;
+                });
+                staged.replaceAll((name, state) -> state.id().equals(ids.get(name)) ? state
+                        : new ExistingExercise(ids.get(name), state.videoUrl(), state.muscleIds()));
+                log.debug("Upserted {} exercises", rows.size());
+            }
+            return staged;
+        }
     }
 
     /**
@@ -153,25 +425,61 @@ public class ExerciseImportService {
     public static class ImportResult {
         @lombok.Builder.Default
         private int successCount = 0;
-        
+
+        /** Successful rows that created an exercise */
+        @lombok.Builder.Default
+        private int addedCount = 0;
+
+        /** Successful rows that changed the video URL or muscles of an existing exercise */
+        @lombok.Builder.Default
+        private int updatedCount = 0;
+
+        /** Successful rows that were already up to date and not written */
+        @lombok.Builder.Default
+        private int unchangedCount = 0;
+
+        /** SHA-256 of the imported file */
+        private String contentHash;
+
         @lombok.Builder.Default
         private List<ImportFailure> failures = new ArrayList<>();
-        
+
         public void incrementSuccess() {
             successCount++;
         }
-        
+
+        public void addSuccesses(int count) {
+            successCount += count;
+        }
+
         public void addFailure(String exerciseName, String reason) {
             failures.add(new ImportFailure(exerciseName, reason));
         }
-        
+
         public int getFailureCount() {
             return failures.size();
         }
-        
+
         public int getTotalCount() {
             return successCount + failures.size();
         }
+
+        private void record(ChangeKind kind) {
+            switch (kind) {
+                case ADDED -> addedCount++;
+                case UPDATED -> updatedCount++;
+                case UNCHANGED -> unchangedCount++;
+            }
+            successCount++;
+        }
+
+        private void add(ImportResult other) {
+            successCount += other.successCount;
+            addedCount += other.addedCount;
+            updatedCount += other.updatedCount;
+            unchangedCount += other.unchangedCount;
+            failures.addAll(other.failures);
+        }
     }
 
     /**
@@ -7,18 +7,22 @@ import com.kraftlog.dto.ExerciseUpdateRequest;
 import com.kraftlog.dto.MuscleResponse;
 import com.kraftlog.entity.Exercise;
 import com.kraftlog.entity.Muscle;
+import com.kraftlog.entity.SyncTombstone;
 import com.kraftlog.exception.BadRequestException;
 import com.kraftlog.exception.ResourceNotFoundException;
 import com.kraftlog.repository.ExerciseRepository;
 import com.kraftlog.repository.MuscleRepository;
+import com.kraftlog.repository.WorkoutRepository;
 import lombok.RequiredArgsConstructor;
 import org.modelmapper.ModelMapper;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.cache.annotation.Caching;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -30,7 +34,10 @@ public class ExerciseService {
 
     private final ExerciseRepository exerciseRepository;
     private final MuscleRepository muscleRepository;
+    private final WorkoutRepository workoutRepository;
+    private final SyncTombstoneService syncTombstoneService;
     private final ModelMapper modelMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Caching(evict = {
             @CacheEvict(value = CacheConfig.EXERCISES_CACHE, allEntries = true),
@@ -141,6 +148,7 @@ public class ExerciseService {
         }
 
         Exercise updatedExercise = exerciseRepository.save(exercise);
+        eventPublisher.publishEvent(RoutineChangedEvent.of(workoutRepository.findRoutineIdsByExerciseIds(List.of(id))));
         return mapToResponse(updatedExercise);
     }
 
@@ -151,10 +159,15 @@ public class ExerciseService {
     public void deleteExercise(UUID id) {
         Exercise exercise = exerciseRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Exercise", "id", id));
+        // Resolved before the delete removes the exercise from its workouts
+        List<UUID> routineIds = workoutRepository.findRoutineIdsByExerciseIds(List.of(id));
+        workoutRepository.touchByExerciseId(id, LocalDateTime.now());
         exerciseRepository.delete(exercise);
+        syncTombstoneService.record(SyncTombstone.EntityType.EXERCISE, id, null);
+        eventPublisher.publishEvent(RoutineChangedEvent.of(routineIds));
     }
 
-    private ExerciseResponse mapToResponse(Exercise exercise) {
+    ExerciseResponse mapToResponse(Exercise exercise) {
         ExerciseResponse response = modelMapper.map(exercise, ExerciseResponse.class);
         if (exercise.getMuscles() != null) {
             List<MuscleResponse> muscleResponses = exercise.getMuscles().stream()
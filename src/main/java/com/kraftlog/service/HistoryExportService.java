@@ -0,0 +1,260 @@
+package com.kraftlog.service;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.kraftlog.repository.LogHistoryExportRepository;
+import com.kraftlog.repository.LogHistoryExportRepository.HistoryRow;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Writes a user's whole training history to a stream as it is read from the database.
+ * <p>
+ * Rows come from {@link LogHistoryExportRepository} in session order and are written one at a
+ * time, so memory stays flat however long the history is; only the ids of the routine, workout
+ * and exercise currently open are kept.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class HistoryExportService {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private static final String CSV_HEADER = String.join(",",
+            "log_routine_id", "routine_id", "routine_name", "routine_start", "routine_end",
+            "log_workout_id", "workout_id", "workout_name", "workout_start", "workout_end",
+            "log_exercise_id", "exercise_id", "exercise_name", "exercise_start", "exercise_end",
+            "repetitions", "completed", "exercise_notes",
+            "log_set_id", "set_number", "reps", "weight_kg", "rest_time_seconds", "set_timestamp", "set_notes");
+
+    private final LogHistoryExportRepository logHistoryExportRepository;
+
+    /**
+     * Write the history of {@code userId} to {@code out}: as NDJSON one object per routine
+     * session with its workouts, exercises and sets nested, as CSV one row per set with its
+     * exercise, workout and routine session repeated. The stream is flushed, not closed.
+     * <p>
+     * The read-only transaction keeps the database cursor open while rows are written.
+     *
+     * @return number of rows read
+     */
+    @Transactional(readOnly = true)
+    public long export(UUID userId, HistoryFormat format, OutputStream out) throws IOException {
+        long rows;
+        try {
+            rows = switch (format) {
+                case NDJSON -> writeNdjson(userId, out);
+                case CSV -> writeCsv(userId, out);
+            };
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        log.info("Exported {} history rows of user {} as {}", rows, userId, format);
+        return rows;
+    }
+
+    private long writeNdjson(UUID userId, OutputStream out) throws IOException {
+        try (JsonGenerator json = JSON_FACTORY.createGenerator(out, JsonEncoding.UTF8)) {
+            json.configure(JsonGenerator.Feature.AUTO_CLOSE_TARGET, false);
+            json.setRootValueSeparator(null);
+            NdjsonWriter writer = new NdjsonWriter(json);
+            long rows = logHistoryExportRepository.forEachRow(userId, writer::accept);
+            writer.finish();
+            return rows;
+        }
+    }
+
+    private long writeCsv(UUID userId, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writer.write(CSV_HEADER);
+        writer.write('\n');
+        long rows = logHistoryExportRepository.forEachRow(userId, row -> {
+            try {
+                writeCsvRow(writer, row);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        writer.flush();
+        return rows;
+    }
+
+    private static void writeCsvRow(Writer writer, HistoryRow row) throws IOException {
+        Object[] values = {
+                row.logRoutineId(), row.routineId(), row.routineName(), row.routineStart(), row.routineEnd(),
+                row.logWorkoutId(), row.workoutId(), row.workoutName(), row.workoutStart(), row.workoutEnd(),
+                row.logExerciseId(), row.exerciseId(), row.exerciseName(), row.exerciseStart(), row.exerciseEnd(),
+                row.repetitions(), row.completed(), row.exerciseNotes(),
+                row.logSetId(), row.setNumber(), row.reps(), row.weightKg(), row.restTimeSeconds(),
+                row.setTimestamp(), row.setNotes()
+        };
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            if (values[i] != null) {
+                writer.write(csvField(values[i].toString()));
+            }
+        }
+        writer.write('\n');
+    }
+
+    static String csvField(String value) {
+        boolean quote = false;
+        for (int i = 0; i < value.length() && !quote; i++) {
+            char c = value.charAt(i);
+            quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        return quote ? '"' + value.replace("\"", "\"\"") + '"' : value;
+    }
+
+    /**
+     * Turns the flat rows into one nested object per routine session, closing a level when the
+     * next row belongs to another parent
+     */
+    private static final class NdjsonWriter {
+
+        private final JsonGenerator json;
+        private UUID routine;
+        private UUID workout;
+        private UUID exercise;
+
+        NdjsonWriter(JsonGenerator json) {
+            this.json = json;
+        }
+
+        void accept(HistoryRow row) {
+            try {
+                write(row);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        void finish() throws IOException {
+            closeRoutine();
+            json.flush();
+        }
+
+        private void write(HistoryRow row) throws IOException {
+            if (!row.logRoutineId().equals(routine)) {
+                closeRoutine();
+                routine = row.logRoutineId();
+                json.writeStartObject();
+                json.writeStringField("id", routine.toString());
+                json.writeStringField("routineId", row.routineId().toString());
+                json.writeStringField("routineName", row.routineName());
+                writeDateTime("startDatetime", row.routineStart());
+                writeDateTime("endDatetime", row.routineEnd());
+                json.writeArrayFieldStart("workouts");
+            }
+            if (row.logWorkoutId() == null) {
+                return;
+            }
+            if (!row.logWorkoutId().equals(workout)) {
+                closeWorkout();
+                workout = row.logWorkoutId();
+                json.writeStartObject();
+                json.writeStringField("id", workout.toString());
+                json.writeStringField("workoutId", row.workoutId().toString());
+                json.writeStringField("workoutName", row.workoutName());
+                writeDateTime("startDatetime", row.workoutStart());
+                writeDateTime("endDatetime", row.workoutEnd());
+                json.writeArrayFieldStart("exercises");
+            }
+            if (row.logExerciseId() == null) {
+                return;
+            }
+            if (!row.logExerciseId().equals(exercise)) {
+                closeExercise();
+                exercise = row.logExerciseId();
+                json.writeStartObject();
+                json.writeStringField("id", exercise.toString());
+                json.writeStringField("exerciseId", row.exerciseId().toString());
+                json.writeStringField("exerciseName", row.exerciseName());
+                writeDateTime("startDatetime", row.exerciseStart());
+                writeDateTime("endDatetime", row.exerciseEnd());
+                writeNumber("repetitions", row.repetitions());
+                if (row.completed() != null) {
+                    json.writeBooleanField("completed", row.completed());
+                }
+                writeString("notes", row.exerciseNotes());
+                json.writeArrayFieldStart("sets");
+            }
+            if (row.logSetId() == null) {
+                return;
+            }
+            json.writeStartObject();
+            json.writeStringField("id", row.logSetId().toString());
+            writeNumber("setNumber", row.setNumber());
+            writeNumber("reps", row.reps());
+            if (row.weightKg() != null) {
+                json.writeNumberField("weightKg", row.weightKg());
+            }
+            writeNumber("restTimeSeconds", row.restTimeSeconds());
+            writeDateTime("timestamp", row.setTimestamp());
+            writeString("notes", row.setNotes());
+            json.writeEndObject();
+        }
+
+        private void closeRoutine() throws IOException {
+            if (routine == null) {
+                return;
+            }
+            closeWorkout();
+            json.writeEndArray();
+            json.writeEndObject();
+            json.writeRaw('\n');
+            routine = null;
+        }
+
+        private void closeWorkout() throws IOException {
+            if (workout == null) {
+                return;
+            }
+            closeExercise();
+            json.writeEndArray();
+            json.writeEndObject();
+            workout = null;
+        }
+
+        private void closeExercise() throws IOException {
+            if (exercise == null) {
+                return;
+            }
+            json.writeEndArray();
+            json.writeEndObject();
+            exercise = null;
+        }
+
+        private void writeDateTime(String field, LocalDateTime value) throws IOException {
+            writeString(field, value == null ? null : value.toString());
+        }
+
+        private void writeNumber(String field, Integer value) throws IOException {
+            if (value != null) {
+                json.writeNumberField(field, value);
+            }
+        }
+
+        private void writeString(String field, String value) throws IOException {
+            if (value != null) {
+                json.writeStringField(field, value);
+            }
+        }
+    }
+}
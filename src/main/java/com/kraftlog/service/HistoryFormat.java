@@ -0,0 +1,60 @@
+package com.kraftlog.service;
+
+import com.kraftlog.exception.BadRequestException;
+
+import java.util.Locale;
+
+/**
+ * File formats of training history exports and imports
+ */
+public enum HistoryFormat {
+    /**
+     * JSON objects, one per line
+     */
+    NDJSON("application/x-ndjson", "ndjson"),
+    /**
+     * Comma-separated values with a header row
+     */
+    CSV("text/csv", "csv");
+
+    private final String contentType;
+    private final String extension;
+
+    HistoryFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    /**
+     * @throws BadRequestException if the format is not supported
+     */
+    public static HistoryFormat of(String name) {
+        try {
+            return valueOf(name.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Unsupported format: " + name + " (use ndjson or csv)");
+        }
+    }
+
+    /**
+     * The format of a file by its extension; {@code .jsonl} is read as NDJSON
+     *
+     * @throws BadRequestException if the extension is missing or not supported
+     */
+    public static HistoryFormat ofFileName(String fileName) {
+        int dot = fileName == null ? -1 : fileName.lastIndexOf('.');
+        if (dot < 0) {
+            throw new BadRequestException("Cannot tell the format of " + fileName + ", pass format=ndjson or format=csv");
+        }
+        String extension = fileName.substring(dot + 1);
+        return "jsonl".equalsIgnoreCase(extension) ? NDJSON : of(extension);
+    }
+}
@@ -0,0 +1,595 @@
+package com.kraftlog.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kraftlog.config.CacheConfig;
+import com.kraftlog.exception.BadRequestException;
+import com.kraftlog.repository.LogHistoryBulkRepository;
+import com.kraftlog.repository.LogHistoryBulkRepository.HistoryBatch;
+import lombok.Data;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+
+import static com.kraftlog.repository.LogHistoryBulkRepository.normalize;
+
+/**
+ * Imports training history exported from other trackers.
+ * <p>
+ * The input holds one set per CSV row or NDJSON line, with the column names of the CSV export
+ * (unknown columns are ignored), and is read incrementally. Consecutive rows with the same routine
+ * name and start form one routine session, and likewise for workouts and exercises within it, so
+ * rows should be grouped by session. Routines and workouts are matched by name among the user's
+ * own and created when missing; exercises must exist in the catalog.
+ * <p>
+ * Rows are written in chunks of {@code app.import.batch-size} sets, each chunk in its own
+ * transaction as one batched insert per table. Rows that fail validation are reported and
+ * skipped; if a chunk fails to save, each of its rows is reported and the import continues with
+ * the next one.
+ */
+@Service
+@Slf4j
+public class HistoryImportService {
+
+    static final int MAX_NAME_LENGTH = 255;
+    static final int MAX_NOTES_LENGTH = 1000;
+    static final String DEFAULT_ROUTINE_NAME = "Imported history";
+
+    private static final List<String> LIST_CACHES = List.of(
+            CacheConfig.ROUTINES_CACHE, CacheConfig.WORKOUTS_CACHE, CacheConfig.LOG_ROUTINES_CACHE,
+            CacheConfig.LOG_WORKOUTS_CACHE, CacheConfig.LOG_EXERCISES_CACHE, CacheConfig.LOG_SETS_CACHE);
+
+    private final LogHistoryBulkRepository logHistoryBulkRepository;
+    private final ObjectMapper objectMapper;
+    private final CacheManager cacheManager;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${app.import.batch-size:1000}")
+    private int batchSize;
+
+    public HistoryImportService(LogHistoryBulkRepository logHistoryBulkRepository,
+                                ObjectMapper objectMapper,
+                                CacheManager cacheManager,
+                                ApplicationEventPublisher eventPublisher,
+                                PlatformTransactionManager transactionManager) {
+        this.logHistoryBulkRepository = logHistoryBulkRepository;
+        this.objectMapper = objectMapper;
+        this.cacheManager = cacheManager;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Receives failures and progress on the importing thread
+     */
+    public interface ImportListener {
+
+        default void onFailure(ImportFailure failure) {
+        }
+
+        /**
+         * Called after every chunk, with the running result
+         */
+        default void onProgress(ImportResult result) {
+        }
+    }
+
+    /**
+     * Import the history in {@code reader} for {@code userId}
+     *
+     * @return counts of what was imported and skipped
+     * @throws BadRequestException if the CSV header lacks a required column or a quoted field is
+     *                             never closed
+     * @throws IOException if reading fails
+     */
+    public ImportResult importHistory(UUID userId, HistoryFormat format, Reader reader, ImportListener listener)
+            throws IOException {
+        log.info("Starting {} history import for user {}", format, userId);
+        Importer importer = new Importer(userId, listener);
+        try {
+            switch (format) {
+                case CSV -> readCsv(reader, importer);
+                case NDJSON -> readNdjson(reader, importer);
+            }
+        } finally {
+            // Rows read before a malformed part of the input are kept
+            importer.flush();
+            // Chunks commit on their own, so evict for whatever was written even if the import failed
+            if (importer.result.getImportedSetCount() > 0) {
+                evictListCaches();
+            }
+        }
+
+        ImportResult result = importer.result;
+        log.info("History import for user {} completed. Sets: {}, sessions: {}, new routines: {}, failed rows: {}",
+                userId, result.getImportedSetCount(), result.getSessionCount(), result.getCreatedRoutineCount(),
+                result.getFailureCount());
+        return result;
+    }
+
+    private void readCsv(Reader reader, Importer importer) throws IOException {
+        CsvReader csv = new CsvReader(reader);
+        List<String> header = csv.next();
+        if (header == null) {
+            throw new BadRequestException("File is empty");
+        }
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            String column = header.get(i).trim().toLowerCase(Locale.ROOT);
+            // Spreadsheet exports often start with a byte order mark
+            columns.putIfAbsent(i == 0 && column.startsWith("\uFEFF") ? column.substring(1) : column, i);
+        }
+        for (String required : List.of("routine_start", "exercise_name")) {
+            if (!columns.containsKey(required)) {
+                throw new BadRequestException("CSV header lacks the " + required + " column");
+            }
+        }
+
+        List<String> values;
+        while ((values = csv.next()) != null) {
+            List<String> row = values;
+            importer.accept(csv.getLine(), column -> {
+                Integer index = columns.get(column);
+                return index == null || index >= row.size() ? null : row.get(index);
+            });
+        }
+    }
+
+    private void readNdjson(Reader reader, Importer importer) throws IOException {
+        BufferedReader lines = reader instanceof BufferedReader buffered ? buffered : new BufferedReader(reader);
+        String line;
+        int lineNumber = 0;
+        while ((line = lines.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            JsonNode node;
+            try {
+                node = objectMapper.readTree(line);
+            } catch (JsonProcessingException e) {
+                importer.fail(lineNumber, "Invalid JSON: " + e.getOriginalMessage());
+                continue;
+            }
+            if (!node.isObject()) {
+                importer.fail(lineNumber, "Expected a JSON object");
+                continue;
+            }
+            importer.accept(lineNumber, field -> {
+                JsonNode value = node.get(field);
+                return value == null || value.isNull() ? null : value.asText();
+            });
+        }
+    }
+
+    private void evictListCaches() {
+        for (String name : LIST_CACHES) {
+            Cache cache = cacheManager.getCache(name);
+            if (cache != null) {
+                cache.clear();
+            }
+        }
+    }
+
+    /**
+     * Groups rows into sessions, workouts and exercises and stages them in chunks. Holds the
+     * catalog, the user's routines and their workouts by name, looked up once per import.
+     */
+    private class Importer {
+
+        private final UUID userId;
+        private final ImportListener listener;
+        private final ImportResult result = new ImportResult();
+        private final Map<String, UUID> exerciseIds = logHistoryBulkRepository.findExerciseIdsByName();
+        private final Map<String, UUID> routineIds;
+        private final Map<UUID, Map<String, UUID>> workoutIdsByRoutine = new HashMap<>();
+
+        private HistoryBatch batch = new HistoryBatch();
+        // Lines of the staged sets, and routines and workouts created in the staged chunk
+        private final List<Integer> stagedLines = new ArrayList<>();
+        private final List<String> stagedRoutines = new ArrayList<>();
+        private final Map<UUID, List<String>> stagedWorkouts = new HashMap<>();
+
+        private String sessionKey;
+        private UUID routineId;
+        private UUID logRoutineId;
+        private String workoutKey;
+        private UUID logWorkoutId;
+        private String exerciseKey;
+        private UUID logExerciseId;
+        private int setCount;
+
+        Importer(UUID userId, ImportListener listener) {
+            this.userId = userId;
+            this.listener = listener;
+            this.routineIds = logHistoryBulkRepository.findRoutineIdsByName(userId);
+        }
+
+        void accept(int line, Function<String, String> fields) {
+            ImportRow row;
+            try {
+                row = ImportRow.parse(fields, exerciseIds);
+            } catch (IllegalArgumentException e) {
+                fail(line, e.getMessage());
+                return;
+            }
+            result.processedCount++;
+            stage(line, row);
+            if (batch.getLogSetCount() >= batchSize) {
+                flush();
+            }
+        }
+
+        void fail(int line, String reason) {
+            result.processedCount++;
+            result.failureCount++;
+            listener.onFailure(new ImportFailure(line, reason));
+        }
+
+        private void stage(int line, ImportRow row) {
+            String nextSessionKey = normalize(row.routineName()) + '|' + row.routineStart();
+            if (!nextSessionKey.equals(sessionKey)) {
+                sessionKey = nextSessionKey;
+                routineId = resolveRoutine(row.routineName());
+                logRoutineId = UUID.randomUUID();
+                batch.addLogRoutine(logRoutineId, routineId, userId, row.routineStart(), row.routineEnd());
+                workoutKey = null;
+            }
+
+            String nextWorkoutKey = normalize(row.workoutName()) + '|' + row.workoutStart();
+            if (!nextWorkoutKey.equals(workoutKey)) {
+                workoutKey = nextWorkoutKey;
+                logWorkoutId = UUID.randomUUID();
+                batch.addLogWorkout(logWorkoutId, logRoutineId, resolveWorkout(row.workoutName()), userId,
+                        row.workoutStart(), row.workoutEnd());
+                exerciseKey = null;
+            }
+
+            String nextExerciseKey = row.exerciseId().toString() + '|' + row.exerciseStart();
+            if (!nextExerciseKey.equals(exerciseKey)) {
+                exerciseKey = nextExerciseKey;
+                logExerciseId = UUID.randomUUID();
+                batch.addLogExercise(logExerciseId, logWorkoutId, row.exerciseId(), userId, row.exerciseStart(),
+                        row.exerciseEnd(), row.exerciseNotes(), row.repetitions(), row.completed());
+                setCount = 0;
+            }
+
+            setCount++;
+            batch.addLogSet(UUID.randomUUID(), logExerciseId, userId,
+                    row.setNumber() != null ? row.setNumber() : setCount, row.reps(), row.weightKg(),
+                    row.restTimeSeconds(), row.setTimestamp(), row.setNotes());
+            stagedLines.add(line);
+        }
+
+        private UUID resolveRoutine(String name) {
+            return routineIds.computeIfAbsent(normalize(name), key -> {
+                UUID id = UUID.randomUUID();
+                batch.addRoutine(id, userId, name);
+                stagedRoutines.add(key);
+                return id;
+            });
+        }
+
+        private UUID resolveWorkout(String name) {
+            Map<String, UUID> workoutIds = workoutIdsByRoutine.computeIfAbsent(routineId,
+                    logHistoryBulkRepository::findWorkoutIdsByName);
+            return workoutIds.computeIfAbsent(normalize(name), key -> {
+                UUID id = UUID.randomUUID();
+                batch.addWorkout(id, routineId, name, workoutIds.size());
+                stagedWorkouts.computeIfAbsent(routineId, routine -> new ArrayList<>()).add(key);
+                return id;
+            });
+        }
+
+        void flush() {
+            if (batch.getLogSetCount() == 0) {
+                return;
+            }
+            HistoryBatch chunk = batch;
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    logHistoryBulkRepository.insert(chunk);
+                    if (!stagedWorkouts.isEmpty()) {
+                        // Routines that got workouts are served from the routine read model
+                        eventPublisher.publishEvent(RoutineChangedEvent.of(stagedWorkouts.keySet()));
+                    }
+                });
+                result.importedSetCount += chunk.getLogSetCount();
+                result.sessionCount += chunk.getLogRoutineCount();
+                result.createdRoutineCount += chunk.getRoutineCount();
+            } catch (RuntimeException e) {
+                log.warn("Failed to import chunk of {} history rows - {}", stagedLines.size(), e.getMessage());
+                discardStaged();
+                for (Integer line : stagedLines) {
+                    result.failureCount++;
+                    listener.onFailure(new ImportFailure(line, "Could not be saved: " + e.getMessage()));
+                }
+            }
+            batch = new HistoryBatch();
+            stagedLines.clear();
+            stagedRoutines.clear();
+            stagedWorkouts.clear();
+            listener.onProgress(result);
+        }
+
+        /**
+         * Forget what the failed chunk would have created, so later rows open new parents
+         */
+        private void discardStaged() {
+            stagedRoutines.forEach(routineIds::remove);
+            stagedWorkouts.forEach((routine, names) -> names.forEach(workoutIdsByRoutine.get(routine)::remove));
+            sessionKey = null;
+            workoutKey = null;
+            exerciseKey = null;
+        }
+    }
+
+    /**
+     * One validated input row. Missing workout and exercise fields default to those of the level
+     * above; a missing set number to the set's position within its exercise.
+     */
+    record ImportRow(String routineName, LocalDateTime routineStart, LocalDateTime routineEnd,
+                     String workoutName, LocalDateTime workoutStart, LocalDateTime workoutEnd,
+                     UUID exerciseId, LocalDateTime exerciseStart, LocalDateTime exerciseEnd,
+                     String exerciseNotes, Integer repetitions, Boolean completed,
+                     Integer setNumber, Integer reps, Double weightKg, Integer restTimeSeconds,
+                     LocalDateTime setTimestamp, String setNotes) {
+
+        /**
+         * @throws IllegalArgumentException with the reason the row is invalid
+         */
+        static ImportRow parse(Function<String, String> fields, Map<String, UUID> exerciseIds) {
+            String exerciseName = text(fields, "exercise_name", MAX_NAME_LENGTH);
+            if (exerciseName == null) {
+                throw new IllegalArgumentException("exercise_name is required");
+            }
+            UUID exerciseId = exerciseIds.get(normalize(exerciseName));
+            if (exerciseId == null) {
+                throw new IllegalArgumentException("Unknown exercise: " + exerciseName);
+            }
+            LocalDateTime routineStart = dateTime(fields, "routine_start");
+            if (routineStart == null) {
+                throw new IllegalArgumentException("routine_start is required");
+            }
+
+            String routineName = orDefault(text(fields, "routine_name", MAX_NAME_LENGTH), DEFAULT_ROUTINE_NAME);
+            String workoutName = orDefault(text(fields, "workout_name", MAX_NAME_LENGTH), routineName);
+            LocalDateTime workoutStart = orDefault(dateTime(fields, "workout_start"), routineStart);
+            Integer setNumber = integer(fields, "set_number");
+            if (setNumber != null && setNumber < 1) {
+                throw new IllegalArgumentException("set_number must be at least 1");
+            }
+            return new ImportRow(routineName, routineStart, dateTime(fields, "routine_end"),
+                    workoutName, workoutStart, dateTime(fields, "workout_end"),
+                    exerciseId, orDefault(dateTime(fields, "exercise_start"), workoutStart),
+                    dateTime(fields, "exercise_end"), text(fields, "exercise_notes", MAX_NOTES_LENGTH),
+                    nonNegative(integer(fields, "repetitions"), "repetitions"), bool(fields, "completed"),
+                    setNumber, nonNegative(integer(fields, "reps"), "reps"),
+                    nonNegative(decimal(fields, "weight_kg"), "weight_kg"),
+                    nonNegative(integer(fields, "rest_time_seconds"), "rest_time_seconds"),
+                    dateTime(fields, "set_timestamp"), text(fields, "set_notes", MAX_NOTES_LENGTH));
+        }
+
+        private static String text(Function<String, String> fields, String field, int maxLength) {
+            String value = fields.apply(field);
+            if (value == null || value.isBlank()) {
+                return null;
+            }
+            value = value.trim();
+            if (value.length() > maxLength) {
+                throw new IllegalArgumentException(field + " is longer than " + maxLength + " characters");
+            }
+            return value;
+        }
+
+        /**
+         * ISO date-time, with {@code T} or a space between date and time, or an ISO date for the
+         * start of that day
+         */
+        private static LocalDateTime dateTime(Function<String, String> fields, String field) {
+            String value = text(fields, field, 64);
+            if (value == null) {
+                return null;
+            }
+            try {
+                if (value.length() == 10) {
+                    return LocalDate.parse(value).atStartOfDay();
+                }
+                return LocalDateTime.parse(value.length() > 10 && value.charAt(10) == ' '
+                        ? value.substring(0, 10) + 'T' + value.substring(11) : value);
+            } catch (DateTimeParseException e) {
+                throw new IllegalArgumentException(field + " is not an ISO date or date-time: " + value);
+            }
+        }
+
+        private static Integer integer(Function<String, String> fields, String field) {
+            String value = text(fields, field, 32);
+            try {
+                return value == null ? null : Integer.valueOf(value);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException(field + " is not a whole number: " + value);
+            }
+        }
+
+        private static Double decimal(Function<String, String> fields, String field) {
+            String value = text(fields, field, 32);
+            try {
+                Double number = value == null ? null : Double.valueOf(value);
+                if (number != null && !Double.isFinite(number)) {
+                    throw new NumberFormatException();
+                }
+                return number;
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException(field + " is not a number: " + value);
+            }
+        }
+
+        private static Boolean bool(Function<String, String> fields, String field) {
+            String value = text(fields, field, 32);
+            if (value == null) {
+                return null;
+            }
+            return switch (value.toLowerCase(Locale.ROOT)) {
+                case "true", "yes", "1" -> true;
+                case "false", "no", "0" -> false;
+                default -> throw new IllegalArgumentException(field + " is not true or false: " + value);
+            };
+        }
+
+        private static <T extends Number> T nonNegative(T value, String field) {
+            if (value != null && value.doubleValue() < 0) {
+                throw new IllegalArgumentException(field + " must not be negative");
+            }
+            return value;
+        }
+
+        private static <T> T orDefault(T value, T fallback) {
+            return value != null ? value : fallback;
+        }
+    }
+
+    /**
+     * Reads RFC 4180 records one at a time: quoted fields may hold commas, doubled quotes and
+     * line breaks
+     */
+    static class CsvReader {
+
+        private final Reader reader;
+        private int nextLine = 1;
+        private int line;
+        private int pending = -2;
+
+        CsvReader(Reader reader) {
+            this.reader = reader instanceof BufferedReader ? reader : new BufferedReader(reader);
+        }
+
+        /**
+         * @return the line the last record returned by {@link #next()} started on
+         */
+        int getLine() {
+            return line;
+        }
+
+        /**
+         * @return the fields of the next non-empty record, or null at the end of the input
+         */
+        List<String> next() throws IOException {
+            while (true) {
+                List<String> record = new ArrayList<>();
+                StringBuilder field = new StringBuilder();
+                boolean quoted = false;
+                boolean empty = true;
+                line = nextLine;
+                int c = read();
+                if (c == -1) {
+                    return null;
+                }
+                for (; ; c = read()) {
+                    if (quoted) {
+                        if (c == -1) {
+                            throw new BadRequestException("Unterminated quoted field starting on line " + line);
+                        }
+                        if (c == '"') {
+                            int following = read();
+                            if (following == '"') {
+                                field.append('"');
+                            } else {
+                                quoted = false;
+                                pending = following;
+                            }
+                        } else {
+                            if (c == '\n') {
+                                nextLine++;
+                            }
+                            field.append((char) c);
+                        }
+                    } else if (c == '"' && field.isEmpty()) {
+                        quoted = true;
+                        empty = false;
+                    } else if (c == ',') {
+                        record.add(field.toString());
+                        field.setLength(0);
+                        empty = false;
+                    } else if (c == '\n' || c == '\r' || c == -1) {
+                        if (c == '\r') {
+                            int following = read();
+                            if (following != '\n') {
+                                pending = following;
+                            }
+                        }
+                        if (c != -1) {
+                            nextLine++;
+                        }
+                        record.add(field.toString());
+                        if (empty && field.isEmpty()) {
+                            if (c == -1) {
+                                return null;
+                            }
+                            break;
+                        }
+                        return record;
+                    } else {
+                        field.append((char) c);
+                        empty = false;
+                    }
+                }
+            }
+        }
+
+        private int read() throws IOException {
+            if (pending != -2) {
+                int c = pending;
+                pending = -2;
+                return c;
+            }
+            return reader.read();
+        }
+    }
+
+    @Data
+    public static class ImportResult {
+
+        /** Rows read, valid or not */
+        private int processedCount;
+
+        private int importedSetCount;
+
+        /** Routine sessions created */
+        private int sessionCount;
+
+        /** Routines created because the user had none by that name */
+        private int createdRoutineCount;
+
+        /** Rows skipped because they were invalid or their chunk failed to save */
+        private int failureCount;
+    }
+
+    /**
+     * A skipped row and why
+     *
+     * @param line line of the input the row starts on
+     */
+    public record ImportFailure(int line, String reason) {
+    }
+}
@@ -3,12 +3,15 @@ package com.kraftlog.service;
 import com.kraftlog.config.CacheConfig;
 import com.kraftlog.dto.LogExerciseCreateRequest;
 import com.kraftlog.dto.LogExerciseResponse;
+import com.kraftlog.dto.LogSetResponse;
 import com.kraftlog.entity.Exercise;
 import com.kraftlog.entity.LogExercise;
 import com.kraftlog.entity.LogWorkout;
+import com.kraftlog.entity.SyncTombstone;
 import com.kraftlog.exception.ResourceNotFoundException;
 import com.kraftlog.repository.ExerciseRepository;
 import com.kraftlog.repository.LogExerciseRepository;
+import com.kraftlog.repository.LogSetRepository;
 import com.kraftlog.repository.LogWorkoutRepository;
 import lombok.RequiredArgsConstructor;
 import org.modelmapper.ModelMapper;
@@ -18,7 +21,10 @@ import org.springframework.cache.annotation.Caching;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -28,8 +34,10 @@ import java.util.stream.Collectors;
 public class LogExerciseService {
 
     private final LogExerciseRepository logExerciseRepository;
+    private final SyncTombstoneService syncTombstoneService;
     private final LogWorkoutRepository logWorkoutRepository;
     private final ExerciseRepository exerciseRepository;
+    private final LogSetRepository logSetRepository;
     private final ModelMapper modelMapper;
 
     @Caching(evict = {
@@ -44,6 +52,7 @@ public class LogExerciseService {
 
         LogExercise logExercise = LogExercise.builder()
                 .logWorkout(logWorkout)
+                .userId(logWorkout.getUserId())
                 .exercise(exercise)
                 .startDatetime(request.getStartDatetime())
                 .endDatetime(request.getEndDatetime())
@@ -64,10 +73,10 @@ public class LogExerciseService {
         return mapToResponse(logExercise);
     }
 
-    @Cacheable(value = CacheConfig.LOG_EXERCISES_CACHE)
+    @Cacheable(value = CacheConfig.LOG_EXERCISES_CACHE, key = "'user-' + #userId")
     @Transactional(readOnly = true)
-    public List<LogExerciseResponse> getAllLogExercises() {
-        return logExerciseRepository.findAll().stream()
+    public List<LogExerciseResponse> getLogExercisesByUserId(UUID userId) {
+        return logExerciseRepository.findByUserIdOrderByStartDatetimeDesc(userId).stream()
                 .map(this::mapToResponse)
                 .collect(Collectors.toList());
     }
@@ -78,9 +87,41 @@ public class LogExerciseService {
         if (!logWorkoutRepository.existsById(logWorkoutId)) {
             throw new ResourceNotFoundException("LogWorkout", "id", logWorkoutId);
         }
-        return logExerciseRepository.findByLogWorkoutId(logWorkoutId).stream()
-                .map(this::mapToResponse)
-                .collect(Collectors.toList());
+        return getLogExercisesByLogWorkoutIds(List.of(logWorkoutId))
+                .getOrDefault(logWorkoutId, new ArrayList<>());
+    }
+
+    /**
+     * Log exercises with their sets, grouped by log workout id. Reads only the response columns,
+     * with one query for the exercises and one for the sets, however many log workouts are given.
+     */
+    @Transactional(readOnly = true)
+    public Map<UUID, List<LogExerciseResponse>> getLogExercisesByLogWorkoutIds(Collection<UUID> logWorkoutIds) {
+        if (logWorkoutIds.isEmpty()) {
+            return Map.of();
+        }
+        List<LogExerciseRepository.LogExerciseRow> rows = logExerciseRepository.findRowsByLogWorkoutIds(logWorkoutIds);
+        Map<UUID, List<LogSetResponse>> setsByLogExerciseId = rows.isEmpty() ? Map.of()
+                : logSetRepository.findResponsesByLogExerciseIds(rows.stream()
+                        .map(LogExerciseRepository.LogExerciseRow::getId)
+                        .collect(Collectors.toList())).stream()
+                .collect(Collectors.groupingBy(LogSetResponse::getLogExerciseId));
+
+        return rows.stream()
+                .map(row -> LogExerciseResponse.builder()
+                        .id(row.getId())
+                        .logWorkoutId(row.getLogWorkoutId())
+                        .exerciseId(row.getExerciseId())
+                        .exerciseName(row.getExerciseName())
+                        .startDatetime(row.getStartDatetime())
+                        .endDatetime(row.getEndDatetime())
+                        .notes(row.getNotes())
+                        .repetitions(row.getRepetitions())
+                        .completed(row.getCompleted())
+                        .updatedAt(row.getUpdatedAt())
+                        .logSets(setsByLogExerciseId.getOrDefault(row.getId(), new ArrayList<>()))
+                        .build())
+                .collect(Collectors.groupingBy(LogExerciseResponse::getLogWorkoutId));
     }
 
     @Caching(evict = {
@@ -119,6 +160,7 @@ public class LogExerciseService {
         LogExercise logExercise = logExerciseRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("LogExercise", "id", id));
         logExerciseRepository.delete(logExercise);
+        syncTombstoneService.record(SyncTombstone.EntityType.LOG_EXERCISE, id, logExercise.getUserId());
     }
 
     private LogExerciseResponse mapToResponse(LogExercise logExercise) {
@@ -1,19 +1,24 @@
 package com.kraftlog.service;
 
+import com.kraftlog.dto.LogExerciseResponse;
 import com.kraftlog.dto.LogRoutineCreateRequest;
 import com.kraftlog.dto.LogRoutineResponse;
 import com.kraftlog.dto.LogWorkoutResponse;
 import com.kraftlog.entity.LogRoutine;
 import com.kraftlog.entity.Routine;
+import com.kraftlog.entity.SyncTombstone;
 import com.kraftlog.exception.ResourceNotFoundException;
 import com.kraftlog.repository.LogRoutineRepository;
+import com.kraftlog.repository.LogWorkoutRepository;
 import com.kraftlog.repository.RoutineRepository;
 import lombok.RequiredArgsConstructor;
 import org.modelmapper.ModelMapper;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -23,7 +28,10 @@ import java.util.stream.Collectors;
 public class LogRoutineService {
 
     private final LogRoutineRepository logRoutineRepository;
+    private final SyncTombstoneService syncTombstoneService;
     private final RoutineRepository routineRepository;
+    private final LogWorkoutRepository logWorkoutRepository;
+    private final LogExerciseService logExerciseService;
     private final ModelMapper modelMapper;
 
     public LogRoutineResponse createLogRoutine(LogRoutineCreateRequest request) {
@@ -32,6 +40,7 @@ public class LogRoutineService {
 
         LogRoutine logRoutine = LogRoutine.builder()
                 .routine(routine)
+                .userId(routine.getUser().getId())
                 .startDatetime(request.getStartDatetime())
                 .endDatetime(request.getEndDatetime())
                 .build();
@@ -47,17 +56,39 @@ public class LogRoutineService {
         return mapToResponse(logRoutine);
     }
 
-    @Transactional(readOnly = true)
-    public List<LogRoutineResponse> getAllLogRoutines() {
-        return logRoutineRepository.findAll().stream()
-                .map(this::mapToResponse)
-                .collect(Collectors.toList());
-    }
-
     @Transactional(readOnly = true)
     public List<LogRoutineResponse> getLogRoutinesByUserId(UUID userId) {
-        return logRoutineRepository.findByRoutine_UserIdOrderByStartDatetimeDesc(userId).stream()
-                .map(this::mapToResponse)
+        // Flat projections per level instead of walking the entity graph routine by routine
+        List<LogRoutineRepository.LogRoutineRow> rows = logRoutineRepository.findRowsByUserId(userId);
+        if (rows.isEmpty()) {
+            return new ArrayList<>();
+        }
+        List<LogWorkoutRepository.LogWorkoutRow> workoutRows = logWorkoutRepository.findRowsByLogRoutineIds(
+                rows.stream().map(LogRoutineRepository.LogRoutineRow::getId).collect(Collectors.toList()));
+        Map<UUID, List<LogExerciseResponse>> exercisesByLogWorkoutId = logExerciseService.getLogExercisesByLogWorkoutIds(
+                workoutRows.stream().map(LogWorkoutRepository.LogWorkoutRow::getId).collect(Collectors.toList()));
+
+        Map<UUID, List<LogWorkoutResponse>> workoutsByLogRoutineId = workoutRows.stream()
+                .map(row -> LogWorkoutResponse.builder()
+                        .id(row.getId())
+                        .logRoutineId(row.getLogRoutineId())
+                        .workoutId(row.getWorkoutId())
+                        .startDatetime(row.getStartDatetime())
+                        .endDatetime(row.getEndDatetime())
+                        .updatedAt(row.getUpdatedAt())
+                        .logExercises(exercisesByLogWorkoutId.getOrDefault(row.getId(), new ArrayList<>()))
+                        .build())
+                .collect(Collectors.groupingBy(LogWorkoutResponse::getLogRoutineId));
+
+        return rows.stream()
+                .map(row -> LogRoutineResponse.builder()
+                        .id(row.getId())
+                        .routineId(row.getRoutineId())
+                        .startDatetime(row.getStartDatetime())
+                        .endDatetime(row.getEndDatetime())
+                        .updatedAt(row.getUpdatedAt())
+                        .logWorkouts(workoutsByLogRoutineId.getOrDefault(row.getId(), new ArrayList<>()))
+                        .build())
                 .collect(Collectors.toList());
     }
 
@@ -95,6 +126,7 @@ public class LogRoutineService {
         LogRoutine logRoutine = logRoutineRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("LogRoutine", "id", id));
         logRoutineRepository.delete(logRoutine);
+        syncTombstoneService.record(SyncTombstone.EntityType.LOG_ROUTINE, id, logRoutine.getUserId());
     }
 
     private LogRoutineResponse mapToResponse(LogRoutine logRoutine) {
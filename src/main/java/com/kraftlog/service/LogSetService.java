@@ -4,6 +4,7 @@ import com.kraftlog.dto.LogSetCreateRequest;
 import com.kraftlog.dto.LogSetResponse;
 import com.kraftlog.entity.LogExercise;
 import com.kraftlog.entity.LogSet;
+import com.kraftlog.entity.SyncTombstone;
 import com.kraftlog.exception.ResourceNotFoundException;
 import com.kraftlog.repository.LogExerciseRepository;
 import com.kraftlog.repository.LogSetRepository;
@@ -22,6 +23,7 @@ import java.util.stream.Collectors;
 public class LogSetService {
 
     private final LogSetRepository logSetRepository;
+    private final SyncTombstoneService syncTombstoneService;
     private final LogExerciseRepository logExerciseRepository;
     private final ModelMapper modelMapper;
 
@@ -31,6 +33,7 @@ public class LogSetService {
 
         LogSet logSet = LogSet.builder()
                 .logExercise(logExercise)
+                .userId(logExercise.getUserId())
                 .setNumber(request.getSetNumber())
                 .reps(request.getReps())
                 .weightKg(request.getWeightKg())
@@ -51,10 +54,8 @@ public class LogSetService {
     }
 
     @Transactional(readOnly = true)
-    public List<LogSetResponse> getAllLogSets() {
-        return logSetRepository.findAll().stream()
-                .map(this::mapToResponse)
-                .collect(Collectors.toList());
+    public List<LogSetResponse> getLogSetsByUserId(UUID userId) {
+        return logSetRepository.findResponsesByUserId(userId);
     }
 
     @Transactional(readOnly = true)
@@ -98,6 +99,7 @@ public class LogSetService {
         LogSet logSet = logSetRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("LogSet", "id", id));
         logSetRepository.delete(logSet);
+        syncTombstoneService.record(SyncTombstone.EntityType.LOG_SET, id, logSet.getUserId());
     }
 
     private LogSetResponse mapToResponse(LogSet logSet) {
@@ -6,6 +6,7 @@ import com.kraftlog.dto.LogWorkoutCreateRequest;
 import com.kraftlog.dto.LogWorkoutResponse;
 import com.kraftlog.entity.LogRoutine;
 import com.kraftlog.entity.LogWorkout;
+import com.kraftlog.entity.SyncTombstone;
 import com.kraftlog.entity.Workout;
 import com.kraftlog.exception.ResourceNotFoundException;
 import com.kraftlog.repository.LogRoutineRepository;
@@ -30,6 +31,7 @@ import java.util.stream.Collectors;
 public class LogWorkoutService {
 
     private final LogWorkoutRepository logWorkoutRepository;
+    private final SyncTombstoneService syncTombstoneService;
     private final LogRoutineRepository logRoutineRepository;
     private final WorkoutRepository workoutRepository;
     private final ModelMapper modelMapper;
@@ -46,6 +48,7 @@ public class LogWorkoutService {
 
         LogWorkout logWorkout = LogWorkout.builder()
                 .logRoutine(logRoutine)
+                .userId(logRoutine.getUserId())
                 .workout(workout)
                 .startDatetime(request.getStartDatetime())
                 .endDatetime(request.getEndDatetime())
@@ -71,10 +74,10 @@ public class LogWorkoutService {
         return mapToResponse(logWorkout);
     }
 
-    @Cacheable(value = CacheConfig.LOG_WORKOUTS_CACHE)
+    @Cacheable(value = CacheConfig.LOG_WORKOUTS_CACHE, key = "'user-' + #userId")
     @Transactional(readOnly = true)
-    public List<LogWorkoutResponse> getAllLogWorkouts() {
-        List<LogWorkout> logWorkouts = logWorkoutRepository.findAll();
+    public List<LogWorkoutResponse> getLogWorkoutsByUserId(UUID userId) {
+        List<LogWorkout> logWorkouts = logWorkoutRepository.findByUserIdOrderByStartDatetimeDesc(userId);
         // Initialize lazy collections
         logWorkouts.forEach(lw -> {
             lw.getLogExercises().size();
@@ -161,6 +164,7 @@ public class LogWorkoutService {
         LogWorkout logWorkout = logWorkoutRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("LogWorkout", "id", id));
         logWorkoutRepository.delete(logWorkout);
+        syncTombstoneService.record(SyncTombstone.EntityType.LOG_WORKOUT, id, logWorkout.getUserId());
     }
 
     private LogWorkoutResponse mapToResponse(LogWorkout logWorkout) {
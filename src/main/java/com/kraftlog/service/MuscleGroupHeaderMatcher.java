@@ -0,0 +1,131 @@
+package com.kraftlog.service;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+
+/**
+ * Case-insensitive multi-pattern matcher for muscle group headers (Aho–Corasick).
+ * <p>
+ * All configured headers are compiled once into a deterministic automaton, so a line is scanned
+ * a single time regardless of how many headers are configured, with no upper-cased copy of the
+ * line and no per-header search. Instances are immutable and safe to share between threads.
+ */
+final class MuscleGroupHeaderMatcher {
+
+    private static final int LATIN_1_SIZE = 256;
+
+    private final Set<String> headers;
+    private final int[] latin1Symbols = new int[LATIN_1_SIZE];
+    private final Map<Character, Integer> symbols = new HashMap<>();
+    private final int[][] transitions;
+    private final String[] matches;
+
+    private MuscleGroupHeaderMatcher(Set<String> headers) {
+        this.headers = Set.copyOf(headers);
+        Arrays.fill(latin1Symbols, -1);
+
+        // Trie over upper-cased headers; states are indexes into the lists
+        List<int[]> trie = new ArrayList<>();
+        List<String> output = new ArrayList<>();
+        List<String> sorted = this.headers.stream().sorted().toList();
+        sorted.forEach(header -> header.toUpperCase().chars().forEach(c -> symbol((char) c, true)));
+        int alphabetSize = symbols.size();
+        addState(trie, output, alphabetSize);
+
+        for (String header : sorted) {
+            int state = 0;
+            for (char c : header.toUpperCase().toCharArray()) {
+                int symbol = symbol(c, false);
+                if (trie.get(state)[symbol] < 0) {
+                    trie.get(state)[symbol] = addState(trie, output, alphabetSize);
+                }
+                state = trie.get(state)[symbol];
+            }
+            if (output.get(state) == null) {
+                output.set(state, header);
+            }
+        }
+
+        // Complete the automaton with failure links so matching never backtracks
+        transitions = trie.toArray(new int[0][]);
+        matches = output.toArray(new String[0]);
+        int[] failure = new int[transitions.length];
+        Queue<Integer> queue = new ArrayDeque<>();
+        for (int symbol = 0; symbol < alphabetSize; symbol++) {
+            int child = transitions[0][symbol];
+            if (child < 0) {
+                transitions[0][symbol] = 0;
+            } else {
+                queue.add(child);
+            }
+        }
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            if (matches[state] == null) {
+                matches[state] = matches[failure[state]];
+            }
+            for (int symbol = 0; symbol < alphabetSize; symbol++) {
+                int child = transitions[state][symbol];
+                if (child < 0) {
+                    transitions[state][symbol] = transitions[failure[state]][symbol];
+                } else {
+                    failure[child] = transitions[failure[state]][symbol];
+                    queue.add(child);
+                }
+            }
+        }
+    }
+
+    static MuscleGroupHeaderMatcher of(Set<String> headers) {
+        return new MuscleGroupHeaderMatcher(headers);
+    }
+
+    Set<String> headers() {
+        return headers;
+    }
+
+    /**
+     * Find the first configured header contained in the line, ignoring case
+     *
+     * @param line the line to scan
+     * @return the header as configured, or null if the line contains none
+     */
+    String find(CharSequence line) {
+        int state = 0;
+        for (int i = 0, length = line.length(); i < length; i++) {
+            char c = Character.toUpperCase(line.charAt(i));
+            int symbol = c < LATIN_1_SIZE ? latin1Symbols[c] : symbols.getOrDefault(c, -1);
+            state = symbol < 0 ? 0 : transitions[state][symbol];
+            if (matches[state] != null) {
+                return matches[state];
+            }
+        }
+        return null;
+    }
+
+    private int symbol(char c, boolean register) {
+        Integer symbol = symbols.get(c);
+        if (symbol == null && register) {
+            symbol = symbols.size();
+            symbols.put(c, symbol);
+            if (c < LATIN_1_SIZE) {
+                latin1Symbols[c] = symbol;
+            }
+        }
+        return symbol == null ? -1 : symbol;
+    }
+
+    private static int addState(List<int[]> trie, List<String> output, int alphabetSize) {
+        int[] row = new int[alphabetSize];
+        Arrays.fill(row, -1);
+        trie.add(row);
+        output.add(null);
+        return trie.size() - 1;
+    }
+}
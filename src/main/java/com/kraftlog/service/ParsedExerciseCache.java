@@ -0,0 +1,87 @@
+package com.kraftlog.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.kraftlog.dto.ParsedExerciseData;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Parse results of previously imported PDFs, keyed by the SHA-256 of the file content.
+ * <p>
+ * A re-upload of the same catalog is replayed from memory instead of being parsed again. Entries
+ * remember the muscle group headers they were parsed with, so a changed mapping parses the file
+ * again. The cache is bounded by the total number of exercises it holds.
+ */
+@Component
+public class ParsedExerciseCache {
+
+    private final Cache<String, Entry> entries;
+    private final long maxExercises;
+
+    public ParsedExerciseCache(@Value("${exercise.import.parse-cache.max-exercises:100000}") long maxExercises) {
+        this.maxExercises = maxExercises;
+        this.entries = Caffeine.newBuilder()
+                .maximumWeight(maxExercises)
+                .weigher((String hash, Entry entry) -> Math.max(entry.exercises().size(), 1))
+                .build();
+    }
+
+    /**
+     * @return the hex-encoded SHA-256 of the file content
+     */
+    public static String contentHash(File file) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+        try (InputStream in = Files.newInputStream(file.toPath())) {
+            byte[] buffer = new byte[64 * 1024];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    /**
+     * @param headers the muscle group headers the caller would parse with
+     * @return the exercises parsed from the file with this hash, or null if not cached for these headers
+     */
+    public List<ParsedExerciseData> get(String contentHash, Set<String> headers) {
+        Entry entry = entries.getIfPresent(contentHash);
+        return entry == null || !entry.headers().equals(headers) ? null : entry.exercises();
+    }
+
+    /**
+     * @return whether a file with this many exercises can be cached at all; larger ones would be
+     * evicted as soon as they are put
+     */
+    public boolean fits(long exerciseCount) {
+        return exerciseCount <= maxExercises;
+    }
+
+    public void put(String contentHash, Set<String> headers, List<ParsedExerciseData> exercises) {
+        entries.put(contentHash, new Entry(Set.copyOf(headers), List.copyOf(exercises)));
+    }
+
+    public void clear() {
+        entries.invalidateAll();
+    }
+
+    private record Entry(Set<String> headers, List<ParsedExerciseData> exercises) {
+    }
+}
@@ -8,6 +8,7 @@ import com.kraftlog.repository.PasswordResetTokenRepository;
 import com.kraftlog.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -24,9 +25,13 @@ public class PasswordRecoveryService {
     private final PasswordResetTokenRepository passwordResetTokenRepository;
     private final IEmailService emailService;
     private final PasswordEncoder passwordEncoder;
+    private final RefreshTokenService refreshTokenService;
 
     private static final int TOKEN_EXPIRATION_HOURS = 24;
 
+    @Value("${app.password-reset.cleanup.batch-size:1000}")
+    private int cleanupBatchSize;
+
     @Transactional
     public void initiatePasswordRecovery(String email) {
         User user = userRepository.findByEmail(email)
@@ -48,7 +53,7 @@ public class PasswordRecoveryService {
 
         passwordResetTokenRepository.save(resetToken);
 
-        // Send email
+        // Queue email, delivered by the outbox dispatcher after commit
         emailService.sendPasswordResetEmail(user.getEmail(), token);
 
         log.info("Password recovery initiated for user: {}", email);
@@ -76,12 +81,27 @@ public class PasswordRecoveryService {
         resetToken.setUsed(true);
         passwordResetTokenRepository.save(resetToken);
 
+        // Sign out every session that may have been using the old password
+        refreshTokenService.revokeAll(user.getId());
+
         log.info("Password reset successfully for user: {}", user.getEmail());
     }
 
-    @Transactional
-    public void cleanupExpiredTokens() {
-        passwordResetTokenRepository.deleteByExpiryDateBefore(LocalDateTime.now());
-        log.info("Expired password reset tokens cleaned up");
+    /**
+     * Delete expired tokens in bounded batches, each committed separately
+     *
+     * @return number of tokens deleted
+     */
+    public int cleanupExpiredTokens() {
+        LocalDateTime cutoff = LocalDateTime.now();
+        int total = 0;
+        int deleted;
+        do {
+            deleted = passwordResetTokenRepository.deleteExpiredBatch(cutoff, cleanupBatchSize);
+            total += deleted;
+        } while (deleted == cleanupBatchSize);
+
+        log.info("Cleaned up {} expired password reset tokens", total);
+        return total;
     }
 }
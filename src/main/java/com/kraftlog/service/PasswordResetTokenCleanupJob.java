@@ -0,0 +1,40 @@
+package com.kraftlog.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Periodically purges expired password reset tokens and records how many rows were removed
+ */
+@Component
+@Slf4j
+public class PasswordResetTokenCleanupJob {
+
+    private final PasswordRecoveryService passwordRecoveryService;
+    private final Counter purgedCounter;
+    private final Timer cleanupTimer;
+
+    public PasswordResetTokenCleanupJob(PasswordRecoveryService passwordRecoveryService, MeterRegistry meterRegistry) {
+        this.passwordRecoveryService = passwordRecoveryService;
+        this.purgedCounter = Counter.builder("kraftlog.password_reset_tokens.purged")
+                .description("Expired password reset tokens deleted by the cleanup job")
+                .register(meterRegistry);
+        this.cleanupTimer = Timer.builder("kraftlog.password_reset_tokens.cleanup")
+                .description("Duration of the expired password reset token cleanup")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(cron = "${app.password-reset.cleanup.cron:0 15 * * * *}")
+    public void purgeExpiredTokens() {
+        try {
+            int purged = cleanupTimer.record(passwordRecoveryService::cleanupExpiredTokens);
+            purgedCounter.increment(purged);
+        } catch (RuntimeException e) {
+            log.error("Expired password reset token cleanup failed", e);
+        }
+    }
+}
@@ -5,15 +5,23 @@ import com.kraftlog.dto.ParsedExerciseData;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.io.MemoryUsageSetting;
 import org.apache.pdfbox.pdmodel.PDDocument;
 import org.apache.pdfbox.text.PDFTextStripper;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.CharBuffer;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Consumer;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -28,10 +36,34 @@ public class PdfExerciseParserService {
 
     private final ExerciseImportProperties importProperties;
 
+    // In-memory budget for PDFBox scratch buffers before spilling to temp files
+    @Value("${exercise.import.pdf.max-main-memory-mb:16}")
+    private long maxMainMemoryMb;
+
+    // Directory for PDFBox temp files (defaults to java.io.tmpdir)
+    @Value("${exercise.import.pdf.temp-dir:}")
+    private String tempDir;
+
+    // Number of fork-join workers extracting page ranges; 1 parses sequentially
+    @Value("${exercise.import.pdf.parallelism:1}")
+    private int parallelism;
+
+    // Documents shorter than this are always parsed sequentially
+    @Value("${exercise.import.pdf.parallel-min-pages:32}")
+    private int parallelMinPages;
+
     // Pattern to match YouTube URLs (both youtube.com and youtu.be formats)
     private static final Pattern URL_PATTERN = Pattern.compile(
             "https://(?:(?:www\\.)?youtube\\.com/watch\\?v=|youtu\\.be/)[A-Za-z0-9_-]+");
 
+    // Exercise name cleanup, compiled once instead of on every String.replaceAll call
+    private static final Pattern WHITESPACE_PATTERN = Pattern.compile("\\s+");
+    private static final Pattern LEADING_NUMBERS_PATTERN = Pattern.compile("^[\\d.\\-]+\\s*");
+    private static final Pattern TABLE_ARTIFACTS_PATTERN = Pattern.compile("[|\\t]+");
+
+    // Rebuilt when the configured headers change
+    private volatile MuscleGroupHeaderMatcher headerMatcher;
+
     /**
      * Parse exercises from a PDF file
      * 
@@ -40,136 +72,362 @@ public class PdfExerciseParserService {
      * @throws IOException if file reading fails
      */
     public List<ParsedExerciseData> parseExercisesFromPdf(File pdfFile) throws IOException {
-        log.info("Parsing exercises from PDF: {}", pdfFile.getName());
-        
         List<ParsedExerciseData> exercises = new ArrayList<>();
-        
-        try (PDDocument document = Loader.loadPDF(pdfFile)) {
+        parseExercisesFromPdf(pdfFile, exercises::add);
+        return exercises;
+    }
+
+    /**
+     * Parse exercises from a PDF file, handing each one to the consumer as soon as its line is read.
+     * Text is extracted page by page into a line scanner, so neither the document text nor the
+     * parsed list is ever held in memory as a whole.
+     *
+     * @param pdfFile  the PDF file to parse
+     * @param consumer receives every parsed exercise in document order
+     * @return number of exercises parsed
+     * @throws IOException if file reading fails
+     */
+    public int parseExercisesFromPdf(File pdfFile, Consumer<ParsedExerciseData> consumer) throws IOException {
+        log.info("Parsing exercises from PDF: {}", pdfFile.getName());
+
+        int count;
+        try (PDDocument document = loadDocument(pdfFile)) {
+            int pages = document.getNumberOfPages();
+            if (parallelism > 1 && pages >= parallelMinPages) {
+                count = parseInParallel(pdfFile, pages, consumer);
+            } else {
+                ExerciseLineParser parser = new ExerciseLineParser(consumer, null);
+                extractLines(document, 1, pages, parser);
+                count = parser.getCount();
+            }
+        }
+
+        log.info("Successfully parsed {} exercises from PDF", count);
+        return count;
+    }
+
+    /**
+     * Parse exercises from already extracted text
+     *
+     * @param text     catalog text, one table row per line
+     * @param consumer receives every parsed exercise in document order
+     * @return number of exercises parsed
+     */
+    int parseExercisesFromText(String text, Consumer<ParsedExerciseData> consumer) {
+        ExerciseLineParser parser = new ExerciseLineParser(consumer, null);
+        try (LineWriter writer = new LineWriter(parser::accept)) {
+            writer.write(text, 0, text.length());
+        }
+        return parser.getCount();
+    }
+
+    /**
+     * Split the page range across a fork-join pool. Every worker opens its own {@link PDDocument}
+     * and stripper, since neither is thread-safe, and exercises found before the first header of
+     * a range are resolved against the last header of the preceding range when results are joined.
+     * Chunk results are held until the join completes, trading the sequential mode's constant
+     * memory for wall-clock time.
+     */
+    private int parseInParallel(File pdfFile, int pages, Consumer<ParsedExerciseData> consumer) throws IOException {
+        int pagesPerWorker = Math.ceilDiv(pages, parallelism);
+        log.debug("Parsing {} pages with {} workers ({} pages each)", pages, parallelism, pagesPerWorker);
+
+        PageRangeResult result;
+        try (ForkJoinPool pool = new ForkJoinPool(parallelism)) {
+            result = pool.invoke(new PageRangeTask(pdfFile, 1, pages, pagesPerWorker));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+
+        // Exercises before the document's first header have no muscle group, as in sequential parsing
+        result.exercises().forEach(consumer);
+        return result.exercises().size();
+    }
+
+    private void extractLines(PDDocument document, int startPage, int endPage, ExerciseLineParser parser)
+            throws IOException {
+        try (LineWriter writer = new LineWriter(parser::accept)) {
             PDFTextStripper stripper = new PDFTextStripper();
-            String text = stripper.getText(document);
-            
-            exercises = parseExercisesFromText(text);
-            
-            log.info("Successfully parsed {} exercises from PDF", exercises.size());
+            stripper.setLineSeparator("\n");
+            stripper.setStartPage(startPage);
+            stripper.setEndPage(endPage);
+            stripper.writeText(document, writer);
         }
-        
-        return exercises;
+    }
+
+    private PDDocument loadDocument(File pdfFile) throws IOException {
+        return Loader.loadPDF(pdfFile, memoryUsageSetting().streamCache);
     }
 
     /**
-     * Parse exercises from extracted PDF text
+     * Exercises parsed from a page range: those seen before the range's first header still need
+     * the muscle group that was current at the end of the preceding range
+     */
+    private record PageRangeResult(List<ParsedExerciseData> leading,
+                                   List<ParsedExerciseData> exercises,
+                                   String lastHeader) {
+
+        PageRangeResult followedBy(PageRangeResult next) {
+            if (lastHeader != null) {
+                next.leading().forEach(exercise -> exercise.setMuscleGroupPortuguese(lastHeader));
+                exercises.addAll(next.leading());
+            } else {
+                leading.addAll(next.leading());
+            }
+            exercises.addAll(next.exercises());
+            return new PageRangeResult(leading, exercises,
+                    next.lastHeader() != null ? next.lastHeader() : lastHeader);
+        }
+    }
+
+    private class PageRangeTask extends RecursiveTask<PageRangeResult> {
+
+        private final File pdfFile;
+        private final int startPage;
+        private final int endPage;
+        private final int pagesPerWorker;
+
+        PageRangeTask(File pdfFile, int startPage, int endPage, int pagesPerWorker) {
+            this.pdfFile = pdfFile;
+            this.startPage = startPage;
+            this.endPage = endPage;
+            this.pagesPerWorker = pagesPerWorker;
+        }
+
+        @Override
+        protected PageRangeResult compute() {
+            int pages = endPage - startPage + 1;
+            if (pages <= pagesPerWorker) {
+                return extractRange();
+            }
+
+            int workers = Math.ceilDiv(pages, pagesPerWorker);
+            int split = startPage + (workers / 2) * pagesPerWorker;
+            PageRangeTask left = new PageRangeTask(pdfFile, startPage, split - 1, pagesPerWorker);
+            PageRangeTask right = new PageRangeTask(pdfFile, split, endPage, pagesPerWorker);
+            right.fork();
+            PageRangeResult leftResult = left.compute();
+            return leftResult.followedBy(right.join());
+        }
+
+        private PageRangeResult extractRange() {
+            List<ParsedExerciseData> leading = new ArrayList<>();
+            List<ParsedExerciseData> exercises = new ArrayList<>();
+            ExerciseLineParser parser = new ExerciseLineParser(exercises::add, leading::add);
+
+            try (PDDocument document = loadDocument(pdfFile)) {
+                extractLines(document, startPage, endPage, parser);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return new PageRangeResult(leading, exercises, parser.getCurrentMuscleGroup());
+        }
+    }
+
+    /**
+     * PDFBox scratch storage: keep up to the configured amount in memory and spill the rest to temp files
+     */
+    private MemoryUsageSetting memoryUsageSetting() {
+        MemoryUsageSetting setting = MemoryUsageSetting.setupMixed(maxMainMemoryMb * 1024L * 1024L);
+        if (tempDir != null && !tempDir.isBlank()) {
+            setting.setTempDir(new File(tempDir));
+        }
+        return setting;
+    }
+
+    /**
+     * Stateful parser fed one line at a time. The URL matcher is reset per line rather than
+     * recreated, so a parser instance must stay on one thread.
      * Expected format:
      * - Muscle group header (e.g., "PEITO")
      * - Table with exercise names and video URLs
-     * 
-     * @param text the extracted PDF text
-     * @return list of parsed exercise data
      */
-    private List<ParsedExerciseData> parseExercisesFromText(String text) {
-        List<ParsedExerciseData> exercises = new ArrayList<>();
-        
-        String[] lines = text.split("\n");
-        String currentMuscleGroup = null;
-        
-        for (int i = 0; i < lines.length; i++) {
-            String line = lines[i].trim();
-            
+    private class ExerciseLineParser {
+
+        private final Consumer<ParsedExerciseData> consumer;
+        private final Consumer<ParsedExerciseData> leadingConsumer;
+        private final MuscleGroupHeaderMatcher headers;
+        private final Matcher urlMatcher = URL_PATTERN.matcher("");
+        private String currentMuscleGroup;
+        private int count;
+
+        /**
+         * @param consumer        receives exercises under a known muscle group
+         * @param leadingConsumer receives exercises seen before any header, or null to drop them
+         */
+        ExerciseLineParser(Consumer<ParsedExerciseData> consumer, Consumer<ParsedExerciseData> leadingConsumer) {
+            this.consumer = consumer;
+            this.leadingConsumer = leadingConsumer;
+            this.headers = headerMatcher();
+        }
+
+        void accept(String rawLine) {
+            String line = rawLine.trim();
+
             // Check if this line is a muscle group header
             String detectedMuscleGroup = detectMuscleGroup(line);
             if (detectedMuscleGroup != null) {
                 currentMuscleGroup = detectedMuscleGroup;
                 log.debug("Found muscle group: {}", currentMuscleGroup);
-                continue;
+                return;
             }
-            
+
             // Skip empty lines and headers
             if (line.isEmpty() || line.startsWith("EXERCÍCIO") || line.startsWith("VÍDEO")) {
-                continue;
+                return;
             }
-            
+
             // Try to extract exercise and URL
             if (currentMuscleGroup != null) {
                 ParsedExerciseData exercise = parseExerciseLine(line, currentMuscleGroup);
                 if (exercise != null) {
-                    exercises.add(exercise);
+                    count++;
+                    consumer.accept(exercise);
                     log.debug("Parsed exercise: {} - {}", exercise.getName(), exercise.getMuscleGroupPortuguese());
                 }
+            } else if (leadingConsumer != null) {
+                ParsedExerciseData exercise = parseExerciseLine(line, null);
+                if (exercise != null) {
+                    leadingConsumer.accept(exercise);
+                }
             }
         }
-        
-        return exercises;
+
+        String getCurrentMuscleGroup() {
+            return currentMuscleGroup;
+        }
+
+        int getCount() {
+            return count;
+        }
+
+        /**
+         * Detect if a line contains a muscle group header
+         * Uses configured muscle group mappings from application.yml
+         *
+         * @param line the line to check
+         * @return the detected muscle group in Portuguese, or null
+         */
+        private String detectMuscleGroup(String line) {
+            return headers.find(line);
+        }
+
+        /**
+         * Parse a single line containing exercise name and video URL
+         * Handles various formats:
+         * - "Exercise Name https://youtu.be/xxx"
+         * - "Exercise Name https://youtube.com/watch?v=xxx"
+         * - "Exercise Name" (no URL)
+         *
+         * @param line the line to parse
+         * @param muscleGroup the current muscle group
+         * @return parsed exercise data, or null if parsing fails
+         */
+        private ParsedExerciseData parseExerciseLine(String line, String muscleGroup) {
+            // Extract video URL
+            String videoUrl = null;
+            String exerciseName;
+
+            if (urlMatcher.reset(line).find()) {
+                videoUrl = urlMatcher.group();
+                // Extract exercise name (text before the URL)
+                exerciseName = line.substring(0, urlMatcher.start()).trim();
+
+                log.debug("Found URL: {}", videoUrl);
+            } else {
+                // No URL found, use entire line as exercise name
+                exerciseName = line.trim();
+            }
+
+            // Clean up exercise name
+            exerciseName = cleanExerciseName(exerciseName);
+
+            // Only create exercise if we have a valid name
+            if (exerciseName.isEmpty() || exerciseName.length() < 3) {
+                return null;
+            }
+
+            // Validate exercise name doesn't contain URL fragments
+            if (exerciseName.contains("http") || exerciseName.contains("youtu")) {
+                log.warn("Exercise name still contains URL fragments: {}", exerciseName);
+                return null;
+            }
+
+            return ParsedExerciseData.builder()
+                    .name(exerciseName)
+                    .videoUrl(videoUrl)
+                    .muscleGroupPortuguese(muscleGroup)
+                    .build();
+        }
     }
 
     /**
-     * Detect if a line contains a muscle group header
-     * Uses configured muscle group mappings from application.yml
-     * 
-     * @param line the line to check
-     * @return the detected muscle group in Portuguese, or null
+     * Header matcher for the currently configured muscle groups, rebuilt only when the configured
+     * headers change
      */
-    private String detectMuscleGroup(String line) {
-        String upperLine = line.toUpperCase();
-        
-        // Get configured muscle group headers from properties
-        Set<String> configuredHeaders = importProperties.getMuscleGroupMapping().keySet();
-        
-        for (String header : configuredHeaders) {
-            if (upperLine.contains(header.toUpperCase())) {
-                return header;
-            }
+    private MuscleGroupHeaderMatcher headerMatcher() {
+        Set<String> configuredHeaders = importProperties.getMapping().headers();
+        MuscleGroupHeaderMatcher current = headerMatcher;
+        if (current == null || !current.headers().equals(configuredHeaders)) {
+            current = MuscleGroupHeaderMatcher.of(configuredHeaders);
+            headerMatcher = current;
         }
-        
-        return null;
+        return current;
     }
 
     /**
-     * Parse a single line containing exercise name and video URL
-     * Handles various formats:
-     * - "Exercise Name https://youtu.be/xxx"
-     * - "Exercise Name https://youtube.com/watch?v=xxx"
-     * - "Exercise Name" (no URL)
-     * 
-     * @param line the line to parse
-     * @param muscleGroup the current muscle group
-     * @return parsed exercise data, or null if parsing fails
+     * Writer that hands complete lines to a consumer instead of accumulating the text
      */
-    private ParsedExerciseData parseExerciseLine(String line, String muscleGroup) {
-        // Extract video URL
-        Matcher urlMatcher = URL_PATTERN.matcher(line);
-        String videoUrl = null;
-        String exerciseName;
-        
-        if (urlMatcher.find()) {
-            videoUrl = urlMatcher.group();
-            // Extract exercise name (text before the URL)
-            int urlStart = line.indexOf(videoUrl);
-            exerciseName = line.substring(0, urlStart).trim();
-            
-            log.debug("Found URL: {}", videoUrl);
-        } else {
-            // No URL found, use entire line as exercise name
-            exerciseName = line.trim();
+    private static class LineWriter extends Writer {
+
+        private final Consumer<String> lineConsumer;
+        private final StringBuilder line = new StringBuilder(256);
+
+        LineWriter(Consumer<String> lineConsumer) {
+            this.lineConsumer = lineConsumer;
         }
-        
-        // Clean up exercise name
-        exerciseName = cleanExerciseName(exerciseName);
-        
-        // Only create exercise if we have a valid name
-        if (exerciseName.isEmpty() || exerciseName.length() < 3) {
-            return null;
+
+        @Override
+        public void write(char[] buffer, int offset, int length) {
+            scan(CharBuffer.wrap(buffer), offset, offset + length);
         }
-        
-        // Validate exercise name doesn't contain URL fragments
-        if (exerciseName.contains("http") || exerciseName.contains("youtu")) {
-            log.warn("Exercise name still contains URL fragments: {}", exerciseName);
-            return null;
+
+        @Override
+        public void write(String text, int offset, int length) {
+            scan(text, offset, offset + length);
+        }
+
+        /**
+         * Append whole runs between line breaks instead of one character at a time
+         */
+        private void scan(CharSequence text, int from, int to) {
+            int runStart = from;
+            for (int i = from; i < to; i++) {
+                char c = text.charAt(i);
+                if (c == '\n' || c == '\r') {
+                    line.append(text, runStart, i);
+                    runStart = i + 1;
+                    if (c == '\n') {
+                        lineConsumer.accept(line.toString());
+                        line.setLength(0);
+                    }
+                }
+            }
+            line.append(text, runStart, to);
+        }
+
+        @Override
+        public void flush() {
+            // Lines are delivered as soon as they are complete
+        }
+
+        @Override
+        public void close() {
+            if (!line.isEmpty()) {
+                lineConsumer.accept(line.toString());
+                line.setLength(0);
+            }
         }
-        
-        return ParsedExerciseData.builder()
-                .name(exerciseName)
-                .videoUrl(videoUrl)
-                .muscleGroupPortuguese(muscleGroup)
-                .build();
     }
 
     /**
@@ -178,14 +436,46 @@ public class PdfExerciseParserService {
      * @param name the raw exercise name
      * @return cleaned exercise name
      */
-    private String cleanExerciseName(String name) {
+    private static String cleanExerciseName(String name) {
         // Remove extra whitespace
-        name = name.replaceAll("\\s+", " ").trim();
+        if (hasIrregularWhitespace(name)) {
+            name = WHITESPACE_PATTERN.matcher(name).replaceAll(" ").trim();
+        }
         
         // Remove common table artifacts
-        name = name.replaceAll("^[\\d.\\-]+\\s*", ""); // Remove leading numbers/dots
-        name = name.replaceAll("[|\\t]+", " "); // Remove pipes and tabs
+        if (!name.isEmpty() && isLeadingNumberChar(name.charAt(0))) {
+            name = LEADING_NUMBERS_PATTERN.matcher(name).replaceFirst(""); // Remove leading numbers/dots
+        }
+        if (name.indexOf('|') >= 0 || name.indexOf('\t') >= 0) {
+            name = TABLE_ARTIFACTS_PATTERN.matcher(name).replaceAll(" "); // Remove pipes and tabs
+        }
         
         return name.trim();
     }
+
+    /**
+     * True unless the name is already single-space separated without leading or trailing whitespace,
+     * which is the common case and lets the whitespace pattern be skipped
+     */
+    private static boolean hasIrregularWhitespace(String name) {
+        int length = name.length();
+        if (length > 0 && (name.charAt(0) == ' ' || name.charAt(length - 1) == ' ')) {
+            return true;
+        }
+        for (int i = 0; i < length; i++) {
+            char c = name.charAt(i);
+            if (c == ' ') {
+                if (i + 1 < length && name.charAt(i + 1) == ' ') {
+                    return true;
+                }
+            } else if (c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isLeadingNumberChar(char c) {
+        return (c >= '0' && c <= '9') || c == '.' || c == '-';
+    }
 }
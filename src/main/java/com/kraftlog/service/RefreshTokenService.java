@@ -0,0 +1,160 @@
+package com.kraftlog.service;
+
+import com.kraftlog.entity.RefreshToken;
+import com.kraftlog.entity.User;
+import com.kraftlog.repository.RefreshTokenRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.authentication.CredentialsExpiredException;
+import org.springframework.security.authentication.InsufficientAuthenticationException;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.UUID;
+
+/**
+ * Rotating refresh tokens.
+ * <p>
+ * The client gets an opaque random token; only its SHA-256 is stored. Each login starts a family,
+ * and every refresh revokes the presented token and issues the next one in the same family.
+ * Presenting a revoked token means it was replayed, so the whole family is revoked and the user
+ * has to log in again. This is the only place revocation is checked; access tokens stay valid
+ * until they expire.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class RefreshTokenService {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private final RefreshTokenRepository refreshTokenRepository;
+
+    @Value("${jwt.refresh.expiration:2592000000}")
+    private long expirationMs;
+
+    @Value("${jwt.refresh.cleanup.batch-size:1000}")
+    private int cleanupBatchSize;
+
+    /**
+     * A refreshed token and the user it belongs to
+     */
+    public record Rotation(User user, String refreshToken) {
+    }
+
+    /**
+     * Issue the first token of a new family
+     *
+     * @return the raw token to hand to the client
+     */
+    @Transactional
+    public String issue(User user) {
+        return issue(user, UUID.randomUUID());
+    }
+
+    /**
+     * Revoke the presented token and issue its successor. A revoked token revokes its family;
+     * that revocation is kept even though the call fails.
+     *
+     * @throws AuthenticationException if the token is unknown, expired or revoked
+     */
+    @Transactional(noRollbackFor = AuthenticationException.class)
+    public Rotation rotate(String rawToken) {
+        RefreshToken token = refreshTokenRepository.findByTokenHash(hash(rawToken))
+                .orElseThrow(() -> new InsufficientAuthenticationException("Invalid refresh token"));
+
+        if (token.isExpired()) {
+            throw new CredentialsExpiredException("Refresh token has expired");
+        }
+        LocalDateTime now = LocalDateTime.now();
+        if (token.isRevoked() || refreshTokenRepository.revoke(token.getId(), now) == 0) {
+            int revoked = refreshTokenRepository.revokeFamily(token.getFamilyId(), now);
+            log.warn("Revoked refresh token reused for user {}, revoked {} tokens of its family",
+                    token.getUser().getId(), revoked);
+            throw new InsufficientAuthenticationException("Refresh token has been revoked");
+        }
+
+        return new Rotation(token.getUser(), issue(token.getUser(), token.getFamilyId()));
+    }
+
+    /**
+     * Revoke the family of a token, e.g. on logout. Unknown tokens are ignored.
+     */
+    @Transactional
+    public void revoke(String rawToken) {
+        refreshTokenRepository.findByTokenHash(hash(rawToken))
+                .ifPresent(token -> refreshTokenRepository.revokeFamily(token.getFamilyId(), LocalDateTime.now()));
+    }
+
+    /**
+     * Revoke every token of a user, e.g. after a password change
+     */
+    @Transactional
+    public void revokeAll(UUID userId) {
+        int revoked = refreshTokenRepository.revokeAllByUserId(userId, LocalDateTime.now());
+        if (revoked > 0) {
+            log.info("Revoked {} refresh tokens of user {}", revoked, userId);
+        }
+    }
+
+    @Scheduled(cron = "${jwt.refresh.cleanup.cron:0 45 * * * *}")
+    public void purgeExpiredTokens() {
+        try {
+            cleanupExpiredTokens();
+        } catch (RuntimeException e) {
+            log.error("Expired refresh token cleanup failed", e);
+        }
+    }
+
+    /**
+     * Delete expired tokens in bounded batches, each committed separately
+     *
+     * @return number of tokens deleted
+     */
+    public int cleanupExpiredTokens() {
+        LocalDateTime cutoff = LocalDateTime.now();
+        int total = 0;
+        int deleted;
+        do {
+            deleted = refreshTokenRepository.deleteExpiredBatch(cutoff, cleanupBatchSize);
+            total += deleted;
+        } while (deleted == cleanupBatchSize);
+
+        log.info("Cleaned up {} expired refresh tokens", total);
+        return total;
+    }
+
+    private String issue(User user, UUID familyId) {
+        byte[] bytes = new byte[32];
+        RANDOM.nextBytes(bytes);
+        String rawToken = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        refreshTokenRepository.save(RefreshToken.builder()
+                .tokenHash(hash(rawToken))
+                .user(user)
+                .familyId(familyId)
+                .expiresAt(LocalDateTime.now().plus(Duration.ofMillis(expirationMs)))
+                .build());
+        return rawToken;
+    }
+
+    static String hash(String rawToken) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(rawToken.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.kraftlog.service;
+
+import java.util.Collection;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Published by writes that change what a routine's detail view shows: the routine itself, its
+ * workouts, or the exercises in them. The read model of these routines is invalidated before the
+ * enclosing transaction commits.
+ */
+public record RoutineChangedEvent(Set<UUID> routineIds) {
+
+    public static RoutineChangedEvent of(UUID routineId) {
+        return new RoutineChangedEvent(Set.of(routineId));
+    }
+
+    public static RoutineChangedEvent of(Collection<UUID> routineIds) {
+        return new RoutineChangedEvent(Set.copyOf(routineIds));
+    }
+}
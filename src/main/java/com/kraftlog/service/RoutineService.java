@@ -3,20 +3,22 @@ package com.kraftlog.service;
 import com.kraftlog.config.CacheConfig;
 import com.kraftlog.dto.RoutineCreateRequest;
 import com.kraftlog.dto.RoutineResponse;
-import com.kraftlog.dto.WorkoutResponse;
 import com.kraftlog.entity.Routine;
+import com.kraftlog.entity.SyncTombstone;
 import com.kraftlog.entity.User;
 import com.kraftlog.exception.ResourceNotFoundException;
 import com.kraftlog.repository.RoutineRepository;
 import com.kraftlog.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
-import org.modelmapper.ModelMapper;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.cache.annotation.Caching;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -28,8 +30,9 @@ public class RoutineService {
 
     private final RoutineRepository routineRepository;
     private final UserRepository userRepository;
-    private final ModelMapper modelMapper;
-    private final WorkoutService workoutService;
+    private final RoutineViewService routineViewService;
+    private final SyncTombstoneService syncTombstoneService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Caching(evict = {
             @CacheEvict(value = CacheConfig.ROUTINES_CACHE, allEntries = true)
@@ -47,34 +50,24 @@ public class RoutineService {
                 .build();
 
         Routine savedRoutine = routineRepository.save(routine);
+        eventPublisher.publishEvent(RoutineChangedEvent.of(savedRoutine.getId()));
         return mapToResponse(savedRoutine);
     }
 
+    // Served from the routine read model, which manages its own transactions
     @Cacheable(value = CacheConfig.ROUTINE_CACHE, key = "#id")
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public RoutineResponse getRoutineById(UUID id) {
-        Routine routine = routineRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Routine", "id", id));
-        return mapToResponse(routine);
-    }
-
-    @Cacheable(value = CacheConfig.ROUTINES_CACHE)
-    @Transactional(readOnly = true)
-    public List<RoutineResponse> getAllRoutines() {
-        return routineRepository.findAll().stream()
-                .map(this::mapToResponse)
-                .collect(Collectors.toList());
+        return routineViewService.getRoutine(id);
     }
 
     @Cacheable(value = CacheConfig.ROUTINES_CACHE, key = "'user-' + #userId")
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public List<RoutineResponse> getRoutinesByUserId(UUID userId) {
         if (!userRepository.existsById(userId)) {
             throw new ResourceNotFoundException("User", "id", userId);
         }
-        return routineRepository.findByUserId(userId).stream()
-                .map(this::mapToResponse)
-                .collect(Collectors.toList());
+        return routineViewService.getRoutinesByUserId(userId);
     }
 
     @Caching(evict = {
@@ -99,6 +92,7 @@ public class RoutineService {
         }
 
         Routine updatedRoutine = routineRepository.save(routine);
+        eventPublisher.publishEvent(RoutineChangedEvent.of(id));
         return mapToResponse(updatedRoutine);
     }
 
@@ -110,6 +104,8 @@ public class RoutineService {
         Routine routine = routineRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Routine", "id", id));
         routineRepository.delete(routine);
+        syncTombstoneService.record(SyncTombstone.EntityType.ROUTINE, id, routine.getUser().getId());
+        eventPublisher.publishEvent(RoutineChangedEvent.of(id));
     }
 
     @Caching(evict = {
@@ -121,33 +117,26 @@ public class RoutineService {
                 .orElseThrow(() -> new ResourceNotFoundException("Routine", "id", id));
         
         // Deactivate all other routines for this user
+        List<UUID> changed = new ArrayList<>();
         List<Routine> userRoutines = routineRepository.findByUserId(routine.getUser().getId());
         for (Routine r : userRoutines) {
             if (!r.getId().equals(id) && Boolean.TRUE.equals(r.getIsActive())) {
                 r.setIsActive(false);
                 routineRepository.save(r);
+                changed.add(r.getId());
             }
         }
         
         // Activate this routine
         routine.setIsActive(true);
         Routine savedRoutine = routineRepository.save(routine);
+        changed.add(id);
+        eventPublisher.publishEvent(RoutineChangedEvent.of(changed));
         
         return mapToResponse(savedRoutine);
     }
 
     private RoutineResponse mapToResponse(Routine routine) {
-        RoutineResponse response = modelMapper.map(routine, RoutineResponse.class);
-        response.setUserId(routine.getUser().getId());
-        
-        // Properly map workouts with their exercises using WorkoutService
-        if (routine.getWorkouts() != null) {
-            List<WorkoutResponse> workoutResponses = routine.getWorkouts().stream()
-                    .map(workout -> workoutService.mapWorkoutToResponse(workout))
-                    .collect(Collectors.toList());
-            response.setWorkouts(workoutResponses);
-        }
-        
-        return response;
+        return routineViewService.toResponse(routine);
     }
 }
\ No newline at end of file
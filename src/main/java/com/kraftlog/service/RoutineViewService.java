@@ -0,0 +1,169 @@
+package com.kraftlog.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kraftlog.config.CacheConfig;
+import com.kraftlog.dto.RoutineResponse;
+import com.kraftlog.dto.WorkoutResponse;
+import com.kraftlog.entity.Routine;
+import com.kraftlog.entity.RoutineView;
+import com.kraftlog.exception.ResourceNotFoundException;
+import com.kraftlog.repository.RoutineRepository;
+import com.kraftlog.repository.RoutineViewRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.modelmapper.ModelMapper;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Denormalised read model of routine trees.
+ * <p>
+ * A routine with its workouts, their exercises and muscles is stored as one serialised
+ * {@link RoutineResponse} per routine, so the detail screens are served with a single indexed
+ * read instead of walking the entity graph. Writes publish a {@link RoutineChangedEvent}; the
+ * affected documents are cleared in the same transaction and rebuilt on the next read. Each
+ * invalidation bumps a generation, and a rebuild only stores its result if the generation it
+ * started from is still current, so a rebuild racing a write never stores an outdated tree.
+ */
+@Service
+@Slf4j
+public class RoutineViewService {
+
+    private final RoutineViewRepository routineViewRepository;
+    private final RoutineRepository routineRepository;
+    private final WorkoutService workoutService;
+    private final ModelMapper modelMapper;
+    private final ObjectMapper objectMapper;
+    private final CacheManager cacheManager;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate newTransactionTemplate;
+
+    public RoutineViewService(RoutineViewRepository routineViewRepository,
+                              RoutineRepository routineRepository,
+                              WorkoutService workoutService,
+                              ModelMapper modelMapper,
+                              ObjectMapper objectMapper,
+                              CacheManager cacheManager,
+                              PlatformTransactionManager transactionManager) {
+        this.routineViewRepository = routineViewRepository;
+        this.routineRepository = routineRepository;
+        this.workoutService = workoutService;
+        this.modelMapper = modelMapper;
+        this.objectMapper = objectMapper;
+        this.cacheManager = cacheManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.newTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.newTransactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * @return the routine tree, from the stored document or rebuilt if it is missing
+     * @throws ResourceNotFoundException if the routine does not exist
+     */
+    public RoutineResponse getRoutine(UUID routineId) {
+        String document = routineViewRepository.findById(routineId).map(RoutineView::getDocument).orElse(null);
+        return document != null ? read(document) : rebuild(routineId);
+    }
+
+    /**
+     * @return the trees of all routines of a user; missing documents are rebuilt one by one
+     */
+    public List<RoutineResponse> getRoutinesByUserId(UUID userId) {
+        return routineViewRepository.findDocumentsByUserId(userId).stream()
+                .map(row -> row.getDocument() != null ? read(row.getDocument()) : rebuild(row.getRoutineId()))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Map a routine entity to its full tree
+     */
+    public RoutineResponse toResponse(Routine routine) {
+        RoutineResponse response = modelMapper.map(routine, RoutineResponse.class);
+        response.setUserId(routine.getUser().getId());
+
+        // Properly map workouts with their exercises using WorkoutService
+        if (routine.getWorkouts() != null) {
+            List<WorkoutResponse> workoutResponses = routine.getWorkouts().stream()
+                    .map(workoutService::mapWorkoutToResponse)
+                    .collect(Collectors.toList());
+            response.setWorkouts(workoutResponses);
+        }
+
+        return response;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void invalidate(RoutineChangedEvent event) {
+        if (event.routineIds().isEmpty()) {
+            return;
+        }
+        // Joins the transaction that published the event
+        transactionTemplate.executeWithoutResult(status -> {
+            routineViewRepository.invalidate(event.routineIds());
+            routineViewRepository.deleteOrphans(event.routineIds());
+        });
+        log.debug("Invalidated routine views {}", event.routineIds());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void evictCaches(RoutineChangedEvent event) {
+        Cache routineCache = cacheManager.getCache(CacheConfig.ROUTINE_CACHE);
+        if (routineCache != null) {
+            event.routineIds().forEach(routineCache::evict);
+        }
+        Cache routinesCache = cacheManager.getCache(CacheConfig.ROUTINES_CACHE);
+        if (routinesCache != null) {
+            routinesCache.clear();
+        }
+    }
+
+    private RoutineResponse rebuild(UUID routineId) {
+        try {
+            newTransactionTemplate.executeWithoutResult(status -> routineViewRepository.insertIfAbsent(routineId));
+        } catch (DataIntegrityViolationException e) {
+            // Inserted concurrently, or the routine does not exist; the lookup below tells which
+            log.debug("Routine view for {} not inserted - {}", routineId, e.getMessage());
+        }
+
+        return newTransactionTemplate.execute(status -> {
+            // Read the generation before the entities, so any write after this point is detected
+            Long generation = routineViewRepository.findById(routineId).map(RoutineView::getGeneration).orElse(null);
+            Routine routine = routineRepository.findById(routineId)
+                    .orElseThrow(() -> new ResourceNotFoundException("Routine", "id", routineId));
+            RoutineResponse response = toResponse(routine);
+            if (generation != null
+                    && routineViewRepository.storeDocument(routineId, generation, write(response), LocalDateTime.now()) == 0) {
+                log.debug("Routine {} changed while its view was rebuilt, not storing it", routineId);
+            }
+            return response;
+        });
+    }
+
+    private RoutineResponse read(String document) {
+        try {
+            return objectMapper.readValue(document, RoutineResponse.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Unreadable routine view document", e);
+        }
+    }
+
+    private String write(RoutineResponse response) {
+        try {
+            return objectMapper.writeValueAsString(response);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialise routine view", e);
+        }
+    }
+}
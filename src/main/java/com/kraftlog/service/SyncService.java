@@ -0,0 +1,165 @@
+package com.kraftlog.service;
+
+import com.kraftlog.dto.SyncResponse;
+import com.kraftlog.entity.Workout;
+import com.kraftlog.exception.BadRequestException;
+import com.kraftlog.repository.ExerciseRepository;
+import com.kraftlog.repository.SyncRepository;
+import com.kraftlog.repository.SyncRepository.Feed;
+import com.kraftlog.repository.SyncRepository.Position;
+import com.kraftlog.repository.WorkoutRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Incremental sync for offline-first clients.
+ * <p>
+ * A page holds every exercise, routine, workout and log entry of the user changed after the
+ * cursor, and the tombstones of those deleted, up to a common end position in change order. The
+ * end is where the first feed reaches {@code limit} rows, so no feed returns more than
+ * {@code limit} rows and none runs ahead of another. Positions are change times with the row id
+ * breaking ties, so rows backfilled or imported with one timestamp still split across pages.
+ * <p>
+ * Once caught up the cursor is set {@code app.sync.overlap-ms} back, so rows stamped before the
+ * page was read but committed after it still arrive next time. Clients upsert by id, which makes
+ * the repeats harmless.
+ * <p>
+ * A cursor older than tombstone retention, or none at all, gets a full sync. Its pages are read
+ * by change time like any other; the cursor remembers when it started so later pages, whose
+ * position may be years old, are not sent back to the start.
+ */
+@Service
+@RequiredArgsConstructor
+public class SyncService {
+
+    private static final LocalDateTime EPOCH = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final SyncRepository syncRepository;
+    private final ExerciseRepository exerciseRepository;
+    private final WorkoutRepository workoutRepository;
+    private final ExerciseService exerciseService;
+    private final WorkoutService workoutService;
+    private final SyncTombstoneService syncTombstoneService;
+
+    @Value("${app.sync.max-limit:1000}")
+    private int maxLimit;
+
+    @Value("${app.sync.overlap-ms:30000}")
+    private long overlapMs;
+
+    /**
+     * Read the next page of changes. All feeds are read from one snapshot, so a row deleted
+     * between two reads cannot be missed by both.
+     *
+     * @param cursor {@link SyncResponse#getCursor()} of the previous page, null on first sync
+     * @param limit  rows per feed a page should hold
+     * @throws BadRequestException if the cursor is malformed or the limit out of range
+     */
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    public SyncResponse sync(UUID userId, String cursor, int limit) {
+        if (limit < 1 || limit > maxLimit) {
+            throw new BadRequestException("limit must be between 1 and " + maxLimit);
+        }
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        Cursor position = cursor == null || cursor.isBlank() ? null : Cursor.parse(cursor);
+
+        boolean reset = false;
+        if (position == null) {
+            position = new Cursor(Position.after(EPOCH), now);
+        } else if (position.fullSyncStart() != null
+                ? position.fullSyncStart().isBefore(syncTombstoneService.retentionCutoff())
+                : position.since().changedAt().isBefore(syncTombstoneService.retentionCutoff())) {
+            position = new Cursor(Position.after(EPOCH), now);
+            reset = true;
+        }
+        Position since = position.since();
+        // During a full sync, deletions from before it started concern nothing the client has
+        Position deletedSince = position.fullSyncStart() != null
+                && Position.after(position.fullSyncStart()).compareTo(since) > 0
+                ? Position.after(position.fullSyncStart()) : since;
+
+        Position caughtUp = Position.after(now);
+        Position until = caughtUp;
+        for (Feed feed : Feed.values()) {
+            Position from = feed == Feed.TOMBSTONES ? deletedSince : since;
+            if (from.compareTo(until) < 0) {
+                Position end = syncRepository.findPageEnd(feed, userId, from, until, limit);
+                if (end != null) {
+                    until = end;
+                }
+            }
+        }
+
+        List<Workout> workouts = workoutRepository.findChangedBetween(userId,
+                since.changedAt(), since.id(), until.changedAt(), until.id());
+        if (!workouts.isEmpty()) {
+            workoutRepository.fetchMuscles(workouts);
+        }
+        boolean hasMore = until.compareTo(caughtUp) < 0;
+        Cursor next = hasMore
+                ? new Cursor(until, position.fullSyncStart())
+                : new Cursor(Position.after(now.minus(overlapMs, ChronoUnit.MILLIS)), null);
+
+        return SyncResponse.builder()
+                .cursor(next.format())
+                .hasMore(hasMore)
+                .reset(reset)
+                .exercises(exerciseRepository.findChangedBetween(
+                                since.changedAt(), since.id(), until.changedAt(), until.id()).stream()
+                        .map(exerciseService::mapToResponse)
+                        .toList())
+                .routines(syncRepository.findRoutines(userId, since, until))
+                .workouts(workouts.stream().map(workoutService::mapWorkoutToResponse).toList())
+                .logRoutines(syncRepository.findLogRoutines(userId, since, until))
+                .logWorkouts(syncRepository.findLogWorkouts(userId, since, until))
+                .logExercises(syncRepository.findLogExercises(userId, since, until))
+                .logSets(syncRepository.findLogSets(userId, since, until))
+                .deleted(deletedSince.compareTo(until) < 0
+                        ? syncRepository.findDeletions(userId, deletedSince, until) : List.of())
+                .build();
+    }
+
+    /**
+     * Position in the change feeds, and when the full sync it belongs to started, if any.
+     * Formatted as {@code since} or {@code since,fullSyncStart}, ISO-8601 local date-times, where
+     * {@code since} is followed by {@code _id} when the page ended among rows changed at that time.
+     */
+    record Cursor(Position since, LocalDateTime fullSyncStart) {
+
+        static Cursor parse(String value) {
+            try {
+                int comma = value.indexOf(',');
+                return comma < 0
+                        ? new Cursor(parsePosition(value.trim()), null)
+                        : new Cursor(parsePosition(value.substring(0, comma).trim()),
+                        LocalDateTime.parse(value.substring(comma + 1).trim()));
+            } catch (DateTimeParseException | IllegalArgumentException e) {
+                throw new BadRequestException("Invalid sync cursor: " + value);
+            }
+        }
+
+        private static Position parsePosition(String value) {
+            int separator = value.indexOf('_');
+            return separator < 0
+                    ? Position.after(LocalDateTime.parse(value))
+                    : new Position(LocalDateTime.parse(value.substring(0, separator)),
+                    UUID.fromString(value.substring(separator + 1)));
+        }
+
+        String format() {
+            String position = since.isAfterAll()
+                    ? since.changedAt().toString()
+                    : since.changedAt() + "_" + since.id();
+            return fullSyncStart == null ? position : position + "," + fullSyncStart;
+        }
+    }
+}
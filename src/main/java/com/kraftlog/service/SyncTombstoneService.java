@@ -0,0 +1,81 @@
+package com.kraftlog.service;
+
+import com.kraftlog.entity.SyncTombstone;
+import com.kraftlog.repository.SyncTombstoneRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Deletion log for incremental sync. Services record a tombstone in the transaction that deletes
+ * the entity; children removed with it by cascade are implied and get none.
+ * <p>
+ * Tombstones are kept for {@code app.sync.tombstone-retention-days}. A client whose cursor is
+ * older could have missed a purged one, so it is sent a full sync instead.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SyncTombstoneService {
+
+    private final SyncTombstoneRepository syncTombstoneRepository;
+
+    @Value("${app.sync.tombstone-retention-days:90}")
+    private int retentionDays;
+
+    @Value("${app.sync.tombstone-cleanup.batch-size:1000}")
+    private int cleanupBatchSize;
+
+    /**
+     * @param userId owner of the entity, null for catalog entries every user syncs
+     */
+    @Transactional
+    public void record(SyncTombstone.EntityType entityType, UUID entityId, UUID userId) {
+        syncTombstoneRepository.save(SyncTombstone.builder()
+                .entityType(entityType)
+                .entityId(entityId)
+                .userId(userId)
+                .deletedAt(LocalDateTime.now())
+                .build());
+    }
+
+    /**
+     * Oldest point a sync cursor can resume from
+     */
+    public LocalDateTime retentionCutoff() {
+        return LocalDateTime.now().minusDays(retentionDays);
+    }
+
+    @Scheduled(cron = "${app.sync.tombstone-cleanup.cron:0 30 3 * * *}")
+    public void purgeExpiredTombstones() {
+        try {
+            cleanupExpiredTombstones();
+        } catch (RuntimeException e) {
+            log.error("Expired sync tombstone cleanup failed", e);
+        }
+    }
+
+    /**
+     * Delete tombstones past retention in bounded batches, each committed separately
+     *
+     * @return number of tombstones deleted
+     */
+    public int cleanupExpiredTombstones() {
+        LocalDateTime cutoff = retentionCutoff();
+        int total = 0;
+        int deleted;
+        do {
+            deleted = syncTombstoneRepository.deleteExpiredBatch(cutoff, cleanupBatchSize);
+            total += deleted;
+        } while (deleted == cleanupBatchSize);
+
+        log.info("Cleaned up {} expired sync tombstones", total);
+        return total;
+    }
+}
@@ -11,12 +11,13 @@ import com.kraftlog.repository.WorkoutExerciseRepository;
 import com.kraftlog.repository.WorkoutRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -26,6 +27,7 @@ public class WorkoutExerciseService {
     private final WorkoutExerciseRepository workoutExerciseRepository;
     private final WorkoutRepository workoutRepository;
     private final ExerciseRepository exerciseRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public WorkoutExerciseResponse addExerciseToWorkout(UUID workoutId, WorkoutExerciseRequest request) {
@@ -50,6 +52,9 @@ public class WorkoutExerciseService {
                 .build();
         
         workoutExercise = workoutExerciseRepository.save(workoutExercise);
+        // The exercise list is synced as part of the workout
+        workout.setUpdatedAt(LocalDateTime.now());
+        eventPublisher.publishEvent(RoutineChangedEvent.of(workout.getRoutine().getId()));
         log.info("Successfully added exercise to workout");
         
         return mapToResponse(workoutExercise, exercise);
@@ -60,14 +65,11 @@ public class WorkoutExerciseService {
         log.info("Getting exercises for workout {}", workoutId);
         
         // Verify workout exists
-        workoutRepository.findById(workoutId)
-                .orElseThrow(() -> new ResourceNotFoundException("Workout", "id", workoutId));
-        
-        List<WorkoutExercise> workoutExercises = workoutExerciseRepository.findByWorkoutIdOrderByOrderIndexAsc(workoutId);
+        if (!workoutRepository.existsById(workoutId)) {
+            throw new ResourceNotFoundException("Workout", "id", workoutId);
+        }
         
-        return workoutExercises.stream()
-                .map(we -> mapToResponse(we, we.getExercise()))
-                .collect(Collectors.toList());
+        return workoutExerciseRepository.findResponsesByWorkoutId(workoutId);
     }
 
     @Transactional
@@ -75,7 +77,7 @@ public class WorkoutExerciseService {
         log.info("Removing exercise {} from workout {}", exerciseId, workoutId);
         
         // Verify workout exists
-        workoutRepository.findById(workoutId)
+        Workout workout = workoutRepository.findById(workoutId)
                 .orElseThrow(() -> new ResourceNotFoundException("Workout", "id", workoutId));
         
         // Verify exercise exists
@@ -83,6 +85,8 @@ public class WorkoutExerciseService {
                 .orElseThrow(() -> new ResourceNotFoundException("Exercise", "id", exerciseId));
         
         workoutExerciseRepository.deleteByWorkoutIdAndExerciseId(workoutId, exerciseId);
+        workout.setUpdatedAt(LocalDateTime.now());
+        eventPublisher.publishEvent(RoutineChangedEvent.of(workout.getRoutine().getId()));
         log.info("Successfully removed exercise from workout");
     }
 
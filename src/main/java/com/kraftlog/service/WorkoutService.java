@@ -8,6 +8,7 @@ import com.kraftlog.dto.WorkoutResponse;
 import com.kraftlog.entity.Exercise;
 import com.kraftlog.entity.Muscle;
 import com.kraftlog.entity.Routine;
+import com.kraftlog.entity.SyncTombstone;
 import com.kraftlog.entity.Workout;
 import com.kraftlog.entity.WorkoutExercise;
 import com.kraftlog.exception.ResourceNotFoundException;
@@ -20,9 +21,11 @@ import org.modelmapper.ModelMapper;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.cache.annotation.Caching;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
@@ -37,7 +40,9 @@ public class WorkoutService {
     private final RoutineRepository routineRepository;
     private final ExerciseRepository exerciseRepository;
     private final MuscleRepository muscleRepository;
+    private final SyncTombstoneService syncTombstoneService;
     private final ModelMapper modelMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Caching(evict = {
             @CacheEvict(value = CacheConfig.WORKOUTS_CACHE, allEntries = true)
@@ -83,6 +88,7 @@ public class WorkoutService {
             savedWorkout.setWorkoutExercises(workoutExercises);
             savedWorkout = workoutRepository.save(savedWorkout);
         }
+        eventPublisher.publishEvent(RoutineChangedEvent.of(routine.getId()));
         
         return mapWorkoutToResponse(savedWorkout);
     }
@@ -95,10 +101,10 @@ public class WorkoutService {
         return mapWorkoutToResponse(workout);
     }
 
-    @Cacheable(value = CacheConfig.WORKOUTS_CACHE)
+    @Cacheable(value = CacheConfig.WORKOUTS_CACHE, key = "'user-' + #userId")
     @Transactional(readOnly = true)
-    public List<WorkoutResponse> getAllWorkouts() {
-        return workoutRepository.findAll().stream()
+    public List<WorkoutResponse> getWorkoutsByUserId(UUID userId) {
+        return workoutRepository.findByRoutine_UserIdOrderByOrderIndexAsc(userId).stream()
                 .map(this::mapWorkoutToResponse)
                 .collect(Collectors.toList());
     }
@@ -161,8 +167,11 @@ public class WorkoutService {
             List<Muscle> muscles = muscleRepository.findAllById(request.getMuscleIds());
             workout.setMuscles(muscles);
         }
+        // Exercises and muscles are part of what clients sync, but changing only them leaves the row clean
+        workout.setUpdatedAt(LocalDateTime.now());
 
         Workout updatedWorkout = workoutRepository.save(workout);
+        eventPublisher.publishEvent(RoutineChangedEvent.of(workout.getRoutine().getId()));
         return mapWorkoutToResponse(updatedWorkout);
     }
 
@@ -174,6 +183,8 @@ public class WorkoutService {
         Workout workout = workoutRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Workout", "id", id));
         workoutRepository.delete(workout);
+        syncTombstoneService.record(SyncTombstone.EntityType.WORKOUT, id, workout.getRoutine().getUser().getId());
+        eventPublisher.publishEvent(RoutineChangedEvent.of(workout.getRoutine().getId()));
     }
 
     public WorkoutResponse mapWorkoutToResponse(Workout workout) {
@@ -38,7 +38,7 @@ public class DatabaseCleaner {
             String[] tables = {"log_sets", "log_exercises", "log_routines", "log_workouts",
                               "workout_exercises", "workout_muscles", "workouts", 
                               "aerobic_activities", "exercise_muscles", "exercises", 
-                              "muscles", "routines", "users"};
+                              "muscles", "routines", "sync_tombstones", "users"};
             
             for (String table : tables) {
                 try {
@@ -0,0 +1,18 @@
+-- Create email_outbox table
+-- Emails are written here in the same transaction as the change that triggers them
+-- and delivered by a background dispatcher with retry and backoff
+CREATE TABLE email_outbox (
+    id UUID PRIMARY KEY,
+    recipient VARCHAR(255) NOT NULL,
+    subject VARCHAR(255) NOT NULL,
+    body TEXT NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    attempts INTEGER NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMP NOT NULL,
+    last_error VARCHAR(1000),
+    created_at TIMESTAMP NOT NULL,
+    sent_at TIMESTAMP
+);
+
+-- Create index for polling due messages
+CREATE INDEX idx_email_outbox_status_next_attempt ON email_outbox(status, next_attempt_at);
@@ -0,0 +1,14 @@
+-- Create routine_views table
+-- Denormalised read model: the full routine tree (workouts, exercises, muscles) serialised as
+-- one JSON document per routine. Writes to a routine, its workouts or their exercises clear the
+-- document and bump the generation in the same transaction; the next read rebuilds it and only
+-- stores the result if the generation is still the one it started from
+CREATE TABLE routine_views (
+    routine_id UUID PRIMARY KEY REFERENCES routines(id) ON DELETE CASCADE,
+    generation BIGINT NOT NULL DEFAULT 0,
+    document TEXT,
+    built_at TIMESTAMP
+);
+
+-- Create index for finding the routines that use an exercise when it changes
+CREATE INDEX idx_workout_exercises_exercise_id ON workout_exercises(exercise_id);
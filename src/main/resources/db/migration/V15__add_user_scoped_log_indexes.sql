@@ -0,0 +1,10 @@
+-- Lists are filtered by the authenticated user: routines are found through routines(user_id), and
+-- each level below is read by its parent in start order, so these cover the lookup and the sort
+DROP INDEX IF EXISTS idx_log_routines_routine_id;
+CREATE INDEX idx_log_routines_routine_id_start ON log_routines(routine_id, start_datetime DESC);
+
+DROP INDEX IF EXISTS idx_log_workouts_log_routine_id;
+CREATE INDEX idx_log_workouts_log_routine_id_start ON log_workouts(log_routine_id, start_datetime DESC);
+
+DROP INDEX IF EXISTS idx_log_exercises_log_workout_id;
+CREATE INDEX idx_log_exercises_log_workout_id_start ON log_exercises(log_workout_id, start_datetime);
@@ -0,0 +1,36 @@
+-- Carry the owning user on every log table, so a user's history, stats and exports are range
+-- scans on one table instead of joins up to routines. Copied from the parent on insert; log
+-- entries never move between parents, so the copy cannot go stale.
+ALTER TABLE log_routines ADD COLUMN user_id UUID;
+UPDATE log_routines lr SET user_id = r.user_id FROM routines r WHERE r.id = lr.routine_id;
+ALTER TABLE log_routines ALTER COLUMN user_id SET NOT NULL;
+ALTER TABLE log_routines ADD CONSTRAINT fk_log_routines_user
+    FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE;
+
+ALTER TABLE log_workouts ADD COLUMN user_id UUID;
+UPDATE log_workouts lw SET user_id = lr.user_id FROM log_routines lr WHERE lr.id = lw.log_routine_id;
+ALTER TABLE log_workouts ALTER COLUMN user_id SET NOT NULL;
+ALTER TABLE log_workouts ADD CONSTRAINT fk_log_workouts_user
+    FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE;
+
+ALTER TABLE log_exercises ADD COLUMN user_id UUID;
+UPDATE log_exercises le SET user_id = lw.user_id FROM log_workouts lw WHERE lw.id = le.log_workout_id;
+ALTER TABLE log_exercises ALTER COLUMN user_id SET NOT NULL;
+ALTER TABLE log_exercises ADD CONSTRAINT fk_log_exercises_user
+    FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE;
+
+ALTER TABLE log_sets ADD COLUMN user_id UUID;
+UPDATE log_sets ls SET user_id = le.user_id FROM log_exercises le WHERE le.id = ls.log_exercise_id;
+ALTER TABLE log_sets ALTER COLUMN user_id SET NOT NULL;
+ALTER TABLE log_sets ADD CONSTRAINT fk_log_sets_user
+    FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE;
+
+-- Covering indexes for per-user reads in time order; the list queries are answered from the index
+CREATE INDEX idx_log_routines_user_start ON log_routines(user_id, start_datetime DESC)
+    INCLUDE (routine_id, end_datetime);
+CREATE INDEX idx_log_workouts_user_start ON log_workouts(user_id, start_datetime DESC)
+    INCLUDE (log_routine_id, workout_id, end_datetime);
+CREATE INDEX idx_log_exercises_user_start ON log_exercises(user_id, start_datetime DESC)
+    INCLUDE (log_workout_id, exercise_id);
+CREATE INDEX idx_log_sets_user_timestamp ON log_sets(user_id, timestamp DESC)
+    INCLUDE (log_exercise_id, set_number, reps, weight_kg);
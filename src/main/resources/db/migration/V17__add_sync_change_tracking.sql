@@ -0,0 +1,32 @@
+-- Change tracking for incremental sync. Every synced table carries updated_at, indexed per owner,
+-- so "changed since" reads are range scans proportional to what changed.
+-- CURRENT_TIMESTAMP is evaluated once per statement, so existing rows are not rewritten.
+ALTER TABLE log_routines ADD COLUMN updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP;
+ALTER TABLE log_workouts ADD COLUMN updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP;
+ALTER TABLE log_exercises ADD COLUMN updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP;
+ALTER TABLE log_sets ADD COLUMN updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP;
+
+CREATE INDEX idx_exercises_updated_at ON exercises(updated_at);
+CREATE INDEX idx_routines_user_updated ON routines(user_id, updated_at);
+CREATE INDEX idx_workouts_routine_updated ON workouts(routine_id, updated_at);
+CREATE INDEX idx_log_routines_user_updated ON log_routines(user_id, updated_at);
+CREATE INDEX idx_log_workouts_user_updated ON log_workouts(user_id, updated_at);
+CREATE INDEX idx_log_exercises_user_updated ON log_exercises(user_id, updated_at);
+CREATE INDEX idx_log_sets_user_updated ON log_sets(user_id, updated_at);
+
+-- Deletion log. A row per explicitly deleted entity; children removed with it by cascade are
+-- implied. user_id is NULL for catalog entries (exercises), which every user syncs.
+CREATE TABLE sync_tombstones (
+    id UUID PRIMARY KEY,
+    user_id UUID,
+    entity_type VARCHAR(32) NOT NULL,
+    entity_id UUID NOT NULL,
+    deleted_at TIMESTAMP NOT NULL,
+    CONSTRAINT fk_sync_tombstones_user
+        FOREIGN KEY (user_id)
+        REFERENCES users(id)
+        ON DELETE CASCADE
+);
+
+CREATE INDEX idx_sync_tombstones_user_deleted ON sync_tombstones(user_id, deleted_at);
+CREATE INDEX idx_sync_tombstones_deleted_at ON sync_tombstones(deleted_at);
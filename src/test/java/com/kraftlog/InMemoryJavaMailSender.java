@@ -0,0 +1,61 @@
+package com.kraftlog;
+
+import jakarta.mail.Session;
+import jakarta.mail.internet.MimeMessage;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Local stand-in for the SMTP-backed {@link JavaMailSender}. Records every message it is asked to
+ * send and can be told to fail the next sends to exercise retry handling.
+ */
+public class InMemoryJavaMailSender implements JavaMailSender {
+
+    private final List<SimpleMailMessage> sent = new CopyOnWriteArrayList<>();
+    private final AtomicInteger failuresRemaining = new AtomicInteger();
+
+    public List<SimpleMailMessage> getSent() {
+        return new ArrayList<>(sent);
+    }
+
+    public void failNextSends(int count) {
+        failuresRemaining.set(count);
+    }
+
+    public void reset() {
+        sent.clear();
+        failuresRemaining.set(0);
+    }
+
+    @Override
+    public void send(SimpleMailMessage... simpleMessages) {
+        if (failuresRemaining.getAndUpdate(remaining -> Math.max(0, remaining - 1)) > 0) {
+            throw new MailSendException("Simulated SMTP failure");
+        }
+        sent.addAll(Arrays.asList(simpleMessages));
+    }
+
+    @Override
+    public MimeMessage createMimeMessage() {
+        return new MimeMessage(Session.getInstance(new Properties()));
+    }
+
+    @Override
+    public MimeMessage createMimeMessage(InputStream contentStream) {
+        throw new UnsupportedOperationException("MIME messages are not used");
+    }
+
+    @Override
+    public void send(MimeMessage... mimeMessages) {
+        throw new UnsupportedOperationException("MIME messages are not used");
+    }
+}
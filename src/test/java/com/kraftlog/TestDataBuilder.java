@@ -91,6 +91,7 @@ public class TestDataBuilder {
     public static LogRoutine.LogRoutineBuilder defaultLogRoutine(Routine routine) {
         return LogRoutine.builder()
                 .routine(routine)
+                .userId(routine.getUser().getId())
                 .startDatetime(LocalDateTime.now())
                 .endDatetime(null)
                 .logWorkouts(new ArrayList<>());
@@ -99,6 +100,7 @@ public class TestDataBuilder {
     public static LogWorkout.LogWorkoutBuilder defaultLogWorkout(LogRoutine logRoutine, Workout workout) {
         return LogWorkout.builder()
                 .logRoutine(logRoutine)
+                .userId(logRoutine.getUserId())
                 .workout(workout)
                 .startDatetime(LocalDateTime.now())
                 .endDatetime(null)
@@ -108,6 +110,7 @@ public class TestDataBuilder {
     public static LogExercise.LogExerciseBuilder defaultLogExercise(LogWorkout logWorkout, Exercise exercise) {
         return LogExercise.builder()
                 .logWorkout(logWorkout)
+                .userId(logWorkout.getUserId())
                 .exercise(exercise)
                 .startDatetime(LocalDateTime.now())
                 .endDatetime(null)
@@ -120,6 +123,7 @@ public class TestDataBuilder {
     public static LogSet.LogSetBuilder defaultLogSet(LogExercise logExercise) {
         return LogSet.builder()
                 .logExercise(logExercise)
+                .userId(logExercise.getUserId())
                 .setNumber(1)
                 .reps(10)
                 .weightKg(60.0)
@@ -0,0 +1,75 @@
+package com.kraftlog.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConcurrencyLimitFilterTest {
+
+    private final ConcurrencyLimitFilter filter =
+            new ConcurrencyLimitFilter(1, 50, new ObjectMapper().registerModule(new JavaTimeModule()));
+
+    @Test
+    @DisplayName("Should reject requests with 503 while the limit is in use")
+    void shouldRejectWhenLimitReached() throws Exception {
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Void> inFlight = CompletableFuture.runAsync(() -> {
+            try {
+                filter.doFilter(new MockHttpServletRequest("GET", "/api/exercises"), new MockHttpServletResponse(),
+                        (req, res) -> {
+                            entered.countDown();
+                            try {
+                                release.await(5, TimeUnit.SECONDS);
+                            } catch (InterruptedException e) {
+                                Thread.currentThread().interrupt();
+                            }
+                        });
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+
+        MockHttpServletResponse rejected = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/exercises"), rejected, (req, res) -> { });
+
+        assertThat(rejected.getStatus()).isEqualTo(503);
+        assertThat(rejected.getHeader("Retry-After")).isEqualTo("1");
+        assertThat(rejected.getContentAsString()).contains("Server is busy");
+
+        release.countDown();
+        inFlight.get(5, TimeUnit.SECONDS);
+
+        MockHttpServletResponse accepted = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/exercises"), accepted, (req, res) -> { });
+        assertThat(accepted.getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    @DisplayName("Should never limit health checks")
+    void shouldNotLimitHealthChecks() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/health");
+        request.setRequestURI("/api/health");
+
+        assertThat(filter.shouldNotFilter(request)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should never limit health checks under a context path")
+    void shouldNotLimitHealthChecksUnderContextPath() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/kraftlog/api/health/ready");
+        request.setContextPath("/kraftlog");
+
+        assertThat(filter.shouldNotFilter(request)).isTrue();
+    }
+}
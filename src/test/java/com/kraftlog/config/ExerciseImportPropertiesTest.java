@@ -0,0 +1,95 @@
+package com.kraftlog.config;
+
+import com.kraftlog.entity.Muscle;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+class ExerciseImportPropertiesTest {
+
+    @TempDir
+    Path configDir;
+
+    private final ExerciseImportProperties properties = new ExerciseImportProperties();
+
+    @AfterEach
+    void tearDown() {
+        properties.stopWatching();
+    }
+
+    @Test
+    @DisplayName("Should resolve headers regardless of case, accents and surrounding whitespace")
+    void shouldNormaliseLookups() throws Exception {
+        // Given
+        load("PEITO: CHEST\nBÍCEPS: biceps\nABDÔMEN: ABS\n", false);
+
+        // Then
+        assertThat(properties.getMuscleGroup("BÍCEPS")).isEqualTo(Muscle.MuscleGroup.BICEPS);
+        assertThat(properties.getMuscleGroup("bíceps")).isEqualTo(Muscle.MuscleGroup.BICEPS);
+        assertThat(properties.getMuscleGroup(" Biceps ")).isEqualTo(Muscle.MuscleGroup.BICEPS);
+        assertThat(properties.getMuscleGroup("peito")).isEqualTo(Muscle.MuscleGroup.CHEST);
+        assertThat(properties.getMuscleGroup("COSTAS")).isNull();
+        assertThat(properties.getMuscleGroup(null)).isNull();
+    }
+
+    @Test
+    @DisplayName("Should keep headers with invalid targets without resolving them")
+    void shouldKeepInvalidTargetsAsHeaders() throws Exception {
+        // Given
+        load("PEITO: CHEST\nABDÔMEN: ABS\n", false);
+
+        // Then
+        MuscleGroupMapping mapping = properties.getMapping();
+        assertThat(mapping.headers()).containsExactly("PEITO", "ABDÔMEN");
+        assertThat(mapping.invalidTargets()).isEqualTo(Map.of("ABDÔMEN", "ABS"));
+        assertThat(mapping.headers(Muscle.MuscleGroup.CHEST)).containsExactly("PEITO");
+        assertThat(properties.getMuscleGroup("ABDÔMEN")).isNull();
+    }
+
+    @Test
+    @DisplayName("Should swap in the new mapping when the file changes")
+    void shouldReloadWhenFileChanges() throws Exception {
+        // Given
+        Path file = load("PEITO: CHEST\n", true);
+        MuscleGroupMapping initial = properties.getMapping();
+
+        // When
+        Files.writeString(file, "PEITO: CHEST\nCOSTAS: BACK\n");
+
+        // Then
+        await().atMost(Duration.ofSeconds(10))
+                .until(() -> properties.getMuscleGroup("costas") == Muscle.MuscleGroup.BACK);
+        assertThat(initial.get("COSTAS")).isNull();
+    }
+
+    @Test
+    @DisplayName("Should keep the previous mapping when the file becomes invalid")
+    void shouldKeepMappingWhenReloadFails() throws Exception {
+        // Given
+        Path file = load("PEITO: CHEST\n", false);
+
+        // When
+        Files.writeString(file, "- not\n- a mapping\n");
+
+        // Then
+        assertThat(properties.reload()).isFalse();
+        assertThat(properties.getMuscleGroup("PEITO")).isEqualTo(Muscle.MuscleGroup.CHEST);
+    }
+
+    private Path load(String yaml, boolean watch) throws Exception {
+        Path file = Files.writeString(configDir.resolve("exercise-muscle-groups.yml"), yaml);
+        properties.setConfigPath(file.toString());
+        properties.setWatch(watch);
+        properties.loadConfiguration();
+        return file;
+    }
+}
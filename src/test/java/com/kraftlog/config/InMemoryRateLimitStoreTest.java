@@ -0,0 +1,55 @@
+package com.kraftlog.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InMemoryRateLimitStoreTest {
+
+    private final AtomicLong now = new AtomicLong(TimeUnit.HOURS.toNanos(1));
+    private final InMemoryRateLimitStore store = new InMemoryRateLimitStore(1000, Duration.ofMinutes(5), now::get);
+
+    @Test
+    @DisplayName("Should allow a burst up to the capacity and then reject with the time to the next token")
+    void shouldRejectAfterBurst() {
+        for (int i = 2; i >= 0; i--) {
+            RateLimitStore.Probe probe = store.tryConsume("user", 3, 6);
+            assertThat(probe.allowed()).isTrue();
+            assertThat(probe.remaining()).isEqualTo(i);
+        }
+
+        RateLimitStore.Probe rejected = store.tryConsume("user", 3, 6);
+        assertThat(rejected.allowed()).isFalse();
+        assertThat(rejected.remaining()).isZero();
+        assertThat(rejected.retryAfterSeconds()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("Should refill tokens over time without exceeding the capacity")
+    void shouldRefill() {
+        for (int i = 0; i < 3; i++) {
+            store.tryConsume("user", 3, 6);
+        }
+
+        now.addAndGet(TimeUnit.SECONDS.toNanos(10));
+        assertThat(store.tryConsume("user", 3, 6).allowed()).isTrue();
+        assertThat(store.tryConsume("user", 3, 6).allowed()).isFalse();
+
+        now.addAndGet(TimeUnit.HOURS.toNanos(1));
+        assertThat(store.tryConsume("user", 3, 6).remaining()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should keep a bucket per key")
+    void shouldSeparateKeys() {
+        store.tryConsume("a", 1, 1);
+
+        assertThat(store.tryConsume("a", 1, 1).allowed()).isFalse();
+        assertThat(store.tryConsume("b", 1, 1).allowed()).isTrue();
+    }
+}
@@ -0,0 +1,108 @@
+package com.kraftlog.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.kraftlog.security.AuthenticatedUser;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RateLimitFilterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final RateLimitFilter filter = new RateLimitFilter(properties(), new InMemoryRateLimitStore(1000, Duration.ofMinutes(5)),
+            new ObjectMapper().registerModule(new JavaTimeModule()), meterRegistry);
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("Should answer 429 with Retry-After once a user's bucket for a rule is empty")
+    void shouldRejectWhenBucketEmpty() throws Exception {
+        signIn(UUID.randomUUID());
+
+        MockHttpServletResponse first = perform("GET", "/api/log-workouts");
+        assertThat(first.getStatus()).isEqualTo(200);
+        assertThat(first.getHeader(RateLimitFilter.LIMIT_HEADER)).isEqualTo("2");
+        assertThat(first.getHeader(RateLimitFilter.REMAINING_HEADER)).isEqualTo("1");
+        perform("GET", "/api/log-workouts");
+
+        MockHttpServletResponse rejected = perform("GET", "/api/log-workouts");
+        assertThat(rejected.getStatus()).isEqualTo(429);
+        assertThat(rejected.getHeader("Retry-After")).isEqualTo("30");
+        assertThat(rejected.getContentAsString()).contains("Too many requests");
+        assertThat(meterRegistry.get("kraftlog.rate_limit.requests").tags("rule", "lists", "outcome", "rejected")
+                .counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should count other endpoints and other users separately")
+    void shouldSeparateRulesAndUsers() throws Exception {
+        signIn(UUID.randomUUID());
+        perform("GET", "/api/log-workouts");
+        perform("GET", "/api/log-workouts");
+
+        assertThat(perform("GET", "/api/log-workouts/" + UUID.randomUUID()).getStatus()).isEqualTo(200);
+        assertThat(perform("POST", "/api/log-workouts").getStatus()).isEqualTo(200);
+
+        signIn(UUID.randomUUID());
+        assertThat(perform("GET", "/api/log-workouts").getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    @DisplayName("Should limit anonymous auth requests by remote address")
+    void shouldLimitAnonymousByAddress() throws Exception {
+        assertThat(perform("POST", "/api/auth/login").getStatus()).isEqualTo(200);
+        assertThat(perform("POST", "/api/auth/login").getStatus()).isEqualTo(429);
+
+        MockHttpServletRequest otherClient = new MockHttpServletRequest("POST", "/api/auth/login");
+        otherClient.setRemoteAddr("10.0.0.2");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(otherClient, response, (req, res) -> { });
+        assertThat(response.getStatus()).isEqualTo(200);
+    }
+
+    private MockHttpServletResponse perform(String method, String uri) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest(method, uri), response, (req, res) -> { });
+        return response;
+    }
+
+    private static void signIn(UUID userId) {
+        AuthenticatedUser user = AuthenticatedUser.fromToken(userId, userId + "@example.com", false);
+        SecurityContextHolder.getContext().setAuthentication(
+                UsernamePasswordAuthenticationToken.authenticated(user, null, user.getAuthorities()));
+    }
+
+    private static RateLimitProperties properties() {
+        RateLimitProperties.Rule auth = new RateLimitProperties.Rule();
+        auth.setName("auth");
+        auth.setPaths(List.of("/api/auth/**"));
+        auth.setCapacity(1);
+        auth.setRefillPerMinute(1);
+
+        RateLimitProperties.Rule lists = new RateLimitProperties.Rule();
+        lists.setName("lists");
+        lists.setMethods(List.of("get"));
+        lists.setPaths(List.of("/api/log-workouts"));
+        lists.setCapacity(2);
+        lists.setRefillPerMinute(2);
+
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setRules(List.of(auth, lists));
+        return properties;
+    }
+}
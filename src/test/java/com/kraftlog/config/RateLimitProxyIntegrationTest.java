@@ -0,0 +1,51 @@
+package com.kraftlog.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs on the real server: the forwarded client address is resolved by Tomcat, which MockMvc
+ * does not go through. The test client connects from loopback, a trusted proxy address, and
+ * does not retry on 429 the way the pooled client behind TestRestTemplate would.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "app.rate-limit.enabled=true",
+        "RATE_LIMIT_AUTH_CAPACITY=1",
+        "RATE_LIMIT_AUTH_REFILL_PER_MINUTE=1"
+})
+@ActiveProfiles("test")
+class RateLimitProxyIntegrationTest {
+
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    @LocalServerPort
+    private int port;
+
+    @Test
+    @DisplayName("Should give each forwarded client behind a proxy its own anonymous bucket")
+    void shouldKeyAnonymousCallersOnForwardedAddress() throws Exception {
+        assertThat(login("203.0.113.10")).isNotEqualTo(429);
+        assertThat(login("203.0.113.10")).isEqualTo(429);
+
+        assertThat(login("203.0.113.11")).isNotEqualTo(429);
+    }
+
+    private int login(String clientAddress) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/auth/login"))
+                .header("Content-Type", "application/json")
+                .header("X-Forwarded-For", clientAddress)
+                .POST(HttpRequest.BodyPublishers.ofString("{}"))
+                .build();
+        return client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+}
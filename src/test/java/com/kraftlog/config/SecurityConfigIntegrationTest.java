@@ -0,0 +1,38 @@
+package com.kraftlog.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class SecurityConfigIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    @DisplayName("Should serve health checks without a token, with the security headers")
+    void shouldServeOpenRoutesWithSecurityHeaders() throws Exception {
+        mockMvc.perform(get("/api/health").header("Authorization", "Bearer not-a-token"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-Content-Type-Options", "nosniff"))
+                .andExpect(header().exists("Cache-Control"));
+    }
+
+    @Test
+    @DisplayName("Should still require authentication everywhere else")
+    void shouldProtectOtherRoutes() throws Exception {
+        mockMvc.perform(get("/api/routines"))
+                .andExpect(status().isForbidden());
+    }
+}
@@ -0,0 +1,35 @@
+package com.kraftlog.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VirtualThreadConfigTest {
+
+    private final BeanPostProcessor cap = VirtualThreadConfig.connectionTimeoutCap(5000);
+
+    @Test
+    @DisplayName("Should lower a connection timeout above the cap")
+    void shouldCapConnectionTimeout() {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setConnectionTimeout(30000);
+
+        cap.postProcessAfterInitialization(dataSource, "dataSource");
+
+        assertThat(dataSource.getConnectionTimeout()).isEqualTo(5000);
+    }
+
+    @Test
+    @DisplayName("Should keep a connection timeout already below the cap")
+    void shouldKeepShorterConnectionTimeout() {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setConnectionTimeout(2000);
+
+        cap.postProcessAfterInitialization(dataSource, "dataSource");
+
+        assertThat(dataSource.getConnectionTimeout()).isEqualTo(2000);
+    }
+}
@@ -1,7 +1,10 @@
 package com.kraftlog.controller;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kraftlog.TestDataBuilder;
 import com.kraftlog.dto.LoginRequest;
+import com.kraftlog.dto.RefreshTokenRequest;
 import com.kraftlog.dto.RegisterRequest;
 import com.kraftlog.repository.UserRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -11,13 +14,16 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.time.LocalDate;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -207,6 +213,36 @@ class AuthControllerIntegrationTest {
                 .andExpect(jsonPath("$.user.name").value("Login"));
     }
 
+    @Test
+    @DisplayName("Should rehash a password stored with another cost on successful login")
+    void shouldRehashPasswordWithConfiguredCost() throws Exception {
+        // Given
+        String cheapHash = new BCryptPasswordEncoder(4).encode("password123");
+        userRepository.save(TestDataBuilder.defaultUser()
+                .email("rehash@example.com")
+                .password(cheapHash)
+                .build());
+
+        LoginRequest loginRequest = LoginRequest.builder()
+                .email("rehash@example.com")
+                .password("password123")
+                .build();
+
+        // When
+        mockMvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(loginRequest)))
+                .andExpect(status().isOk());
+
+        // Then
+        String storedHash = userRepository.findByEmail("rehash@example.com").orElseThrow().getPassword();
+        assertThat(storedHash).isNotEqualTo(cheapHash).startsWith("$2a$10$");
+        mockMvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(loginRequest)))
+                .andExpect(status().isOk());
+    }
+
     @Test
     @DisplayName("Should reject login with wrong password")
     void shouldRejectWrongPassword() throws Exception {
@@ -323,4 +359,88 @@ class AuthControllerIntegrationTest {
                         .content(objectMapper.writeValueAsString(request2)))
                 .andExpect(status().isCreated());
     }
+
+    @Test
+    @DisplayName("Should rotate the refresh token and issue a working access token")
+    void shouldRefreshTokens() throws Exception {
+        // Given
+        JsonNode login = registerAndLogin("refresh@example.com");
+        String refreshToken = login.get("refreshToken").asText();
+
+        // When
+        JsonNode refreshed = refresh(refreshToken, 200);
+
+        // Then
+        assertThat(refreshed.get("refreshToken").asText()).isNotBlank().isNotEqualTo(refreshToken);
+        assertThat(refreshed.get("expiresIn").asLong()).isPositive();
+        assertThat(refreshed.get("user").get("email").asText()).isEqualTo("refresh@example.com");
+        mockMvc.perform(get("/api/users/email/refresh@example.com")
+                        .header("Authorization", "Bearer " + refreshed.get("token").asText()))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("Should revoke the whole token family when a rotated refresh token is reused")
+    void shouldRevokeFamilyOnReuse() throws Exception {
+        // Given
+        String original = registerAndLogin("reuse@example.com").get("refreshToken").asText();
+        String rotated = refresh(original, 200).get("refreshToken").asText();
+
+        // When
+        refresh(original, 401);
+
+        // Then
+        refresh(rotated, 401);
+    }
+
+    @Test
+    @DisplayName("Should reject refresh tokens after logout and unknown refresh tokens")
+    void shouldRejectRefreshAfterLogout() throws Exception {
+        // Given
+        String refreshToken = registerAndLogin("logout@example.com").get("refreshToken").asText();
+
+        // When
+        mockMvc.perform(post("/api/auth/logout")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new RefreshTokenRequest(refreshToken))))
+                .andExpect(status().isNoContent());
+
+        // Then
+        refresh(refreshToken, 401);
+        refresh("not-a-refresh-token", 401);
+    }
+
+    private JsonNode registerAndLogin(String email) throws Exception {
+        RegisterRequest registerRequest = RegisterRequest.builder()
+                .name("Token")
+                .surname("User")
+                .email(email)
+                .password("password123")
+                .build();
+        mockMvc.perform(post("/api/auth/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(registerRequest)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.refreshToken").isNotEmpty());
+
+        LoginRequest loginRequest = LoginRequest.builder()
+                .email(email)
+                .password("password123")
+                .build();
+        String body = mockMvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(loginRequest)))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body);
+    }
+
+    private JsonNode refresh(String refreshToken, int expectedStatus) throws Exception {
+        String body = mockMvc.perform(post("/api/auth/refresh")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new RefreshTokenRequest(refreshToken))))
+                .andExpect(status().is(expectedStatus))
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body);
+    }
 }
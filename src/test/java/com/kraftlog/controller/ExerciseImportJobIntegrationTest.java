@@ -0,0 +1,183 @@
+package com.kraftlog.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kraftlog.service.ExerciseImportService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.io.File;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.hamcrest.Matchers.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(properties = {
+        "exercise.import.jobs.concurrency=1",
+        "exercise.import.jobs.queue-capacity=1"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@WithMockUser(username = "admin@kraftlog.com", roles = {"ADMIN"})
+class ExerciseImportJobIntegrationTest {
+
+    private static final String JOBS_URL = "/api/admin/exercises/import-jobs";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @MockBean
+    private ExerciseImportService exerciseImportService;
+
+    @Test
+    @DisplayName("Should accept the upload, import it in the background and expose the result")
+    void shouldRunImportJob() throws Exception {
+        // Given
+        List<File> imported = new ArrayList<>();
+        when(exerciseImportService.importExercisesFromPdf(any(File.class), any())).thenAnswer(invocation -> {
+            File upload = invocation.getArgument(0);
+            assertThat(upload).exists().hasContent("%PDF-test");
+            imported.add(upload);
+            ExerciseImportService.ImportResult result = ExerciseImportService.ImportResult.builder().build();
+            result.addSuccesses(2);
+            invocation.<Consumer<ExerciseImportService.ImportResult>>getArgument(1).accept(result);
+            result.addFailure("Broken", "too long");
+            return result;
+        });
+
+        // When
+        MvcResult submitted = mockMvc.perform(multipart(JOBS_URL).file(pdf("exercises.pdf")))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string("Location", containsString(JOBS_URL + "/")))
+                .andExpect(jsonPath("$.fileName").value("exercises.pdf"))
+                .andReturn();
+        String jobId = objectMapper.readTree(submitted.getResponse().getContentAsString()).get("jobId").asText();
+
+        // Then
+        JsonNode job = awaitFinished(jobId);
+        assertThat(job.get("status").asText()).isEqualTo("COMPLETED");
+        assertThat(job.get("processedCount").asInt()).isEqualTo(3);
+        assertThat(job.get("successCount").asInt()).isEqualTo(2);
+        assertThat(job.get("result").get("failures").get(0).get("exerciseName").asText()).isEqualTo("Broken");
+        assertThat(imported).hasSize(1);
+        assertThat(imported.get(0)).doesNotExist();
+
+        MvcResult events = mockMvc.perform(get(JOBS_URL + "/" + jobId + "/events"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        assertThat(events.getResponse().getContentAsString())
+                .contains("event:progress")
+                .contains("\"status\":\"COMPLETED\"");
+    }
+
+    @Test
+    @DisplayName("Should report a failed import on the job")
+    void shouldReportFailedJob() throws Exception {
+        // Given
+        when(exerciseImportService.importExercisesFromPdf(any(File.class), any()))
+                .thenThrow(new IllegalStateException("Corrupt PDF"));
+
+        // When
+        String response = mockMvc.perform(multipart(JOBS_URL).file(pdf("broken.pdf")))
+                .andExpect(status().isAccepted())
+                .andReturn().getResponse().getContentAsString();
+
+        // Then
+        JsonNode job = awaitFinished(objectMapper.readTree(response).get("jobId").asText());
+        assertThat(job.get("status").asText()).isEqualTo("FAILED");
+        assertThat(job.get("error").asText()).isEqualTo("Corrupt PDF");
+    }
+
+    @Test
+    @DisplayName("Should reject new jobs with 503 once the worker and queue are full")
+    void shouldRejectWhenQueueIsFull() throws Exception {
+        // Given
+        CountDownLatch release = new CountDownLatch(1);
+        when(exerciseImportService.importExercisesFromPdf(any(File.class), any())).thenAnswer(invocation -> {
+            release.await(10, TimeUnit.SECONDS);
+            return ExerciseImportService.ImportResult.builder().build();
+        });
+
+        try {
+            // When
+            String first = mockMvc.perform(multipart(JOBS_URL).file(pdf("first.pdf")))
+                    .andExpect(status().isAccepted())
+                    .andReturn().getResponse().getContentAsString();
+            awaitJob(objectMapper.readTree(first).get("jobId").asText(), job -> "RUNNING".equals(job.get("status").asText()));
+            mockMvc.perform(multipart(JOBS_URL).file(pdf("second.pdf"))).andExpect(status().isAccepted());
+
+            // Then
+            mockMvc.perform(multipart(JOBS_URL).file(pdf("third.pdf")))
+                    .andExpect(status().isServiceUnavailable())
+                    .andExpect(header().exists("Retry-After"));
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject files that are not PDFs")
+    void shouldRejectNonPdf() throws Exception {
+        mockMvc.perform(multipart(JOBS_URL)
+                        .file(new MockMultipartFile("file", "exercises.txt", "text/plain", "text".getBytes())))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("File must be a PDF"));
+    }
+
+    @Test
+    @DisplayName("Should return 404 for unknown jobs")
+    void shouldReturnNotFoundForUnknownJob() throws Exception {
+        mockMvc.perform(get(JOBS_URL + "/" + UUID.randomUUID()))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @WithMockUser(username = "user@example.com")
+    @DisplayName("Should forbid non-admin users")
+    void shouldForbidNonAdmin() throws Exception {
+        mockMvc.perform(multipart(JOBS_URL).file(pdf("exercises.pdf")))
+                .andExpect(status().isForbidden());
+    }
+
+    private JsonNode awaitFinished(String jobId) {
+        return awaitJob(jobId, job -> job.get("finishedAt") != null && !job.get("finishedAt").isNull());
+    }
+
+    private JsonNode awaitJob(String jobId, Predicate<JsonNode> condition) {
+        // Same thread so the mock user is still in the security context
+        return await().atMost(Duration.ofSeconds(10)).pollInSameThread().until(() -> {
+            String body = mockMvc.perform(get(JOBS_URL + "/" + jobId))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString();
+            return objectMapper.readTree(body);
+        }, condition);
+    }
+
+    private static MockMultipartFile pdf(String name) {
+        return new MockMultipartFile("file", name, "application/pdf", "%PDF-test".getBytes());
+    }
+}
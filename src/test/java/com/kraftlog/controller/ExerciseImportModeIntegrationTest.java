@@ -0,0 +1,168 @@
+package com.kraftlog.controller;
+
+import com.kraftlog.dto.ExerciseImportDiff;
+import com.kraftlog.exception.BadRequestException;
+import com.kraftlog.service.ExerciseImportService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.File;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.awaitility.Awaitility.await;
+import static org.hamcrest.Matchers.containsString;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * import-pdf in the default auto mode: in-process first, the import service only when the local queue is full
+ */
+@SpringBootTest(properties = {
+        "exercise.import.jobs.concurrency=1",
+        "exercise.import.jobs.queue-capacity=1",
+        "exercise.import.sync-timeout-ms=2000"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@WithMockUser(username = "admin@kraftlog.com", roles = {"ADMIN"})
+class ExerciseImportModeIntegrationTest {
+
+    private static final String IMPORT_URL = "/api/admin/exercises/import-pdf";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private ExerciseImportService exerciseImportService;
+
+    @MockBean
+    private RestTemplate restTemplate;
+
+    @Test
+    @DisplayName("Should import in-process without calling the import service")
+    void shouldImportLocally() throws Exception {
+        // Given
+        when(exerciseImportService.importExercisesFromPdf(any(File.class), any())).thenAnswer(invocation -> {
+            ExerciseImportService.ImportResult result = ExerciseImportService.ImportResult.builder().build();
+            result.addSuccesses(12);
+            result.addFailure("Broken", "too long");
+            return result;
+        });
+
+        // When & Then
+        mockMvc.perform(multipart(IMPORT_URL).file(pdf()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("success"))
+                .andExpect(jsonPath("$.successCount").value(12))
+                .andExpect(jsonPath("$.failureCount").value(1))
+                .andExpect(jsonPath("$.failures[0].exerciseName").value("Broken"));
+        verifyNoInteractions(restTemplate);
+    }
+
+    @Test
+    @DisplayName("Should return 400 when the in-process import finds no exercises")
+    void shouldReturnBadRequestWhenNothingParsed() throws Exception {
+        // Given
+        when(exerciseImportService.importExercisesFromPdf(any(File.class), any()))
+                .thenThrow(new BadRequestException("No exercises found in PDF file"));
+
+        // When & Then
+        mockMvc.perform(multipart(IMPORT_URL).file(pdf()))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("No exercises found in PDF file"));
+    }
+
+    @Test
+    @DisplayName("Should answer 202 with the job when the in-process import outlasts the sync timeout")
+    void shouldReturnJobWhenImportIsSlow() throws Exception {
+        // Given
+        CountDownLatch release = new CountDownLatch(1);
+        when(exerciseImportService.importExercisesFromPdf(any(File.class), any())).thenAnswer(invocation -> {
+            release.await(10, TimeUnit.SECONDS);
+            return ExerciseImportService.ImportResult.builder().build();
+        });
+
+        try {
+            // When & Then
+            mockMvc.perform(multipart(IMPORT_URL).file(pdf()))
+                    .andExpect(status().isAccepted())
+                    .andExpect(header().string("Location", containsString("/api/admin/exercises/import-jobs/")))
+                    .andExpect(jsonPath("$.status").value("processing"));
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    @DisplayName("Should forward to the import service when the local queue is full")
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    void shouldFallBackToImportServiceWhenSaturated() throws Exception {
+        // Given
+        CountDownLatch release = new CountDownLatch(1);
+        when(exerciseImportService.importExercisesFromPdf(any(File.class), any())).thenAnswer(invocation -> {
+            release.await(10, TimeUnit.SECONDS);
+            return ExerciseImportService.ImportResult.builder().build();
+        });
+        when(restTemplate.exchange(anyString(), eq(HttpMethod.POST), any(HttpEntity.class), eq(Map.class)))
+                .thenReturn((ResponseEntity) ResponseEntity.ok(Map.of("status", "success", "source", "remote")));
+
+        try {
+            // Fill the worker and the queue; retried while jobs from earlier tests are still winding down
+            for (int i = 0; i < 2; i++) {
+                await().atMost(Duration.ofSeconds(10)).pollInSameThread().until(() -> mockMvc
+                        .perform(multipart("/api/admin/exercises/import-jobs").file(pdf()))
+                        .andReturn().getResponse().getStatus() == 202);
+            }
+
+            // When & Then
+            mockMvc.perform(multipart(IMPORT_URL).file(pdf()))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.source").value("remote"));
+            verify(restTemplate).exchange(endsWith("/api/import/pdf"), eq(HttpMethod.POST),
+                    any(HttpEntity.class), eq(Map.class));
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    @DisplayName("Should preview an import without importing it")
+    void shouldReturnDryRunDiff() throws Exception {
+        // Given
+        when(exerciseImportService.diffExercisesFromPdf(any(File.class))).thenReturn(ExerciseImportDiff.builder()
+                .contentHash("abc")
+                .added(List.of("Supino"))
+                .unchangedCount(40)
+                .build());
+
+        // When & Then
+        mockMvc.perform(multipart(IMPORT_URL + "/dry-run").file(pdf()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.added[0]").value("Supino"))
+                .andExpect(jsonPath("$.unchangedCount").value(40));
+        verify(exerciseImportService, never()).importExercisesFromPdf(any(File.class), any());
+        verifyNoInteractions(restTemplate);
+    }
+
+    private static MockMultipartFile pdf() {
+        return new MockMultipartFile("file", "catalog.pdf", "application/pdf", "%PDF-test".getBytes());
+    }
+}
@@ -0,0 +1,154 @@
+package com.kraftlog.controller;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Proxies uploads to a local stub of the import service
+ */
+@SpringBootTest(properties = {
+        "exercise.import.mode=remote",
+        "app.http-client.read-timeout-ms=1000"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@WithMockUser(username = "admin@kraftlog.com", roles = {"ADMIN"})
+class ExerciseImportProxyIntegrationTest {
+
+    private static final HttpServer STUB = startStub();
+    private static final AtomicReference<ReceivedUpload> RECEIVED = new AtomicReference<>();
+    private static volatile long responseDelayMs;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @DynamicPropertySource
+    static void importServiceUrl(DynamicPropertyRegistry registry) {
+        registry.add("KRAFTLOG_IMPORT_SERVICE_URL", () -> "http://localhost:" + STUB.getAddress().getPort());
+    }
+
+    @AfterAll
+    static void stopStub() {
+        STUB.stop(0);
+    }
+
+    @BeforeEach
+    void setUp() {
+        RECEIVED.set(null);
+        responseDelayMs = 0;
+    }
+
+    @Test
+    @DisplayName("Should stream the upload to the import service without buffering it")
+    void shouldStreamUpload() throws Exception {
+        // Given
+        byte[] pdf = new byte[4 * 1024 * 1024];
+        new Random(1).nextBytes(pdf);
+        byte[] marker = "%%EOF-catalog".getBytes(StandardCharsets.ISO_8859_1);
+        System.arraycopy(marker, 0, pdf, pdf.length - marker.length, marker.length);
+
+        // When & Then
+        mockMvc.perform(multipart("/api/admin/exercises/import-pdf")
+                        .file(new MockMultipartFile("file", "catalog.pdf", "application/pdf", pdf)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("success"));
+
+        ReceivedUpload upload = RECEIVED.get();
+        assertThat(upload.path()).isEqualTo("/api/import/pdf");
+        // A buffered body would have been sent with a Content-Length
+        assertThat(upload.transferEncoding()).isEqualTo("chunked");
+        assertThat(upload.head()).contains("filename=\"catalog.pdf\"");
+        assertThat(upload.tail()).contains("%%EOF-catalog");
+        assertThat(upload.size()).isGreaterThan(pdf.length);
+    }
+
+    @Test
+    @DisplayName("Should answer 503 when the import service does not respond in time")
+    void shouldReturnServiceUnavailableOnTimeout() throws Exception {
+        // Given
+        responseDelayMs = 3000;
+
+        // When & Then
+        mockMvc.perform(multipart("/api/admin/exercises/import-pdf")
+                        .file(new MockMultipartFile("file", "catalog.pdf", "application/pdf", "%PDF".getBytes())))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(jsonPath("$.status").value("error"));
+    }
+
+    private static HttpServer startStub() {
+        try {
+            HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+            server.createContext("/api/import/pdf", ExerciseImportProxyIntegrationTest::handle);
+            server.start();
+            return server;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void handle(HttpExchange exchange) throws IOException {
+        // Keep only the start and end of the multipart body so the stub stays small too
+        byte[] head = new byte[512];
+        int headLength = 0;
+        StringBuilder tail = new StringBuilder();
+        long size = 0;
+        try (InputStream in = exchange.getRequestBody()) {
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                int copy = Math.min(read, head.length - headLength);
+                System.arraycopy(buffer, 0, head, headLength, copy);
+                headLength += copy;
+                tail.append(new String(buffer, 0, read, StandardCharsets.ISO_8859_1));
+                if (tail.length() > 1024) {
+                    tail.delete(0, tail.length() - 1024);
+                }
+                size += read;
+            }
+        }
+        RECEIVED.set(new ReceivedUpload(exchange.getRequestURI().getPath(),
+                exchange.getRequestHeaders().getFirst("Transfer-Encoding"),
+                new String(head, 0, headLength, StandardCharsets.ISO_8859_1), tail.toString(), size));
+
+        if (responseDelayMs > 0) {
+            try {
+                Thread.sleep(responseDelayMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        byte[] response = "{\"status\":\"success\",\"imported\":1}".getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, response.length);
+        exchange.getResponseBody().write(response);
+        exchange.close();
+    }
+
+    private record ReceivedUpload(String path, String transferEncoding, String head, String tail, long size) {
+    }
+}
@@ -0,0 +1,212 @@
+package com.kraftlog.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kraftlog.TestDataBuilder;
+import com.kraftlog.entity.Exercise;
+import com.kraftlog.entity.LogExercise;
+import com.kraftlog.entity.LogRoutine;
+import com.kraftlog.entity.LogWorkout;
+import com.kraftlog.entity.Routine;
+import com.kraftlog.entity.User;
+import com.kraftlog.entity.Workout;
+import com.kraftlog.repository.ExerciseRepository;
+import com.kraftlog.repository.LogExerciseRepository;
+import com.kraftlog.repository.LogRoutineRepository;
+import com.kraftlog.repository.LogSetRepository;
+import com.kraftlog.repository.LogWorkoutRepository;
+import com.kraftlog.repository.RoutineRepository;
+import com.kraftlog.repository.UserRepository;
+import com.kraftlog.repository.WorkoutRepository;
+import com.kraftlog.security.AuthenticatedUser;
+import com.kraftlog.security.JwtUtil;
+import com.kraftlog.service.HistoryExportService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "app.export.max-concurrent=1")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DirtiesContext
+class HistoryExportIntegrationTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2024, 3, 1, 18, 0);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ExerciseRepository exerciseRepository;
+
+    @Autowired
+    private RoutineRepository routineRepository;
+
+    @Autowired
+    private WorkoutRepository workoutRepository;
+
+    @Autowired
+    private LogRoutineRepository logRoutineRepository;
+
+    @Autowired
+    private LogWorkoutRepository logWorkoutRepository;
+
+    @Autowired
+    private LogExerciseRepository logExerciseRepository;
+
+    @Autowired
+    private LogSetRepository logSetRepository;
+
+    @SpyBean
+    private HistoryExportService historyExportService;
+
+    private User owner;
+    private String ownerToken;
+
+    @BeforeEach
+    void setUp() {
+        Exercise exercise = exerciseRepository.save(TestDataBuilder.defaultExercise()
+                .name("Export Squat " + UUID.randomUUID()).build());
+        owner = userRepository.save(TestDataBuilder.defaultUser()
+                .email("export-" + UUID.randomUUID() + "@example.com").build());
+        ownerToken = jwtUtil.generateToken(new AuthenticatedUser(owner));
+
+        Routine routine = routineRepository.save(TestDataBuilder.defaultRoutine(owner).build());
+        Workout workout = workoutRepository.save(TestDataBuilder.defaultWorkout(routine).build());
+        LogRoutine session = logRoutineRepository.save(TestDataBuilder.defaultLogRoutine(routine)
+                .startDatetime(START).build());
+        LogWorkout logWorkout = logWorkoutRepository.save(TestDataBuilder.defaultLogWorkout(session, workout)
+                .startDatetime(START).build());
+        LogExercise logExercise = logExerciseRepository.save(TestDataBuilder.defaultLogExercise(logWorkout, exercise)
+                .startDatetime(START).notes("Heavy, \"deep\"").build());
+        logSetRepository.save(TestDataBuilder.defaultLogSet(logExercise).setNumber(1).weightKg(100.0).build());
+        logSetRepository.save(TestDataBuilder.defaultLogSet(logExercise).setNumber(2).weightKg(105.0).build());
+        // A later session abandoned before any workout was logged
+        logRoutineRepository.save(TestDataBuilder.defaultLogRoutine(routine).startDatetime(START.plusDays(2)).build());
+
+        User other = userRepository.save(TestDataBuilder.defaultUser()
+                .email("export-other-" + UUID.randomUUID() + "@example.com").build());
+        Routine otherRoutine = routineRepository.save(TestDataBuilder.defaultRoutine(other).build());
+        logRoutineRepository.save(TestDataBuilder.defaultLogRoutine(otherRoutine).build());
+    }
+
+    @Test
+    @DisplayName("Should stream one nested routine session per NDJSON line")
+    void shouldExportNdjson() throws Exception {
+        String body = export("ndjson", "application/x-ndjson");
+
+        String[] lines = body.split("\n");
+        assertThat(lines).hasSize(2);
+
+        JsonNode first = objectMapper.readTree(lines[0]);
+        assertThat(first.get("startDatetime").asText()).isEqualTo("2024-03-01T18:00");
+        JsonNode exercise = first.get("workouts").get(0).get("exercises").get(0);
+        assertThat(exercise.get("notes").asText()).isEqualTo("Heavy, \"deep\"");
+        assertThat(exercise.get("sets")).hasSize(2);
+        assertThat(exercise.get("sets").get(1).get("setNumber").asInt()).isEqualTo(2);
+        assertThat(exercise.get("sets").get(1).get("weightKg").asDouble()).isEqualTo(105.0);
+
+        JsonNode second = objectMapper.readTree(lines[1]);
+        assertThat(second.get("startDatetime").asText()).isEqualTo("2024-03-03T18:00");
+        assertThat(second.get("workouts")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should stream one CSV row per set with escaped text")
+    void shouldExportCsv() throws Exception {
+        String body = export("csv", "text/csv");
+
+        String[] lines = body.split("\n");
+        assertThat(lines).hasSize(4);
+        assertThat(lines[0]).startsWith("log_routine_id,routine_id,routine_name");
+        assertThat(lines[1]).contains(",\"Heavy, \"\"deep\"\"\",").contains(",1,10,100.0,90,");
+        assertThat(lines[2]).contains(",2,10,105.0,90,");
+        assertThat(lines[3]).contains("2024-03-03T18:00").endsWith(",,,,,,,,,,,,,,,,,,,,");
+    }
+
+    @Test
+    @DisplayName("Should reject unknown export formats")
+    void shouldRejectUnknownFormat() throws Exception {
+        mockMvc.perform(get("/api/export/history").param("format", "xml")
+                        .header("Authorization", "Bearer " + ownerToken))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Should require authentication")
+    void shouldRequireAuthentication() throws Exception {
+        mockMvc.perform(get("/api/export/history"))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    @DisplayName("Should answer 503 while every export slot is streaming and free the slot afterwards")
+    void shouldRejectExportsBeyondLimit() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            release.await(10, TimeUnit.SECONDS);
+            return invocation.callRealMethod();
+        }).when(historyExportService).export(any(), any(), any());
+
+        MvcResult running = mockMvc.perform(get("/api/export/history")
+                        .header("Authorization", "Bearer " + ownerToken))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(get("/api/export/history")
+                        .header("Authorization", "Bearer " + ownerToken))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "30"));
+
+        release.countDown();
+        mockMvc.perform(asyncDispatch(running)).andExpect(status().isOk());
+
+        assertThat(export("ndjson", "application/x-ndjson").split("\n")).hasSize(2);
+    }
+
+    private String export(String format, String contentType) throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/export/history").param("format", format)
+                        .header("Authorization", "Bearer " + ownerToken))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        return mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(contentType))
+                .andExpect(header().string("Content-Disposition", containsString("attachment")))
+                .andReturn().getResponse().getContentAsString();
+    }
+}
@@ -0,0 +1,229 @@
+package com.kraftlog.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kraftlog.TestDataBuilder;
+import com.kraftlog.entity.Exercise;
+import com.kraftlog.entity.LogRoutine;
+import com.kraftlog.entity.LogSet;
+import com.kraftlog.entity.Routine;
+import com.kraftlog.entity.User;
+import com.kraftlog.repository.ExerciseRepository;
+import com.kraftlog.repository.LogRoutineRepository;
+import com.kraftlog.repository.LogSetRepository;
+import com.kraftlog.repository.RoutineRepository;
+import com.kraftlog.repository.UserRepository;
+import com.kraftlog.security.AuthenticatedUser;
+import com.kraftlog.security.JwtUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "app.import.batch-size=2")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DirtiesContext
+class HistoryImportIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ExerciseRepository exerciseRepository;
+
+    @Autowired
+    private RoutineRepository routineRepository;
+
+    @Autowired
+    private LogRoutineRepository logRoutineRepository;
+
+    @Autowired
+    private LogSetRepository logSetRepository;
+
+    private User user;
+    private String token;
+    private String squat;
+    private String bench;
+
+    @BeforeEach
+    void setUp() {
+        squat = exerciseRepository.save(TestDataBuilder.defaultExercise()
+                .name("Import Squat " + UUID.randomUUID()).build()).getName();
+        bench = exerciseRepository.save(TestDataBuilder.defaultExercise()
+                .name("Import Bench " + UUID.randomUUID()).build()).getName();
+        user = userRepository.save(TestDataBuilder.defaultUser()
+                .email("import-" + UUID.randomUUID() + "@example.com").build());
+        token = jwtUtil.generateToken(new AuthenticatedUser(user));
+    }
+
+    @Test
+    @DisplayName("Should import CSV rows into sessions, reporting invalid rows by line")
+    void shouldImportCsv() throws Exception {
+        String csv = String.join("\n",
+                "routine_name,routine_start,workout_name,exercise_name,set_number,reps,weight_kg,set_notes,extra",
+                "Strong,2024-01-08 18:00:00,Legs," + squat + ",1,5,100,,ignored",
+                "Strong,2024-01-08 18:00:00,Legs," + squat + ",2,5,102.5,\"Tough, but\nclean\",",
+                "Strong,2024-01-08 18:00:00,Legs,Unknown Lift,1,5,50,,",
+                "Strong,2024-01-08 18:00:00,Legs," + bench.toUpperCase() + ",,8,60,,",
+                "Strong,2024-01-10,Legs," + squat + ",1,five,100,,",
+                "Strong,2024-01-10,Legs," + squat + ",1,5,105,,") + "\n";
+
+        List<JsonNode> events = importFile("history.csv", csv);
+
+        JsonNode result = events.get(events.size() - 1);
+        assertThat(result.get("type").asText()).isEqualTo("result");
+        assertThat(result.get("processedCount").asInt()).isEqualTo(6);
+        assertThat(result.get("importedSetCount").asInt()).isEqualTo(4);
+        assertThat(result.get("sessionCount").asInt()).isEqualTo(2);
+        assertThat(result.get("createdRoutineCount").asInt()).isEqualTo(1);
+        assertThat(result.get("failureCount").asInt()).isEqualTo(2);
+
+        List<JsonNode> errors = events.stream().filter(event -> event.get("type").asText().equals("error")).toList();
+        assertThat(errors).extracting(error -> error.get("line").asInt()).containsExactly(5, 7);
+        assertThat(errors.get(0).get("reason").asText()).startsWith("Unknown exercise");
+        assertThat(events).anyMatch(event -> event.get("type").asText().equals("progress"));
+
+        Routine routine = routineRepository.findByUserId(user.getId()).get(0);
+        assertThat(routine.getName()).isEqualTo("Strong");
+        List<LogRoutine> sessions = logRoutineRepository.findByUserIdOrderByStartDatetimeDesc(user.getId());
+        assertThat(sessions).extracting(LogRoutine::getStartDatetime)
+                .containsExactly(LocalDateTime.of(2024, 1, 10, 0, 0), LocalDateTime.of(2024, 1, 8, 18, 0));
+
+        List<LogSet> sets = setsOf(user);
+        assertThat(sets).hasSize(4);
+        assertThat(sets).allMatch(set -> set.getUserId().equals(user.getId()));
+        assertThat(sets).extracting(LogSet::getNotes).contains("Tough, but\nclean");
+        assertThat(sets).extracting(LogSet::getWeightKg).containsExactlyInAnyOrder(100.0, 102.5, 60.0, 105.0);
+    }
+
+    @Test
+    @DisplayName("Should import NDJSON lines into an existing routine")
+    void shouldImportNdjson() throws Exception {
+        Routine existing = routineRepository.save(TestDataBuilder.defaultRoutine(user).name("Push").build());
+        // Build the routine's detail view, which the import must invalidate
+        mockMvc.perform(get("/api/routines/" + existing.getId()).header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk());
+        String ndjson = String.join("\n",
+                "{\"routine_name\":\"push\",\"routine_start\":\"2024-02-01T07:30:00\",\"exercise_name\":\"" + bench
+                        + "\",\"reps\":10,\"weight_kg\":40,\"completed\":true}",
+                "",
+                "not json",
+                "{\"routine_name\":\"push\",\"routine_start\":\"2024-02-01T07:30:00\",\"exercise_name\":\"" + bench
+                        + "\",\"reps\":8,\"weight_kg\":45}") + "\n";
+
+        List<JsonNode> events = importFile("history.jsonl", ndjson);
+
+        JsonNode result = events.get(events.size() - 1);
+        assertThat(result.get("importedSetCount").asInt()).isEqualTo(2);
+        assertThat(result.get("createdRoutineCount").asInt()).isZero();
+        assertThat(result.get("failureCount").asInt()).isEqualTo(1);
+        assertThat(events).anyMatch(event -> event.get("type").asText().equals("error")
+                && event.get("line").asInt() == 3);
+
+        assertThat(routineRepository.findByUserId(user.getId())).extracting(Routine::getId)
+                .containsExactly(existing.getId());
+        assertThat(setsOf(user)).extracting(LogSet::getSetNumber).containsExactly(1, 2);
+        String routine = mockMvc.perform(get("/api/routines/" + existing.getId())
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        assertThat(objectMapper.readTree(routine).get("workouts")).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("Should import a CSV export of another account")
+    void shouldReimportExport() throws Exception {
+        shouldImportCsv();
+        MvcResult exported = mockMvc.perform(get("/api/export/history").param("format", "csv")
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        String csv = mockMvc.perform(asyncDispatch(exported)).andReturn().getResponse().getContentAsString();
+
+        user = userRepository.save(TestDataBuilder.defaultUser()
+                .email("import-copy-" + UUID.randomUUID() + "@example.com").build());
+        token = jwtUtil.generateToken(new AuthenticatedUser(user));
+        List<JsonNode> events = importFile("copy.csv", csv);
+
+        JsonNode result = events.get(events.size() - 1);
+        assertThat(result.get("importedSetCount").asInt()).isEqualTo(4);
+        assertThat(result.get("sessionCount").asInt()).isEqualTo(2);
+        assertThat(result.get("failureCount").asInt()).isZero();
+        assertThat(setsOf(user)).extracting(LogSet::getNotes).contains("Tough, but\nclean");
+    }
+
+    @Test
+    @DisplayName("Should report a CSV header without required columns")
+    void shouldRejectMissingColumns() throws Exception {
+        List<JsonNode> events = importFile("history.csv", "name,reps\nSquat,5\n");
+
+        assertThat(events).hasSize(1);
+        assertThat(events.get(0).get("type").asText()).isEqualTo("error");
+        assertThat(events.get(0).get("reason").asText()).contains("routine_start");
+    }
+
+    @Test
+    @DisplayName("Should reject files of unknown format")
+    void shouldRejectUnknownFormat() throws Exception {
+        mockMvc.perform(multipart("/api/import/history")
+                        .file(new MockMultipartFile("file", "history.xlsx", "application/octet-stream", new byte[]{1}))
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isBadRequest());
+    }
+
+    private List<JsonNode> importFile(String fileName, String content) throws Exception {
+        MvcResult started = mockMvc.perform(multipart("/api/import/history")
+                        .file(new MockMultipartFile("file", fileName, "text/plain",
+                                content.getBytes(StandardCharsets.UTF_8)))
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        String body = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        List<JsonNode> events = new ArrayList<>();
+        for (String line : body.split("\n")) {
+            events.add(objectMapper.readTree(line));
+        }
+        return events;
+    }
+
+    private List<LogSet> setsOf(User owner) {
+        return logSetRepository.findAll().stream()
+                .filter(set -> set.getUserId().equals(owner.getId()))
+                .sorted(Comparator.comparing(LogSet::getSetNumber))
+                .toList();
+    }
+}
@@ -0,0 +1,95 @@
+package com.kraftlog.controller;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.async.StandardServletAsyncWebRequest;
+import org.springframework.web.context.request.async.WebAsyncManager;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StreamCleanupTest {
+
+    private final MockHttpServletRequest request = new MockHttpServletRequest();
+    private final AtomicInteger cleanups = new AtomicInteger();
+    private final AtomicBoolean written = new AtomicBoolean();
+    private WebAsyncManager asyncManager;
+
+    @BeforeEach
+    void setUp() {
+        request.setAsyncSupported(true);
+        asyncManager = WebAsyncUtils.getAsyncManager(request);
+        asyncManager.setAsyncWebRequest(new StandardServletAsyncWebRequest(request, new MockHttpServletResponse()));
+    }
+
+    @Test
+    @DisplayName("Should clean up once when the body has been streamed")
+    void shouldCleanUpAfterBody() throws Exception {
+        List<Runnable> queued = queueingExecutor();
+        StreamingResponseBody body = guard();
+        start(body);
+
+        queued.forEach(Runnable::run);
+        request.getAsyncContext().complete();
+
+        assertThat(written).isTrue();
+        assertThat(cleanups).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Should clean up once and skip the body when the request completes while it is still queued")
+    void shouldCleanUpWhenRequestCompletesFirst() throws Exception {
+        List<Runnable> queued = queueingExecutor();
+        StreamingResponseBody body = guard();
+        start(body);
+
+        // The async timeout fired before a thread picked the body up
+        request.getAsyncContext().complete();
+        queued.forEach(Runnable::run);
+
+        assertThat(written).isFalse();
+        assertThat(cleanups).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Should clean up once when the executor rejects the body")
+    void shouldCleanUpWhenRejected() throws Exception {
+        asyncManager.setTaskExecutor(task -> {
+            throw new TaskRejectedException("Executor is full");
+        });
+        StreamingResponseBody body = guard();
+        start(body);
+        request.getAsyncContext().complete();
+
+        assertThat(written).isFalse();
+        assertThat(cleanups).hasValue(1);
+    }
+
+    private StreamingResponseBody guard() {
+        return StreamCleanup.guard(request, out -> written.set(true), cleanups::incrementAndGet);
+    }
+
+    private void start(StreamingResponseBody body) throws Exception {
+        asyncManager.startCallableProcessing(() -> {
+            body.writeTo(new ByteArrayOutputStream());
+            return null;
+        });
+    }
+
+    private List<Runnable> queueingExecutor() {
+        List<Runnable> queued = new ArrayList<>();
+        asyncManager.setTaskExecutor(queued::add);
+        return queued;
+    }
+}
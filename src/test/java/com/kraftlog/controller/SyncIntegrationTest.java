@@ -0,0 +1,300 @@
+package com.kraftlog.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kraftlog.TestDataBuilder;
+import com.kraftlog.entity.Exercise;
+import com.kraftlog.entity.LogExercise;
+import com.kraftlog.entity.LogRoutine;
+import com.kraftlog.entity.LogSet;
+import com.kraftlog.entity.LogWorkout;
+import com.kraftlog.entity.Routine;
+import com.kraftlog.entity.User;
+import com.kraftlog.entity.Workout;
+import com.kraftlog.entity.WorkoutExercise;
+import com.kraftlog.repository.ExerciseRepository;
+import com.kraftlog.repository.LogExerciseRepository;
+import com.kraftlog.repository.LogRoutineRepository;
+import com.kraftlog.repository.LogSetRepository;
+import com.kraftlog.repository.LogWorkoutRepository;
+import com.kraftlog.repository.RoutineRepository;
+import com.kraftlog.repository.UserRepository;
+import com.kraftlog.repository.WorkoutExerciseRepository;
+import com.kraftlog.repository.WorkoutRepository;
+import com.kraftlog.security.AuthenticatedUser;
+import com.kraftlog.security.JwtUtil;
+import com.kraftlog.service.ExerciseService;
+import com.kraftlog.service.LogRoutineService;
+import com.kraftlog.service.LogSetService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "app.sync.overlap-ms=0")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DirtiesContext
+class SyncIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ExerciseRepository exerciseRepository;
+
+    @Autowired
+    private RoutineRepository routineRepository;
+
+    @Autowired
+    private WorkoutRepository workoutRepository;
+
+    @Autowired
+    private WorkoutExerciseRepository workoutExerciseRepository;
+
+    @Autowired
+    private LogRoutineRepository logRoutineRepository;
+
+    @Autowired
+    private LogWorkoutRepository logWorkoutRepository;
+
+    @Autowired
+    private LogExerciseRepository logExerciseRepository;
+
+    @Autowired
+    private LogSetRepository logSetRepository;
+
+    @Autowired
+    private LogSetService logSetService;
+
+    @Autowired
+    private LogRoutineService logRoutineService;
+
+    @Autowired
+    private ExerciseService exerciseService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private String token;
+    private Exercise exercise;
+    private Routine routine;
+    private Workout workout;
+    private LogRoutine session;
+    private LogExercise logExercise;
+    private List<LogSet> sets;
+    private Routine otherRoutine;
+
+    @BeforeEach
+    void setUp() {
+        exercise = exerciseRepository.save(TestDataBuilder.defaultExercise()
+                .name("Sync Squat " + UUID.randomUUID()).build());
+        User user = userRepository.save(TestDataBuilder.defaultUser()
+                .email("sync-" + UUID.randomUUID() + "@example.com").build());
+        token = jwtUtil.generateToken(new AuthenticatedUser(user));
+
+        routine = routineRepository.save(TestDataBuilder.defaultRoutine(user).build());
+        workout = workoutRepository.save(TestDataBuilder.defaultWorkout(routine).build());
+        session = logRoutineRepository.save(TestDataBuilder.defaultLogRoutine(routine).build());
+        LogWorkout logWorkout = logWorkoutRepository.save(TestDataBuilder.defaultLogWorkout(session, workout).build());
+        logExercise = logExerciseRepository.save(TestDataBuilder.defaultLogExercise(logWorkout, exercise).build());
+        sets = new ArrayList<>();
+        for (int i = 1; i <= 5; i++) {
+            sets.add(logSetRepository.save(TestDataBuilder.defaultLogSet(logExercise).setNumber(i).build()));
+        }
+
+        User other = userRepository.save(TestDataBuilder.defaultUser()
+                .email("sync-other-" + UUID.randomUUID() + "@example.com").build());
+        otherRoutine = routineRepository.save(TestDataBuilder.defaultRoutine(other).build());
+        logRoutineRepository.save(TestDataBuilder.defaultLogRoutine(otherRoutine).build());
+    }
+
+    @Test
+    @DisplayName("Should return all of the user's data on first sync")
+    void shouldReturnEverythingWithoutCursor() throws Exception {
+        JsonNode page = sync(get("/api/sync"));
+
+        assertThat(page.get("hasMore").asBoolean()).isFalse();
+        assertThat(page.get("reset").asBoolean()).isFalse();
+        assertThat(page.get("cursor").asText()).isNotBlank();
+        assertThat(ids(page, "exercises")).contains(exercise.getId().toString());
+        assertThat(ids(page, "routines")).containsExactly(routine.getId().toString());
+        assertThat(page.get("workouts")).hasSize(1);
+        assertThat(ids(page, "logRoutines")).containsExactly(session.getId().toString());
+        assertThat(page.get("logWorkouts")).hasSize(1);
+        assertThat(page.get("logExercises").get(0).get("exerciseName").asText()).isEqualTo(exercise.getName());
+        assertThat(page.get("logSets")).hasSize(5);
+        assertThat(page.get("logSets").get(0).get("updatedAt").isNull()).isFalse();
+        assertThat(page.get("deleted")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should return only what changed or was deleted since the cursor")
+    void shouldReturnChangesSinceCursor() throws Exception {
+        String cursor = sync(get("/api/sync")).get("cursor").asText();
+        Thread.sleep(5);
+
+        LogSet changed = sets.get(0);
+        changed.setReps(12);
+        logSetRepository.save(changed);
+        logSetService.deleteLogSet(sets.get(1).getId());
+        Exercise unused = exerciseRepository.save(TestDataBuilder.defaultExercise()
+                .name("Sync Unused " + UUID.randomUUID()).build());
+        exerciseService.deleteExercise(unused.getId());
+
+        JsonNode page = sync(get("/api/sync").param("cursor", cursor));
+
+        assertThat(page.get("routines")).isEmpty();
+        assertThat(page.get("logRoutines")).isEmpty();
+        assertThat(ids(page, "logSets")).containsExactly(changed.getId().toString());
+        assertThat(page.get("logSets").get(0).get("reps").asInt()).isEqualTo(12);
+        List<String> deleted = new ArrayList<>();
+        page.get("deleted").forEach(deletion -> deleted.add(
+                deletion.get("entityType").asText() + ":" + deletion.get("id").asText()));
+        assertThat(deleted).containsExactlyInAnyOrder(
+                "LOG_SET:" + sets.get(1).getId(), "EXERCISE:" + unused.getId());
+    }
+
+    @Test
+    @DisplayName("Should return workouts whose exercise was deleted since the cursor")
+    void shouldReturnWorkoutsOfDeletedExercise() throws Exception {
+        Exercise planned = exerciseRepository.save(TestDataBuilder.defaultExercise()
+                .name("Sync Planned " + UUID.randomUUID()).build());
+        workoutExerciseRepository.save(WorkoutExercise.builder()
+                .workoutId(workout.getId()).exerciseId(planned.getId()).orderIndex(0).build());
+        String cursor = sync(get("/api/sync")).get("cursor").asText();
+        Thread.sleep(5);
+
+        exerciseService.deleteExercise(planned.getId());
+
+        JsonNode page = sync(get("/api/sync").param("cursor", cursor));
+        assertThat(ids(page, "workouts")).containsExactly(workout.getId().toString());
+        assertThat(page.get("workouts").get(0).get("exercises")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should not return other users' changes or deletions")
+    void shouldScopeToUser() throws Exception {
+        String cursor = sync(get("/api/sync")).get("cursor").asText();
+        Thread.sleep(5);
+
+        LogRoutine otherSession = logRoutineRepository.save(TestDataBuilder.defaultLogRoutine(otherRoutine).build());
+        logRoutineService.deleteLogRoutine(otherSession.getId());
+
+        JsonNode page = sync(get("/api/sync").param("cursor", cursor));
+
+        assertThat(page.get("logRoutines")).isEmpty();
+        assertThat(page.get("deleted")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should page through changes with the returned cursor")
+    void shouldPageThroughChanges() throws Exception {
+        List<String> setIds = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        JsonNode page;
+        do {
+            MockHttpServletRequestBuilder request = get("/api/sync").param("limit", "2");
+            if (cursor != null) {
+                request.param("cursor", cursor);
+            }
+            page = sync(request);
+            page.get("logSets").forEach(set -> setIds.add(set.get("id").asText()));
+            assertThat(page.get("logSets").size()).isLessThanOrEqualTo(2);
+            cursor = page.get("cursor").asText();
+            pages++;
+        } while (page.get("hasMore").asBoolean() && pages < 20);
+
+        assertThat(pages).isGreaterThan(1);
+        assertThat(setIds).containsExactlyInAnyOrderElementsOf(
+                sets.stream().map(set -> set.getId().toString()).toList());
+    }
+
+    @Test
+    @DisplayName("Should split rows changed at the same time across pages of at most limit rows")
+    void shouldPageThroughRowsSharingChangeTime() throws Exception {
+        // As left by a backfill or a bulk import
+        jdbcTemplate.update("UPDATE log_sets SET updated_at = ? WHERE log_exercise_id = ?",
+                Timestamp.valueOf(LocalDateTime.now().minusMinutes(1)), logExercise.getId());
+
+        List<String> setIds = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        JsonNode page;
+        do {
+            MockHttpServletRequestBuilder request = get("/api/sync").param("limit", "2");
+            if (cursor != null) {
+                request.param("cursor", cursor);
+            }
+            page = sync(request);
+            page.get("logSets").forEach(set -> setIds.add(set.get("id").asText()));
+            assertThat(page.get("logSets").size()).isLessThanOrEqualTo(2);
+            cursor = page.get("cursor").asText();
+            pages++;
+        } while (page.get("hasMore").asBoolean() && pages < 20);
+
+        assertThat(pages).isGreaterThanOrEqualTo(3);
+        assertThat(setIds).containsExactlyInAnyOrderElementsOf(
+                sets.stream().map(set -> set.getId().toString()).toList());
+    }
+
+    @Test
+    @DisplayName("Should fall back to a full sync for a cursor older than tombstone retention")
+    void shouldResetExpiredCursor() throws Exception {
+        JsonNode page = sync(get("/api/sync").param("cursor", LocalDateTime.now().minusYears(1).toString()));
+
+        assertThat(page.get("reset").asBoolean()).isTrue();
+        assertThat(page.get("logSets")).hasSize(5);
+    }
+
+    @Test
+    @DisplayName("Should reject a malformed cursor or limit")
+    void shouldRejectInvalidParameters() throws Exception {
+        mockMvc.perform(get("/api/sync").param("cursor", "yesterday")
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/sync").param("limit", "0")
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isBadRequest());
+    }
+
+    private JsonNode sync(MockHttpServletRequestBuilder request) throws Exception {
+        String body = mockMvc.perform(request.header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body);
+    }
+
+    private static List<String> ids(JsonNode page, String feed) {
+        List<String> ids = new ArrayList<>();
+        page.get(feed).forEach(entity -> ids.add(entity.get("id").asText()));
+        return ids;
+    }
+}
@@ -6,12 +6,14 @@ import com.kraftlog.dto.UserCreateRequest;
 import com.kraftlog.dto.UserUpdateRequest;
 import com.kraftlog.entity.User;
 import com.kraftlog.repository.UserRepository;
+import com.kraftlog.security.AuthenticatedUser;
+import com.kraftlog.security.JwtUtil;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
-import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
@@ -25,7 +27,6 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 @SpringBootTest
 @AutoConfigureMockMvc
 @ActiveProfiles("test")
-@WithMockUser
 @DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
 class UserControllerIntegrationTest {
 
@@ -38,6 +39,17 @@ class UserControllerIntegrationTest {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    private String adminToken;
+
+    @BeforeEach
+    void setUp() {
+        User admin = userRepository.save(TestDataBuilder.adminUser().email("user-admin@kraftlog.com").build());
+        adminToken = tokenFor(admin);
+    }
+
     @Test
     void shouldCreateUser() throws Exception {
         // Given
@@ -53,6 +65,7 @@ class UserControllerIntegrationTest {
 
         // When & Then
         mockMvc.perform(post("/api/users")
+                        .header("Authorization", "Bearer " + adminToken)
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(request)))
                 .andExpect(status().isCreated())
@@ -80,6 +93,7 @@ class UserControllerIntegrationTest {
 
         // When & Then
         mockMvc.perform(post("/api/users")
+                        .header("Authorization", "Bearer " + adminToken)
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(request)))
                 .andExpect(status().isBadRequest())
@@ -98,6 +112,7 @@ class UserControllerIntegrationTest {
 
         // When & Then
         mockMvc.perform(post("/api/users")
+                        .header("Authorization", "Bearer " + adminToken)
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(request)))
                 .andExpect(status().isBadRequest())
@@ -116,7 +131,8 @@ class UserControllerIntegrationTest {
         userRepository.save(user2);
 
         // When & Then
-        mockMvc.perform(get("/api/users"))
+        mockMvc.perform(get("/api/users")
+                        .header("Authorization", "Bearer " + adminToken))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$", hasSize(greaterThanOrEqualTo(2))))
                 .andExpect(jsonPath("$[*].name").exists());
@@ -129,7 +145,8 @@ class UserControllerIntegrationTest {
         User savedUser = userRepository.save(user);
 
         // When & Then
-        mockMvc.perform(get("/api/users/{id}", savedUser.getId()))
+        mockMvc.perform(get("/api/users/{id}", savedUser.getId())
+                        .header("Authorization", "Bearer " + tokenFor(savedUser)))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.id").value(savedUser.getId().toString()))
                 .andExpect(jsonPath("$.name").value("John"))
@@ -139,7 +156,8 @@ class UserControllerIntegrationTest {
     @Test
     void shouldReturnNotFoundWhenGettingNonExistentUser() throws Exception {
         // When & Then
-        mockMvc.perform(get("/api/users/{id}", "550e8400-e29b-41d4-a716-446655440000"))
+        mockMvc.perform(get("/api/users/{id}", "550e8400-e29b-41d4-a716-446655440000")
+                        .header("Authorization", "Bearer " + adminToken))
                 .andExpect(status().isNotFound())
                 .andExpect(jsonPath("$.message").value(containsString("User not found")));
     }
@@ -148,10 +166,11 @@ class UserControllerIntegrationTest {
     void shouldGetUserByEmail() throws Exception {
         // Given
         User user = TestDataBuilder.defaultUser().build();
-        userRepository.save(user);
+        User savedUser = userRepository.save(user);
 
         // When & Then
-        mockMvc.perform(get("/api/users/email/{email}", "john.doe@example.com"))
+        mockMvc.perform(get("/api/users/email/{email}", "john.doe@example.com")
+                        .header("Authorization", "Bearer " + tokenFor(savedUser)))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.email").value("john.doe@example.com"))
                 .andExpect(jsonPath("$.name").value("John"));
@@ -170,6 +189,7 @@ class UserControllerIntegrationTest {
 
         // When & Then
         mockMvc.perform(put("/api/users/{id}", savedUser.getId())
+                        .header("Authorization", "Bearer " + tokenFor(savedUser))
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(updateRequest)))
                 .andExpect(status().isOk())
@@ -185,18 +205,69 @@ class UserControllerIntegrationTest {
         User savedUser = userRepository.save(user);
 
         // When & Then
-        mockMvc.perform(delete("/api/users/{id}", savedUser.getId()))
+        mockMvc.perform(delete("/api/users/{id}", savedUser.getId())
+                        .header("Authorization", "Bearer " + tokenFor(savedUser)))
                 .andExpect(status().isNoContent());
 
         // Verify user is deleted
-        mockMvc.perform(get("/api/users/{id}", savedUser.getId()))
+        mockMvc.perform(get("/api/users/{id}", savedUser.getId())
+                        .header("Authorization", "Bearer " + adminToken))
                 .andExpect(status().isNotFound());
     }
 
     @Test
     void shouldReturnNotFoundWhenDeletingNonExistentUser() throws Exception {
         // When & Then
-        mockMvc.perform(delete("/api/users/{id}", "550e8400-e29b-41d4-a716-446655440000"))
+        mockMvc.perform(delete("/api/users/{id}", "550e8400-e29b-41d4-a716-446655440000")
+                        .header("Authorization", "Bearer " + adminToken))
                 .andExpect(status().isNotFound());
     }
+
+    @Test
+    void shouldForbidListingUsersForNonAdmin() throws Exception {
+        // Given
+        User user = userRepository.save(TestDataBuilder.defaultUser().build());
+
+        // When & Then
+        mockMvc.perform(get("/api/users")
+                        .header("Authorization", "Bearer " + tokenFor(user)))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void shouldForbidAccessingAnotherUser() throws Exception {
+        // Given
+        User user = userRepository.save(TestDataBuilder.defaultUser().build());
+        User other = userRepository.save(TestDataBuilder.defaultUser().email("jane.doe@example.com").build());
+        String token = tokenFor(user);
+
+        UserUpdateRequest updateRequest = UserUpdateRequest.builder()
+                .weightKg(80.0)
+                .build();
+
+        // When & Then
+        mockMvc.perform(get("/api/users/{id}", other.getId())
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(get("/api/users/email/{email}", "jane.doe@example.com")
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(put("/api/users/{id}", other.getId())
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(updateRequest)))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(delete("/api/users/{id}", other.getId())
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isForbidden());
+
+        // Verify the other user is untouched
+        mockMvc.perform(get("/api/users/{id}", other.getId())
+                        .header("Authorization", "Bearer " + adminToken))
+                .andExpect(status().isOk());
+    }
+
+    private String tokenFor(User user) {
+        return jwtUtil.generateToken(new AuthenticatedUser(user));
+    }
 }
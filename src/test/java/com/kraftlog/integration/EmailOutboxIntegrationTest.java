@@ -0,0 +1,172 @@
+package com.kraftlog.integration;
+
+import com.kraftlog.InMemoryJavaMailSender;
+import com.kraftlog.entity.EmailOutboxMessage;
+import com.kraftlog.entity.User;
+import com.kraftlog.repository.EmailOutboxRepository;
+import com.kraftlog.repository.PasswordResetTokenRepository;
+import com.kraftlog.repository.UserRepository;
+import com.kraftlog.service.EmailOutboxDispatcher;
+import com.kraftlog.service.PasswordRecoveryService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+@SpringBootTest(properties = "app.mail.outbox.max-attempts=2")
+@ActiveProfiles("test")
+class EmailOutboxIntegrationTest {
+
+    @TestConfiguration
+    static class MailConfig {
+        @Bean
+        @Primary
+        InMemoryJavaMailSender inMemoryJavaMailSender() {
+            return new InMemoryJavaMailSender();
+        }
+    }
+
+    @Autowired
+    private InMemoryJavaMailSender mailSender;
+
+    @Autowired
+    private PasswordRecoveryService passwordRecoveryService;
+
+    @Autowired
+    private EmailOutboxDispatcher dispatcher;
+
+    @Autowired
+    private EmailOutboxRepository emailOutboxRepository;
+
+    @Autowired
+    private PasswordResetTokenRepository passwordResetTokenRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @BeforeEach
+    void setUp() {
+        mailSender.reset();
+        emailOutboxRepository.deleteAll();
+        passwordResetTokenRepository.deleteAll();
+        userRepository.deleteAll();
+
+        userRepository.save(User.builder()
+                .name("Outbox")
+                .surname("User")
+                .email("outbox@example.com")
+                .password(passwordEncoder.encode("password123"))
+                .birthDate(LocalDate.of(1990, 1, 1))
+                .build());
+    }
+
+    @Test
+    @DisplayName("Should deliver the reset email after the transaction commits")
+    void shouldDeliverAfterCommit() {
+        passwordRecoveryService.initiatePasswordRecovery("outbox@example.com");
+
+        await().atMost(Duration.ofSeconds(10)).until(() -> mailSender.getSent().size() == 1);
+
+        String token = passwordResetTokenRepository.findAll().get(0).getToken();
+        assertThat(mailSender.getSent().get(0).getTo()).containsExactly("outbox@example.com");
+        assertThat(mailSender.getSent().get(0).getText()).contains("reset-password?token=" + token);
+        await().atMost(Duration.ofSeconds(5)).until(() -> single().getStatus() == EmailOutboxMessage.Status.SENT);
+    }
+
+    @Test
+    @DisplayName("Should keep the token and retry with backoff when the mail server fails")
+    void shouldRetryAfterFailure() {
+        mailSender.failNextSends(1);
+
+        passwordRecoveryService.initiatePasswordRecovery("outbox@example.com");
+
+        await().atMost(Duration.ofSeconds(10)).until(() -> single().getLastError() != null);
+        EmailOutboxMessage failed = single();
+        assertThat(failed.getStatus()).isEqualTo(EmailOutboxMessage.Status.PENDING);
+        assertThat(failed.getAttempts()).isEqualTo(1);
+        assertThat(failed.getNextAttemptAt()).isAfter(LocalDateTime.now());
+        assertThat(passwordResetTokenRepository.count()).isEqualTo(1);
+        assertThat(mailSender.getSent()).isEmpty();
+
+        makeDue(failed);
+        assertThat(dispatcher.dispatchDueMessages()).isEqualTo(1);
+
+        assertThat(single().getStatus()).isEqualTo(EmailOutboxMessage.Status.SENT);
+        assertThat(mailSender.getSent()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("Should give up after the configured number of attempts")
+    void shouldFailAfterMaxAttempts() {
+        mailSender.failNextSends(2);
+
+        passwordRecoveryService.initiatePasswordRecovery("outbox@example.com");
+        await().atMost(Duration.ofSeconds(10)).until(() -> single().getLastError() != null);
+
+        makeDue(single());
+        dispatcher.dispatchDueMessages();
+
+        EmailOutboxMessage message = single();
+        assertThat(message.getStatus()).isEqualTo(EmailOutboxMessage.Status.FAILED);
+        assertThat(message.getAttempts()).isEqualTo(2);
+        assertThat(dispatcher.dispatchDueMessages()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should purge sent and failed messages past the retention, keeping pending ones")
+    void shouldPurgeFinishedMessages() {
+        LocalDateTime old = LocalDateTime.now().minusDays(8);
+        emailOutboxRepository.save(message(EmailOutboxMessage.Status.SENT, old, old));
+        emailOutboxRepository.save(message(EmailOutboxMessage.Status.FAILED, old, null));
+        emailOutboxRepository.save(message(EmailOutboxMessage.Status.PENDING, old, null));
+        EmailOutboxMessage recentFailure = emailOutboxRepository.save(
+                message(EmailOutboxMessage.Status.FAILED, LocalDateTime.now().minusHours(1), null));
+
+        dispatcher.purgeFinishedMessages();
+
+        assertThat(emailOutboxRepository.findAll())
+                .extracting(EmailOutboxMessage::getStatus)
+                .containsExactlyInAnyOrder(EmailOutboxMessage.Status.PENDING, EmailOutboxMessage.Status.FAILED);
+        assertThat(emailOutboxRepository.findById(recentFailure.getId())).isPresent();
+    }
+
+    private static EmailOutboxMessage message(EmailOutboxMessage.Status status, LocalDateTime lastAttempt,
+                                              LocalDateTime sentAt) {
+        return EmailOutboxMessage.builder()
+                .recipient("outbox@example.com")
+                .subject("Password Reset Request")
+                .body("https://example.com/reset?token=secret")
+                .status(status)
+                .nextAttemptAt(lastAttempt)
+                .sentAt(sentAt)
+                .build();
+    }
+
+    private EmailOutboxMessage single() {
+        List<EmailOutboxMessage> messages = emailOutboxRepository.findAll();
+        assertThat(messages).hasSize(1);
+        return messages.get(0);
+    }
+
+    private void makeDue(EmailOutboxMessage message) {
+        message.setNextAttemptAt(LocalDateTime.now().minusSeconds(1));
+        emailOutboxRepository.save(message);
+    }
+}
@@ -0,0 +1,266 @@
+package com.kraftlog.integration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kraftlog.TestDataBuilder;
+import com.kraftlog.dto.LogExerciseCreateRequest;
+import com.kraftlog.dto.LogRoutineCreateRequest;
+import com.kraftlog.dto.LogSetCreateRequest;
+import com.kraftlog.dto.LogWorkoutCreateRequest;
+import com.kraftlog.dto.RoutineCreateRequest;
+import com.kraftlog.entity.Exercise;
+import com.kraftlog.entity.LogExercise;
+import com.kraftlog.entity.LogRoutine;
+import com.kraftlog.entity.LogSet;
+import com.kraftlog.entity.LogWorkout;
+import com.kraftlog.entity.Routine;
+import com.kraftlog.entity.User;
+import com.kraftlog.entity.Workout;
+import com.kraftlog.repository.ExerciseRepository;
+import com.kraftlog.repository.LogExerciseRepository;
+import com.kraftlog.repository.LogRoutineRepository;
+import com.kraftlog.repository.LogSetRepository;
+import com.kraftlog.repository.LogWorkoutRepository;
+import com.kraftlog.repository.RoutineRepository;
+import com.kraftlog.repository.UserRepository;
+import com.kraftlog.repository.WorkoutRepository;
+import com.kraftlog.security.AuthenticatedUser;
+import com.kraftlog.security.JwtUtil;
+import com.kraftlog.service.LogExerciseService;
+import com.kraftlog.service.LogRoutineService;
+import com.kraftlog.service.LogSetService;
+import com.kraftlog.service.LogWorkoutService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DirtiesContext
+class UserScopeIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ExerciseRepository exerciseRepository;
+
+    @Autowired
+    private RoutineRepository routineRepository;
+
+    @Autowired
+    private WorkoutRepository workoutRepository;
+
+    @Autowired
+    private LogRoutineRepository logRoutineRepository;
+
+    @Autowired
+    private LogWorkoutRepository logWorkoutRepository;
+
+    @Autowired
+    private LogExerciseRepository logExerciseRepository;
+
+    @Autowired
+    private LogSetRepository logSetRepository;
+
+    @Autowired
+    private LogRoutineService logRoutineService;
+
+    @Autowired
+    private LogWorkoutService logWorkoutService;
+
+    @Autowired
+    private LogExerciseService logExerciseService;
+
+    @Autowired
+    private LogSetService logSetService;
+
+    private Exercise exercise;
+    private User owner;
+    private User other;
+    private History otherHistory;
+    private String ownerToken;
+    private String otherToken;
+
+    @BeforeEach
+    void setUp() {
+        exercise = exerciseRepository.save(TestDataBuilder.defaultExercise()
+                .name("Scoped Press " + UUID.randomUUID()).build());
+        owner = createUserWithHistory("owner", exercise).user();
+        otherHistory = createUserWithHistory("other", exercise);
+        other = otherHistory.user();
+        ownerToken = jwtUtil.generateToken(new AuthenticatedUser(owner));
+        otherToken = jwtUtil.generateToken(new AuthenticatedUser(other));
+    }
+
+    @Test
+    @DisplayName("Should list only the authenticated user's data")
+    void shouldListOwnDataOnly() throws Exception {
+        for (String path : new String[]{"/api/routines", "/api/workouts", "/api/log-routines",
+                "/api/log-workouts", "/api/log-exercises", "/api/log-sets"}) {
+            mockMvc.perform(get(path).header("Authorization", "Bearer " + ownerToken))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$", hasSize(1)));
+        }
+
+        mockMvc.perform(get("/api/log-routines").header("Authorization", "Bearer " + otherToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].routineId").value(routineRepository.findByUserId(other.getId()).get(0)
+                        .getId().toString()));
+    }
+
+    @Test
+    @DisplayName("Should forbid reading another user's routines and sessions by user id")
+    void shouldForbidOtherUsersData() throws Exception {
+        mockMvc.perform(get("/api/routines/user/{userId}", other.getId())
+                        .header("Authorization", "Bearer " + ownerToken))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(get("/api/log-routines/user/{userId}", other.getId())
+                        .header("Authorization", "Bearer " + ownerToken))
+                .andExpect(status().isForbidden());
+
+        mockMvc.perform(get("/api/log-routines/user/{userId}", owner.getId())
+                        .header("Authorization", "Bearer " + ownerToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)));
+    }
+
+    @Test
+    @DisplayName("Should forbid reading another user's entities by id or by parent id")
+    void shouldForbidReadingOtherUsersEntities() throws Exception {
+        History h = otherHistory;
+        for (MockHttpServletRequestBuilder request : List.of(
+                get("/api/routines/{id}", h.routine().getId()),
+                get("/api/workouts/{id}", h.workout().getId()),
+                get("/api/workouts/routine/{routineId}", h.routine().getId()),
+                get("/api/workout-exercises").param("workoutId", h.workout().getId().toString()),
+                get("/api/log-routines/{id}", h.logRoutine().getId()),
+                get("/api/log-routines/routine/{routineId}", h.routine().getId()),
+                get("/api/log-workouts/{id}", h.logWorkout().getId()),
+                get("/api/log-workouts/log-routine/{logRoutineId}", h.logRoutine().getId()),
+                get("/api/log-workouts/workout/{workoutId}/last", h.workout().getId()),
+                get("/api/log-exercises/{id}", h.logExercise().getId()),
+                get("/api/log-exercises/log-workout/{logWorkoutId}", h.logWorkout().getId()),
+                get("/api/log-sets/{id}", h.logSet().getId()),
+                get("/api/log-sets/log-exercise/{logExerciseId}", h.logExercise().getId()))) {
+            mockMvc.perform(request.header("Authorization", "Bearer " + ownerToken))
+                    .andExpect(status().isForbidden());
+        }
+
+        mockMvc.perform(get("/api/log-sets/{id}", h.logSet().getId())
+                        .header("Authorization", "Bearer " + otherToken))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/routines/{id}", UUID.randomUUID())
+                        .header("Authorization", "Bearer " + ownerToken))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("Should forbid changing another user's entities or adding to them")
+    void shouldForbidWritingOtherUsersEntities() throws Exception {
+        History h = otherHistory;
+        String routine = objectMapper.writeValueAsString(RoutineCreateRequest.builder()
+                .name("Taken over").userId(owner.getId()).build());
+        String session = objectMapper.writeValueAsString(LogRoutineCreateRequest.builder()
+                .routineId(h.routine().getId()).startDatetime(LocalDateTime.now()).build());
+        for (MockHttpServletRequestBuilder request : List.of(
+                put("/api/routines/{id}", h.routine().getId()).contentType(MediaType.APPLICATION_JSON).content(routine),
+                post("/api/routines").contentType(MediaType.APPLICATION_JSON).content(objectMapper.writeValueAsString(
+                        RoutineCreateRequest.builder().name("Planted").userId(other.getId()).build())),
+                post("/api/log-routines").contentType(MediaType.APPLICATION_JSON).content(session),
+                delete("/api/workouts/{id}", h.workout().getId()),
+                delete("/api/log-routines/{id}", h.logRoutine().getId()),
+                delete("/api/log-workouts/{id}", h.logWorkout().getId()),
+                delete("/api/log-exercises/{id}", h.logExercise().getId()),
+                delete("/api/log-sets/{id}", h.logSet().getId()))) {
+            mockMvc.perform(request.header("Authorization", "Bearer " + ownerToken))
+                    .andExpect(status().isForbidden());
+        }
+
+        assertThat(routineRepository.findById(h.routine().getId()).orElseThrow().getName()).isNotEqualTo("Taken over");
+        assertThat(routineRepository.findByUserId(other.getId())).hasSize(1);
+        assertThat(logRoutineRepository.findByUserIdOrderByStartDatetimeDesc(other.getId())).hasSize(1);
+        assertThat(logSetRepository.existsById(h.logSet().getId())).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should let admins read any user's sessions by user id")
+    void shouldAllowAdmins() throws Exception {
+        User admin = userRepository.save(TestDataBuilder.adminUser().email("scope-admin-" + UUID.randomUUID() + "@example.com").build());
+
+        mockMvc.perform(get("/api/log-routines/user/{userId}", other.getId())
+                        .header("Authorization", "Bearer " + jwtUtil.generateToken(new AuthenticatedUser(admin))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)));
+    }
+
+    @Test
+    @DisplayName("Should copy the owner onto every log entry created below a routine")
+    void shouldCopyOwnerOnCreate() {
+        Routine routine = routineRepository.findByUserId(owner.getId()).get(0);
+        Workout workout = workoutRepository.findByRoutineIdOrderByOrderIndexAsc(routine.getId()).get(0);
+        LocalDateTime now = LocalDateTime.now();
+
+        UUID logRoutineId = logRoutineService.createLogRoutine(LogRoutineCreateRequest.builder()
+                .routineId(routine.getId()).startDatetime(now).build()).getId();
+        UUID logWorkoutId = logWorkoutService.createLogWorkout(LogWorkoutCreateRequest.builder()
+                .logRoutineId(logRoutineId).workoutId(workout.getId()).startDatetime(now).build()).getId();
+        UUID logExerciseId = logExerciseService.createLogExercise(LogExerciseCreateRequest.builder()
+                .logWorkoutId(logWorkoutId).exerciseId(exercise.getId()).startDatetime(now).build()).getId();
+        UUID logSetId = logSetService.createLogSet(LogSetCreateRequest.builder()
+                .logExerciseId(logExerciseId).setNumber(1).reps(8).weightKg(50.0).timestamp(now).build()).getId();
+
+        assertThat(logRoutineRepository.findById(logRoutineId).orElseThrow().getUserId()).isEqualTo(owner.getId());
+        assertThat(logWorkoutRepository.findById(logWorkoutId).orElseThrow().getUserId()).isEqualTo(owner.getId());
+        assertThat(logExerciseRepository.findById(logExerciseId).orElseThrow().getUserId()).isEqualTo(owner.getId());
+        assertThat(logSetRepository.findById(logSetId).orElseThrow().getUserId()).isEqualTo(owner.getId());
+    }
+
+    private History createUserWithHistory(String name, Exercise exercise) {
+        User user = userRepository.save(TestDataBuilder.defaultUser()
+                .email(name + "-" + UUID.randomUUID() + "@example.com").build());
+        Routine routine = routineRepository.save(TestDataBuilder.defaultRoutine(user).build());
+        Workout workout = workoutRepository.save(TestDataBuilder.defaultWorkout(routine).build());
+        LogRoutine logRoutine = logRoutineRepository.save(TestDataBuilder.defaultLogRoutine(routine).build());
+        LogWorkout logWorkout = logWorkoutRepository.save(TestDataBuilder.defaultLogWorkout(logRoutine, workout).build());
+        LogExercise logExercise = logExerciseRepository.save(TestDataBuilder.defaultLogExercise(logWorkout, exercise).build());
+        LogSet logSet = logSetRepository.save(TestDataBuilder.defaultLogSet(logExercise).build());
+        return new History(user, routine, workout, logRoutine, logWorkout, logExercise, logSet);
+    }
+
+    private record History(User user, Routine routine, Workout workout, LogRoutine logRoutine,
+                           LogWorkout logWorkout, LogExercise logExercise, LogSet logSet) {
+    }
+}
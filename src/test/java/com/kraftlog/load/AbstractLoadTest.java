@@ -0,0 +1,57 @@
+package com.kraftlog.load;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Shared setup for load tests: generates the synthetic dataset once per server and writes
+ * reports to {@code target/load-reports}. Subclasses declare the {@code @SpringBootTest}
+ * properties they want to compare.
+ */
+@Tag("load")
+@ActiveProfiles(resolver = LoadTestProfiles.class)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+abstract class AbstractLoadTest {
+
+    @LocalServerPort
+    protected int port;
+
+    @Autowired
+    protected JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    protected PasswordEncoder passwordEncoder;
+
+    @Autowired
+    protected ObjectMapper objectMapper;
+
+    protected GeneratedDataset dataset;
+
+    @BeforeAll
+    void generateDataset() {
+        SyntheticDataGenerator.GeneratorConfig config = SyntheticDataGenerator.GeneratorConfig.fromSystemProperties();
+        dataset = new SyntheticDataGenerator(jdbcTemplate, config, passwordEncoder.encode(config.password()))
+                .generate();
+    }
+
+    protected LoadScenario scenario() {
+        return LoadScenario.defaultMix("http://localhost:" + port, dataset, objectMapper);
+    }
+
+    protected void writeReport(String fileName, String formatted) throws IOException {
+        System.out.println(formatted);
+        Path reports = Files.createDirectories(Path.of("target", "load-reports"));
+        Files.writeString(reports.resolve(fileName), formatted);
+    }
+}
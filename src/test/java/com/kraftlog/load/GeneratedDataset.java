@@ -0,0 +1,33 @@
+package com.kraftlog.load;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Ids and row counts produced by {@link SyntheticDataGenerator}.
+ * Only a bounded window of recent log ids is kept per user so that very large datasets
+ * don't have to be held in memory by the load driver.
+ */
+public record GeneratedDataset(
+        List<SyntheticUser> users,
+        List<UUID> exerciseIds,
+        Map<String, Long> rowCounts) {
+
+    public long rowCount(String table) {
+        return rowCounts.getOrDefault(table, 0L);
+    }
+
+    public record SyntheticUser(
+            UUID id,
+            String email,
+            String password,
+            List<UUID> routineIds,
+            List<UUID> recentLogWorkoutIds,
+            List<UUID> recentLogExerciseIds) {
+
+        public UUID activeRoutineId() {
+            return routineIds.get(routineIds.size() - 1);
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.kraftlog.load;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Per-endpoint latency samples collected by a single load worker.
+ * Workers never share a recorder, so recording is allocation-light and lock-free;
+ * recorders are merged once the scenario has finished.
+ */
+public class LatencyRecorder {
+
+    private final Map<String, Samples> samples = new TreeMap<>();
+
+    public void record(String endpoint, long nanos, boolean success) {
+        samples.computeIfAbsent(endpoint, k -> new Samples()).add(nanos, success);
+    }
+
+    public static Report merge(Collection<LatencyRecorder> recorders, long wallClockNanos) {
+        Map<String, Samples> merged = new TreeMap<>();
+        for (LatencyRecorder recorder : recorders) {
+            recorder.samples.forEach((endpoint, s) ->
+                    merged.computeIfAbsent(endpoint, k -> new Samples()).addAll(s));
+        }
+        Map<String, EndpointStats> stats = new TreeMap<>();
+        merged.forEach((endpoint, s) -> stats.put(endpoint, s.toStats(wallClockNanos)));
+        return new Report(stats, wallClockNanos);
+    }
+
+    private static final class Samples {
+        private long[] values = new long[256];
+        private int size;
+        private int errors;
+
+        void add(long nanos, boolean success) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = nanos;
+            if (!success) {
+                errors++;
+            }
+        }
+
+        void addAll(Samples other) {
+            for (int i = 0; i < other.size; i++) {
+                add(other.values[i], true);
+            }
+            errors += other.errors;
+        }
+
+        EndpointStats toStats(long wallClockNanos) {
+            long[] sorted = Arrays.copyOf(values, size);
+            Arrays.sort(sorted);
+            double seconds = wallClockNanos / 1_000_000_000.0;
+            return new EndpointStats(size, errors, size / seconds,
+                    percentile(sorted, 50), percentile(sorted, 90), percentile(sorted, 99),
+                    sorted.length == 0 ? 0 : sorted[sorted.length - 1] / 1_000_000.0);
+        }
+
+        private static double percentile(long[] sorted, double p) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(p / 100.0 * sorted.length) - 1;
+            return sorted[Math.max(0, Math.min(index, sorted.length - 1))] / 1_000_000.0;
+        }
+    }
+
+    /**
+     * Latency figures are in milliseconds, throughput in requests per second of wall-clock time.
+     */
+    public record EndpointStats(int count, int errors, double throughput,
+                                double p50, double p90, double p99, double max) {
+    }
+
+    public record Report(Map<String, EndpointStats> endpoints, long wallClockNanos) {
+
+        public int totalRequests() {
+            return endpoints.values().stream().mapToInt(EndpointStats::count).sum();
+        }
+
+        public int totalErrors() {
+            return endpoints.values().stream().mapToInt(EndpointStats::errors).sum();
+        }
+
+        public String format(String title) {
+            StringBuilder sb = new StringBuilder();
+            double seconds = wallClockNanos / 1_000_000_000.0;
+            sb.append(String.format("%n=== %s (%.1fs, %d requests, %d errors, %.1f req/s) ===%n",
+                    title, seconds, totalRequests(), totalErrors(), totalRequests() / seconds));
+            sb.append(String.format("%-45s %8s %7s %9s %9s %9s %9s %9s%n",
+                    "endpoint", "count", "errors", "req/s", "p50 ms", "p90 ms", "p99 ms", "max ms"));
+            endpoints.forEach((endpoint, s) -> sb.append(String.format(
+                    "%-45s %8d %7d %9.1f %9.2f %9.2f %9.2f %9.2f%n",
+                    endpoint, s.count(), s.errors(), s.throughput(), s.p50(), s.p90(), s.p99(), s.max())));
+            return sb.toString();
+        }
+    }
+}
@@ -0,0 +1,196 @@
+package com.kraftlog.load;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Scripted mix of the API calls a mobile client makes, replayed by a fixed number of
+ * concurrent virtual users against a running server. Every worker logs in once as one
+ * of the generated users and then loops over weighted steps until the duration elapses.
+ */
+@Slf4j
+public class LoadScenario {
+
+    private static final String LOGIN = "POST /api/auth/login";
+
+    private final String baseUrl;
+    private final GeneratedDataset dataset;
+    private final ObjectMapper objectMapper;
+    private final HttpClient httpClient;
+    private final List<Step> steps = new ArrayList<>();
+    private int totalWeight;
+
+    public LoadScenario(String baseUrl, GeneratedDataset dataset, ObjectMapper objectMapper) {
+        this.baseUrl = baseUrl;
+        this.dataset = dataset;
+        this.objectMapper = objectMapper;
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+    }
+
+    /**
+     * The default read-heavy mix observed on the routine and history screens, plus set logging
+     */
+    public static LoadScenario defaultMix(String baseUrl, GeneratedDataset dataset, ObjectMapper objectMapper) {
+        return new LoadScenario(baseUrl, dataset, objectMapper)
+                .get("GET /api/routines/user/{userId}", 3, (u, r) -> "/api/routines/user/" + u.id())
+                .get("GET /api/routines/{id}", 4, (u, r) -> "/api/routines/" + u.activeRoutineId())
+                .get("GET /api/workouts/routine/{routineId}", 2, (u, r) -> "/api/workouts/routine/" + u.activeRoutineId())
+                .get("GET /api/log-routines/user/{userId}", 2, (u, r) -> "/api/log-routines/user/" + u.id())
+                .get("GET /api/log-workouts/{id}", 3, (u, r) -> "/api/log-workouts/" + any(u.recentLogWorkoutIds(), r))
+                .get("GET /api/log-sets/log-exercise/{id}", 2,
+                        (u, r) -> "/api/log-sets/log-exercise/" + any(u.recentLogExerciseIds(), r))
+                .get("GET /api/exercises", 2, (u, r) -> "/api/exercises")
+                .get("GET /api/muscles", 1, (u, r) -> "/api/muscles")
+                .post("POST /api/log-sets", 1, "/api/log-sets", (u, r) -> Map.of(
+                        "logExerciseId", any(u.recentLogExerciseIds(), r),
+                        "setNumber", 1 + r.nextInt(5),
+                        "reps", 6 + r.nextInt(7),
+                        "weightKg", 20.0 + r.nextInt(20) * 2.5,
+                        "timestamp", LocalDateTime.now().withNano(0).toString()));
+    }
+
+    public LoadScenario get(String label, int weight, PathFactory path) {
+        steps.add(new Step(label, weight, path, null, null));
+        totalWeight += weight;
+        return this;
+    }
+
+    public LoadScenario post(String label, int weight, String path, BodyFactory body) {
+        steps.add(new Step(label, weight, (u, r) -> path, "POST", body));
+        totalWeight += weight;
+        return this;
+    }
+
+    /**
+     * Run the scenario with the given number of concurrent virtual users
+     *
+     * @param concurrency number of concurrent workers
+     * @param duration    how long each worker keeps issuing requests after logging in
+     * @return merged per-endpoint statistics
+     */
+    public LatencyRecorder.Report run(int concurrency, Duration duration) throws Exception {
+        List<LatencyRecorder> recorders = new ArrayList<>(concurrency);
+        List<Future<?>> futures = new ArrayList<>(concurrency);
+        long started = System.nanoTime();
+        long deadline = started + duration.toNanos();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int worker = 0; worker < concurrency; worker++) {
+                LatencyRecorder recorder = new LatencyRecorder();
+                recorders.add(recorder);
+                GeneratedDataset.SyntheticUser user = dataset.users().get(worker % dataset.users().size());
+                Random random = new Random(worker);
+                futures.add(executor.submit(() -> {
+                    runWorker(user, recorder, random, deadline);
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+
+        return LatencyRecorder.merge(recorders, System.nanoTime() - started);
+    }
+
+    private void runWorker(GeneratedDataset.SyntheticUser user, LatencyRecorder recorder,
+                           Random random, long deadline) throws Exception {
+        String token = login(user, recorder);
+        if (token == null) {
+            return;
+        }
+        while (System.nanoTime() < deadline) {
+            Step step = pickStep(random);
+            HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(baseUrl + step.path().build(user, random)))
+                    .timeout(Duration.ofSeconds(30))
+                    .header("Authorization", "Bearer " + token);
+            if (step.method() == null) {
+                request.GET();
+            } else {
+                request.header("Content-Type", "application/json")
+                        .method(step.method(), HttpRequest.BodyPublishers.ofString(
+                                objectMapper.writeValueAsString(step.body().build(user, random))));
+            }
+            send(step.label(), request.build(), recorder);
+        }
+    }
+
+    private String login(GeneratedDataset.SyntheticUser user, LatencyRecorder recorder) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/api/auth/login"))
+                .timeout(Duration.ofSeconds(30))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(
+                        Map.of("email", user.email(), "password", user.password()))))
+                .build();
+        HttpResponse<String> response = send(LOGIN, request, recorder);
+        if (response == null || response.statusCode() != 200) {
+            log.warn("Login failed for {}: {}", user.email(), response == null ? "no response" : response.statusCode());
+            return null;
+        }
+        JsonNode body = objectMapper.readTree(response.body());
+        return body.path("token").asText();
+    }
+
+    private HttpResponse<String> send(String label, HttpRequest request, LatencyRecorder recorder) {
+        long start = System.nanoTime();
+        try {
+            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            recorder.record(label, System.nanoTime() - start, response.statusCode() < 400);
+            return response;
+        } catch (IOException e) {
+            recorder.record(label, System.nanoTime() - start, false);
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+
+    private Step pickStep(Random random) {
+        int roll = random.nextInt(totalWeight);
+        for (Step step : steps) {
+            roll -= step.weight();
+            if (roll < 0) {
+                return step;
+            }
+        }
+        return steps.get(steps.size() - 1);
+    }
+
+    private static UUID any(List<UUID> ids, Random random) {
+        return ids.get(random.nextInt(ids.size()));
+    }
+
+    @FunctionalInterface
+    public interface PathFactory {
+        String build(GeneratedDataset.SyntheticUser user, Random random);
+    }
+
+    @FunctionalInterface
+    public interface BodyFactory {
+        Object build(GeneratedDataset.SyntheticUser user, Random random);
+    }
+
+    private record Step(String label, int weight, PathFactory path, String method, BodyFactory body) {
+    }
+}
@@ -0,0 +1,38 @@
+package com.kraftlog.load;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * End-to-end load run: generates a synthetic dataset, starts the real HTTP server and replays
+ * {@link LoadScenario#defaultMix}. Excluded from the default build; run it with
+ * {@code mvn test -Pperformance -Dtest=LoadScenarioTest}, optionally adding
+ * {@code -Dloadtest.target=postgres} and the {@code loadtest.*} scale properties.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.jpa.show-sql=false",
+        "logging.level.com.kraftlog=INFO",
+        "logging.level.org.hibernate.SQL=WARN"
+})
+class LoadScenarioTest extends AbstractLoadTest {
+
+    @Test
+    @DisplayName("Default request mix reports throughput and latency per endpoint")
+    void defaultMix() throws Exception {
+        int concurrency = Integer.getInteger("loadtest.concurrency", 32);
+        Duration duration = Duration.ofSeconds(Integer.getInteger("loadtest.duration-seconds", 30));
+
+        LatencyRecorder.Report report = scenario().run(concurrency, duration);
+
+        writeReport("default-mix-c" + concurrency + ".txt",
+                report.format("default mix, concurrency " + concurrency + ", " + dataset.rowCounts()));
+
+        assertThat(report.totalRequests()).isPositive();
+        assertThat(report.totalErrors()).isLessThan(Math.max(1, report.totalRequests() / 100));
+    }
+}
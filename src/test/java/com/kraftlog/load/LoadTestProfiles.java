@@ -0,0 +1,18 @@
+package com.kraftlog.load;
+
+import org.springframework.test.context.ActiveProfilesResolver;
+
+/**
+ * Runs load tests against the in-memory H2 test database by default,
+ * or against a local PostgreSQL container when started with {@code -Dloadtest.target=postgres}.
+ */
+public class LoadTestProfiles implements ActiveProfilesResolver {
+
+    @Override
+    public String[] resolve(Class<?> testClass) {
+        if ("postgres".equalsIgnoreCase(System.getProperty("loadtest.target"))) {
+            return new String[]{"test", "loadtest-postgres"};
+        }
+        return new String[]{"test"};
+    }
+}
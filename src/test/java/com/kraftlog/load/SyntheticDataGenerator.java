@@ -0,0 +1,363 @@
+package com.kraftlog.load;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Deterministic generator of production-shaped data for load and performance tests.
+ * Writes directly through JDBC batches so that millions of log rows can be created in seconds,
+ * and derives every id, name and timestamp from the configured seed so two runs with the same
+ * {@link GeneratorConfig} produce identical datasets.
+ */
+@Slf4j
+public class SyntheticDataGenerator {
+
+    public static final String EMAIL_DOMAIN = "@synthetic.kraftlog";
+
+    private static final String[] FIRST_NAMES = {
+            "Ana", "Bruno", "Carla", "Diego", "Elisa", "Felipe", "Gabriela", "Hugo", "Iris", "João",
+            "Karen", "Lucas", "Marina", "Nuno", "Olivia", "Pedro", "Rafaela", "Sofia", "Tiago", "Vera"
+    };
+
+    private static final String[] SURNAMES = {
+            "Almeida", "Barbosa", "Costa", "Duarte", "Ferreira", "Gomes", "Lima", "Martins", "Nunes", "Oliveira",
+            "Pereira", "Ribeiro", "Santos", "Silva", "Souza", "Teixeira"
+    };
+
+    private static final String[] EQUIPMENT_PREFIXES = {
+            "Barbell", "Dumbbell", "Machine", "Smith Machine", "Cable", "Bodyweight", "Kettlebell", "Band"
+    };
+
+    private static final String[] EQUIPMENT_TYPES = {
+            "BARBELL", "DUMBBELL", "MACHINE", "SMITH_MACHINE", "CABLE", "BODYWEIGHT", "KETTLEBELL", "RESISTANCE_BAND"
+    };
+
+    private static final String[] MOVEMENTS = {
+            "Bench Press", "Incline Press", "Fly", "Row", "Pulldown", "Pullover", "Shoulder Press", "Lateral Raise",
+            "Rear Delt Raise", "Shrug", "Curl", "Hammer Curl", "Triceps Extension", "Kickback", "Squat", "Lunge",
+            "Romanian Deadlift", "Hip Thrust", "Calf Raise", "Wrist Curl"
+    };
+
+    private static final String[] WORKOUT_NAMES = {"Push", "Pull", "Legs", "Upper", "Lower", "Full Body"};
+
+    private static final String[] TECHNIQUES = {null, null, "Drop set", "Rest-pause", "Superset"};
+
+    private static final int BATCH_SIZE = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final GeneratorConfig config;
+    private final String encodedPassword;
+    private final Random random;
+
+    private final Map<String, List<Object[]>> pending = new LinkedHashMap<>();
+    private final Map<String, Long> counts = new LinkedHashMap<>();
+
+    /**
+     * @param jdbcTemplate    template bound to the target database (H2 or PostgreSQL)
+     * @param config          scale and seed of the dataset
+     * @param encodedPassword password hash shared by every generated user, so the BCrypt cost is paid once
+     */
+    public SyntheticDataGenerator(JdbcTemplate jdbcTemplate, GeneratorConfig config, String encodedPassword) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.config = config;
+        this.encodedPassword = encodedPassword;
+        this.random = new Random(config.seed());
+    }
+
+    /**
+     * Generate the full dataset and flush it to the database
+     *
+     * @return ids and counts needed to drive a load scenario
+     */
+    public GeneratedDataset generate() {
+        long started = System.nanoTime();
+        log.info("Generating synthetic dataset: {}", config);
+
+        Map<String, List<UUID>> musclesByGroup = loadMusclesByGroup();
+        List<UUID> exerciseIds = generateExerciseCatalog(musclesByGroup);
+
+        List<GeneratedDataset.SyntheticUser> users = new ArrayList<>(config.users());
+        for (int u = 0; u < config.users(); u++) {
+            users.add(generateUser(u, exerciseIds, musclesByGroup));
+        }
+        flushAll();
+
+        log.info("Synthetic dataset generated in {} ms: {}",
+                (System.nanoTime() - started) / 1_000_000, counts);
+        return new GeneratedDataset(users, exerciseIds, Map.copyOf(counts));
+    }
+
+    private Map<String, List<UUID>> loadMusclesByGroup() {
+        return jdbcTemplate.query("SELECT id, muscle_group FROM muscles ORDER BY name",
+                        (rs, rowNum) -> Map.entry(rs.getString("muscle_group"), rs.getObject("id", UUID.class)))
+                .stream()
+                .collect(Collectors.groupingBy(Map.Entry::getKey, java.util.TreeMap::new,
+                        Collectors.mapping(Map.Entry::getValue, Collectors.toList())));
+    }
+
+    private List<UUID> generateExerciseCatalog(Map<String, List<UUID>> musclesByGroup) {
+        List<String> groups = new ArrayList<>(musclesByGroup.keySet());
+        List<UUID> exerciseIds = new ArrayList<>(config.exerciseCatalogSize());
+        LocalDateTime createdAt = config.anchor().minusYears(config.yearsOfHistory()).minusDays(1);
+
+        for (int i = 0; i < config.exerciseCatalogSize(); i++) {
+            UUID id = nextUuid();
+            int equipment = i % EQUIPMENT_PREFIXES.length;
+            int movement = (i / EQUIPMENT_PREFIXES.length) % MOVEMENTS.length;
+            int variation = i / (EQUIPMENT_PREFIXES.length * MOVEMENTS.length);
+            String name = EQUIPMENT_PREFIXES[equipment] + " " + MOVEMENTS[movement]
+                    + (variation > 0 ? " (variation " + variation + ")" : "");
+
+            add("exercises", "INSERT INTO exercises (id, name, description, sets, repetitions, technique, "
+                            + "default_weight_kg, video_url, equipment_type, created_at, updated_at) "
+                            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                    id, name, "Synthetic " + name.toLowerCase(), 3 + random.nextInt(3), 8 + random.nextInt(8),
+                    null, 10.0 + random.nextInt(80), "https://youtu.be/synthetic" + i,
+                    EQUIPMENT_TYPES[equipment], ts(createdAt), ts(createdAt));
+
+            if (!groups.isEmpty()) {
+                List<UUID> muscles = musclesByGroup.get(groups.get(movement % groups.size()));
+                add("exercise_muscles", "INSERT INTO exercise_muscles (exercise_id, muscle_id) VALUES (?, ?)",
+                        id, muscles.get(0));
+            }
+            exerciseIds.add(id);
+        }
+        flushAll();
+        return exerciseIds;
+    }
+
+    private GeneratedDataset.SyntheticUser generateUser(int index, List<UUID> exerciseIds,
+                                                        Map<String, List<UUID>> musclesByGroup) {
+        UUID userId = nextUuid();
+        String email = "loaduser-" + index + EMAIL_DOMAIN;
+        LocalDateTime historyStart = config.anchor().minusYears(config.yearsOfHistory());
+
+        add("users", "INSERT INTO users (id, name, surname, birth_date, email, password, weight_kg, height_cm, "
+                        + "is_admin, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                userId, pick(FIRST_NAMES), pick(SURNAMES),
+                LocalDate.of(1970 + random.nextInt(35), 1 + random.nextInt(12), 1 + random.nextInt(28)),
+                email, encodedPassword, 55.0 + random.nextInt(50), 155.0 + random.nextInt(45),
+                false, ts(historyStart), ts(historyStart));
+
+        List<UUID> routineIds = new ArrayList<>();
+        List<UUID> recentLogWorkoutIds = new ArrayList<>();
+        List<UUID> recentLogExerciseIds = new ArrayList<>();
+        List<String> groups = new ArrayList<>(musclesByGroup.keySet());
+
+        // Routines are consecutive blocks of the history; only the last one is active
+        long historyDays = java.time.Duration.between(historyStart, config.anchor()).toDays();
+        long blockDays = Math.max(1, historyDays / config.routinesPerUser());
+
+        for (int r = 0; r < config.routinesPerUser(); r++) {
+            UUID routineId = nextUuid();
+            LocalDateTime routineStart = historyStart.plusDays(blockDays * r);
+            LocalDateTime routineEnd = r == config.routinesPerUser() - 1 ? config.anchor() : routineStart.plusDays(blockDays);
+            boolean active = r == config.routinesPerUser() - 1;
+
+            add("routines", "INSERT INTO routines (id, name, start_date, end_date, is_active, user_id, "
+                            + "created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?)",
+                    routineId, "Routine " + (r + 1), routineStart.toLocalDate(), routineEnd.toLocalDate(),
+                    active, userId, ts(routineStart), ts(routineStart));
+            routineIds.add(routineId);
+
+            List<UUID> workoutIds = new ArrayList<>();
+            List<List<UUID>> workoutExercises = new ArrayList<>();
+            for (int w = 0; w < config.workoutsPerRoutine(); w++) {
+                UUID workoutId = nextUuid();
+                add("workouts", "INSERT INTO workouts (id, name, order_index, interval_minutes, routine_id, "
+                                + "created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?)",
+                        workoutId, WORKOUT_NAMES[w % WORKOUT_NAMES.length] + " " + (w + 1), w + 1,
+                        60 + random.nextInt(4) * 15, routineId, ts(routineStart), ts(routineStart));
+
+                if (!groups.isEmpty()) {
+                    add("workout_muscles", "INSERT INTO workout_muscles (workout_id, muscle_id) VALUES (?, ?)",
+                            workoutId, musclesByGroup.get(groups.get(w % groups.size())).get(0));
+                }
+
+                List<UUID> chosen = new ArrayList<>(config.exercisesPerWorkout());
+                while (chosen.size() < Math.min(config.exercisesPerWorkout(), exerciseIds.size())) {
+                    UUID exerciseId = exerciseIds.get(random.nextInt(exerciseIds.size()));
+                    if (!chosen.contains(exerciseId)) {
+                        chosen.add(exerciseId);
+                    }
+                }
+                for (int e = 0; e < chosen.size(); e++) {
+                    add("workout_exercises", "INSERT INTO workout_exercises (workout_id, exercise_id, recommended_sets, "
+                                    + "recommended_reps, training_technique, order_index) VALUES (?, ?, ?, ?, ?, ?)",
+                            workoutId, chosen.get(e), config.setsPerExercise(), 8 + random.nextInt(5),
+                            pick(TECHNIQUES), e + 1);
+                }
+                workoutIds.add(workoutId);
+                workoutExercises.add(chosen);
+            }
+
+            generateHistory(userId, routineId, routineStart, routineEnd, workoutIds, workoutExercises,
+                    recentLogWorkoutIds, recentLogExerciseIds);
+        }
+
+        return new GeneratedDataset.SyntheticUser(userId, email, config.password(), routineIds,
+                List.copyOf(recentLogWorkoutIds), List.copyOf(recentLogExerciseIds));
+    }
+
+    private void generateHistory(UUID userId, UUID routineId, LocalDateTime from, LocalDateTime to,
+                                 List<UUID> workoutIds, List<List<UUID>> workoutExercises,
+                                 List<UUID> recentLogWorkoutIds, List<UUID> recentLogExerciseIds) {
+        if (workoutIds.isEmpty() || config.sessionsPerWeek() <= 0) {
+            return;
+        }
+        double daysBetweenSessions = 7.0 / config.sessionsPerWeek();
+        int session = 0;
+
+        for (LocalDateTime day = from; day.isBefore(to);
+             day = from.plusMinutes((long) (++session * daysBetweenSessions * 24 * 60))) {
+            LocalDateTime start = day.withHour(6 + random.nextInt(14)).withMinute(random.nextInt(60)).withSecond(0);
+            int workoutIndex = session % workoutIds.size();
+            LocalDateTime end = start.plusMinutes(45 + random.nextInt(45));
+
+            UUID logRoutineId = nextUuid();
+            add("log_routines", "INSERT INTO log_routines (id, routine_id, user_id, start_datetime, end_datetime, "
+                            + "updated_at) VALUES (?, ?, ?, ?, ?, ?)",
+                    logRoutineId, routineId, userId, ts(start), ts(end), ts(end));
+
+            UUID logWorkoutId = nextUuid();
+            add("log_workouts", "INSERT INTO log_workouts (id, log_routine_id, user_id, workout_id, start_datetime, "
+                            + "end_datetime, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?)",
+                    logWorkoutId, logRoutineId, userId, workoutIds.get(workoutIndex), ts(start), ts(end), ts(end));
+            remember(recentLogWorkoutIds, logWorkoutId);
+
+            LocalDateTime exerciseStart = start;
+            for (UUID exerciseId : workoutExercises.get(workoutIndex)) {
+                UUID logExerciseId = nextUuid();
+                LocalDateTime exerciseEnd = exerciseStart.plusMinutes(8 + random.nextInt(6));
+                add("log_exercises", "INSERT INTO log_exercises (id, log_workout_id, user_id, exercise_id, start_datetime, "
+                                + "end_datetime, notes, repetitions, completed, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                        logExerciseId, logWorkoutId, userId, exerciseId, ts(exerciseStart), ts(exerciseEnd),
+                        null, 8 + random.nextInt(5), random.nextInt(20) != 0, ts(exerciseEnd));
+                remember(recentLogExerciseIds, logExerciseId);
+
+                double weight = 10.0 + random.nextInt(30) * 2.5;
+                for (int s = 1; s <= config.setsPerExercise(); s++) {
+                    add("log_sets", "INSERT INTO log_sets (id, log_exercise_id, user_id, set_number, reps, weight_kg, "
+                                    + "rest_time_seconds, timestamp, notes, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                            nextUuid(), logExerciseId, userId, s, 6 + random.nextInt(7), weight,
+                            60 + random.nextInt(5) * 15, ts(exerciseStart.plusMinutes(2L * s)), null,
+                            ts(exerciseStart.plusMinutes(2L * s)));
+                }
+                exerciseStart = exerciseEnd;
+            }
+        }
+    }
+
+    private void remember(List<UUID> recent, UUID id) {
+        recent.add(id);
+        if (recent.size() > config.recentIdsPerUser()) {
+            recent.remove(0);
+        }
+    }
+
+    private void add(String table, String sql, Object... row) {
+        List<Object[]> rows = pending.computeIfAbsent(sql, k -> new ArrayList<>(BATCH_SIZE));
+        rows.add(row);
+        counts.merge(table, 1L, Long::sum);
+        if (rows.size() >= BATCH_SIZE) {
+            // Parents are always queued before children, so flushing every pending
+            // statement in insertion order keeps foreign keys satisfied
+            flushAll();
+        }
+    }
+
+    private void flushAll() {
+        pending.forEach((sql, rows) -> {
+            if (!rows.isEmpty()) {
+                jdbcTemplate.batchUpdate(sql, rows);
+                rows.clear();
+            }
+        });
+    }
+
+    private UUID nextUuid() {
+        return new UUID(random.nextLong(), random.nextLong());
+    }
+
+    private <T> T pick(T[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    private static Timestamp ts(LocalDateTime value) {
+        return Timestamp.valueOf(value);
+    }
+
+    /**
+     * Scale and seed of a synthetic dataset.
+     * Every field can be overridden with a {@code loadtest.*} system property, see {@link #fromSystemProperties()}.
+     */
+    public record GeneratorConfig(
+            long seed,
+            int users,
+            int routinesPerUser,
+            int workoutsPerRoutine,
+            int exercisesPerWorkout,
+            int setsPerExercise,
+            int sessionsPerWeek,
+            int yearsOfHistory,
+            int exerciseCatalogSize,
+            int recentIdsPerUser,
+            String password,
+            LocalDateTime anchor) {
+
+        public static GeneratorConfig defaults() {
+            return new GeneratorConfig(42L, 10, 2, 4, 5, 3, 3, 1, 160, 20,
+                    "Synthetic#123", LocalDateTime.of(2025, 1, 1, 0, 0));
+        }
+
+        public static GeneratorConfig fromSystemProperties() {
+            GeneratorConfig d = defaults();
+            Function<String, String> prop = key -> System.getProperty("loadtest." + key);
+            return new GeneratorConfig(
+                    longProp(prop.apply("seed"), d.seed()),
+                    intProp(prop.apply("users"), d.users()),
+                    intProp(prop.apply("routines-per-user"), d.routinesPerUser()),
+                    intProp(prop.apply("workouts-per-routine"), d.workoutsPerRoutine()),
+                    intProp(prop.apply("exercises-per-workout"), d.exercisesPerWorkout()),
+                    intProp(prop.apply("sets-per-exercise"), d.setsPerExercise()),
+                    intProp(prop.apply("sessions-per-week"), d.sessionsPerWeek()),
+                    intProp(prop.apply("years"), d.yearsOfHistory()),
+                    intProp(prop.apply("exercise-catalog-size"), d.exerciseCatalogSize()),
+                    d.recentIdsPerUser(),
+                    d.password(),
+                    d.anchor());
+        }
+
+        public GeneratorConfig withUsers(int users) {
+            return new GeneratorConfig(seed, users, routinesPerUser, workoutsPerRoutine, exercisesPerWorkout,
+                    setsPerExercise, sessionsPerWeek, yearsOfHistory, exerciseCatalogSize, recentIdsPerUser,
+                    password, anchor);
+        }
+
+        public GeneratorConfig withYearsOfHistory(int years) {
+            return new GeneratorConfig(seed, users, routinesPerUser, workoutsPerRoutine, exercisesPerWorkout,
+                    setsPerExercise, sessionsPerWeek, years, exerciseCatalogSize, recentIdsPerUser,
+                    password, anchor);
+        }
+
+        private static int intProp(String value, int fallback) {
+            return value == null || value.isBlank() ? fallback : Integer.parseInt(value.trim());
+        }
+
+        private static long longProp(String value, long fallback) {
+            return value == null || value.isBlank() ? fallback : Long.parseLong(value.trim());
+        }
+    }
+}
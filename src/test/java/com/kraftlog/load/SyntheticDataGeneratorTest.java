@@ -0,0 +1,86 @@
+package com.kraftlog.load;
+
+import com.kraftlog.TestDataBuilder;
+import com.kraftlog.entity.Muscle;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+class SyntheticDataGeneratorTest {
+
+    private static final List<String> TABLES = List.of(
+            "log_sets", "log_exercises", "log_workouts", "log_routines", "workout_exercises",
+            "workout_muscles", "workouts", "routines", "users", "exercise_muscles", "exercises");
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private JdbcTemplate jdbcTemplate;
+
+    private final SyntheticDataGenerator.GeneratorConfig config = new SyntheticDataGenerator.GeneratorConfig(
+            7L, 3, 2, 2, 2, 3, 2, 1, 20, 5, "Synthetic#123",
+            SyntheticDataGenerator.GeneratorConfig.defaults().anchor());
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        entityManager.persist(TestDataBuilder.defaultMuscle().build());
+        entityManager.persist(TestDataBuilder.defaultMuscle().name("Quadriceps")
+                .muscleGroup(Muscle.MuscleGroup.LEGS).build());
+        entityManager.flush();
+    }
+
+    @Test
+    @DisplayName("Should write the configured shape of data and report matching row counts")
+    void shouldGenerateConfiguredShape() {
+        GeneratedDataset dataset = new SyntheticDataGenerator(jdbcTemplate, config, "{noop}hash").generate();
+
+        assertThat(dataset.users()).hasSize(3);
+        assertThat(dataset.exerciseIds()).hasSize(20);
+        assertThat(dataset.rowCount("routines")).isEqualTo(6);
+        assertThat(dataset.rowCount("workouts")).isEqualTo(12);
+        assertThat(dataset.rowCount("log_routines")).isGreaterThan(100);
+        assertThat(dataset.rowCount("log_exercises")).isEqualTo(dataset.rowCount("log_workouts") * 2);
+        assertThat(dataset.rowCount("log_sets")).isEqualTo(dataset.rowCount("log_exercises") * 3);
+
+        for (String table : TABLES) {
+            assertThat(count(table)).as(table).isEqualTo(dataset.rowCount(table));
+        }
+        dataset.users().forEach(user -> {
+            assertThat(user.routineIds()).hasSize(2);
+            assertThat(user.recentLogWorkoutIds()).hasSize(5);
+            assertThat(user.email()).endsWith(SyntheticDataGenerator.EMAIL_DOMAIN);
+        });
+    }
+
+    @Test
+    @DisplayName("Should produce identical datasets for the same seed")
+    void shouldBeDeterministic() {
+        GeneratedDataset first = new SyntheticDataGenerator(jdbcTemplate, config, "{noop}hash").generate();
+        TABLES.forEach(table -> jdbcTemplate.update("DELETE FROM " + table));
+
+        GeneratedDataset second = new SyntheticDataGenerator(jdbcTemplate, config, "{noop}hash").generate();
+
+        assertThat(second).isEqualTo(first);
+    }
+
+    private long count(String table) {
+        Long count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Long.class);
+        return count == null ? 0 : count;
+    }
+}
@@ -0,0 +1,59 @@
+package com.kraftlog.load;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Replays the default mix with virtual-thread request handling at increasing client
+ * concurrency. The server-side limit comes from {@code app.virtual-threads.*}, so limits are
+ * compared by re-running with different values, e.g.
+ * {@code mvn test -Pperformance -Dtest=VirtualThreadLoadTest -Dapp.virtual-threads.max-concurrent-requests=80};
+ * {@link LoadScenarioTest} provides the platform-thread baseline. Requests shed by the limit
+ * show up as errors (503) in the report.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.threads.virtual.enabled=true",
+        "spring.jpa.show-sql=false",
+        "logging.level.com.kraftlog=INFO",
+        "logging.level.org.hibernate.SQL=WARN"
+})
+class VirtualThreadLoadTest extends AbstractLoadTest {
+
+    @Value("${spring.datasource.hikari.maximum-pool-size:10}")
+    private int connectionPoolSize;
+
+    @Value("${app.virtual-threads.max-concurrent-requests:0}")
+    private int maxConcurrentRequests;
+
+    @Value("${app.virtual-threads.requests-per-connection:4}")
+    private int requestsPerConnection;
+
+    @Test
+    @DisplayName("Default request mix on virtual threads at increasing concurrency")
+    void concurrencySweep() throws Exception {
+        List<Integer> levels = Arrays.stream(System.getProperty("loadtest.concurrency-levels", "16,64,256").split(","))
+                .map(String::trim)
+                .map(Integer::valueOf)
+                .toList();
+        Duration duration = Duration.ofSeconds(Integer.getInteger("loadtest.duration-seconds", 30));
+        int limit = maxConcurrentRequests > 0 ? maxConcurrentRequests : connectionPoolSize * requestsPerConnection;
+
+        StringBuilder combined = new StringBuilder();
+        for (int concurrency : levels) {
+            LatencyRecorder.Report report = scenario().run(concurrency, duration);
+            combined.append(report.format("virtual threads, limit " + limit + ", pool " + connectionPoolSize
+                    + ", concurrency " + concurrency)).append(System.lineSeparator());
+            assertThat(report.totalRequests()).isPositive();
+        }
+
+        writeReport("virtual-threads-limit" + limit + ".txt", combined.toString());
+    }
+}
@@ -0,0 +1,67 @@
+package com.kraftlog.repository;
+
+import com.kraftlog.TestDataBuilder;
+import com.kraftlog.entity.Exercise;
+import com.kraftlog.entity.Muscle;
+import com.kraftlog.repository.ExerciseBulkRepository.ExerciseRow;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(ExerciseBulkRepository.class)
+class ExerciseBulkRepositoryTest {
+
+    @Autowired
+    private ExerciseBulkRepository exerciseBulkRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private Muscle muscle;
+
+    @BeforeEach
+    void setUp() {
+        muscle = entityManager.persistAndFlush(TestDataBuilder.defaultMuscle().build());
+    }
+
+    @Test
+    void shouldReturnGivenIdForInsertedExercise() {
+        // Given
+        UUID id = UUID.randomUUID();
+
+        // When
+        Map<String, UUID> ids = exerciseBulkRepository.upsert(List.of(new ExerciseRow(id, "Front Squat", null)));
+
+        // Then
+        assertThat(ids).containsExactly(Map.entry("Front Squat", id));
+    }
+
+    @Test
+    void shouldReturnStoredIdWhenNameAlreadyExists() {
+        // Given an exercise created after the caller planned its own id
+        Exercise existing = entityManager.persistAndFlush(TestDataBuilder.defaultExercise().build());
+
+        // When
+        Map<String, UUID> ids = exerciseBulkRepository.upsert(
+                List.of(new ExerciseRow(UUID.randomUUID(), existing.getName(), "https://example.com/bench")));
+        exerciseBulkRepository.addMuscles(Map.of(ids.get(existing.getName()), Set.of(muscle.getId())));
+
+        // Then
+        assertThat(ids).containsExactly(Map.entry(existing.getName(), existing.getId()));
+        assertThat(exerciseBulkRepository.findAllForImport().get(existing.getName()).muscleIds())
+                .containsExactly(muscle.getId());
+    }
+}
@@ -0,0 +1,88 @@
+package com.kraftlog.repository;
+
+import com.kraftlog.TestDataBuilder;
+import com.kraftlog.entity.PasswordResetToken;
+import com.kraftlog.entity.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+class PasswordResetTokenRepositoryTest {
+
+    @Autowired
+    private PasswordResetTokenRepository passwordResetTokenRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private User user;
+    private User otherUser;
+
+    @BeforeEach
+    void setUp() {
+        user = entityManager.persist(TestDataBuilder.defaultUser().build());
+        otherUser = entityManager.persist(TestDataBuilder.defaultUser().email("other@example.com").build());
+    }
+
+    @Test
+    void shouldDeleteExpiredTokensInBoundedBatches() {
+        // Given
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < 5; i++) {
+            persistToken(user, now.minusHours(i + 1));
+        }
+        PasswordResetToken valid = persistToken(user, now.plusHours(1));
+        entityManager.flush();
+        entityManager.clear();
+
+        // When
+        int firstBatch = passwordResetTokenRepository.deleteExpiredBatch(now, 3);
+        int secondBatch = passwordResetTokenRepository.deleteExpiredBatch(now, 3);
+        int thirdBatch = passwordResetTokenRepository.deleteExpiredBatch(now, 3);
+
+        // Then
+        assertThat(firstBatch).isEqualTo(3);
+        assertThat(secondBatch).isEqualTo(2);
+        assertThat(thirdBatch).isZero();
+        assertThat(passwordResetTokenRepository.findAll())
+                .extracting(PasswordResetToken::getId)
+                .containsExactly(valid.getId());
+    }
+
+    @Test
+    void shouldDeleteAllTokensOfUserInOneStatement() {
+        // Given
+        persistToken(user, LocalDateTime.now().plusHours(1));
+        persistToken(user, LocalDateTime.now().plusHours(2));
+        PasswordResetToken otherToken = persistToken(otherUser, LocalDateTime.now().plusHours(1));
+        entityManager.flush();
+        entityManager.clear();
+
+        // When
+        int deleted = passwordResetTokenRepository.deleteByUser(user);
+
+        // Then
+        assertThat(deleted).isEqualTo(2);
+        assertThat(passwordResetTokenRepository.findAll())
+                .extracting(PasswordResetToken::getId)
+                .containsExactly(otherToken.getId());
+    }
+
+    private PasswordResetToken persistToken(User owner, LocalDateTime expiryDate) {
+        return entityManager.persist(PasswordResetToken.builder()
+                .token(UUID.randomUUID().toString())
+                .user(owner)
+                .expiryDate(expiryDate)
+                .build());
+    }
+}
@@ -1,6 +1,7 @@
 package com.kraftlog.repository;
 
 import com.kraftlog.TestDataBuilder;
+import com.kraftlog.dto.UserResponse;
 import com.kraftlog.entity.User;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -8,6 +9,7 @@ import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.test.context.ActiveProfiles;
 
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -108,4 +110,23 @@ class UserRepositoryTest {
         // Then
         assertThat(deletedUser).isEmpty();
     }
+
+    @Test
+    void shouldFindAllUsersAsResponses() {
+        // Given
+        User user = TestDataBuilder.defaultUser().build();
+        entityManager.persistAndFlush(user);
+        User admin = TestDataBuilder.adminUser().build();
+        entityManager.persistAndFlush(admin);
+
+        // When
+        List<UserResponse> responses = userRepository.findAllResponses();
+
+        // Then
+        assertThat(responses).extracting(UserResponse::getEmail)
+                .containsExactlyInAnyOrder(user.getEmail(), admin.getEmail());
+        assertThat(responses).filteredOn(UserResponse::isAdmin).extracting(UserResponse::getId)
+                .containsExactly(admin.getId());
+        assertThat(responses.get(0).getCreatedAt()).isNotNull();
+    }
 }
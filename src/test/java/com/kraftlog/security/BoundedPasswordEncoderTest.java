@@ -0,0 +1,110 @@
+package com.kraftlog.security;
+
+import com.kraftlog.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.NoOpPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+class BoundedPasswordEncoderTest {
+
+    private BoundedPasswordEncoder encoder;
+
+    @AfterEach
+    void tearDown() {
+        if (encoder != null) {
+            encoder.destroy();
+        }
+    }
+
+    @Test
+    @DisplayName("Should hash and verify passwords on the hashing pool")
+    void shouldEncodeAndMatch() {
+        // Given
+        encoder = new BoundedPasswordEncoder(4, 1, 4);
+
+        // When
+        String hash = encoder.encode("secret");
+
+        // Then
+        assertThat(hash).startsWith("$2a$04$");
+        assertThat(encoder.matches("secret", hash)).isTrue();
+        assertThat(encoder.matches("other", hash)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should ask for a rehash only when the stored cost is lower")
+    void shouldUpgradeEncodingOnLowerCost() {
+        // Given
+        encoder = new BoundedPasswordEncoder(5, 1, 4);
+
+        // Then
+        assertThat(encoder.upgradeEncoding(new BCryptPasswordEncoder(5).encode("secret"))).isFalse();
+        assertThat(encoder.upgradeEncoding(new BCryptPasswordEncoder(4).encode("secret"))).isTrue();
+        assertThat(encoder.upgradeEncoding(new BCryptPasswordEncoder(6).encode("secret"))).isFalse();
+        assertThat(encoder.upgradeEncoding("not-a-bcrypt-hash")).isFalse();
+        assertThat(encoder.upgradeEncoding(null)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should reject hashing once the pool and its queue are full")
+    void shouldRejectWhenQueueIsFull() {
+        // Given a pool of one thread and one queue slot, both taken
+        CountDownLatch release = new CountDownLatch(1);
+        PasswordEncoder blocking = new BlockingEncoder(release);
+        encoder = new BoundedPasswordEncoder(blocking, 4, 1, 1);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        encoder.bindTo(registry);
+
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> encoder.encode("first"));
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> encoder.encode("second"));
+        await().atMost(Duration.ofSeconds(5)).until(() ->
+                registry.get("kraftlog.password_hashing.queued").gauge().value() == 1.0);
+
+        // When & Then
+        assertThatThrownBy(() -> encoder.encode("third"))
+                .isInstanceOf(TooManyRequestsException.class);
+        assertThat(registry.get("kraftlog.password_hashing.rejected").functionCounter().count()).isEqualTo(1.0);
+
+        release.countDown();
+        assertThat(running.join()).isEqualTo("first");
+        assertThat(queued.join()).isEqualTo("second");
+    }
+
+    @Test
+    @DisplayName("Should keep the configured strength without a target and never go below it")
+    void shouldCalibrateStrength() {
+        assertThat(BoundedPasswordEncoder.calibrate(4, 0)).isEqualTo(4);
+        assertThat(BoundedPasswordEncoder.calibrate(5, 1)).isEqualTo(5);
+        assertThat(BoundedPasswordEncoder.calibrate(4, 60_000)).isGreaterThan(4);
+    }
+
+    private record BlockingEncoder(CountDownLatch release) implements PasswordEncoder {
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return NoOpPasswordEncoder.getInstance().encode(rawPassword);
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return rawPassword.toString().equals(encodedPassword);
+        }
+    }
+}
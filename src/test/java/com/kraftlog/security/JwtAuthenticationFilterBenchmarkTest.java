@@ -0,0 +1,88 @@
+package com.kraftlog.security;
+
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.lang.management.ManagementFactory;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Measures the time and allocation the JWT filter adds per request, for a public route and for a
+ * request with a valid access token. Excluded from the default build; run with
+ * {@code mvn test -Pperformance -Dtest=JwtAuthenticationFilterBenchmarkTest [-Dbenchmark.filter.requests=500000]}.
+ */
+@Tag("benchmark")
+class JwtAuthenticationFilterBenchmarkTest {
+
+    private static final int WARMUP_ROUNDS = 5;
+    private static final int MEASURED_ROUNDS = 10;
+
+    private final AtomicInteger sink = new AtomicInteger();
+    private final FilterChain chain = (req, res) -> sink.incrementAndGet();
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("Filter overhead per request")
+    void filterOverhead() throws Exception {
+        JwtUtil jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "secret", "5367566B59703373367639792F423F4528482B4D6251655468576D5A71347437");
+        ReflectionTestUtils.setField(jwtUtil, "expiration", 900_000L);
+        jwtUtil.init();
+        JwtAuthenticationFilter filter = new JwtAuthenticationFilter(jwtUtil, mock(CustomUserDetailsService.class));
+        int requests = Integer.getInteger("benchmark.filter.requests", 200_000);
+
+        MockHttpServletRequest publicRequest = new MockHttpServletRequest("GET", "/api/health");
+        MockHttpServletRequest authenticatedRequest = new MockHttpServletRequest("GET", "/api/exercises");
+        authenticatedRequest.addHeader("Authorization", "Bearer "
+                + jwtUtil.generateToken(AuthenticatedUser.fromToken(UUID.randomUUID(), "bench@example.com", false)));
+
+        report("public route", filter, publicRequest, requests);
+        report("access token", filter, authenticatedRequest, requests / 10);
+        assertThat(sink.get()).isPositive();
+    }
+
+    private void report(String label, JwtAuthenticationFilter filter, MockHttpServletRequest request, int requests)
+            throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            run(filter, request, response, requests);
+        }
+
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long best = Long.MAX_VALUE;
+        long allocated = Long.MAX_VALUE;
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            long bytesBefore = threads.getCurrentThreadAllocatedBytes();
+            long start = System.nanoTime();
+            run(filter, request, response, requests);
+            best = Math.min(best, System.nanoTime() - start);
+            allocated = Math.min(allocated, threads.getCurrentThreadAllocatedBytes() - bytesBefore);
+        }
+
+        System.out.printf("=== JWT filter, %s: %d requests, %.0f ns/request, %d bytes/request ===%n",
+                label, requests, (double) best / requests, allocated / requests);
+    }
+
+    private void run(JwtAuthenticationFilter filter, MockHttpServletRequest request, MockHttpServletResponse response,
+                     int requests) throws Exception {
+        for (int i = 0; i < requests; i++) {
+            filter.doFilter(request, response, chain);
+            SecurityContextHolder.clearContext();
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.kraftlog.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SecurityRoutesTest {
+
+    @Test
+    @DisplayName("Should let health checks and API docs bypass the security chain")
+    void shouldIgnoreHealthAndDocs() {
+        assertThat(SecurityRoutes.isIgnored(request("/api/health"))).isTrue();
+        assertThat(SecurityRoutes.isIgnored(request("/swagger-ui/index.html"))).isTrue();
+        assertThat(SecurityRoutes.isIgnored(request("/v3/api-docs"))).isTrue();
+        assertThat(SecurityRoutes.isIgnored(request("/v3/api-docs/swagger-config"))).isTrue();
+        assertThat(SecurityRoutes.isIgnored(request("/"))).isTrue();
+
+        assertThat(SecurityRoutes.isIgnored(request("/api/healthcheck"))).isFalse();
+        assertThat(SecurityRoutes.isIgnored(request("/v3/api-docsx"))).isFalse();
+        assertThat(SecurityRoutes.isIgnored(request("/api/auth/login"))).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should keep auth endpoints public and everything else authenticated")
+    void shouldClassifyPublicRoutes() {
+        assertThat(SecurityRoutes.isPublic(request("/api/auth/login"))).isTrue();
+        assertThat(SecurityRoutes.isUnauthenticated(request("/api/auth/refresh"))).isTrue();
+
+        assertThat(SecurityRoutes.isPublic(request("/api/authors"))).isFalse();
+        assertThat(SecurityRoutes.isUnauthenticated(request("/api/users"))).isFalse();
+        assertThat(SecurityRoutes.isUnauthenticated(request("/api/exercises/api/health"))).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should match paths after the context path")
+    void shouldStripContextPath() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/kraftlog/api/health");
+        request.setContextPath("/kraftlog");
+
+        assertThat(SecurityRoutes.isIgnored(request)).isTrue();
+        assertThat(SecurityRoutes.isIgnored(request("/kraftlog/api/health"))).isFalse();
+    }
+
+    private static MockHttpServletRequest request(String uri) {
+        return new MockHttpServletRequest("GET", uri);
+    }
+}
@@ -0,0 +1,123 @@
+package com.kraftlog.service;
+
+import com.kraftlog.TestDataBuilder;
+import com.kraftlog.dto.LoginRequest;
+import com.kraftlog.dto.LoginResponse;
+import com.kraftlog.dto.RegisterRequest;
+import com.kraftlog.entity.User;
+import com.kraftlog.exception.BadRequestException;
+import com.kraftlog.repository.UserRepository;
+import com.kraftlog.security.AuthenticatedUser;
+import com.kraftlog.security.JwtUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.modelmapper.ModelMapper;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AuthServiceTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private PasswordEncoder passwordEncoder;
+
+    @Mock
+    private JwtUtil jwtUtil;
+
+    @Mock
+    private AuthenticationManager authenticationManager;
+
+    @Mock
+    private RefreshTokenService refreshTokenService;
+
+    private AuthService authService;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        authService = new AuthService(userRepository, passwordEncoder, jwtUtil, authenticationManager, new ModelMapper(),
+                refreshTokenService);
+        user = TestDataBuilder.defaultUser().id(UUID.randomUUID()).build();
+    }
+
+    @Test
+    void shouldLoginWithTheUserLoadedDuringAuthentication() {
+        // Given
+        AuthenticatedUser principal = new AuthenticatedUser(user);
+        when(authenticationManager.authenticate(any()))
+                .thenReturn(new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+        when(jwtUtil.generateToken(principal)).thenReturn("token");
+
+        // When
+        LoginResponse response = authService.login(LoginRequest.builder()
+                .email(user.getEmail())
+                .password("password123")
+                .build());
+
+        // Then
+        assertThat(response.getToken()).isEqualTo("token");
+        assertThat(response.getUser().getId()).isEqualTo(user.getId());
+        assertThat(response.getUser().getEmail()).isEqualTo(user.getEmail());
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    void shouldRegisterWithoutLookingUpTheEmailFirst() {
+        // Given
+        when(passwordEncoder.encode("password123")).thenReturn("hashed");
+        when(userRepository.saveAndFlush(any(User.class))).thenAnswer(invocation -> {
+            User saved = invocation.getArgument(0);
+            saved.setId(UUID.randomUUID());
+            return saved;
+        });
+        when(jwtUtil.generateToken(any())).thenReturn("token");
+
+        // When
+        LoginResponse response = authService.register(registerRequest());
+
+        // Then
+        assertThat(response.getToken()).isEqualTo("token");
+        assertThat(response.getUser().getEmail()).isEqualTo("new@example.com");
+        verify(userRepository, never()).existsByEmail(any());
+        verify(userRepository, never()).findByEmail(any());
+    }
+
+    @Test
+    void shouldRejectRegistrationWhenTheEmailIsTaken() {
+        // Given
+        when(passwordEncoder.encode("password123")).thenReturn("hashed");
+        when(userRepository.saveAndFlush(any(User.class)))
+                .thenThrow(new DataIntegrityViolationException("users_email_key"));
+
+        // When & Then
+        assertThatThrownBy(() -> authService.register(registerRequest()))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessageContaining("already exists");
+        verifyNoInteractions(jwtUtil);
+    }
+
+    private RegisterRequest registerRequest() {
+        return RegisterRequest.builder()
+                .name("New")
+                .surname("User")
+                .email("new@example.com")
+                .password("password123")
+                .build();
+    }
+}
@@ -7,73 +7,59 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.mail.SimpleMailMessage;
-import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
-import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class EmailServiceTest {
 
     @Mock
-    private JavaMailSender mailSender;
+    private EmailOutboxService emailOutboxService;
 
     @InjectMocks
     private EmailService emailService;
 
-    private static final String FROM_EMAIL = "noreply@kraftlog.com";
     private static final String FRONTEND_URL = "http://localhost:3000";
 
     @BeforeEach
     void setUp() {
-        ReflectionTestUtils.setField(emailService, "fromEmail", FROM_EMAIL);
         ReflectionTestUtils.setField(emailService, "frontendUrl", FRONTEND_URL);
     }
 
     @Test
-    void sendPasswordResetEmail_Success() {
+    void sendPasswordResetEmail_QueuesMessage() {
         // Given
         String toEmail = "user@example.com";
         String token = "test-token-123";
-        
-        doNothing().when(mailSender).send(any(SimpleMailMessage.class));
 
         // When
         emailService.sendPasswordResetEmail(toEmail, token);
 
         // Then
-        ArgumentCaptor<SimpleMailMessage> messageCaptor = ArgumentCaptor.forClass(SimpleMailMessage.class);
-        verify(mailSender).send(messageCaptor.capture());
-
-        SimpleMailMessage sentMessage = messageCaptor.getValue();
-        assertThat(sentMessage.getFrom()).isEqualTo(FROM_EMAIL);
-        assertThat(sentMessage.getTo()).containsExactly(toEmail);
-        assertThat(sentMessage.getSubject()).isEqualTo("Password Reset Request - KraftLog");
-        assertThat(sentMessage.getText())
+        ArgumentCaptor<String> bodyCaptor = ArgumentCaptor.forClass(String.class);
+        verify(emailOutboxService).enqueue(eq(toEmail), eq("Password Reset Request - KraftLog"), bodyCaptor.capture());
+
+        assertThat(bodyCaptor.getValue())
                 .contains(FRONTEND_URL + "/reset-password?token=" + token)
                 .contains("You have requested to reset your password")
                 .contains("This link will expire in 24 hours");
     }
 
     @Test
-    void sendPasswordResetEmail_MailSenderThrowsException() {
+    void sendPasswordResetEmail_OutboxFailurePropagates() {
         // Given
-        String toEmail = "user@example.com";
-        String token = "test-token-123";
-        
-        doThrow(new RuntimeException("SMTP server unavailable"))
-                .when(mailSender).send(any(SimpleMailMessage.class));
+        doThrow(new RuntimeException("Database unavailable"))
+                .when(emailOutboxService).enqueue(anyString(), anyString(), anyString());
 
         // When & Then
-        assertThatThrownBy(() -> emailService.sendPasswordResetEmail(toEmail, token))
+        assertThatThrownBy(() -> emailService.sendPasswordResetEmail("user@example.com", "test-token-123"))
                 .isInstanceOf(RuntimeException.class)
-                .hasMessageContaining("Failed to send password reset email");
-
-        verify(mailSender).send(any(SimpleMailMessage.class));
+                .hasMessageContaining("Database unavailable");
     }
 
     @Test
@@ -81,21 +67,18 @@ class EmailServiceTest {
         // Given
         String toEmail = "test@example.com";
         String token = "unique-token-456";
-        
-        doNothing().when(mailSender).send(any(SimpleMailMessage.class));
 
         // When
         emailService.sendPasswordResetEmail(toEmail, token);
 
         // Then
-        ArgumentCaptor<SimpleMailMessage> messageCaptor = ArgumentCaptor.forClass(SimpleMailMessage.class);
-        verify(mailSender).send(messageCaptor.capture());
+        ArgumentCaptor<String> bodyCaptor = ArgumentCaptor.forClass(String.class);
+        verify(emailOutboxService).enqueue(eq(toEmail), anyString(), bodyCaptor.capture());
 
-        SimpleMailMessage sentMessage = messageCaptor.getValue();
         String expectedUrl = FRONTEND_URL + "/reset-password?token=" + token;
-        
-        assertThat(sentMessage.getText()).contains(expectedUrl);
-        assertThat(sentMessage.getText()).contains("KraftLog");
-        assertThat(sentMessage.getText()).contains("Hello");
+
+        assertThat(bodyCaptor.getValue()).contains(expectedUrl);
+        assertThat(bodyCaptor.getValue()).contains("KraftLog");
+        assertThat(bodyCaptor.getValue()).contains("Hello");
     }
 }
@@ -0,0 +1,270 @@
+package com.kraftlog.service;
+
+import com.kraftlog.config.CacheConfig;
+import com.kraftlog.dto.ExerciseImportDiff;
+import com.kraftlog.dto.ParsedExerciseData;
+import com.kraftlog.entity.Exercise;
+import com.kraftlog.entity.Muscle;
+import com.kraftlog.exception.BadRequestException;
+import com.kraftlog.repository.ExerciseRepository;
+import com.kraftlog.repository.MuscleRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.cache.CacheManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest(properties = {
+        "exercise.muscle-groups.config-path=exercise-muscle-groups.yml",
+        "exercise.import.batch-size=2",
+        "exercise.import.parse-cache.max-exercises=3"
+})
+@ActiveProfiles("test")
+class ExerciseImportServiceTest {
+
+    @TempDir
+    Path tempDir;
+
+    private File pdf;
+
+    @MockBean
+    private PdfExerciseParserService pdfParser;
+
+    @Autowired
+    private ExerciseImportService exerciseImportService;
+
+    @Autowired
+    private ExerciseRepository exerciseRepository;
+
+    @Autowired
+    private MuscleRepository muscleRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private ParsedExerciseCache parsedExerciseCache;
+
+    private Muscle chest;
+    private Muscle back;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        // Distinct content per test so parse results cached by earlier tests are not replayed
+        pdf = Files.writeString(tempDir.resolve("catalog.pdf"), "%PDF-" + UUID.randomUUID()).toFile();
+        // The parse cache is kept small, so entries of earlier tests would crowd out this one's
+        parsedExerciseCache.clear();
+        jdbcTemplate.update("DELETE FROM exercise_muscles WHERE exercise_id IN "
+                + "(SELECT id FROM exercises WHERE name LIKE 'Import %')");
+        jdbcTemplate.update("DELETE FROM exercises WHERE name LIKE 'Import %'");
+        chest = muscleRepository.findByName("Import Pectoral").orElseGet(() -> muscleRepository.save(
+                Muscle.builder().name("Import Pectoral").muscleGroup(Muscle.MuscleGroup.CHEST).build()));
+        back = muscleRepository.findByName("Import Lats").orElseGet(() -> muscleRepository.save(
+                Muscle.builder().name("Import Lats").muscleGroup(Muscle.MuscleGroup.BACK).build()));
+    }
+
+    @Test
+    @DisplayName("Should insert new exercises in chunks and link the muscles of their group")
+    void shouldInsertNewExercises() throws IOException {
+        // Given
+        parses(exercise("Import Supino", "PEITO", "https://youtu.be/a"),
+                exercise("Import Crucifixo", "PEITO", null),
+                exercise("Import Remada", "COSTAS", "https://youtu.be/b"));
+
+        // When
+        ExerciseImportService.ImportResult result = exerciseImportService.importExercisesFromPdf(pdf);
+
+        // Then
+        assertThat(result.getSuccessCount()).isEqualTo(3);
+        assertThat(result.getAddedCount()).isEqualTo(3);
+        assertThat(result.getFailureCount()).isZero();
+        assertThat(result.getContentHash()).hasSize(64);
+        Exercise supino = exerciseRepository.findByName("Import Supino").orElseThrow();
+        assertThat(supino.getVideoUrl()).isEqualTo("https://youtu.be/a");
+        assertThat(supino.getCreatedAt()).isNotNull();
+        assertThat(muscleIds("Import Supino")).contains(chest.getId()).doesNotContain(back.getId());
+        assertThat(muscleIds("Import Remada")).contains(back.getId()).doesNotContain(chest.getId());
+    }
+
+    @Test
+    @DisplayName("Should update existing exercises by name and merge muscles without duplicates")
+    void shouldUpsertExistingExercises() throws IOException {
+        // Given
+        Exercise existing = exerciseRepository.save(Exercise.builder()
+                .name("Import Barra")
+                .videoUrl("https://youtu.be/old")
+                .muscles(new ArrayList<>(List.of(back)))
+                .build());
+        parses(exercise("Import Barra", "PEITO", "https://youtu.be/new"),
+                exercise("Import Barra", "COSTAS", null),
+                exercise("Import Barra", "PEITO", ""));
+
+        // When
+        ExerciseImportService.ImportResult result = exerciseImportService.importExercisesFromPdf(pdf);
+
+        // Then
+        assertThat(result.getSuccessCount()).isEqualTo(3);
+        assertThat(result.getUpdatedCount()).isEqualTo(2);
+        assertThat(result.getUnchangedCount()).isEqualTo(1);
+        Exercise updated = exerciseRepository.findByName("Import Barra").orElseThrow();
+        assertThat(updated.getId()).isEqualTo(existing.getId());
+        assertThat(updated.getVideoUrl()).isEqualTo("https://youtu.be/new");
+        assertThat(muscleIds("Import Barra")).contains(back.getId(), chest.getId()).doesNotHaveDuplicates();
+    }
+
+    @Test
+    @DisplayName("Should fall back to single rows so one bad row does not fail its chunk")
+    void shouldIsolateFailingRows() throws IOException {
+        // Given
+        parses(exercise("Import Flexao", "PEITO", null),
+                exercise("Import " + "x".repeat(300), "PEITO", null),
+                exercise("Import Pulldown", "COSTAS", null));
+
+        // When
+        ExerciseImportService.ImportResult result = exerciseImportService.importExercisesFromPdf(pdf);
+
+        // Then
+        assertThat(result.getSuccessCount()).isEqualTo(2);
+        assertThat(result.getFailureCount()).isEqualTo(1);
+        assertThat(result.getFailures().get(0).getExerciseName()).startsWith("Import xxx");
+        assertThat(exerciseRepository.findByName("Import Flexao")).isPresent();
+        assertThat(exerciseRepository.findByName("Import Pulldown")).isPresent();
+    }
+
+    @Test
+    @DisplayName("Should replay a repeated import from the parse cache without writing or evicting")
+    void shouldSkipUnchangedReimport() throws IOException {
+        // Given
+        parses(exercise("Import Agachamento", "PERNAS", "https://youtu.be/c"),
+                exercise("Import Supino", "PEITO", "https://youtu.be/a"));
+        exerciseImportService.importExercisesFromPdf(pdf);
+        LocalDateTime updatedAt = exerciseRepository.findByName("Import Supino").orElseThrow().getUpdatedAt();
+        cacheManager.getCache(CacheConfig.EXERCISES_CACHE).put("all", "cached page");
+
+        // When
+        ExerciseImportService.ImportResult result = exerciseImportService.importExercisesFromPdf(pdf);
+
+        // Then
+        assertThat(result.getSuccessCount()).isEqualTo(2);
+        assertThat(result.getUnchangedCount()).isEqualTo(2);
+        assertThat(result.getAddedCount() + result.getUpdatedCount()).isZero();
+        assertThat(exerciseRepository.findByName("Import Supino").orElseThrow().getUpdatedAt()).isEqualTo(updatedAt);
+        assertThat(cacheManager.getCache(CacheConfig.EXERCISES_CACHE).get("all")).isNotNull();
+        verify(pdfParser, times(1)).parseExercisesFromPdf(eq(pdf), any());
+    }
+
+    @Test
+    @DisplayName("Should parse a catalog larger than the parse cache again instead of caching it")
+    void shouldNotCacheCatalogLargerThanCache() throws IOException {
+        // Given
+        parses(exercise("Import Supino", "PEITO", null),
+                exercise("Import Crucifixo", "PEITO", null),
+                exercise("Import Remada", "COSTAS", null),
+                exercise("Import Pulldown", "COSTAS", null));
+        exerciseImportService.importExercisesFromPdf(pdf);
+
+        // When
+        ExerciseImportService.ImportResult result = exerciseImportService.importExercisesFromPdf(pdf);
+
+        // Then
+        assertThat(result.getSuccessCount()).isEqualTo(4);
+        assertThat(result.getUnchangedCount()).isEqualTo(4);
+        verify(pdfParser, times(2)).parseExercisesFromPdf(eq(pdf), any());
+    }
+
+    @Test
+    @DisplayName("Should report added, updated and unchanged exercises on a dry run without writing")
+    void shouldDiffWithoutWriting() throws IOException {
+        // Given
+        exerciseRepository.save(Exercise.builder().name("Import Barra").videoUrl("https://youtu.be/old")
+                .muscles(new ArrayList<>(List.of(back))).build());
+        // Up to date: already linked to every muscle of its group
+        exerciseRepository.save(Exercise.builder().name("Import Remada").videoUrl("https://youtu.be/b")
+                .muscles(new ArrayList<>(muscleRepository.findAll().stream()
+                        .filter(muscle -> muscle.getMuscleGroup() == Muscle.MuscleGroup.BACK).toList()))
+                .build());
+        parses(exercise("Import Barra", "COSTAS", "https://youtu.be/new"),
+                exercise("Import Remada", "COSTAS", "https://youtu.be/b"),
+                exercise("Import Crucifixo", "PEITO", null));
+
+        // When
+        ExerciseImportDiff diff = exerciseImportService.diffExercisesFromPdf(pdf);
+
+        // Then
+        assertThat(diff.getAdded()).containsExactly("Import Crucifixo");
+        assertThat(diff.getUpdated()).containsExactly("Import Barra");
+        assertThat(diff.getUnchangedCount()).isEqualTo(1);
+        assertThat(diff.isCached()).isFalse();
+        assertThat(exerciseRepository.findByName("Import Crucifixo")).isEmpty();
+        assertThat(exerciseRepository.findByName("Import Barra").orElseThrow().getVideoUrl())
+                .isEqualTo("https://youtu.be/old");
+
+        // The import that follows reuses the parse
+        ExerciseImportService.ImportResult result = exerciseImportService.importExercisesFromPdf(pdf);
+        assertThat(result.getAddedCount()).isEqualTo(1);
+        assertThat(result.getUpdatedCount()).isEqualTo(1);
+        assertThat(result.getUnchangedCount()).isEqualTo(1);
+        verify(pdfParser, times(1)).parseExercisesFromPdf(eq(pdf), any());
+    }
+
+    @Test
+    @DisplayName("Should reject a PDF without exercises")
+    void shouldRejectEmptyPdf() throws IOException {
+        // Given
+        parses();
+
+        // When & Then
+        assertThatThrownBy(() -> exerciseImportService.importExercisesFromPdf(pdf))
+                .isInstanceOf(BadRequestException.class);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void parses(ParsedExerciseData... exercises) throws IOException {
+        when(pdfParser.parseExercisesFromPdf(eq(pdf), any(Consumer.class))).thenAnswer(invocation -> {
+            Consumer<ParsedExerciseData> consumer = invocation.getArgument(1);
+            for (ParsedExerciseData exercise : exercises) {
+                consumer.accept(exercise);
+            }
+            return exercises.length;
+        });
+    }
+
+    private List<UUID> muscleIds(String exerciseName) {
+        return jdbcTemplate.queryForList("SELECT em.muscle_id FROM exercise_muscles em "
+                + "JOIN exercises e ON e.id = em.exercise_id WHERE e.name = ?", UUID.class, exerciseName);
+    }
+
+    private static ParsedExerciseData exercise(String name, String muscleGroup, String videoUrl) {
+        return ParsedExerciseData.builder()
+                .name(name)
+                .muscleGroupPortuguese(muscleGroup)
+                .videoUrl(videoUrl)
+                .build();
+    }
+}
@@ -0,0 +1,110 @@
+package com.kraftlog.service;
+
+import com.kraftlog.dto.ParsedExerciseData;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.apache.pdfbox.pdmodel.common.PDRectangle;
+import org.apache.pdfbox.pdmodel.font.PDType1Font;
+import org.apache.pdfbox.pdmodel.font.Standard14Fonts;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Writes synthetic exercise catalog PDFs in the layout the parser expects: a muscle group header,
+ * a table header row, then one exercise per line followed by its video URL. Groups are long enough
+ * to run across page boundaries without the header being repeated.
+ */
+final class ExercisePdfFixture {
+
+    static final List<String> HEADERS = List.of(
+            "PEITO", "COSTAS", "OMBROS", "BÍCEPS", "TRÍCEPS", "PERNAS", "GLÚTEOS", "ANTEBRAÇOS", "PANTURRILHAS");
+
+    private static final List<String> MOVEMENTS = List.of(
+            "Supino", "Remada", "Desenvolvimento", "Rosca", "Extensão", "Agachamento", "Elevação",
+            "Flexão", "Puxada", "Crucifixo", "Afundo", "Levantamento");
+
+    private static final List<String> VARIANTS = List.of(
+            "Reto", "Inclinado", "Declinado", "Unilateral", "com Halteres", "na Polia", "no Smith", "Sentado");
+
+    private static final int LINES_PER_PAGE = 48;
+
+    private ExercisePdfFixture() {
+    }
+
+    /**
+     * Generate catalog text lines
+     *
+     * @param minLines generate at least this many lines
+     */
+    static Catalog generate(int minLines, long seed) {
+        Random random = new Random(seed);
+        List<String> lines = new ArrayList<>();
+        List<ParsedExerciseData> expected = new ArrayList<>();
+
+        int exercise = 0;
+        while (lines.size() < minLines) {
+            String header = HEADERS.get(random.nextInt(HEADERS.size()));
+            lines.add(header);
+            lines.add("EXERCÍCIO VÍDEO");
+            int groupSize = 5 + random.nextInt(80);
+            for (int i = 0; i < groupSize; i++) {
+                exercise++;
+                String name = MOVEMENTS.get(random.nextInt(MOVEMENTS.size())) + " "
+                        + VARIANTS.get(random.nextInt(VARIANTS.size())) + " " + exercise;
+                String url = random.nextBoolean()
+                        ? "https://youtu.be/v" + Long.toString(random.nextLong() & Long.MAX_VALUE, 36)
+                        : "https://www.youtube.com/watch?v=w" + exercise;
+                lines.add(name + " " + url);
+                expected.add(ParsedExerciseData.builder()
+                        .name(name)
+                        .videoUrl(url)
+                        .muscleGroupPortuguese(header)
+                        .build());
+            }
+        }
+        return new Catalog(lines, expected);
+    }
+
+    /**
+     * Write a catalog of roughly {@code pages} pages to {@code target}
+     *
+     * @return the exercises the parser is expected to return, in document order
+     */
+    static List<ParsedExerciseData> write(Path target, int pages, long seed) throws IOException {
+        Catalog catalog = generate(pages * LINES_PER_PAGE, seed);
+        List<String> lines = catalog.lines();
+
+        PDType1Font font = new PDType1Font(Standard14Fonts.FontName.HELVETICA);
+        try (PDDocument document = new PDDocument()) {
+            for (int start = 0; start < lines.size(); start += LINES_PER_PAGE) {
+                PDPage page = new PDPage(PDRectangle.A4);
+                document.addPage(page);
+                try (PDPageContentStream content = new PDPageContentStream(document, page)) {
+                    content.beginText();
+                    content.setFont(font, 10);
+                    content.setLeading(15);
+                    content.newLineAtOffset(40, PDRectangle.A4.getHeight() - 50);
+                    for (String line : lines.subList(start, Math.min(start + LINES_PER_PAGE, lines.size()))) {
+                        content.showText(line);
+                        content.newLine();
+                    }
+                    content.endText();
+                }
+            }
+            document.save(target.toFile());
+        }
+        return catalog.expected();
+    }
+
+    record Catalog(List<String> lines, List<ParsedExerciseData> expected) {
+
+        String text() {
+            return String.join("\n", lines) + "\n";
+        }
+    }
+}
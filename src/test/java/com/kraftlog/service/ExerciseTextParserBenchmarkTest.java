@@ -0,0 +1,55 @@
+package com.kraftlog.service;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import com.kraftlog.config.ExerciseImportProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Measures the line parser alone (header detection, URL extraction, name cleanup) on generated
+ * catalog text, without PDF extraction. Excluded from the default build; run with
+ * {@code mvn test -Pperformance -Dtest=ExerciseTextParserBenchmarkTest [-Dbenchmark.parser.lines=500000]}.
+ */
+@Tag("benchmark")
+class ExerciseTextParserBenchmarkTest {
+
+    private static final int WARMUP_ROUNDS = 5;
+    private static final int MEASURED_ROUNDS = 10;
+
+    @Test
+    @DisplayName("Parser throughput in lines per second")
+    void linesPerSecond() {
+        // Runs outside Spring, where logback would otherwise default to DEBUG for every parsed line
+        ((Logger) LoggerFactory.getLogger("com.kraftlog")).setLevel(Level.INFO);
+        ExercisePdfFixture.Catalog catalog =
+                ExercisePdfFixture.generate(Integer.getInteger("benchmark.parser.lines", 200_000), 42L);
+        String text = catalog.text();
+
+        ExerciseImportProperties importProperties = new ExerciseImportProperties();
+        importProperties.setConfigPath("exercise-muscle-groups.yml");
+        importProperties.loadConfiguration();
+        PdfExerciseParserService parser = PdfExerciseParserServiceTest.parallelParser(importProperties, 1);
+
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            assertThat(parser.parseExercisesFromText(text, exercise -> { })).isEqualTo(catalog.expected().size());
+        }
+
+        long best = Long.MAX_VALUE;
+        AtomicInteger sink = new AtomicInteger();
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            long start = System.nanoTime();
+            parser.parseExercisesFromText(text, exercise -> sink.incrementAndGet());
+            best = Math.min(best, System.nanoTime() - start);
+        }
+
+        System.out.printf("=== Exercise text parser: %d lines, best %.1f ms, %.0f lines/s ===%n",
+                catalog.lines().size(), best / 1e6, catalog.lines().size() / (best / 1e9));
+    }
+}
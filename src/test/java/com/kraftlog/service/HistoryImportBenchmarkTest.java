@@ -0,0 +1,81 @@
+package com.kraftlog.service;
+
+import com.kraftlog.TestDataBuilder;
+import com.kraftlog.entity.User;
+import com.kraftlog.repository.ExerciseRepository;
+import com.kraftlog.repository.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.StringReader;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Measures a bulk history import end to end, from CSV text to committed rows. Excluded from the
+ * default build; run with
+ * {@code mvn test -Pperformance -Dtest=HistoryImportBenchmarkTest [-Dbenchmark.import.sets=100000]}.
+ * Against the in-memory H2 of the test profile, so the figure is a lower bound for PostgreSQL.
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = "logging.level.com.kraftlog=INFO")
+@ActiveProfiles("test")
+class HistoryImportBenchmarkTest {
+
+    private static final int SETS_PER_EXERCISE = 4;
+    private static final int EXERCISES_PER_SESSION = 6;
+
+    @Autowired
+    private HistoryImportService historyImportService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ExerciseRepository exerciseRepository;
+
+    @Test
+    @DisplayName("Import throughput in sets per second")
+    void setsPerSecond() throws Exception {
+        int setCount = Integer.getInteger("benchmark.import.sets", 100_000);
+        List<String> exercises = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            exercises.add(exerciseRepository.save(TestDataBuilder.defaultExercise()
+                    .name("Benchmark Lift " + i + " " + UUID.randomUUID()).build()).getName());
+        }
+        User user = userRepository.save(TestDataBuilder.defaultUser()
+                .email("import-benchmark-" + UUID.randomUUID() + "@example.com").build());
+
+        StringBuilder csv = new StringBuilder("routine_name,routine_start,workout_name,exercise_name,set_number,reps,weight_kg\n");
+        LocalDateTime start = LocalDateTime.of(2020, 1, 1, 18, 0);
+        for (int set = 0; set < setCount; set++) {
+            int exercise = set / SETS_PER_EXERCISE;
+            int session = exercise / EXERCISES_PER_SESSION;
+            csv.append("Program ").append(session % 3).append(',')
+                    .append(start.plusDays(session)).append(',')
+                    .append("Day ").append(session % 3).append(',')
+                    .append(exercises.get(exercise % exercises.size())).append(',')
+                    .append(set % SETS_PER_EXERCISE + 1).append(',')
+                    .append(5 + set % 5).append(',')
+                    .append(40 + set % 60).append('\n');
+        }
+
+        long begin = System.nanoTime();
+        HistoryImportService.ImportResult result = historyImportService.importHistory(user.getId(),
+                HistoryFormat.CSV, new StringReader(csv.toString()), new HistoryImportService.ImportListener() { });
+        long elapsed = System.nanoTime() - begin;
+
+        assertThat(result.getImportedSetCount()).isEqualTo(setCount);
+        assertThat(result.getFailureCount()).isZero();
+        System.out.printf("=== History import: %d sets in %d sessions, %.1f ms, %.0f sets/s ===%n",
+                setCount, result.getSessionCount(), elapsed / 1e6, setCount / (elapsed / 1e9));
+    }
+}
@@ -0,0 +1,147 @@
+package com.kraftlog.service;
+
+import com.kraftlog.TestDataBuilder;
+import com.kraftlog.dto.LogExerciseResponse;
+import com.kraftlog.dto.LogRoutineResponse;
+import com.kraftlog.dto.LogWorkoutResponse;
+import com.kraftlog.entity.Exercise;
+import com.kraftlog.entity.LogExercise;
+import com.kraftlog.entity.LogRoutine;
+import com.kraftlog.entity.LogWorkout;
+import com.kraftlog.entity.Routine;
+import com.kraftlog.entity.User;
+import com.kraftlog.entity.Workout;
+import com.kraftlog.repository.ExerciseRepository;
+import com.kraftlog.repository.LogExerciseRepository;
+import com.kraftlog.repository.LogRoutineRepository;
+import com.kraftlog.repository.LogSetRepository;
+import com.kraftlog.repository.LogWorkoutRepository;
+import com.kraftlog.repository.RoutineRepository;
+import com.kraftlog.repository.UserRepository;
+import com.kraftlog.repository.WorkoutRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class LogRoutineServiceTest {
+
+    @Autowired
+    private LogRoutineService logRoutineService;
+
+    @Autowired
+    private LogExerciseService logExerciseService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RoutineRepository routineRepository;
+
+    @Autowired
+    private WorkoutRepository workoutRepository;
+
+    @Autowired
+    private ExerciseRepository exerciseRepository;
+
+    @Autowired
+    private LogRoutineRepository logRoutineRepository;
+
+    @Autowired
+    private LogWorkoutRepository logWorkoutRepository;
+
+    @Autowired
+    private LogExerciseRepository logExerciseRepository;
+
+    @Autowired
+    private LogSetRepository logSetRepository;
+
+    private User user;
+    private Routine routine;
+    private Workout workout;
+    private Exercise exercise;
+
+    @BeforeEach
+    void setUp() {
+        String suffix = UUID.randomUUID().toString();
+        user = userRepository.save(TestDataBuilder.defaultUser().email("log-" + suffix + "@example.com").build());
+        routine = routineRepository.save(TestDataBuilder.defaultRoutine(user).build());
+        workout = workoutRepository.save(TestDataBuilder.defaultWorkout(routine).build());
+        exercise = exerciseRepository.save(TestDataBuilder.defaultExercise().name("Log Press " + suffix).build());
+    }
+
+    @Test
+    @DisplayName("Should assemble the log tree of a user from projections, newest log routine first")
+    void shouldGetLogRoutinesByUserId() {
+        // Given
+        LocalDateTime now = LocalDateTime.now();
+        LogRoutine older = logRoutineRepository.save(TestDataBuilder.defaultLogRoutine(routine)
+                .startDatetime(now.minusDays(7)).build());
+        LogRoutine newer = logRoutineRepository.save(TestDataBuilder.defaultLogRoutine(routine)
+                .startDatetime(now).build());
+        LogWorkout logWorkout = logWorkoutRepository.save(TestDataBuilder.defaultLogWorkout(newer, workout).build());
+        LogExercise logExercise = logExerciseRepository.save(
+                TestDataBuilder.defaultLogExercise(logWorkout, exercise).build());
+        logSetRepository.save(TestDataBuilder.defaultLogSet(logExercise).setNumber(2).reps(8).build());
+        logSetRepository.save(TestDataBuilder.defaultLogSet(logExercise).setNumber(1).build());
+
+        // When
+        List<LogRoutineResponse> responses = logRoutineService.getLogRoutinesByUserId(user.getId());
+
+        // Then
+        assertThat(responses).extracting(LogRoutineResponse::getId).containsExactly(newer.getId(), older.getId());
+        assertThat(responses).extracting(LogRoutineResponse::getRoutineId).containsOnly(routine.getId());
+        assertThat(responses).extracting(LogRoutineResponse::getUpdatedAt).doesNotContainNull();
+        assertThat(responses.get(1).getLogWorkouts()).isEmpty();
+
+        LogWorkoutResponse workoutResponse = responses.get(0).getLogWorkouts().get(0);
+        assertThat(workoutResponse.getLogRoutineId()).isEqualTo(newer.getId());
+        assertThat(workoutResponse.getWorkoutId()).isEqualTo(workout.getId());
+        assertThat(workoutResponse.getUpdatedAt()).isNotNull();
+
+        LogExerciseResponse exerciseResponse = workoutResponse.getLogExercises().get(0);
+        assertThat(exerciseResponse.getExerciseId()).isEqualTo(exercise.getId());
+        assertThat(exerciseResponse.getExerciseName()).isEqualTo(exercise.getName());
+        assertThat(exerciseResponse.getNotes()).isEqualTo("Felt good");
+        assertThat(exerciseResponse.getUpdatedAt()).isNotNull();
+        assertThat(exerciseResponse.getLogSets()).extracting("setNumber").containsExactly(1, 2);
+        assertThat(exerciseResponse.getLogSets()).extracting("logExerciseId").containsOnly(logExercise.getId());
+    }
+
+    @Test
+    @DisplayName("Should return the log exercises of a log workout with their sets")
+    void shouldGetLogExercisesByLogWorkoutId() {
+        // Given
+        LogRoutine logRoutine = logRoutineRepository.save(TestDataBuilder.defaultLogRoutine(routine).build());
+        LogWorkout logWorkout = logWorkoutRepository.save(TestDataBuilder.defaultLogWorkout(logRoutine, workout).build());
+        LogWorkout emptyLogWorkout = logWorkoutRepository.save(
+                TestDataBuilder.defaultLogWorkout(logRoutine, workout).build());
+        LogExercise logExercise = logExerciseRepository.save(
+                TestDataBuilder.defaultLogExercise(logWorkout, exercise).build());
+        logSetRepository.save(TestDataBuilder.defaultLogSet(logExercise).build());
+
+        // When
+        List<LogExerciseResponse> responses = logExerciseService.getLogExercisesByLogWorkoutId(logWorkout.getId());
+
+        // Then
+        assertThat(responses).singleElement().satisfies(response -> {
+            assertThat(response.getId()).isEqualTo(logExercise.getId());
+            assertThat(response.getLogWorkoutId()).isEqualTo(logWorkout.getId());
+            assertThat(response.getCompleted()).isTrue();
+            assertThat(response.getLogSets()).hasSize(1);
+        });
+        assertThat(logExerciseService.getLogExercisesByLogWorkoutId(emptyLogWorkout.getId())).isEmpty();
+    }
+}
@@ -14,6 +14,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.LocalDateTime;
 import java.util.Optional;
@@ -23,6 +24,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -40,6 +42,9 @@ class PasswordRecoveryServiceTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private RefreshTokenService refreshTokenService;
+
     @InjectMocks
     private PasswordRecoveryService passwordRecoveryService;
 
@@ -201,14 +206,34 @@ class PasswordRecoveryServiceTest {
 
     @Test
     void cleanupExpiredTokens_Success() {
+        // Given
+        ReflectionTestUtils.setField(passwordRecoveryService, "cleanupBatchSize", 100);
+        when(passwordResetTokenRepository.deleteExpiredBatch(any(LocalDateTime.class), eq(100))).thenReturn(42);
+
         // When
-        passwordRecoveryService.cleanupExpiredTokens();
+        int deleted = passwordRecoveryService.cleanupExpiredTokens();
 
         // Then
         ArgumentCaptor<LocalDateTime> dateCaptor = ArgumentCaptor.forClass(LocalDateTime.class);
-        verify(passwordResetTokenRepository).deleteByExpiryDateBefore(dateCaptor.capture());
-        
+        verify(passwordResetTokenRepository).deleteExpiredBatch(dateCaptor.capture(), eq(100));
+
+        assertThat(deleted).isEqualTo(42);
         assertThat(dateCaptor.getValue()).isBefore(LocalDateTime.now().plusSeconds(1));
         assertThat(dateCaptor.getValue()).isAfter(LocalDateTime.now().minusSeconds(1));
     }
+
+    @Test
+    void cleanupExpiredTokens_DeletesInBatchesUntilExhausted() {
+        // Given
+        ReflectionTestUtils.setField(passwordRecoveryService, "cleanupBatchSize", 100);
+        when(passwordResetTokenRepository.deleteExpiredBatch(any(LocalDateTime.class), eq(100)))
+                .thenReturn(100, 100, 7);
+
+        // When
+        int deleted = passwordRecoveryService.cleanupExpiredTokens();
+
+        // Then
+        assertThat(deleted).isEqualTo(207);
+        verify(passwordResetTokenRepository, times(3)).deleteExpiredBatch(any(LocalDateTime.class), eq(100));
+    }
 }
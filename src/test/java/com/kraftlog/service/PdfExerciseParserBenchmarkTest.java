@@ -0,0 +1,79 @@
+package com.kraftlog.service;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import com.kraftlog.config.ExerciseImportProperties;
+import com.kraftlog.dto.ParsedExerciseData;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.io.TempDir;
+import org.slf4j.LoggerFactory;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares sequential and fork-join PDF parsing on a generated multi-hundred-page catalog.
+ * Excluded from the default build; run with
+ * {@code mvn test -Pperformance -Dtest=PdfExerciseParserBenchmarkTest [-Dbenchmark.pdf.pages=600]}.
+ */
+@Tag("benchmark")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class PdfExerciseParserBenchmarkTest {
+
+    private static final int WARMUP_ROUNDS = 2;
+    private static final int MEASURED_ROUNDS = 5;
+
+    private Path pdf;
+    private int pages;
+    private List<ParsedExerciseData> expected;
+    private ExerciseImportProperties importProperties;
+
+    @BeforeAll
+    void generateCatalog(@TempDir Path tempDir) throws Exception {
+        // Runs outside Spring, where logback would otherwise default to DEBUG for every parsed line
+        ((Logger) LoggerFactory.getLogger("com.kraftlog")).setLevel(Level.INFO);
+        ((Logger) LoggerFactory.getLogger("org.apache.pdfbox")).setLevel(Level.WARN);
+        pages = Integer.getInteger("benchmark.pdf.pages", 400);
+        pdf = tempDir.resolve("catalog.pdf");
+        expected = ExercisePdfFixture.write(pdf, pages, 42L);
+
+        importProperties = new ExerciseImportProperties();
+        importProperties.setConfigPath("exercise-muscle-groups.yml");
+        importProperties.loadConfiguration();
+    }
+
+    @Test
+    @DisplayName("Sequential vs parallel parsing throughput")
+    void compareParallelism() throws Exception {
+        int cores = Runtime.getRuntime().availableProcessors();
+        StringBuilder report = new StringBuilder("=== PDF parsing, " + pages + " pages, "
+                + expected.size() + " exercises, " + cores + " cores ===\n");
+
+        for (int parallelism : IntStream.of(1, 2, 4, cores).distinct().sorted().toArray()) {
+            PdfExerciseParserService parser = PdfExerciseParserServiceTest.parallelParser(importProperties, parallelism);
+            for (int i = 0; i < WARMUP_ROUNDS; i++) {
+                assertThat(parser.parseExercisesFromPdf(pdf.toFile())).containsExactlyElementsOf(expected);
+            }
+
+            long best = Long.MAX_VALUE;
+            for (int i = 0; i < MEASURED_ROUNDS; i++) {
+                long start = System.nanoTime();
+                parser.parseExercisesFromPdf(pdf.toFile(), exercise -> { });
+                best = Math.min(best, System.nanoTime() - start);
+            }
+
+            double seconds = best / 1e9;
+            report.append(String.format("parallelism %2d: best %8.1f ms, %8.0f pages/s%n",
+                    parallelism, best / 1e6, pages / seconds));
+        }
+
+        System.out.println(report);
+    }
+}
@@ -1,18 +1,26 @@
 package com.kraftlog.service;
 
+import com.kraftlog.config.ExerciseImportProperties;
 import com.kraftlog.dto.ParsedExerciseData;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.io.File;
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 
 @SpringBootTest
 @ActiveProfiles("test")
@@ -24,6 +32,9 @@ class PdfExerciseParserServiceTest {
     @Autowired
     private PdfExerciseParserService parserService;
 
+    @Autowired
+    private ExerciseImportProperties importProperties;
+
     @Test
     @DisplayName("Should parse exercises from real PDF if it exists")
     void shouldParseExercisesFromPdf() throws Exception {
@@ -63,4 +74,87 @@ class PdfExerciseParserServiceTest {
         System.out.println("  Muscle Group: " + firstExercise.getMuscleGroupPortuguese());
         System.out.println("  Video URL: " + (firstExercise.getVideoUrl() != null ? firstExercise.getVideoUrl() : "N/A"));
     }
+
+    @Test
+    @DisplayName("Should stream exercises from a multi-page PDF with groups spanning pages")
+    void shouldStreamExercisesFromSyntheticPdf(@TempDir Path tempDir) throws Exception {
+        // Given
+        Path pdf = tempDir.resolve("catalog.pdf");
+        List<ParsedExerciseData> expected = ExercisePdfFixture.write(pdf, 12, 7L);
+
+        // When
+        List<ParsedExerciseData> streamed = new ArrayList<>();
+        int count = parserService.parseExercisesFromPdf(pdf.toFile(), streamed::add);
+
+        // Then
+        assertThat(count).isEqualTo(expected.size());
+        assertThat(streamed).containsExactlyElementsOf(expected);
+        assertThat(parserService.parseExercisesFromPdf(pdf.toFile())).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    @DisplayName("Should match headers regardless of case and clean numbering and whitespace from names")
+    void shouldParseCatalogText() {
+        // Given
+        String text = """
+                Supino sem grupo https://youtu.be/none
+                Treino de peito
+                EXERCÍCIO VÍDEO
+                1. Supino  reto\tbarra https://youtu.be/abc123
+                Crucifixo inclinado
+                - Tríceps na polia https://www.youtube.com/watch?v=xyz_789
+                """;
+
+        // When
+        List<ParsedExerciseData> parsed = new ArrayList<>();
+        int count = parserService.parseExercisesFromText(text, parsed::add);
+
+        // Then
+        assertThat(count).isEqualTo(2);
+        assertThat(parsed).extracting(ParsedExerciseData::getName, ParsedExerciseData::getMuscleGroupPortuguese,
+                        ParsedExerciseData::getVideoUrl)
+                .containsExactly(
+                        tuple("Supino reto barra", "PEITO", "https://youtu.be/abc123"),
+                        tuple("Crucifixo inclinado", "PEITO", null));
+    }
+
+    @Test
+    @DisplayName("Should parse the generated catalog text exactly")
+    void shouldParseGeneratedCatalogText() {
+        // Given
+        ExercisePdfFixture.Catalog catalog = ExercisePdfFixture.generate(5_000, 3L);
+
+        // When
+        List<ParsedExerciseData> parsed = new ArrayList<>();
+        parserService.parseExercisesFromText(catalog.text(), parsed::add);
+
+        // Then
+        assertThat(parsed).containsExactlyElementsOf(catalog.expected());
+    }
+
+    @ParameterizedTest(name = "parallelism {0}")
+    @ValueSource(ints = {2, 3, 4, 7})
+    @DisplayName("Should produce exactly the sequential output when parsing page ranges in parallel")
+    void shouldMatchSequentialOutputInParallel(int parallelism, @TempDir Path tempDir) throws Exception {
+        // Given
+        Path pdf = tempDir.resolve("catalog.pdf");
+        List<ParsedExerciseData> expected = ExercisePdfFixture.write(pdf, 40, parallelism);
+        PdfExerciseParserService parallelParser = parallelParser(importProperties, parallelism);
+
+        // When
+        List<ParsedExerciseData> sequential = parserService.parseExercisesFromPdf(pdf.toFile());
+        List<ParsedExerciseData> parallel = parallelParser.parseExercisesFromPdf(pdf.toFile());
+
+        // Then
+        assertThat(sequential).containsExactlyElementsOf(expected);
+        assertThat(parallel).containsExactlyElementsOf(sequential);
+    }
+
+    static PdfExerciseParserService parallelParser(ExerciseImportProperties importProperties, int parallelism) {
+        PdfExerciseParserService parser = new PdfExerciseParserService(importProperties);
+        ReflectionTestUtils.setField(parser, "maxMainMemoryMb", 16L);
+        ReflectionTestUtils.setField(parser, "parallelism", parallelism);
+        ReflectionTestUtils.setField(parser, "parallelMinPages", 1);
+        return parser;
+    }
 }
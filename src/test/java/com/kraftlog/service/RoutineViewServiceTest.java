@@ -0,0 +1,186 @@
+package com.kraftlog.service;
+
+import com.kraftlog.TestDataBuilder;
+import com.kraftlog.dto.ExerciseUpdateRequest;
+import com.kraftlog.dto.RoutineCreateRequest;
+import com.kraftlog.dto.RoutineResponse;
+import com.kraftlog.dto.WorkoutCreateRequest;
+import com.kraftlog.dto.WorkoutExerciseRequest;
+import com.kraftlog.dto.WorkoutResponse;
+import com.kraftlog.entity.Exercise;
+import com.kraftlog.entity.RoutineView;
+import com.kraftlog.entity.User;
+import com.kraftlog.exception.ResourceNotFoundException;
+import com.kraftlog.repository.ExerciseRepository;
+import com.kraftlog.repository.RoutineViewRepository;
+import com.kraftlog.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class RoutineViewServiceTest {
+
+    @Autowired
+    private RoutineService routineService;
+
+    @Autowired
+    private WorkoutService workoutService;
+
+    @Autowired
+    private ExerciseService exerciseService;
+
+    @Autowired
+    private RoutineViewRepository routineViewRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ExerciseRepository exerciseRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private User user;
+    private Exercise exercise;
+
+    @BeforeEach
+    void setUp() {
+        String suffix = UUID.randomUUID().toString();
+        user = userRepository.save(TestDataBuilder.defaultUser().email("view-" + suffix + "@example.com").build());
+        exercise = exerciseRepository.save(TestDataBuilder.defaultExercise().name("View Press " + suffix).build());
+    }
+
+    @Test
+    @DisplayName("Should store the routine tree on first read and serve it from the view afterwards")
+    void shouldBuildViewOnFirstRead() {
+        // Given
+        UUID routineId = createRoutineWithWorkout();
+        assertThat(document(routineId)).isNull();
+
+        // When
+        RoutineResponse built = routineService.getRoutineById(routineId);
+
+        // Then
+        String document = document(routineId);
+        assertThat(document).contains("Push Day").contains(exercise.getName());
+        RoutineResponse fromView = routineService.getRoutinesByUserId(user.getId()).get(0);
+        assertThat(fromView.getName()).isEqualTo(built.getName());
+        assertThat(fromView.getWorkouts()).extracting(WorkoutResponse::getName).containsExactly("Push Day");
+        assertThat(fromView.getWorkouts().get(0).getExercises().get(0).getExerciseName()).isEqualTo(exercise.getName());
+    }
+
+    @Test
+    @DisplayName("Should invalidate the view when a workout or an exercise in it changes")
+    void shouldInvalidateOnWrites() {
+        // Given
+        UUID routineId = createRoutineWithWorkout();
+        routineService.getRoutineById(routineId);
+        UUID workoutId = routineService.getRoutineById(routineId).getWorkouts().get(0).getId();
+
+        // When a workout changes
+        workoutService.updateWorkout(workoutId, WorkoutCreateRequest.builder().name("Chest Day").build());
+
+        // Then
+        assertThat(document(routineId)).isNull();
+        assertThat(routineService.getRoutineById(routineId).getWorkouts().get(0).getName()).isEqualTo("Chest Day");
+
+        // When an exercise in the routine is renamed
+        String renamed = exercise.getName() + " Incline";
+        exerciseService.updateExercise(exercise.getId(), ExerciseUpdateRequest.builder().name(renamed).build());
+
+        // Then
+        assertThat(document(routineId)).isNull();
+        assertThat(routineService.getRoutineById(routineId).getWorkouts().get(0).getExercises().get(0).getExerciseName())
+                .isEqualTo(renamed);
+    }
+
+    @Test
+    @DisplayName("Should not store a rebuilt document once the routine has changed in the meantime")
+    void shouldRejectOutdatedDocument() {
+        // Given
+        UUID routineId = createRoutineWithWorkout();
+        routineService.getRoutineById(routineId);
+        long generation = routineViewRepository.findById(routineId).orElseThrow().getGeneration();
+
+        // When
+        routineService.updateRoutine(routineId, RoutineCreateRequest.builder().name("Renamed").build());
+        Integer stored = new TransactionTemplate(transactionManager).execute(status ->
+                routineViewRepository.storeDocument(routineId, generation, "{}", LocalDateTime.now()));
+
+        // Then
+        assertThat(stored).isZero();
+        assertThat(routineService.getRoutineById(routineId).getName()).isEqualTo("Renamed");
+    }
+
+    @Test
+    @DisplayName("Should not store a document rebuilt while a write created the missing view")
+    void shouldRejectDocumentRebuiltBeforeViewExisted() {
+        // Given a routine whose view was never built, as a concurrent first read would find it
+        UUID routineId = createRoutineWithWorkout();
+        UUID workoutId = routineService.getRoutineById(routineId).getWorkouts().get(0).getId();
+        routineViewRepository.deleteById(routineId);
+
+        // When a write lands before the read inserts the view
+        workoutService.updateWorkout(workoutId, WorkoutCreateRequest.builder().name("Chest Day").build());
+        Integer stored = new TransactionTemplate(transactionManager).execute(status ->
+                routineViewRepository.storeDocument(routineId, 0, "{}", LocalDateTime.now()));
+
+        // Then
+        assertThat(routineViewRepository.findById(routineId).orElseThrow().getGeneration()).isEqualTo(1);
+        assertThat(stored).isZero();
+        assertThat(routineService.getRoutineById(routineId).getWorkouts().get(0).getName()).isEqualTo("Chest Day");
+    }
+
+    @Test
+    @DisplayName("Should drop the view with its routine")
+    void shouldDeleteViewWithRoutine() {
+        // Given
+        UUID routineId = createRoutineWithWorkout();
+        routineService.getRoutineById(routineId);
+
+        // When
+        routineService.deleteRoutine(routineId);
+
+        // Then
+        assertThat(routineViewRepository.findById(routineId)).isEmpty();
+        assertThatThrownBy(() -> routineService.getRoutineById(routineId))
+                .isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    private UUID createRoutineWithWorkout() {
+        UUID routineId = routineService.createRoutine(RoutineCreateRequest.builder()
+                .name("Push Pull Legs")
+                .userId(user.getId())
+                .build()).getId();
+        workoutService.createWorkout(WorkoutCreateRequest.builder()
+                .name("Push Day")
+                .orderIndex(1)
+                .routineId(routineId)
+                .exercises(List.of(WorkoutExerciseRequest.builder()
+                        .exerciseId(exercise.getId())
+                        .recommendedSets(4)
+                        .orderIndex(1)
+                        .build()))
+                .build());
+        return routineId;
+    }
+
+    private String document(UUID routineId) {
+        return routineViewRepository.findById(routineId).map(RoutineView::getDocument).orElse(null);
+    }
+}
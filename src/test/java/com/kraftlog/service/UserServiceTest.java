@@ -158,17 +158,17 @@ class UserServiceTest {
     @Test
     void shouldGetAllUsers() {
         // Given
-        User user2 = TestDataBuilder.defaultUser()
-                .email("jane.doe@example.com")
-                .build();
-        when(userRepository.findAll()).thenReturn(Arrays.asList(user, user2));
+        when(userRepository.findAllResponses()).thenReturn(Arrays.asList(
+                UserResponse.builder().email("john.doe@example.com").build(),
+                UserResponse.builder().email("jane.doe@example.com").build()));
 
         // When
         List<UserResponse> result = userService.getAllUsers();
 
         // Then
         assertThat(result).hasSize(2);
-        verify(userRepository).findAll();
+        verify(userRepository).findAllResponses();
+        verify(userRepository, never()).findAll();
     }
 
     @Test